@@ -0,0 +1,34 @@
+package com.example.shop.common.infrastructure.config.security.auth;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.example.shop.common.util.UtilFunction;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 액세스 토큰 발급(UtilFunction.generateAccessJwtBy)과 토큰 클레임 -> CustomUserDetails 변환 비용.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AccessJwtBenchmark {
+
+    private DecodedJWT decodedAccessJwt;
+
+    @Setup
+    public void setUp() {
+        decodedAccessJwt = JWT.decode(UtilFunction.generateAccessJwtBy(SecurityBenchmarkFixture.USER));
+    }
+
+    @Benchmark
+    public String generateAccessJwt() {
+        return UtilFunction.generateAccessJwtBy(SecurityBenchmarkFixture.USER);
+    }
+
+    @Benchmark
+    public CustomUserDetails customUserDetailsOfDecodedJwt() {
+        return CustomUserDetails.of(decodedAccessJwt);
+    }
+}
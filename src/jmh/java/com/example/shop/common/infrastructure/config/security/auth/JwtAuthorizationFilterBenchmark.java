@@ -0,0 +1,60 @@
+package com.example.shop.common.infrastructure.config.security.auth;
+
+import com.example.shop.common.infrastructure.constants.Constants;
+import com.example.shop.common.util.UtilFunction;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 같은 액세스 토큰으로 들어오는 요청에 대해 JwtAuthorizationFilter의 처리 시간을 비교한다.
+ * cold: 캐시 크기 0 (매 요청 서명 검증 + 클레임 파싱), warm: 검증 결과 캐시 적중
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAuthorizationFilterBenchmark {
+
+    private JwtAuthorizationFilter coldFilter;
+    private JwtAuthorizationFilter warmFilter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+    private FilterChain filterChain;
+
+    @Setup
+    public void setUp() throws Exception {
+        String accessJwt = UtilFunction.generateAccessJwtBy(SecurityBenchmarkFixture.USER);
+
+        JwtRevocationIndex jwtRevocationIndex = new JwtRevocationIndex(userId -> Optional.of(0L), 100_000);
+        coldFilter = new JwtAuthorizationFilter(jwtRevocationIndex, 0L);
+        warmFilter = new JwtAuthorizationFilter(jwtRevocationIndex, 10_000L);
+        request = new MockHttpServletRequest("GET", "/v1/orders");
+        request.addHeader(Constants.Jwt.ACCESS_HEADER_NAME, Constants.Jwt.HEADER_PREFIX + accessJwt);
+        response = new MockHttpServletResponse();
+        filterChain = (servletRequest, servletResponse) -> {
+        };
+
+        warmFilter.doFilter(request, response, filterChain);
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public void coldCache(Blackhole blackhole) throws Exception {
+        coldFilter.doFilter(request, response, filterChain);
+        blackhole.consume(SecurityContextHolder.getContext().getAuthentication());
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public void warmCache(Blackhole blackhole) throws Exception {
+        warmFilter.doFilter(request, response, filterChain);
+        blackhole.consume(SecurityContextHolder.getContext().getAuthentication());
+        SecurityContextHolder.clearContext();
+    }
+}
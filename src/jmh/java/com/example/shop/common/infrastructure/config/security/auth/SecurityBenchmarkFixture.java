@@ -0,0 +1,25 @@
+package com.example.shop.common.infrastructure.config.security.auth;
+
+import com.example.shop.user.domain.model.User;
+import com.example.shop.user.domain.model.UserRole;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 보안 벤치마크에서 공통으로 사용하는 고정 사용자.
+ */
+public final class SecurityBenchmarkFixture {
+
+    public static final User USER = User.builder()
+            .id(new UUID(0L, 1L))
+            .username("benchmark")
+            .nickname("benchmark")
+            .email("benchmark@example.com")
+            .jwtValidator(0L)
+            .userRoleList(List.of(UserRole.builder().role(UserRole.Role.USER).build()))
+            .build();
+
+    private SecurityBenchmarkFixture() {
+    }
+}
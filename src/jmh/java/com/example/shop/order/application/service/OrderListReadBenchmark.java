@@ -0,0 +1,121 @@
+package com.example.shop.order.application.service;
+
+import com.example.shop.ShopApplication;
+import com.example.shop.order.domain.model.Order;
+import com.example.shop.order.domain.model.OrderItem;
+import com.example.shop.order.domain.repository.OrderQueryRepository;
+import com.example.shop.order.domain.repository.OrderRepository;
+import com.example.shop.order.presentation.dto.response.ResGetOrdersDtoV1;
+import com.example.shop.order.presentation.dto.response.ResGetOrdersDtoV1.OrderPageDto.OrderDto;
+import com.example.shop.user.domain.repository.UserRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 목록 한 페이지를 읽는 비용 (dev 프로필 H2).
+ * entityMapping: 엔티티 조회 -> 도메인 변환 -> DTO 변환 (영속성 컨텍스트 관리, 주문 상품 지연 로딩 포함)
+ * projection: OrderQueryRepository가 필요한 컬럼만 DTO 행으로 바로 조회
+ * -prof gc로 두 경로의 op당 할당량을 함께 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OrderListReadBenchmark {
+
+    private static final int ORDER_COUNT = 200;
+    private static final int ITEM_COUNT = 3;
+
+    @Param({"10", "100"})
+    private int pageSize;
+
+    private ConfigurableApplicationContext applicationContext;
+    private OrderRepository orderRepository;
+    private OrderQueryRepository orderQueryRepository;
+    private TransactionTemplate readOnlyTransactionTemplate;
+    private Pageable pageable;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        applicationContext = new SpringApplicationBuilder(ShopApplication.class)
+                .profiles("dev")
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:order-list-benchmark;MODE=MySQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                        "spring.jpa.show-sql=false",
+                        "spring.jpa.properties.hibernate.format_sql=false",
+                        "spring.jpa.properties.hibernate.use_sql_comments=false",
+                        "logging.level.root=WARN"
+                )
+                .run();
+        orderRepository = applicationContext.getBean(OrderRepository.class);
+        orderQueryRepository = applicationContext.getBean(OrderQueryRepository.class);
+        readOnlyTransactionTemplate = new TransactionTemplate(applicationContext.getBean(PlatformTransactionManager.class));
+        readOnlyTransactionTemplate.setReadOnly(true);
+        pageable = PageRequest.of(0, pageSize);
+
+        UUID userId = applicationContext.getBean(UserRepository.class)
+                .searchUsers(null, null, null, PageRequest.of(0, 1))
+                .getContent()
+                .get(0)
+                .getId();
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            orderRepository.save(order(userId, i));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        applicationContext.close();
+    }
+
+    @Benchmark
+    public ResGetOrdersDtoV1.OrderPageDto entityMapping() {
+        return readOnlyTransactionTemplate.execute(status -> new ResGetOrdersDtoV1.OrderPageDto(
+                orderRepository.findAll(pageable).map(order -> OrderDto.builder()
+                        .id(order.getId().toString())
+                        .status(order.getStatus())
+                        .totalAmount(order.getTotalAmount())
+                        .createdAt(order.getCreatedAt())
+                        .updatedAt(order.getUpdatedAt())
+                        .build())
+        ));
+    }
+
+    @Benchmark
+    public ResGetOrdersDtoV1.OrderPageDto projection() {
+        return readOnlyTransactionTemplate.execute(status -> new ResGetOrdersDtoV1.OrderPageDto(
+                orderQueryRepository.findOrders(null, pageable)
+        ));
+    }
+
+    private Order order(UUID userId, int orderIndex) {
+        List<OrderItem> orderItemList = new ArrayList<>(ITEM_COUNT);
+        for (int i = 0; i < ITEM_COUNT; i++) {
+            orderItemList.add(OrderItem.builder()
+                    .productId(new UUID(2L, i + 1L))
+                    .productName("benchmark product " + i)
+                    .unitPrice(1_000L)
+                    .quantity(1L)
+                    .lineTotal(1_000L)
+                    .build());
+        }
+        return Order.builder()
+                .userId(userId)
+                .status(Order.Status.CREATED)
+                .totalAmount(0L)
+                .orderItemList(List.of())
+                .build()
+                .addOrderItems(orderItemList)
+                .updateTotalAmount(ITEM_COUNT * 1_000L + orderIndex);
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.shop.order.domain.model;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 상품 n개로 주문을 완성하는 비용 (OrderServiceV1.postOrders 경로).
+ * addOrderItemLoop는 상품마다 목록 전체를 복사하고, addOrderItems는 한 번만 복사한다.
+ * 호출당 할당량은 gc 프로파일러의 gc.alloc.rate.norm (B/op)으로 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OrderBenchmark {
+
+    @Param({"1", "10", "100", "200"})
+    private int itemCount;
+
+    private Order emptyOrder;
+    private List<OrderItem> orderItemList;
+
+    @Setup
+    public void setUp() {
+        emptyOrder = OrderBenchmarkFixture.order(0, 0);
+        orderItemList = OrderBenchmarkFixture.orderItemList(emptyOrder.getId(), itemCount);
+    }
+
+    @Benchmark
+    public Order addOrderItemLoop() {
+        Order order = emptyOrder;
+        for (OrderItem orderItem : orderItemList) {
+            order = order.addOrderItem(orderItem);
+        }
+        return order;
+    }
+
+    @Benchmark
+    public Order addOrderItems() {
+        return emptyOrder.addOrderItems(orderItemList);
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.shop.order.domain.model;
+
+import com.example.shop.order.presentation.dto.response.ResGetOrdersDtoV1.OrderPageDto.OrderDto;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 벤치마크 간 결과를 비교할 수 있도록 id, 시각, 금액이 항상 같은 주문을 만든다.
+ * 기준 객체를 {@link OrderTestFixture}, {@link OrderItemTestFixture}로 복제해 필드만 바꾼다.
+ */
+public final class OrderBenchmarkFixture {
+
+    public static final UUID USER_ID = new UUID(0L, 1L);
+    public static final Instant CREATED_AT = Instant.parse("2025-01-01T00:00:00Z");
+
+    private static final Order BASE_ORDER = Order.builder()
+            .userId(USER_ID)
+            .status(Order.Status.CREATED)
+            .totalAmount(0L)
+            .orderItemList(List.of())
+            .version(0L)
+            .createdAt(CREATED_AT)
+            .createdBy(USER_ID.toString())
+            .updatedAt(CREATED_AT)
+            .updatedBy(USER_ID.toString())
+            .build();
+
+    private static final OrderItem BASE_ORDER_ITEM = OrderItem.builder()
+            .productName("benchmark product")
+            .unitPrice(1_000L)
+            .quantity(1L)
+            .lineTotal(1_000L)
+            .createdAt(CREATED_AT)
+            .createdBy(USER_ID.toString())
+            .build();
+
+    private OrderBenchmarkFixture() {
+    }
+
+    public static Order order(int orderIndex, int itemCount) {
+        UUID orderId = orderId(orderIndex);
+        List<OrderItem> orderItemList = orderItemList(orderId, itemCount);
+        long totalAmount = orderItemList.stream()
+                .mapToLong(OrderItem::getLineTotal)
+                .sum();
+        return OrderTestFixture.copy(BASE_ORDER, builder -> builder
+                .id(orderId)
+                .totalAmount(totalAmount)
+                .orderItemList(orderItemList)
+                .createdAt(CREATED_AT.plusSeconds(orderIndex)));
+    }
+
+    // 목록 조회 프로젝션이 돌려주는 행과 같은 형태
+    public static List<OrderDto> orderDtoList(int orderCount) {
+        List<OrderDto> orderDtoList = new ArrayList<>(orderCount);
+        for (int i = 0; i < orderCount; i++) {
+            Order order = order(i, 0);
+            orderDtoList.add(OrderDto.builder()
+                    .id(order.getId().toString())
+                    .status(order.getStatus())
+                    .totalAmount(order.getTotalAmount())
+                    .createdAt(order.getCreatedAt())
+                    .updatedAt(order.getUpdatedAt())
+                    .build());
+        }
+        return orderDtoList;
+    }
+
+    public static List<OrderItem> orderItemList(UUID orderId, int itemCount) {
+        List<OrderItem> orderItemList = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            long quantity = i % 5 + 1;
+            int itemIndex = i;
+            orderItemList.add(OrderItemTestFixture.copy(BASE_ORDER_ITEM, builder -> builder
+                    .id(new UUID(orderId.getLeastSignificantBits(), itemIndex + 1L))
+                    .orderId(orderId)
+                    .productId(new UUID(2L, itemIndex + 1L))
+                    .quantity(quantity)
+                    .lineTotal(BASE_ORDER_ITEM.getUnitPrice() * quantity)));
+        }
+        return orderItemList;
+    }
+
+    private static UUID orderId(int orderIndex) {
+        return new UUID(1L, orderIndex + 1L);
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.shop.order.infrastructure.persistence.mapper;
+
+import com.example.shop.order.domain.model.Order;
+import com.example.shop.order.domain.model.OrderBenchmarkFixture;
+import com.example.shop.order.infrastructure.persistence.entity.OrderEntity;
+import com.example.shop.payment.infrastructure.persistence.mapper.PaymentMapper;
+import com.example.shop.user.infrastructure.persistence.entity.UserEntity;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 도메인 <-> 엔티티 변환 비용.
+ * applyDomain은 같은 주문을 반복 적용하므로 syncOrderItems의 기존 상품 갱신 경로를 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OrderMapperBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int itemCount;
+
+    private OrderMapper orderMapper;
+    private Order order;
+    private OrderEntity orderEntity;
+
+    @Setup
+    public void setUp() {
+        orderMapper = new OrderMapper(new PaymentMapper());
+        order = OrderBenchmarkFixture.order(0, itemCount);
+        orderEntity = orderMapper.toEntity(order);
+        orderEntity.assignUser(UserEntity.builder().id(OrderBenchmarkFixture.USER_ID).build());
+    }
+
+    @Benchmark
+    public Order toDomain() {
+        return orderMapper.toDomain(orderEntity);
+    }
+
+    @Benchmark
+    public OrderEntity toEntity() {
+        return orderMapper.toEntity(order);
+    }
+
+    @Benchmark
+    public OrderEntity applyDomain() {
+        orderMapper.applyDomain(order, orderEntity);
+        return orderEntity;
+    }
+}
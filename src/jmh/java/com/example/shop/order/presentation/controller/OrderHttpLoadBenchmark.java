@@ -0,0 +1,131 @@
+package com.example.shop.order.presentation.controller;
+
+import com.example.shop.ShopApplication;
+import com.example.shop.order.application.service.OrderServiceV1;
+import com.example.shop.order.presentation.dto.request.ReqPostOrdersDtoV1;
+import com.example.shop.product.domain.model.Product;
+import com.example.shop.product.domain.repository.ProductRepository;
+import com.example.shop.user.domain.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Pageable;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 동시 연결 5,000개에서 GET /v1/orders/{id} 처리량 (dev 프로필 H2, 결과 단위는 요청/초).
+ * platform: Tomcat 기본 요청 스레드 풀(최대 200)
+ * virtual: virtual 프로필, 요청마다 가상 스레드 (Java 21 이상 JDK 필요, 기본 toolchain으로 만든 jmhJar를 21에서 실행)
+ * 요청마다 JWT 검증 + 주문 상세 조회 1건(H2)이 실행되며, 두 모드 모두 DB 커넥션 풀 크기(기본 10)는 같다.
+ * 연결 수가 병목이 되지 않도록 Tomcat 최대 연결 수와 대기열을 늘려서 띄운다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class OrderHttpLoadBenchmark {
+
+    static final int CONCURRENCY = 5_000;
+
+    @Param({"platform", "virtual"})
+    private String threading;
+
+    private ConfigurableApplicationContext applicationContext;
+    private HttpClient httpClient;
+    private HttpRequest getOrderRequest;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, InterruptedException {
+        boolean virtual = "virtual".equals(threading);
+        if (virtual && Runtime.version().feature() < 21) {
+            throw new IllegalStateException("virtual 모드는 Java 21 이상에서 실행해야 합니다. 현재: " + Runtime.version());
+        }
+        // properties()는 기본값이라 프로필 설정(show-sql 등)에 덮이므로 실행 인자로 넘긴다
+        applicationContext = new SpringApplicationBuilder(ShopApplication.class)
+                .profiles(virtual ? new String[]{"dev", "virtual"} : new String[]{"dev"})
+                .run(
+                        "--server.port=0",
+                        "--server.tomcat.max-connections=" + (CONCURRENCY * 2),
+                        "--server.tomcat.accept-count=" + CONCURRENCY,
+                        "--spring.datasource.url=jdbc:h2:mem:order-http-load-benchmark;MODE=MySQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.jpa.properties.hibernate.format_sql=false",
+                        "--spring.jpa.properties.hibernate.use_sql_comments=false",
+                        "--logging.level.root=WARN"
+                );
+        String baseUrl = "http://localhost:" + applicationContext.getEnvironment().getProperty("local.server.port");
+        ObjectMapper objectMapper = applicationContext.getBean(ObjectMapper.class);
+
+        Product product = applicationContext.getBean(ProductRepository.class).findAll(Pageable.unpaged())
+                .getContent()
+                .get(0);
+        UUID userId = applicationContext.getBean(UserRepository.class).findByUsername("temp1")
+                .orElseThrow()
+                .getId();
+        String orderId = applicationContext.getBean(OrderServiceV1.class).postOrders(userId, ReqPostOrdersDtoV1.builder()
+                        .order(ReqPostOrdersDtoV1.OrderDto.builder()
+                                .orderItemList(List.of(ReqPostOrdersDtoV1.OrderDto.OrderItemDto.builder()
+                                        .productId(product.getId())
+                                        .quantity(1L)
+                                        .build()))
+                                .build())
+                        .build())
+                .getOrder()
+                .getId();
+
+        httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(30))
+                .build();
+        HttpResponse<String> loginResponse = httpClient.send(
+                HttpRequest.newBuilder(URI.create(baseUrl + "/v1/auth/login"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(
+                                "{\"user\":{\"username\":\"temp1\",\"password\":\"temp1234\"}}"))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString()
+        );
+        String accessJwt = objectMapper.readTree(loginResponse.body()).path("data").path("accessJwt").asText();
+        getOrderRequest = HttpRequest.newBuilder(URI.create(baseUrl + "/v1/orders/" + orderId))
+                .header("Authorization", "Bearer " + accessJwt)
+                .timeout(Duration.ofSeconds(60))
+                .GET()
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        applicationContext.close();
+    }
+
+    // 요청 5,000개를 한꺼번에 보내고 모두 끝날 때까지 기다린다, 200이 아닌 응답이 있으면 실패
+    @Benchmark
+    @OperationsPerInvocation(CONCURRENCY)
+    public int getOrderConcurrently() {
+        List<CompletableFuture<HttpResponse<Void>>> responseFutureList = new ArrayList<>(CONCURRENCY);
+        for (int i = 0; i < CONCURRENCY; i++) {
+            responseFutureList.add(httpClient.sendAsync(getOrderRequest, HttpResponse.BodyHandlers.discarding()));
+        }
+        int okCount = 0;
+        for (CompletableFuture<HttpResponse<Void>> responseFuture : responseFutureList) {
+            if (responseFuture.join().statusCode() == 200) {
+                okCount++;
+            }
+        }
+        if (okCount != CONCURRENCY) {
+            throw new IllegalStateException("실패한 요청이 있습니다. 성공: " + okCount + "/" + CONCURRENCY);
+        }
+        return okCount;
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.shop.order.presentation.dto.response;
+
+import com.example.shop.order.domain.model.OrderBenchmarkFixture;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 목록 응답(OrderPageDto) 조립 비용.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResGetOrdersDtoV1Benchmark {
+
+    @Param({"10", "100"})
+    private int pageSize;
+
+    private Page<ResGetOrdersDtoV1.OrderPageDto.OrderDto> orderPage;
+
+    @Setup
+    public void setUp() {
+        orderPage = new PageImpl<>(
+                OrderBenchmarkFixture.orderDtoList(pageSize),
+                PageRequest.of(0, pageSize),
+                pageSize * 10L
+        );
+    }
+
+    @Benchmark
+    public ResGetOrdersDtoV1.OrderPageDto orderPageDto() {
+        return new ResGetOrdersDtoV1.OrderPageDto(orderPage);
+    }
+}
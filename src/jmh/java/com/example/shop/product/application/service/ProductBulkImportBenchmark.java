@@ -0,0 +1,86 @@
+package com.example.shop.product.application.service;
+
+import com.example.shop.ShopApplication;
+import com.example.shop.product.presentation.dto.request.ReqPostProductsDtoV1;
+import com.example.shop.product.presentation.dto.response.ResPostProductsBulkDtoV1;
+import com.example.shop.user.domain.model.UserRole;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상품 등록 처리량 (dev 프로필 H2, 결과 단위는 행/초).
+ * bulkCsv: POST /v1/products/bulk 경로, 청크마다 IN 쿼리 1번 + 배치 insert
+ * singleRow: POST /v1/products 경로를 행마다 호출, 행마다 상품명 조회 + insert + 커밋
+ * 호출마다 새 상품명을 쓰므로 반복할수록 테이블이 커진다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ProductBulkImportBenchmark {
+
+    private static final int ROW_COUNT = 2_000;
+    private static final List<String> ADMIN_ROLE_LIST = List.of(UserRole.Role.ADMIN.toString());
+
+    private ConfigurableApplicationContext applicationContext;
+    private ProductServiceV1 productServiceV1;
+    private long invocation;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        applicationContext = new SpringApplicationBuilder(ShopApplication.class)
+                .profiles("dev")
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:product-bulk-benchmark;MODE=MySQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                        "spring.jpa.show-sql=false",
+                        "spring.jpa.properties.hibernate.format_sql=false",
+                        "spring.jpa.properties.hibernate.use_sql_comments=false",
+                        "logging.level.root=WARN"
+                )
+                .run();
+        productServiceV1 = applicationContext.getBean(ProductServiceV1.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        applicationContext.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROW_COUNT)
+    public ResPostProductsBulkDtoV1 bulkCsv() throws IOException {
+        String namePrefix = "bulk-" + invocation++;
+        StringBuilder csv = new StringBuilder("name,price,stock\n");
+        for (int i = 0; i < ROW_COUNT; i++) {
+            csv.append(namePrefix).append('-').append(i).append(",1000,10\n");
+        }
+        return productServiceV1.postProductsBulk(
+                ADMIN_ROLE_LIST,
+                ProductBulkImporter.TEXT_CSV,
+                new ByteArrayInputStream(csv.toString().getBytes(StandardCharsets.UTF_8))
+        );
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROW_COUNT)
+    public void singleRow(Blackhole blackhole) {
+        String namePrefix = "single-" + invocation++;
+        for (int i = 0; i < ROW_COUNT; i++) {
+            blackhole.consume(productServiceV1.postProducts(ReqPostProductsDtoV1.builder()
+                    .product(ReqPostProductsDtoV1.ProductDto.builder()
+                            .name(namePrefix + "-" + i)
+                            .price(1000L)
+                            .stock(10L)
+                            .build())
+                    .build()));
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.shop.product.application.service;
+
+import com.example.shop.common.infrastructure.persistence.KeysetCursor;
+import com.example.shop.common.infrastructure.persistence.KeysetSlice;
+import com.example.shop.product.domain.repository.ProductQueryRepository;
+import com.example.shop.product.presentation.dto.response.ResGetProductsDtoV1.ProductPageDto.ProductDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상품명 자동완성 조회 시간 (결과 단위는 µs/조회).
+ * 단어 조합으로 만든 상품명 PRODUCT_COUNT개로 트라이를 만들고, 그중 1%에 주문 수량을 넣어 인기도를 준다.
+ * prefix: 한 자모("ㅇ"), 입력 중인 음절("안서"), 단어 중간부터("번ㄷ"), 긴 접두어, 없는 접두어
+ * 시작할 때 memoryReport()의 추정치와 트라이를 만들기 전후의 힙 사용량 차이를 함께 출력한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProductSuggestIndexBenchmark {
+
+    private static final int PRODUCT_COUNT = 1_000_000;
+    private static final int SUGGEST_SIZE = 10;
+    private static final String[] BRAND_WORDS = {"농심", "오뚜기", "동원", "삼양", "청정원", "비비고", "풀무원", "cj", "해태", "롯데"};
+    private static final String[] ITEM_WORDS = {
+            "안성탕면", "신라면", "참치", "고추참치", "la갈비", "짜파게티", "만두", "김치", "두부", "햇반",
+            "카레", "컵밥", "우유", "요거트", "생수", "콜라", "과자", "아이스크림", "닭가슴살", "떡볶이"
+    };
+    private static final String[] UNIT_WORDS = {"1개", "5개 번들", "1kg", "500g", "1캔", "3입", "대용량", "소포장"};
+
+    @Param({"ㅇ", "안서", "번ㄷ", "동원 고추참치 1", "없는상품"})
+    private String prefix;
+
+    private ProductSuggestIndex productSuggestIndex;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // 상품명 문자열과 ID도 트라이가 들고 있으므로 행을 만들기 전부터 잰다
+        long usedBefore = usedHeap();
+        List<ProductQueryRepository.SearchRow> searchRowList = new ArrayList<>(PRODUCT_COUNT);
+        Random random = new Random(42);
+        Instant now = Instant.now();
+        for (int i = 0; i < PRODUCT_COUNT; i++) {
+            String name = BRAND_WORDS[random.nextInt(BRAND_WORDS.length)] + " "
+                    + ITEM_WORDS[random.nextInt(ITEM_WORDS.length)] + " "
+                    + UNIT_WORDS[random.nextInt(UNIT_WORDS.length)] + " " + i;
+            searchRowList.add(new ProductQueryRepository.SearchRow(new UUID(0L, i), name, now));
+        }
+
+        StubProductQueryRepository productQueryRepository = new StubProductQueryRepository(searchRowList);
+        productSuggestIndex = new ProductSuggestIndex(productQueryRepository, new SimpleMeterRegistry(), true, SUGGEST_SIZE, 10_000);
+        productSuggestIndex.rebuild();
+        Map<UUID, Long> quantityByProductId = new HashMap<>();
+        for (int i = 0; i < PRODUCT_COUNT / 100; i++) {
+            quantityByProductId.merge(searchRowList.get(random.nextInt(PRODUCT_COUNT)).id(), random.nextInt(10) + 1L, Long::sum);
+        }
+        productSuggestIndex.recordOrdered(quantityByProductId);
+        productSuggestIndex.refreshWeights();
+        // 색인이 저장소를 참조하므로 행 목록을 놓아야 트라이만 남는다
+        productQueryRepository.searchRowList = List.of();
+        searchRowList = null;
+        long usedAfter = usedHeap();
+
+        System.out.println();
+        System.out.println(productSuggestIndex.memoryReport());
+        System.out.printf("measured heap delta: %,d bytes%n", usedAfter - usedBefore);
+    }
+
+    @Benchmark
+    public List<ProductSuggestIndex.Suggestion> suggest() {
+        return productSuggestIndex.suggest(prefix, SUGGEST_SIZE);
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    // 트라이를 만들 때 쓰는 findSearchRows만 구현한다
+    private static class StubProductQueryRepository implements ProductQueryRepository {
+
+        private List<SearchRow> searchRowList;
+
+        private StubProductQueryRepository(List<SearchRow> searchRowList) {
+            this.searchRowList = searchRowList;
+        }
+
+        @Override
+        public Page<ProductDto> findProducts(String name, Pageable pageable) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public KeysetSlice<ProductDto> findProductsByCursor(String name, KeysetCursor cursor, int size) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<SearchRow> findSearchRows(UUID afterId, int size) {
+            int fromIndex = afterId == null ? 0 : (int) afterId.getLeastSignificantBits() + 1;
+            return searchRowList.subList(Math.min(fromIndex, searchRowList.size()), Math.min(fromIndex + size, searchRowList.size()));
+        }
+    }
+}
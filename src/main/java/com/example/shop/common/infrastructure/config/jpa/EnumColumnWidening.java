@@ -0,0 +1,90 @@
+package com.example.shop.common.infrastructure.config.jpa;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.metamodel.mapping.BasicValuedModelPart;
+import org.hibernate.metamodel.mapping.JdbcMapping;
+import org.hibernate.type.descriptor.converter.spi.BasicValueConverter;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.Types;
+import java.util.Locale;
+
+/**
+ * varchar로 매핑한 enum 속성(예: OrderEntity.status)의 컬럼이 아직 DB enum 타입이면 varchar로 바꾼다.
+ * <p>
+ * 예전 스키마는 Hibernate가 {@code enum('CANCELLED','CREATED','PAID')}로 만들었고, ddl-auto: update는 기존 컬럼 타입을 바꾸지 않는다.
+ * 그대로 두면 나중에 추가된 값(PENDING, REJECTED)을 넣을 때 잘림/제약 위반으로 실패한다.
+ * 시작 시 (요청을 받기 전) 타입이 ENUM인 컬럼만 찾아 바꾸므로, 한 번 바뀐 뒤에는 아무것도 하지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EnumColumnWidening {
+
+    private static final long DEFAULT_LENGTH = 255L;
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void widen() {
+        entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getMappingMetamodel()
+                .forEachEntityDescriptor(entityPersister -> entityPersister.forEachAttributeMapping(attributeMapping -> {
+                    if (attributeMapping instanceof BasicValuedModelPart basicPart && isEnumAsVarchar(basicPart.getJdbcMapping())) {
+                        Long length = basicPart.getLength();
+                        widen(basicPart.getContainingTableExpression(), basicPart.getSelectionExpression(), length == null ? DEFAULT_LENGTH : length);
+                    }
+                }));
+    }
+
+    // AttributeConverter로 이름을 저장하는 enum도 잡도록 변환 전 도메인 타입을 본다
+    private boolean isEnumAsVarchar(JdbcMapping jdbcMapping) {
+        BasicValueConverter<?, ?> valueConverter = jdbcMapping.getValueConverter();
+        Class<?> domainType = valueConverter == null
+                ? jdbcMapping.getJavaTypeDescriptor().getJavaTypeClass()
+                : valueConverter.getDomainJavaType().getJavaTypeClass();
+        return domainType.isEnum() && jdbcMapping.getJdbcType().getDefaultSqlTypeCode() == Types.VARCHAR;
+    }
+
+    private void widen(String tableName, String columnName, long length) {
+        Boolean nullable = findNullableIfEnum(tableName, columnName);
+        if (nullable == null) {
+            return;
+        }
+        String databaseProductName = jdbcTemplate.execute((ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        if (SchemaIdentifiers.isMySql(databaseProductName)) {
+            // MODIFY COLUMN은 빠진 제약을 지우므로 NOT NULL을 다시 적는다
+            jdbcTemplate.execute("alter table " + tableName + " modify column " + columnName + " varchar(" + length + ")" + (nullable ? "" : " not null"));
+        } else {
+            jdbcTemplate.execute("alter table " + tableName + " alter column " + columnName + " set data type varchar(" + length + ")");
+        }
+        log.info("enum 컬럼을 varchar로 바꿨습니다. 테이블: {}, 컬럼: {}", tableName, columnName);
+    }
+
+    // 컬럼 타입이 ENUM이면 nullable 여부, 아니면(이미 바뀌었거나 컬럼이 없으면) null
+    private Boolean findNullableIfEnum(String tableName, String columnName) {
+        return jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            try (ResultSet resultSet = metaData.getColumns(connection.getCatalog(), null, SchemaIdentifiers.toStoredIdentifier(metaData, tableName), null)) {
+                while (resultSet.next()) {
+                    if (resultSet.getString("COLUMN_NAME").equalsIgnoreCase(columnName)) {
+                        // MySQL은 ENUM, H2는 ENUM('A', 'B')처럼 값까지 붙여 준다
+                        return resultSet.getString("TYPE_NAME").toUpperCase(Locale.ROOT).startsWith("ENUM")
+                                ? resultSet.getInt("NULLABLE") == DatabaseMetaData.columnNullable
+                                : null;
+                    }
+                }
+            }
+            return null;
+        });
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.shop.common.infrastructure.config.jpa;
+
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.util.Locale;
+
+// 시작 시 스키마를 맞추는 컴포넌트(ZeroDefaultColumnBackfill, EnumColumnWidening)가 DatabaseMetaData를 조회할 때 쓴다
+final class SchemaIdentifiers {
+
+    private SchemaIdentifiers() {
+    }
+
+    // 메타데이터 조회용으로 DB에 저장된 형태로 바꾼다. 따옴표로 감싼 이름(예약어 `order`)은 그대로, 아니면 DB의 대소문자 규칙을 따른다
+    static String toStoredIdentifier(DatabaseMetaData metaData, String identifier) throws SQLException {
+        if (identifier.startsWith("`") || identifier.startsWith("\"")) {
+            return identifier.substring(1, identifier.length() - 1);
+        }
+        if (metaData.storesUpperCaseIdentifiers()) {
+            return identifier.toUpperCase(Locale.ROOT);
+        }
+        if (metaData.storesLowerCaseIdentifiers()) {
+            return identifier.toLowerCase(Locale.ROOT);
+        }
+        return identifier;
+    }
+
+    static boolean isMySql(String databaseProductName) {
+        return "MySQL".equalsIgnoreCase(databaseProductName) || "MariaDB".equalsIgnoreCase(databaseProductName);
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.shop.common.infrastructure.config.jpa;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.metamodel.mapping.BasicValuedModelPart;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+
+/**
+ * {@code @ColumnDefault("0")}이 붙은 NOT NULL 컬럼(낙관적 락 version, 사용자 jwt_validator)을 NOT NULL DEFAULT 0으로 맞춘다.
+ * <p>
+ * ddl-auto: update는 이미 있는 컬럼의 제약을 바꾸지 않으므로, 예전에 nullable로 추가된 컬럼은 기존 행이 NULL로 남는다.
+ * version이 NULL이면 {@code version = version + 1}도 NULL이라 낙관적 락 검사와 상품 ETag가 동작하지 않고,
+ * jwt_validator가 NULL이면 토큰 무효화 기준 시각을 알 수 없다.
+ * 시작 시 (요청을 받기 전) nullable로 남은 대상 컬럼만 찾아 NULL을 0으로 채우고 제약을 바꾼다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ZeroDefaultColumnBackfill {
+
+    private static final String ZERO = "0";
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void backfill() {
+        entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getMappingMetamodel()
+                .forEachEntityDescriptor(entityPersister -> entityPersister.forEachAttributeMapping(attributeMapping -> {
+                    if (attributeMapping instanceof BasicValuedModelPart basicPart
+                            && !basicPart.isNullable()
+                            && hasZeroDefault(entityPersister.getMappedClass(), attributeMapping.getAttributeName())) {
+                        backfill(basicPart.getContainingTableExpression(), basicPart.getSelectionExpression());
+                    }
+                }));
+    }
+
+    private boolean hasZeroDefault(Class<?> entityClass, String attributeName) {
+        Field field = ReflectionUtils.findField(entityClass, attributeName);
+        ColumnDefault columnDefault = field == null ? null : field.getAnnotation(ColumnDefault.class);
+        return columnDefault != null && ZERO.equals(columnDefault.value());
+    }
+
+    private void backfill(String tableName, String columnName) {
+        if (!isNullable(tableName, columnName)) {
+            return;
+        }
+        int updatedCount = jdbcTemplate.update("update " + tableName + " set " + columnName + " = 0 where " + columnName + " is null");
+        String databaseProductName = jdbcTemplate.execute((ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        if (SchemaIdentifiers.isMySql(databaseProductName)) {
+            jdbcTemplate.execute("alter table " + tableName + " modify column " + columnName + " bigint default 0 not null");
+        } else {
+            jdbcTemplate.execute("alter table " + tableName + " alter column " + columnName + " set default 0");
+            jdbcTemplate.execute("alter table " + tableName + " alter column " + columnName + " set not null");
+        }
+        log.info("컬럼을 NOT NULL DEFAULT 0으로 바꿨습니다. 테이블: {}, 컬럼: {}, 0으로 채운 행 수: {}", tableName, columnName, updatedCount);
+    }
+
+    private boolean isNullable(String tableName, String columnName) {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            try (ResultSet resultSet = metaData.getColumns(connection.getCatalog(), null, SchemaIdentifiers.toStoredIdentifier(metaData, tableName), null)) {
+                while (resultSet.next()) {
+                    if (resultSet.getString("COLUMN_NAME").equalsIgnoreCase(columnName)) {
+                        return resultSet.getInt("NULLABLE") == DatabaseMetaData.columnNullable;
+                    }
+                }
+            }
+            return false;
+        }));
+    }
+}
@@ -1,8 +1,10 @@
 package com.example.shop.common.infrastructure.config.schedule;
 
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.context.annotation.AdviceMode;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
@@ -13,9 +15,11 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 public class ScheduleConfig {
 
     @Bean
-    public ThreadPoolTaskScheduler threadPoolTaskScheduler() {
+    public ThreadPoolTaskScheduler threadPoolTaskScheduler(Environment environment) {
         ThreadPoolTaskScheduler threadPoolTaskScheduler = new ThreadPoolTaskScheduler();
         threadPoolTaskScheduler.setPoolSize(10); // 스레드 풀 크기 조정, 프로젝트가 가지고 있는 스캐줄 개수 이상으로 세팅
+        // virtual 프로필(spring.threads.virtual.enabled=true)을 Java 21 이상에서 실행하면 스케줄 작업도 가상 스레드에서 실행
+        threadPoolTaskScheduler.setVirtualThreads(Threading.VIRTUAL.isActive(environment));
         return threadPoolTaskScheduler;
     }
 
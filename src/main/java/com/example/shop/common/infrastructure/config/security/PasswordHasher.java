@@ -0,0 +1,121 @@
+package com.example.shop.common.infrastructure.config.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 비밀번호 해시(BCrypt)를 요청 스레드가 아닌 전용 CPU 풀에서 수행한다.
+ * <p>
+ * 풀 크기와 대기열을 제한해 로그인이 몰려도 해시 작업이 CPU를 모두 차지하지 않도록 하고,
+ * 대기열이 가득 차면 {@link RejectedExecutionException}으로 즉시 거절한다 (429 응답).
+ * 대기열에 들어갔더라도 timeout 안에 끝나지 않으면 작업을 취소하고 같은 예외로 거절한다.
+ * 호출 측은 DB 트랜잭션 밖에서 호출해야 해시 동안 커넥션을 잡지 않는다.
+ */
+@Component
+public class PasswordHasher {
+
+    public static final String HASH_TIMER_NAME = "shop.password.hash";
+    public static final String QUEUE_GAUGE_NAME = "shop.password.hash.queue";
+    public static final String REJECTED_COUNTER_NAME = "shop.password.hash.rejected";
+    public static final String TIMEOUT_COUNTER_NAME = "shop.password.hash.timeout";
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejectedCounter;
+    private final Counter timeoutCounter;
+    private final long timeoutMillis;
+
+    public PasswordHasher(
+            PasswordEncoder passwordEncoder,
+            MeterRegistry meterRegistry,
+            @Value("${shop.security.password-hash.pool-size:0}") int poolSize,
+            @Value("${shop.security.password-hash.queue-capacity:64}") int queueCapacity,
+            @Value("${shop.security.password-hash.timeout-ms:5000}") long timeoutMillis
+    ) {
+        this.passwordEncoder = passwordEncoder;
+        this.timeoutMillis = timeoutMillis;
+        // 0 이하면 CPU 코어 수만큼
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(queueCapacity, 1)),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.encodeTimer = Timer.builder(HASH_TIMER_NAME)
+                .tag("operation", "encode")
+                .register(meterRegistry);
+        this.matchesTimer = Timer.builder(HASH_TIMER_NAME)
+                .tag("operation", "matches")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder(REJECTED_COUNTER_NAME)
+                .register(meterRegistry);
+        this.timeoutCounter = Counter.builder(TIMEOUT_COUNTER_NAME)
+                .register(meterRegistry);
+        Gauge.builder(QUEUE_GAUGE_NAME, executor, pool -> pool.getQueue().size())
+                .register(meterRegistry);
+    }
+
+    public String encode(CharSequence rawPassword) {
+        return submit(encodeTimer, () -> passwordEncoder.encode(rawPassword));
+    }
+
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(matchesTimer, () -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    // 해시 시간만 측정하도록 풀 스레드 안에서 타이머를 기록한다
+    private <T> T submit(Timer timer, Supplier<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> timer.record(task));
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw e;
+        }
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // 대기열에서 오래 기다린 작업도 풀을 더 잡지 않도록 취소하고, 대기열 초과와 같은 429로 응답한다
+            future.cancel(true);
+            timeoutCounter.increment();
+            RejectedExecutionException rejectedExecutionException = new RejectedExecutionException("비밀번호 해시가 " + timeoutMillis + "ms 안에 끝나지 않았습니다.");
+            rejectedExecutionException.initCause(e);
+            throw rejectedExecutionException;
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("비밀번호 해시 대기 중 인터럽트되었습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -108,12 +108,16 @@ public class SecurityConfig {
                 )
                 .permitAll()
                 .requestMatchers(
-                        mvcMatcherBuilder.pattern("/js/admin*.js")
+                        mvcMatcherBuilder.pattern("/js/admin*.js"),
+                        mvcMatcherBuilder.pattern(HttpMethod.GET, "/v*/orders/export")
                 )
                 .hasRole("ADMIN")
         );
 
         httpSecurity.authorizeHttpRequests(config -> config
+                // 로그아웃은 인증된 사용자의 토큰을 무효화하므로 /v*/auth/** 허용보다 먼저 인증을 요구한다
+                .requestMatchers(mvcMatcherBuilder.pattern("/v*/auth/logout"))
+                .authenticated()
                 .requestMatchers(
                         mvcMatcherBuilder.pattern("/docs/**"),
                         mvcMatcherBuilder.pattern("/swagger-ui/**"),
@@ -1,75 +1,150 @@
 package com.example.shop.common.infrastructure.config.security.auth;
 
 import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.JWTVerificationException;
 import com.auth0.jwt.interfaces.DecodedJWT;
 import com.example.shop.common.infrastructure.constants.Constants;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
+import java.util.UUID;
 
 @Component
-@RequiredArgsConstructor
 public class JwtAuthorizationFilter extends OncePerRequestFilter {
 
     // 토큰 정보만으로 CustomUserDetails를 생성하는 로직을 추가하여, UserDetailsService를 사용하지 않도록 변경
 
+    // 검증기는 스레드 안전하므로 요청마다 만들지 않고 공유
+    private final JWTVerifier jwtVerifier = JWT.require(Algorithm.HMAC512(Constants.Jwt.SECRET)).build();
+
+    // 검증을 마친 토큰의 SHA-256 해시 -> 인증 객체, 각 항목은 토큰의 exp 시점에 만료된다
+    private final Cache<ByteBuffer, VerifiedToken> verifiedTokenCache;
+    private final JwtRevocationIndex jwtRevocationIndex;
+
+    public JwtAuthorizationFilter(
+            JwtRevocationIndex jwtRevocationIndex,
+            @Value("${shop.security.jwt-cache.maximum-size:10000}") long maximumSize
+    ) {
+        this.jwtRevocationIndex = jwtRevocationIndex;
+        this.verifiedTokenCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new VerifiedTokenExpiry())
+                .build();
+    }
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain) throws IOException, ServletException {
 
         String accessJWTHeader = request.getHeader(Constants.Jwt.ACCESS_HEADER_NAME);
-        DecodedJWT decodedAccessJWT;
         if (accessJWTHeader == null || !accessJWTHeader.startsWith(Constants.Jwt.HEADER_PREFIX)) {
             chain.doFilter(request, response);
             return;
         }
-        String accessJWT = accessJWTHeader.replaceFirst(Constants.Jwt.HEADER_PREFIX, "");
-        try {
-            decodedAccessJWT = JWT.require(Algorithm.HMAC512(Constants.Jwt.SECRET))
-                    .build()
-                    .verify(accessJWT);
-        } catch (JWTVerificationException e) {
-            chain.doFilter(request, response);
-            return;
+        String accessJWT = accessJWTHeader.substring(Constants.Jwt.HEADER_PREFIX.length());
+
+        ByteBuffer tokenKey = hash(accessJWT);
+        VerifiedToken verifiedToken = verifiedTokenCache.getIfPresent(tokenKey);
+        if (verifiedToken == null || !verifiedToken.expiresAt().isAfter(Instant.now())) {
+            verifiedToken = verify(accessJWT);
+            if (verifiedToken == null) {
+                chain.doFilter(request, response);
+                return;
+            }
+            verifiedTokenCache.put(tokenKey, verifiedToken);
         }
-        if (decodedAccessJWT.getExpiresAtAsInstant().isBefore(Instant.now())) {
+        // 로그아웃 등으로 jwtValidator가 갱신된 이후에는 그 전에 발급된 토큰을 거부 (캐시된 토큰 포함)
+        if (jwtRevocationIndex.isRevoked(verifiedToken.userId(), verifiedToken.issuedAt())) {
             chain.doFilter(request, response);
             return;
         }
+        SecurityContextHolder.getContext().setAuthentication(verifiedToken.authentication());
+        chain.doFilter(request, response);
+
+    }
+
+    // 서명, 만료, subject를 검증하고 인증 객체를 만든다. 유효하지 않은 토큰이면 null
+    private VerifiedToken verify(String accessJWT) {
+        DecodedJWT decodedAccessJWT;
+        try {
+            decodedAccessJWT = jwtVerifier.verify(accessJWT);
+        } catch (JWTVerificationException e) {
+            return null;
+        }
+        Instant expiresAt = decodedAccessJWT.getExpiresAtAsInstant();
+        if (expiresAt == null || expiresAt.isBefore(Instant.now())) {
+            return null;
+        }
         if (!"accessJwt".equals(decodedAccessJWT.getSubject())) {
-            chain.doFilter(request, response);
-            return;
+            return null;
         }
         CustomUserDetails customUserDetails;
         try {
             customUserDetails = CustomUserDetails.of(decodedAccessJWT);
         } catch (Exception e) {
-            chain.doFilter(request, response);
-            return;
+            return null;
         }
-        // TODO : 추후 Redis를 이용한 JWT 검증 로직 추가
-//        if (Instant.ofEpochMilli(customUserDetails.getMember().getJwtValidator()).isAfter(decodedAccessJWT.getIssuedAtAsInstant())) {
-//            chain.doFilter(request, response);
-//            return;
-//        }
-        SecurityContextHolder.getContext().setAuthentication(
+        return new VerifiedToken(
                 new UsernamePasswordAuthenticationToken(
                         customUserDetails,
                         null,
                         customUserDetails.getAuthorities()
-                )
+                ),
+                customUserDetails.getId(),
+                decodedAccessJWT.getIssuedAtAsInstant(),
+                expiresAt
         );
-        chain.doFilter(request, response);
+    }
+
+    private ByteBuffer hash(String accessJWT) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return ByteBuffer.wrap(messageDigest.digest(accessJWT.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private record VerifiedToken(
+            UsernamePasswordAuthenticationToken authentication,
+            UUID userId,
+            Instant issuedAt,
+            Instant expiresAt
+    ) {
+    }
 
+    private static final class VerifiedTokenExpiry implements Expiry<ByteBuffer, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(ByteBuffer key, VerifiedToken value, long currentTime) {
+            return Math.max(0L, value.expiresAt().toEpochMilli() - System.currentTimeMillis()) * 1_000_000L;
+        }
+
+        @Override
+        public long expireAfterUpdate(ByteBuffer key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(ByteBuffer key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 }
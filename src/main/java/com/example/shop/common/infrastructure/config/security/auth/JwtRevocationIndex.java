@@ -0,0 +1,73 @@
+package com.example.shop.common.infrastructure.config.security.auth;
+
+import com.example.shop.common.util.UuidLongMap;
+import com.example.shop.user.domain.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * 사용자별 jwtValidator(epoch millis)를 메모리에 보관해 액세스 토큰 무효화 여부를 DB 조회 없이 판단한다.
+ * 처음 보는 사용자만 DB에서 한 번 읽어 적재하고, 이후 변경은 {@link JwtRevokedEvent}로 반영한다.
+ * 항목이 maximumSize에 이르면 전부 비우고 다시 필요한 사용자부터 적재한다 (삭제된 사용자도 계속 쌓이지 않게).
+ */
+@Component
+public class JwtRevocationIndex {
+
+    private static final long ABSENT = Long.MIN_VALUE;
+    // 존재하지 않거나 삭제된 사용자는 모든 토큰을 무효로 처리
+    private static final long UNKNOWN_USER = Long.MAX_VALUE;
+
+    private final Function<UUID, Optional<Long>> jwtValidatorLoader;
+    private final UuidLongMap jwtValidatorMap;
+
+    @Autowired
+    public JwtRevocationIndex(
+            UserRepository userRepository,
+            @Value("${shop.security.jwt-revocation.maximum-size:100000}") int maximumSize
+    ) {
+        this(userRepository::findJwtValidatorById, maximumSize);
+    }
+
+    JwtRevocationIndex(Function<UUID, Optional<Long>> jwtValidatorLoader, int maximumSize) {
+        this.jwtValidatorLoader = jwtValidatorLoader;
+        this.jwtValidatorMap = new UuidLongMap(Math.min(maximumSize, 1 << 10), maximumSize);
+    }
+
+    // 토큰 발급 시각 이후에 jwtValidator가 갱신되었다면 무효화된 토큰
+    // jwtValidator는 초 단위로 내려 저장하므로, 무효화한 그 초에 발급된 토큰은 유효하다 (User.invalidateJwt)
+    public boolean isRevoked(UUID userId, Instant issuedAt) {
+        if (userId == null || issuedAt == null) {
+            return true;
+        }
+        long jwtValidator = jwtValidatorMap.get(userId, ABSENT);
+        if (jwtValidator == ABSENT) {
+            jwtValidator = load(userId);
+        }
+        return jwtValidator > issuedAt.toEpochMilli();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJwtRevoked(JwtRevokedEvent event) {
+        jwtValidatorMap.putIfGreater(event.userId(), event.jwtValidator());
+    }
+
+    public int size() {
+        return jwtValidatorMap.size();
+    }
+
+    private long load(UUID userId) {
+        long clearCount = jwtValidatorMap.clearCount();
+        long loaded = jwtValidatorLoader.apply(userId)
+                .orElse(UNKNOWN_USER);
+        // 적재 중 도착한 무효화 이벤트가 더 최신이면 덮어쓰지 않고, 그 사이 맵이 비워졌다면 넣지 않는다
+        jwtValidatorMap.putIfGreater(userId, loaded, clearCount);
+        return jwtValidatorMap.get(userId, loaded);
+    }
+}
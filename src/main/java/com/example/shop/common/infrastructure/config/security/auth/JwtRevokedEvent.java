@@ -0,0 +1,10 @@
+package com.example.shop.common.infrastructure.config.security.auth;
+
+import java.util.UUID;
+
+/**
+ * 사용자의 jwtValidator가 갱신되어 그 이전에 발급된 토큰이 무효화되었음을 알린다.
+ * 로그아웃, 회원 탈퇴 등에서 발행하며, 다른 인스턴스의 변경을 전달받는 구독자도 같은 이벤트를 다시 발행하면 된다.
+ */
+public record JwtRevokedEvent(UUID userId, long jwtValidator) {
+}
@@ -0,0 +1,21 @@
+package com.example.shop.common.infrastructure.config.thread;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.system.JavaVersion;
+import org.springframework.stereotype.Component;
+
+/**
+ * virtual 프로필(spring.threads.virtual.enabled=true)을 Java 21 미만에서 켜면 기동을 멈춘다.
+ * Spring Boot는 이때 설정을 무시하고 플랫폼 스레드로 실행하므로, 가상 스레드로 도는 줄 알고 운영하지 않게 한다.
+ */
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadRuntimeCheck {
+
+    public VirtualThreadRuntimeCheck() {
+        if (!JavaVersion.getJavaVersion().isEqualOrNewerThan(JavaVersion.TWENTY_ONE)) {
+            throw new IllegalStateException(
+                    "가상 스레드(virtual 프로필)는 Java 21 이상에서 실행해야 합니다. 현재: " + Runtime.version());
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.shop.common.infrastructure.config.webclient;
+
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+/**
+ * 외부 API(OAuth, 카카오 등) 호출용 WebClient.
+ * <p>
+ * 커넥션 풀을 애플리케이션 전체에서 공유해 keep-alive 연결을 재사용하고(호출마다 TCP/TLS 연결을 새로 맺지 않는다),
+ * 연결/응답 시간과 응답 본문 크기를 제한한다. 풀이 가득 차면 pending-acquire-max-count까지 대기하고 그 이상은 즉시 실패한다.
+ */
+@Configuration
+public class WebClientConfig {
+
+    public static final String CONNECTION_PROVIDER_NAME = "outbound";
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider outboundConnectionProvider(
+            @Value("${shop.webclient.max-connections:50}") int maxConnections,
+            @Value("${shop.webclient.pending-acquire-max-count:500}") int pendingAcquireMaxCount,
+            @Value("${shop.webclient.pending-acquire-timeout-ms:5000}") long pendingAcquireTimeoutMillis,
+            @Value("${shop.webclient.max-idle-time-ms:30000}") long maxIdleTimeMillis,
+            @Value("${shop.webclient.max-life-time-ms:300000}") long maxLifeTimeMillis
+    ) {
+        return ConnectionProvider.builder(CONNECTION_PROVIDER_NAME)
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMillis))
+                // 상대 서버가 먼저 끊은 유휴 연결을 재사용하지 않도록 유휴/수명 시간을 두고 백그라운드에서 정리
+                .maxIdleTime(Duration.ofMillis(maxIdleTimeMillis))
+                .maxLifeTime(Duration.ofMillis(maxLifeTimeMillis))
+                .evictInBackground(Duration.ofMillis(maxIdleTimeMillis))
+                .metrics(true)
+                .build();
+    }
+
+    @Bean
+    public WebClient outboundWebClient(
+            WebClient.Builder webClientBuilder,
+            ConnectionProvider outboundConnectionProvider,
+            @Value("${shop.webclient.connect-timeout-ms:3000}") int connectTimeoutMillis,
+            @Value("${shop.webclient.response-timeout-ms:5000}") long responseTimeoutMillis,
+            @Value("${shop.webclient.max-in-memory-size:1048576}") int maxInMemorySize
+    ) {
+        HttpClient httpClient = HttpClient.create(outboundConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMillis)
+                .responseTimeout(Duration.ofMillis(responseTimeoutMillis))
+                .followRedirect(true);
+        // Boot가 구성한 빌더를 복제해 애플리케이션 ObjectMapper 코덱을 그대로 쓴다
+        return webClientBuilder.clone()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(maxInMemorySize))
+                .defaultHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+                .build();
+    }
+}
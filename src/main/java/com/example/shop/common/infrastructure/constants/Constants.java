@@ -28,6 +28,8 @@ public class Constants {
         HTTP_REQUEST_METHOD_NOT_SUPPORT_EXCEPTION,
         METHOD_ARGUMENT_TYPE_MISMATCH_EXCEPTION,
         CONVERSION_FAILED_EXCEPTION,
+        OPTIMISTIC_LOCKING_FAILURE_EXCEPTION,
+        REJECTED_EXECUTION_EXCEPTION,
         EXCEPTION;
     }
 
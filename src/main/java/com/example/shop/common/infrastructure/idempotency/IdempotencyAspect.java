@@ -0,0 +1,129 @@
+package com.example.shop.common.infrastructure.idempotency;
+
+import com.example.shop.common.infrastructure.config.security.auth.CustomUserDetails;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.lang.annotation.Annotation;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class IdempotencyAspect {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    // 저장된 결과를 다시 보낸 응답에 붙는 헤더
+    public static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyStore idempotencyStore;
+    private final ObjectMapper objectMapper;
+
+    @Around("@annotation(idempotent)")
+    public Object handle(ProceedingJoinPoint joinPoint, Idempotent idempotent) throws Throwable {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes servletRequestAttributes)) {
+            return joinPoint.proceed();
+        }
+        HttpServletRequest request = servletRequestAttributes.getRequest();
+        String idempotencyKey = request.getHeader(IDEMPOTENCY_KEY_HEADER);
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return joinPoint.proceed();
+        }
+        if (idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new IdempotencyException(IdempotencyError.IDEMPOTENCY_KEY_INVALID);
+        }
+
+        // 키는 사용자와 엔드포인트별로 구분한다
+        String storeKey = principalName() + ":" + request.getMethod() + ":" + request.getRequestURI() + ":" + idempotencyKey;
+        IdempotencyRecord newRecord = new IdempotencyRecord(fingerprint(joinPoint), new CompletableFuture<>());
+        IdempotencyRecord existingRecord = idempotencyStore.putIfAbsent(storeKey, newRecord);
+        if (existingRecord != null) {
+            Object result = awaitResult(existingRecord, newRecord.fingerprint(), idempotent.waitTimeoutMillis());
+            HttpServletResponse response = servletRequestAttributes.getResponse();
+            if (response != null) {
+                response.setHeader(IDEMPOTENT_REPLAYED_HEADER, "true");
+            }
+            return result;
+        }
+
+        try {
+            Object result = joinPoint.proceed();
+            newRecord.result().complete(result);
+            return result;
+        } catch (Throwable e) {
+            // 실패한 요청은 저장하지 않고, 기다리던 중복 요청에는 같은 예외를 전달한다
+            idempotencyStore.remove(storeKey, newRecord);
+            newRecord.result().completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private Object awaitResult(IdempotencyRecord existingRecord, String fingerprint, long waitTimeoutMillis) throws Throwable {
+        if (!existingRecord.fingerprint().equals(fingerprint)) {
+            throw new IdempotencyException(IdempotencyError.IDEMPOTENCY_KEY_REUSED);
+        }
+        try {
+            return existingRecord.result().get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            throw e.getCause();
+        } catch (TimeoutException e) {
+            throw new IdempotencyException(IdempotencyError.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyException(IdempotencyError.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+        }
+    }
+
+    private String principalName() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null) {
+            return "anonymous";
+        }
+        if (authentication.getPrincipal() instanceof CustomUserDetails customUserDetails && customUserDetails.getId() != null) {
+            return customUserDetails.getId().toString();
+        }
+        return authentication.getName();
+    }
+
+    // @RequestBody 인자를 JSON으로 직렬화한 SHA-256 해시
+    private String fingerprint(ProceedingJoinPoint joinPoint) throws Exception {
+        Annotation[][] parameterAnnotations = ((MethodSignature) joinPoint.getSignature()).getMethod().getParameterAnnotations();
+        Object[] args = joinPoint.getArgs();
+        MessageDigest messageDigest = sha256();
+        for (int i = 0; i < args.length; i++) {
+            for (Annotation annotation : parameterAnnotations[i]) {
+                if (annotation instanceof RequestBody) {
+                    messageDigest.update(objectMapper.writeValueAsBytes(args[i]));
+                }
+            }
+        }
+        return HexFormat.of().formatHex(messageDigest.digest());
+    }
+
+    private MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
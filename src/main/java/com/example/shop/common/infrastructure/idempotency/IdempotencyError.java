@@ -0,0 +1,33 @@
+package com.example.shop.common.infrastructure.idempotency;
+
+import com.example.shop.common.presentation.advice.GlobalError;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+
+@Getter
+@RequiredArgsConstructor
+public enum IdempotencyError implements GlobalError {
+
+    IDEMPOTENCY_KEY_INVALID(HttpStatus.BAD_REQUEST, "Idempotency-Key는 255자 이하여야 합니다."),
+    IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY, "이미 다른 요청에 사용된 Idempotency-Key입니다."),
+    IDEMPOTENCY_REQUEST_IN_PROGRESS(HttpStatus.CONFLICT, "같은 Idempotency-Key의 요청이 처리 중입니다. 잠시 후 다시 시도해주세요.");
+
+    private final HttpStatus httpStatus;
+    private final String errorMessage;
+
+    @Override
+    public HttpStatus getHttpStatus() {
+        return httpStatus;
+    }
+
+    @Override
+    public String getErrorCode() {
+        return this.toString();
+    }
+
+    @Override
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+}
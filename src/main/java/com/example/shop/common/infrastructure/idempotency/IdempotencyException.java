@@ -0,0 +1,15 @@
+package com.example.shop.common.infrastructure.idempotency;
+
+import com.example.shop.common.presentation.advice.GlobalError;
+import lombok.Getter;
+
+@Getter
+public class IdempotencyException extends RuntimeException {
+
+    private final GlobalError error;
+
+    public IdempotencyException(IdempotencyError error) {
+        super(error.getErrorMessage());
+        this.error = error;
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.shop.common.infrastructure.idempotency;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Idempotency-Key 하나에 대한 처리 기록.
+ * fingerprint는 요청 본문의 해시로, 같은 키가 다른 본문에 다시 쓰였는지 확인하는 데 사용한다.
+ * result는 처리 중이면 미완료 상태이고, 처리가 끝나면 컨트롤러의 반환값으로 완료된다.
+ */
+public record IdempotencyRecord(String fingerprint, CompletableFuture<Object> result) {
+}
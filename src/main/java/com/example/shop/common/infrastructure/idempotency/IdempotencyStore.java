@@ -0,0 +1,14 @@
+package com.example.shop.common.infrastructure.idempotency;
+
+/**
+ * Idempotency-Key별 처리 기록 저장소.
+ * 기본 구현은 인스턴스 로컬 메모리({@link InMemoryIdempotencyStore})이며, 여러 인스턴스가 기록을 공유해야 하면 DB 등을 쓰는 구현으로 교체한다.
+ */
+public interface IdempotencyStore {
+
+    // 키가 비어 있으면 record를 저장하고 null, 이미 기록이 있으면 기존 기록을 반환
+    IdempotencyRecord putIfAbsent(String key, IdempotencyRecord record);
+
+    // 실패한 요청의 기록을 지워 같은 키의 재요청이 다시 실행되도록 한다 (다른 기록으로 바뀌었으면 무시)
+    void remove(String key, IdempotencyRecord record);
+}
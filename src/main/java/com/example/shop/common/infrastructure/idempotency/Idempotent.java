@@ -0,0 +1,18 @@
+package com.example.shop.common.infrastructure.idempotency;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 요청에 Idempotency-Key 헤더가 있으면 같은 사용자, 같은 엔드포인트, 같은 키의 재요청에 처음 처리한 결과를 그대로 반환한다.
+ * 컨트롤러 메소드에 선언하며, 헤더가 없는 요청은 그대로 실행한다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Idempotent {
+
+    // 같은 키의 요청이 처리 중일 때 결과를 기다리는 최대 시간(ms), 넘으면 409 응답
+    long waitTimeoutMillis() default 10_000L;
+}
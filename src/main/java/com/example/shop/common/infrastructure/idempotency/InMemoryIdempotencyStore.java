@@ -0,0 +1,45 @@
+package com.example.shop.common.infrastructure.idempotency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 최대 개수와 TTL로 제한한 로컬 메모리 저장소.
+ * 최대 개수를 넘어 밀려나거나 TTL이 지난 키의 재요청은 새 요청으로 처리된다.
+ */
+@Component
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+    public static final String CACHE_NAME = "idempotency";
+
+    private final Cache<String, IdempotencyRecord> recordCache;
+
+    public InMemoryIdempotencyStore(
+            MeterRegistry meterRegistry,
+            @Value("${shop.idempotency.maximum-size:10000}") long maximumSize,
+            @Value("${shop.idempotency.ttl-ms:86400000}") long ttlMillis
+    ) {
+        this.recordCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMillis))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, recordCache, CACHE_NAME);
+    }
+
+    @Override
+    public IdempotencyRecord putIfAbsent(String key, IdempotencyRecord record) {
+        return recordCache.asMap().putIfAbsent(key, record);
+    }
+
+    @Override
+    public void remove(String key, IdempotencyRecord record) {
+        recordCache.asMap().remove(key, record);
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.shop.common.infrastructure.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 이벤트를 한 줄에 하나씩(NDJSON) 파일 끝에 덧붙인다 (로컬 확인용)
+@Component
+@ConditionalOnProperty(name = "shop.outbox.sink", havingValue = "file")
+public class FileOutboxSink implements OutboxSink {
+
+    private final Path path;
+    private final ObjectWriter messageWriter;
+    // 파일 쓰기 중 가상 스레드가 캐리어 스레드에 고정되지 않도록 synchronized 대신 사용
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    public FileOutboxSink(
+            ObjectMapper objectMapper,
+            @Value("${shop.outbox.file.path:build/outbox.ndjson}") String path
+    ) {
+        this.path = Path.of(path);
+        this.messageWriter = objectMapper.writerFor(OutboxMessage.class);
+    }
+
+    @Override
+    public void publish(List<OutboxMessage> messageList) {
+        writeLock.lock();
+        try {
+            Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            try (BufferedWriter writer = Files.newBufferedWriter(
+                    path,
+                    StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE,
+                    StandardOpenOption.APPEND
+            )) {
+                for (OutboxMessage message : messageList) {
+                    writer.write(messageWriter.writeValueAsString(message));
+                    writer.newLine();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+}
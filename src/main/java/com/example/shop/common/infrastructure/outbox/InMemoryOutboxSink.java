@@ -0,0 +1,36 @@
+package com.example.shop.common.infrastructure.outbox;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+// 최근에 발행된 이벤트를 최대 개수만큼 메모리에 보관한다 (로컬 확인, 테스트용)
+@Component
+@ConditionalOnProperty(name = "shop.outbox.sink", havingValue = "memory")
+public class InMemoryOutboxSink implements OutboxSink {
+
+    private final int maximumSize;
+    private final Deque<OutboxMessage> messageDeque = new ArrayDeque<>();
+
+    public InMemoryOutboxSink(@Value("${shop.outbox.memory.maximum-size:1000}") int maximumSize) {
+        this.maximumSize = Math.max(maximumSize, 1);
+    }
+
+    @Override
+    public synchronized void publish(List<OutboxMessage> messageList) {
+        for (OutboxMessage message : messageList) {
+            if (messageDeque.size() == maximumSize) {
+                messageDeque.removeFirst();
+            }
+            messageDeque.addLast(message);
+        }
+    }
+
+    public synchronized List<OutboxMessage> getMessageList() {
+        return List.copyOf(messageDeque);
+    }
+}
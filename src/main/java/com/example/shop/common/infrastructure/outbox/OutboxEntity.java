@@ -0,0 +1,49 @@
+package com.example.shop.common.infrastructure.outbox;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+import java.util.UUID;
+
+// 상태 변경과 같은 트랜잭션에서 저장하는 이벤트, OutboxRelay가 id 순서대로 발행한다
+@Entity
+@Table(
+        name = "OUTBOX",
+        indexes = {
+                @Index(name = "idx_outbox_published_at_id", columnList = "published_at, id")
+        }
+)
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EqualsAndHashCode(of = "id")
+public class OutboxEntity {
+
+    // 발행 순서를 보장하기 위해 UUID 대신 증가하는 번호를 쓴다
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", nullable = false, unique = true)
+    private Long id;
+
+    @Column(name = "aggregate_type", nullable = false, length = 50)
+    private String aggregateType;
+
+    @Column(name = "aggregate_id", nullable = false)
+    private UUID aggregateId;
+
+    @Column(name = "event_type", nullable = false, length = 100)
+    private String eventType;
+
+    // JSON 문자열
+    @Lob
+    @Column(name = "payload", nullable = false)
+    private String payload;
+
+    @Column(name = "occurred_at", nullable = false)
+    private Instant occurredAt;
+
+    @Column(name = "published_at")
+    private Instant publishedAt;
+}
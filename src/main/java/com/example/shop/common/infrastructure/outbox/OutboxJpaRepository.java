@@ -0,0 +1,31 @@
+package com.example.shop.common.infrastructure.outbox;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+public interface OutboxJpaRepository extends JpaRepository<OutboxEntity, Long> {
+
+    // 발행 전 이벤트를 id 순서로 잠그며 가져온다, 다른 인스턴스가 잠근 행은 건너뛴다 (MySQL 8, H2 지원)
+    @Query(value = """
+            select * from outbox o
+             where o.published_at is null
+             order by o.id
+             limit :limit
+             for update skip locked
+            """, nativeQuery = true)
+    List<OutboxEntity> findUnpublishedForUpdate(@Param("limit") int limit);
+
+    @Modifying
+    @Query("update OutboxEntity o set o.publishedAt = :publishedAt where o.id in :ids")
+    int markPublished(@Param("ids") Collection<Long> ids, @Param("publishedAt") Instant publishedAt);
+
+    @Modifying
+    @Query("delete from OutboxEntity o where o.publishedAt < :threshold")
+    int deletePublishedBefore(@Param("threshold") Instant threshold);
+}
@@ -0,0 +1,28 @@
+package com.example.shop.common.infrastructure.outbox;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+
+import java.time.Instant;
+import java.util.UUID;
+
+// 싱크에 넘기는 이벤트, 소비자는 id로 중복 수신을 걸러야 한다 (최소 한 번 발행)
+public record OutboxMessage(
+        Long id,
+        String aggregateType,
+        UUID aggregateId,
+        String eventType,
+        @JsonRawValue String payload,
+        Instant occurredAt
+) {
+
+    static OutboxMessage from(OutboxEntity outboxEntity) {
+        return new OutboxMessage(
+                outboxEntity.getId(),
+                outboxEntity.getAggregateType(),
+                outboxEntity.getAggregateId(),
+                outboxEntity.getEventType(),
+                outboxEntity.getPayload(),
+                outboxEntity.getOccurredAt()
+        );
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.shop.common.infrastructure.outbox;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * OUTBOX의 발행 전 이벤트를 주기적으로 묶음 단위로 읽어 모든 {@link OutboxSink}에 넘긴다.
+ * <p>
+ * 묶음은 FOR UPDATE SKIP LOCKED로 잠그므로 여러 인스턴스가 동시에 돌아도 같은 이벤트를 나눠 갖지 않는다.
+ * 싱크 발행과 발행 완료 표시는 같은 트랜잭션이라, 발행 후 커밋에 실패하면 다음 주기에 다시 발행된다 (최소 한 번).
+ * 등록된 싱크가 없으면 이벤트는 테이블에 쌓이기만 한다.
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private final OutboxJpaRepository outboxJpaRepository;
+    private final List<OutboxSink> outboxSinkList;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final Duration retention;
+
+    public OutboxRelay(
+            OutboxJpaRepository outboxJpaRepository,
+            List<OutboxSink> outboxSinkList,
+            PlatformTransactionManager transactionManager,
+            @Value("${shop.outbox.relay.batch-size:500}") int batchSize,
+            @Value("${shop.outbox.relay.max-batches-per-run:20}") int maxBatchesPerRun,
+            @Value("${shop.outbox.retention-ms:604800000}") long retentionMillis
+    ) {
+        this.outboxJpaRepository = outboxJpaRepository;
+        this.outboxSinkList = List.copyOf(outboxSinkList);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = Math.max(batchSize, 1);
+        this.maxBatchesPerRun = Math.max(maxBatchesPerRun, 1);
+        this.retention = Duration.ofMillis(retentionMillis);
+    }
+
+    // 가득 찬 묶음이 나오는 동안 한 주기에 최대 maxBatchesPerRun번까지 이어서 발행하고, 발행한 이벤트 수를 반환
+    @Scheduled(
+            fixedDelayString = "${shop.outbox.relay.interval-ms:1000}",
+            initialDelayString = "${shop.outbox.relay.interval-ms:1000}"
+    )
+    public int relay() {
+        if (outboxSinkList.isEmpty()) {
+            return 0;
+        }
+        int publishedCount = 0;
+        for (int i = 0; i < maxBatchesPerRun; i++) {
+            int count;
+            try {
+                count = transactionTemplate.execute(status -> relayBatch());
+            } catch (RuntimeException e) {
+                log.warn("이벤트 발행에 실패했습니다. 다음 주기에 다시 시도합니다. {}", e.getMessage());
+                break;
+            }
+            publishedCount += count;
+            if (count < batchSize) {
+                break;
+            }
+        }
+        return publishedCount;
+    }
+
+    // 발행을 마치고 보관 기간이 지난 이벤트를 지운다
+    @Scheduled(
+            fixedDelayString = "${shop.outbox.purge-interval-ms:3600000}",
+            initialDelayString = "${shop.outbox.purge-interval-ms:3600000}"
+    )
+    public void purge() {
+        Integer deletedCount = transactionTemplate.execute(status ->
+                outboxJpaRepository.deletePublishedBefore(Instant.now().minus(retention)));
+        if (deletedCount != null && deletedCount > 0) {
+            log.info("발행된 이벤트 {}건을 삭제했습니다.", deletedCount);
+        }
+    }
+
+    private int relayBatch() {
+        List<OutboxEntity> outboxEntityList = outboxJpaRepository.findUnpublishedForUpdate(batchSize);
+        if (outboxEntityList.isEmpty()) {
+            return 0;
+        }
+        List<OutboxMessage> messageList = outboxEntityList.stream()
+                .map(OutboxMessage::from)
+                .toList();
+        for (OutboxSink outboxSink : outboxSinkList) {
+            outboxSink.publish(messageList);
+        }
+        outboxJpaRepository.markPublished(
+                messageList.stream().map(OutboxMessage::id).toList(),
+                Instant.now()
+        );
+        return messageList.size();
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.shop.common.infrastructure.outbox;
+
+import java.util.List;
+
+/**
+ * OutboxRelay가 이벤트를 넘기는 발행 대상.
+ * 로컬 확인용으로 메모리({@link InMemoryOutboxSink}), 파일({@link FileOutboxSink}) 구현이 있으며 shop.outbox.sink로 고른다.
+ * 메시지 브로커 등으로 보내려면 구현을 빈으로 등록한다.
+ */
+public interface OutboxSink {
+
+    // id 순서로 정렬된 묶음을 받는다, 예외를 던지면 묶음 전체를 다음 주기에 다시 보낸다
+    void publish(List<OutboxMessage> messageList);
+}
@@ -0,0 +1,40 @@
+package com.example.shop.common.infrastructure.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 상태 변경 이벤트를 OUTBOX 테이블에 저장한다.
+ * 호출 측 트랜잭션에 참여해 상태 변경이 롤백되면 이벤트도 함께 롤백된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxWriter {
+
+    private final OutboxJpaRepository outboxJpaRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(String aggregateType, UUID aggregateId, String eventType, Object payload) {
+        String payloadJson;
+        try {
+            payloadJson = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("이벤트를 JSON으로 변환하지 못했습니다. eventType: " + eventType, e);
+        }
+        outboxJpaRepository.save(OutboxEntity.builder()
+                .aggregateType(aggregateType)
+                .aggregateId(aggregateId)
+                .eventType(eventType)
+                .payload(payloadJson)
+                .occurredAt(Instant.now())
+                .build());
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.shop.common.infrastructure.persistence;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * (createdAt desc, id desc) 정렬 기준의 키셋 페이지네이션 커서.
+ * 클라이언트에는 내부 값을 알 수 없는 토큰 문자열로만 전달한다.
+ */
+public record KeysetCursor(Instant createdAt, UUID id) {
+
+    private static final String DELIMITER = "|";
+
+    // 영속성 컨텍스트의 값은 나노초까지 가질 수 있어 DB 컬럼 정밀도(마이크로초)에 맞춰 비교
+    public KeysetCursor {
+        createdAt = createdAt.truncatedTo(ChronoUnit.MICROS);
+    }
+
+    public String encode() {
+        String raw = createdAt.toString() + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 형식이 잘못된 토큰은 빈 값을 반환
+    public static Optional<KeysetCursor> decode(String token) {
+        if (token == null || token.isBlank()) {
+            return Optional.empty();
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token.trim()), StandardCharsets.UTF_8);
+            int delimiterIndex = raw.indexOf(DELIMITER);
+            if (delimiterIndex < 0) {
+                return Optional.empty();
+            }
+            return Optional.of(new KeysetCursor(
+                    Instant.parse(raw.substring(0, delimiterIndex)),
+                    UUID.fromString(raw.substring(delimiterIndex + 1))
+            ));
+        } catch (RuntimeException e) {
+            return Optional.empty();
+        }
+    }
+
+    // size + 1건을 조회한 결과로 다음 페이지 존재 여부를 판단하고 (count 쿼리 없음), 마지막 항목으로 다음 커서 토큰을 만든다
+    public static <E, D> KeysetSlice<D> toKeysetSlice(
+            List<E> fetchedList,
+            int size,
+            Function<E, D> mapper,
+            Function<E, Instant> createdAtGetter,
+            Function<E, UUID> idGetter
+    ) {
+        boolean hasNext = fetchedList.size() > size;
+        List<E> pageList = hasNext ? fetchedList.subList(0, size) : fetchedList;
+        List<D> content = pageList.stream()
+                .map(mapper)
+                .toList();
+        String nextCursor = null;
+        if (hasNext && !pageList.isEmpty()) {
+            E last = pageList.get(pageList.size() - 1);
+            nextCursor = new KeysetCursor(createdAtGetter.apply(last), idGetter.apply(last)).encode();
+        }
+        return new KeysetSlice<>(new SliceImpl<>(content, PageRequest.ofSize(size), hasNext), nextCursor);
+    }
+}
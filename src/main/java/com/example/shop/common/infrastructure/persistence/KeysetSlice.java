@@ -0,0 +1,7 @@
+package com.example.shop.common.infrastructure.persistence;
+
+import org.springframework.data.domain.Slice;
+
+// 키셋 페이지 조회 결과와 다음 페이지 커서 토큰 (마지막 페이지면 null)
+public record KeysetSlice<T>(Slice<T> slice, String nextCursor) {
+}
@@ -0,0 +1,82 @@
+package com.example.shop.common.infrastructure.persistence;
+
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 현재 트랜잭션에서 조회한 엔티티를 (엔티티 타입, ID)로 기억해 둔다.
+ * *RepositoryImpl.save는 같은 트랜잭션에서 이미 읽은 애그리거트라면 다시 조회하거나 merge하지 않고
+ * 기억해 둔 영속 엔티티에 도메인 변경을 바로 반영한다. 트랜잭션이 끝나면 함께 비워진다.
+ * 비활성화하면 save는 예전처럼 findById 후 merge하는 경로를 탄다 (PersistenceQueryCountTest의 기준선 측정용).
+ */
+@Component
+public class ManagedEntityTracker {
+
+    private final EntityManager entityManager;
+    private final boolean enabled;
+
+    public ManagedEntityTracker(
+            EntityManager entityManager,
+            @Value("${shop.persistence.entity-tracking.enabled:true}") boolean enabled
+    ) {
+        this.entityManager = entityManager;
+        this.enabled = enabled;
+    }
+
+    public <E> E track(Class<E> entityType, Object id, E entity) {
+        if (!enabled || entity == null || id == null) {
+            return entity;
+        }
+        Map<EntityKey, Object> trackedEntityMap = currentTrackedEntityMap();
+        if (trackedEntityMap != null) {
+            trackedEntityMap.put(new EntityKey(entityType, id), entity);
+        }
+        return entity;
+    }
+
+    public <E> Optional<E> find(Class<E> entityType, Object id) {
+        if (!enabled || id == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return Optional.empty();
+        }
+        @SuppressWarnings("unchecked")
+        Map<EntityKey, Object> trackedEntityMap = (Map<EntityKey, Object>) TransactionSynchronizationManager.getResource(this);
+        if (trackedEntityMap == null) {
+            return Optional.empty();
+        }
+        Object entity = trackedEntityMap.get(new EntityKey(entityType, id));
+        // 영속성 컨텍스트가 clear된 경우 준영속 엔티티에 변경을 반영하지 않도록 확인
+        if (entity == null || !entityManager.contains(entity)) {
+            return Optional.empty();
+        }
+        return Optional.of(entityType.cast(entity));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<EntityKey, Object> currentTrackedEntityMap() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+        Map<EntityKey, Object> trackedEntityMap = (Map<EntityKey, Object>) TransactionSynchronizationManager.getResource(this);
+        if (trackedEntityMap == null) {
+            trackedEntityMap = new HashMap<>();
+            TransactionSynchronizationManager.bindResource(this, trackedEntityMap);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(ManagedEntityTracker.this);
+                }
+            });
+        }
+        return trackedEntityMap;
+    }
+
+    private record EntityKey(Class<?> entityType, Object id) {
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.shop.common.infrastructure.retry;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 낙관적 락 충돌 시 트랜잭션 바깥에서 메소드 전체를 다시 실행한다.
+ * {@code @Transactional} 메소드에 함께 선언하며, 이미 진행 중인 트랜잭션에 참여하는 호출은 재시도하지 않는다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface OptimisticLockRetry {
+
+    // 최초 실행을 포함한 최대 시도 횟수
+    int maxAttempts() default 3;
+
+    // 지수 백오프의 기준 대기 시간(ms), 실제 대기 시간은 0 ~ 기준값 * 2^(시도-1) 사이에서 무작위로 결정
+    long backoffMillis() default 20L;
+}
@@ -0,0 +1,34 @@
+package com.example.shop.common.infrastructure.retry;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Aspect
+@Component
+@RequiredArgsConstructor
+@Order(Ordered.LOWEST_PRECEDENCE - 1) // 트랜잭션 어드바이스(LOWEST_PRECEDENCE)보다 바깥에서 실행되어야 재시도마다 새 트랜잭션이 열린다
+public class OptimisticLockRetryAspect {
+
+    private final RetryExecutor retryExecutor;
+
+    @Around("@annotation(optimisticLockRetry)")
+    public Object retry(ProceedingJoinPoint joinPoint, OptimisticLockRetry optimisticLockRetry) throws Throwable {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+        String name = joinPoint.getSignature().getDeclaringType().getSimpleName()
+                + "." + joinPoint.getSignature().getName();
+        return retryExecutor.execute(
+                name,
+                optimisticLockRetry.maxAttempts(),
+                optimisticLockRetry.backoffMillis(),
+                joinPoint::proceed
+        );
+    }
+}
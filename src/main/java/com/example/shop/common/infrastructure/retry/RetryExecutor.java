@@ -0,0 +1,55 @@
+package com.example.shop.common.infrastructure.retry;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+@Component
+@RequiredArgsConstructor
+public class RetryExecutor {
+
+    public static final String RETRY_METRIC_NAME = "shop.retry.attempts";
+    public static final String EXHAUSTED_METRIC_NAME = "shop.retry.exhausted";
+    private static final long MAX_BACKOFF_MILLIS = 1_000L;
+
+    private final MeterRegistry meterRegistry;
+
+    public <T> T execute(String name, int maxAttempts, long backoffMillis, RetryableCall<T> call) throws Throwable {
+        int attempt = 1;
+        while (true) {
+            try {
+                return call.call();
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= maxAttempts) {
+                    meterRegistry.counter(EXHAUSTED_METRIC_NAME, "method", name).increment();
+                    throw e;
+                }
+                meterRegistry.counter(RETRY_METRIC_NAME, "method", name).increment();
+                sleep(backoffMillis, attempt);
+                attempt++;
+            }
+        }
+    }
+
+    // full jitter: 0 ~ min(상한, 기준값 * 2^(시도-1)) 사이의 무작위 대기
+    private void sleep(long backoffMillis, int attempt) {
+        long ceiling = Math.min(MAX_BACKOFF_MILLIS, backoffMillis << Math.min(attempt - 1, 16));
+        if (ceiling <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("재시도 대기 중 인터럽트가 발생했습니다.", e);
+        }
+    }
+
+    @FunctionalInterface
+    public interface RetryableCall<T> {
+        T call() throws Throwable;
+    }
+}
@@ -1,10 +1,12 @@
 package com.example.shop.common.presentation.advice;
 
 import com.example.shop.common.infrastructure.constants.Constants;
+import com.example.shop.common.infrastructure.idempotency.IdempotencyException;
 import com.example.shop.common.presentation.dto.ApiDto;
 import jakarta.validation.ConstraintViolationException;
 import jakarta.validation.Path;
 import org.springframework.core.convert.ConversionFailedException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -18,6 +20,7 @@ import org.springframework.web.method.annotation.MethodArgumentTypeMismatchExcep
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.StreamSupport;
 
 @RestControllerAdvice
@@ -143,6 +146,39 @@ public class GlobalExceptionHandler {
         );
     }
 
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ApiDto<Object>> handleOptimisticLockingFailureException(Exception e) {
+        return new ResponseEntity<>(
+                ApiDto.builder()
+                        .code(Constants.ApiCode.OPTIMISTIC_LOCKING_FAILURE_EXCEPTION.toString())
+                        .message("다른 요청과 충돌했습니다. 잠시 후 다시 시도해주세요.")
+                        .build(),
+                HttpStatus.CONFLICT
+        );
+    }
+
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<ApiDto<Object>> handleRejectedExecutionException(Exception e) {
+        return new ResponseEntity<>(
+                ApiDto.builder()
+                        .code(Constants.ApiCode.REJECTED_EXECUTION_EXCEPTION.toString())
+                        .message("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.")
+                        .build(),
+                HttpStatus.TOO_MANY_REQUESTS
+        );
+    }
+
+    @ExceptionHandler(IdempotencyException.class)
+    public ResponseEntity<ApiDto<Object>> handleIdempotencyException(IdempotencyException e) {
+        return new ResponseEntity<>(
+                ApiDto.builder()
+                        .code(e.getError().getErrorCode())
+                        .message(e.getError().getErrorMessage())
+                        .build(),
+                e.getError().getHttpStatus()
+        );
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ApiDto<Object>> handleException(Exception e) {
         e.printStackTrace();
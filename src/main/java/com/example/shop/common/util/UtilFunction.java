@@ -6,13 +6,7 @@ import com.example.shop.common.infrastructure.config.security.auth.CustomUserDet
 import com.example.shop.common.infrastructure.constants.Constants;
 import com.example.shop.user.domain.model.User;
 import com.example.shop.user.domain.model.UserRole;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.multipart.MultipartFile;
-import org.springframework.web.reactive.function.client.ExchangeStrategies;
-import org.springframework.web.reactive.function.client.WebClient;
-import reactor.netty.http.client.HttpClient;
-import reactor.netty.resources.ConnectionProvider;
 
 import java.net.URL;
 import java.net.URLDecoder;
@@ -85,32 +79,6 @@ public class UtilFunction {
         return urlList;
     }
 
-    public static WebClient getWebClientAutoRedirect(String acceptType) {
-        ExchangeStrategies exchangeStrategies = ExchangeStrategies.builder()
-                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(-1)) // to unlimited memory size
-                .build();
-        ConnectionProvider provider = ConnectionProvider.builder("newConnection")
-                .maxConnections(10)  // 최대 연결 수
-                .pendingAcquireMaxCount(-1)  // 대기 큐 무한
-                .maxIdleTime(Duration.ZERO)  // 최대 유휴 시간 0
-                .maxLifeTime(Duration.ZERO)  // 최대 수명 시간 0
-                .build();
-        HttpClient httpClient = HttpClient.create(provider)
-                .followRedirect(true);
-        WebClient.Builder weblClientBuilder = WebClient.builder()
-                .exchangeStrategies(exchangeStrategies)
-                .clientConnector(new ReactorClientHttpConnector(httpClient));
-        if ("json".equals(acceptType)) {
-            weblClientBuilder.defaultHeader(HttpHeaders.ACCEPT, "application/json");
-        } else {
-            weblClientBuilder.defaultHeader(HttpHeaders.ACCEPT, "text/html,application/xhtml+xml,application/xml;q=0.9,image/avif,image/webp,image/apng,*/*;q=0.8,application/signed-exchange;v=b3;q=0.7");
-        }
-        weblClientBuilder.defaultHeader(HttpHeaders.ACCEPT_LANGUAGE, "ko-KR,ko;q=0.9,en-US;q=0.8,en;q=0.7")
-                .defaultHeader(HttpHeaders.USER_AGENT, "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/58.0.3029.110 Safari/537.36")
-                .defaultHeader("Sec-Ch-Ua", "\"Google Chrome\";v=\"123\", \"Not:A-Brand\";v=\"8\", \"Chromium\";v=\"123\"");
-        return weblClientBuilder.build();
-    }
-
     public static String generateAccessJwtBy() {
 
         return JWT.create()
@@ -0,0 +1,211 @@
+package com.example.shop.common.util;
+
+import java.util.UUID;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * UUID -> long 오픈 어드레싱 해시 맵.
+ * 키를 (상위 64비트, 하위 64비트) long 배열에 그대로 저장해 항목마다 UUID/Long 객체와 Entry를 만들지 않는다.
+ * 조회는 StampedLock의 낙관적 읽기로 잠금 없이 수행하고, 쓰기와 겹친 경우에만 읽기 잠금으로 다시 조회한다.
+ * 최대 크기를 주면 새 키를 넣을 때 가득 차 있으면 전부 비운다. 캐시 용도이므로 호출 측이 다시 적재한다.
+ */
+public class UuidLongMap {
+
+    private static final int DEFAULT_CAPACITY = 1 << 10;
+
+    private final StampedLock lock = new StampedLock();
+    private final int initialTableSize;
+    private final int maximumSize;
+    private volatile Table table;
+    private volatile long clearCount;
+
+    public UuidLongMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public UuidLongMap(int expectedSize) {
+        this(expectedSize, Integer.MAX_VALUE);
+    }
+
+    public UuidLongMap(int expectedSize, int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("maximumSize는 1 이상이어야 합니다: " + maximumSize);
+        }
+        this.initialTableSize = tableSizeFor(Math.max(Math.min(expectedSize, maximumSize), 16) * 2);
+        this.maximumSize = maximumSize;
+        this.table = new Table(initialTableSize);
+    }
+
+    public long get(UUID key, long defaultValue) {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0L) {
+            long value = table.get(key.getMostSignificantBits(), key.getLeastSignificantBits(), defaultValue);
+            if (lock.validate(stamp)) {
+                return value;
+            }
+        }
+        stamp = lock.readLock();
+        try {
+            return table.get(key.getMostSignificantBits(), key.getLeastSignificantBits(), defaultValue);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public boolean containsKey(UUID key) {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0L) {
+            boolean contains = table.indexOf(key.getMostSignificantBits(), key.getLeastSignificantBits()) >= 0;
+            if (lock.validate(stamp)) {
+                return contains;
+            }
+        }
+        stamp = lock.readLock();
+        try {
+            return table.indexOf(key.getMostSignificantBits(), key.getLeastSignificantBits()) >= 0;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public void put(UUID key, long value) {
+        long stamp = lock.writeLock();
+        try {
+            putLocked(key.getMostSignificantBits(), key.getLeastSignificantBits(), value);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    // 기존 값보다 클 때만 갱신 (jwtValidator처럼 단조 증가하는 값용)
+    public void putIfGreater(UUID key, long value) {
+        long stamp = lock.writeLock();
+        try {
+            long msb = key.getMostSignificantBits();
+            long lsb = key.getLeastSignificantBits();
+            int index = table.indexOf(msb, lsb);
+            if (index < 0 || table.values[index] < value) {
+                putLocked(msb, lsb, value);
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    // 값을 읽어 온 사이에 맵이 비워졌다면 넣지 않는다 (그 사이 putIfGreater로 들어온 더 큰 값을 잃지 않도록)
+    public void putIfGreater(UUID key, long value, long expectedClearCount) {
+        long stamp = lock.writeLock();
+        try {
+            if (clearCount == expectedClearCount) {
+                long msb = key.getMostSignificantBits();
+                long lsb = key.getLeastSignificantBits();
+                int index = table.indexOf(msb, lsb);
+                if (index < 0 || table.values[index] < value) {
+                    putLocked(msb, lsb, value);
+                }
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public int size() {
+        return table.size;
+    }
+
+    // 최대 크기에 이르러 비운 횟수, 값을 읽기 전에 받아 두었다가 putIfGreater(key, value, expectedClearCount)에 넘긴다
+    public long clearCount() {
+        return clearCount;
+    }
+
+    private void putLocked(long msb, long lsb, long value) {
+        Table current = table;
+        if (current.size >= maximumSize && current.indexOf(msb, lsb) < 0) {
+            current = new Table(initialTableSize);
+            table = current;
+            clearCount++;
+        }
+        if ((current.size + 1) * 2 > current.values.length) {
+            current = current.resize();
+            table = current;
+        }
+        current.put(msb, lsb, value);
+    }
+
+    private static int tableSizeFor(int capacity) {
+        int size = Integer.highestOneBit(Math.max(capacity - 1, 1)) << 1;
+        return Math.max(size, 16);
+    }
+
+    private static final class Table {
+
+        private final long[] mostSignificantBits;
+        private final long[] leastSignificantBits;
+        private final long[] values;
+        private final boolean[] occupied;
+        private final int mask;
+        private int size;
+
+        private Table(int capacity) {
+            this.mostSignificantBits = new long[capacity];
+            this.leastSignificantBits = new long[capacity];
+            this.values = new long[capacity];
+            this.occupied = new boolean[capacity];
+            this.mask = capacity - 1;
+        }
+
+        private long get(long msb, long lsb, long defaultValue) {
+            int index = indexOf(msb, lsb);
+            return index < 0 ? defaultValue : values[index];
+        }
+
+        // 키가 없으면 -1, 선형 탐사는 용량만큼만 진행해 동시 변경 중에도 끝난다
+        private int indexOf(long msb, long lsb) {
+            int index = hash(msb, lsb) & mask;
+            for (int probe = 0; probe <= mask; probe++) {
+                if (!occupied[index]) {
+                    return -1;
+                }
+                if (mostSignificantBits[index] == msb && leastSignificantBits[index] == lsb) {
+                    return index;
+                }
+                index = (index + 1) & mask;
+            }
+            return -1;
+        }
+
+        private void put(long msb, long lsb, long value) {
+            int index = hash(msb, lsb) & mask;
+            while (occupied[index]) {
+                if (mostSignificantBits[index] == msb && leastSignificantBits[index] == lsb) {
+                    values[index] = value;
+                    return;
+                }
+                index = (index + 1) & mask;
+            }
+            mostSignificantBits[index] = msb;
+            leastSignificantBits[index] = lsb;
+            values[index] = value;
+            occupied[index] = true;
+            size++;
+        }
+
+        private Table resize() {
+            Table resized = new Table(values.length * 2);
+            for (int i = 0; i < values.length; i++) {
+                if (occupied[i]) {
+                    resized.put(mostSignificantBits[i], leastSignificantBits[i], values[i]);
+                }
+            }
+            return resized;
+        }
+
+        private static int hash(long msb, long lsb) {
+            long hash = msb ^ lsb;
+            hash ^= hash >>> 33;
+            hash *= 0xff51afd7ed558ccdL;
+            hash ^= hash >>> 33;
+            return (int) hash;
+        }
+    }
+}
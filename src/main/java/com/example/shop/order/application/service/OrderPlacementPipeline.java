@@ -0,0 +1,334 @@
+package com.example.shop.order.application.service;
+
+import com.example.shop.order.domain.model.Order;
+import com.example.shop.order.domain.model.Order.Status;
+import com.example.shop.order.domain.model.OrderItem;
+import com.example.shop.order.domain.repository.OrderRepository;
+import com.example.shop.product.application.service.ProductStockLedger;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비동기로 접수된 주문(PENDING)의 재고를 전용 워커가 묶음 단위로 예약하고 CREATED 또는 REJECTED로 바꾼다.
+ * <p>
+ * 워커는 대기열에서 최대 batch-size건을 꺼내 상품별 수량을 합산하고, 상품마다 한 번만 재고를 차감한다.
+ * 합산 예약이 재고 부족으로 실패하면 해당 상품이 포함된 주문만 빼서 한 건씩 다시 예약하고, 실패한 주문은 REJECTED로 남긴다.
+ * 대기열이 가득 찼거나 종료 중이면 {@link RejectedExecutionException}으로 즉시 거절한다 (429 응답).
+ * <p>
+ * 대기열은 메모리에만 있으므로 비정상 종료나 상태 변경 실패로 PENDING에 남은 주문은
+ * {@link #recoverStalePending()}가 stale-after-ms가 지난 뒤 다시 대기열에 넣는다.
+ * 같은 주문이 두 번 처리되더라도 PENDING인 주문만 바꾸고, 바뀐 행 수가 맞지 않으면 예약을 롤백한다.
+ * 단일 인스턴스 배포를 전제로 한다.
+ */
+@Slf4j
+@Component
+public class OrderPlacementPipeline {
+
+    public static final String QUEUE_GAUGE_NAME = "shop.order.placement.queue";
+    public static final String OVERFLOW_COUNTER_NAME = "shop.order.placement.overflow";
+    public static final String RESULT_COUNTER_NAME = "shop.order.placement.result";
+    public static final String BATCH_SUMMARY_NAME = "shop.order.placement.batch";
+
+    private static final long POLL_TIMEOUT_MILLIS = 100L;
+
+    private final OrderRepository orderRepository;
+    private final ProductStockLedger productStockLedger;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int workerCount;
+    private final int batchSize;
+    private final long shutdownTimeoutMillis;
+    private final long staleAfterMillis;
+    // 커밋 전에 자리를 먼저 확보해, 커밋된 주문은 항상 대기열에 들어가도록 한다
+    private final Semaphore queuePermits;
+    private final BlockingQueue<Placement> queue;
+    // 대기열에 있거나 처리 중인 주문, 복구가 같은 주문을 다시 넣지 않게 한다
+    private final Set<UUID> queuedOrderIdSet = ConcurrentHashMap.newKeySet();
+    private final ExecutorService workerExecutor;
+    private final Counter overflowCounter;
+    private final Counter createdCounter;
+    private final Counter rejectedCounter;
+    private final DistributionSummary batchSummary;
+    private volatile boolean running;
+
+    public OrderPlacementPipeline(
+            OrderRepository orderRepository,
+            ProductStockLedger productStockLedger,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${shop.order.placement.enabled:false}") boolean enabled,
+            @Value("${shop.order.placement.queue-capacity:10000}") int queueCapacity,
+            @Value("${shop.order.placement.worker-count:2}") int workerCount,
+            @Value("${shop.order.placement.batch-size:100}") int batchSize,
+            @Value("${shop.order.placement.shutdown-timeout-ms:10000}") long shutdownTimeoutMillis,
+            @Value("${shop.order.placement.stale-after-ms:300000}") long staleAfterMillis
+    ) {
+        this.orderRepository = orderRepository;
+        this.productStockLedger = productStockLedger;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.workerCount = Math.max(workerCount, 1);
+        this.batchSize = Math.max(batchSize, 1);
+        this.shutdownTimeoutMillis = shutdownTimeoutMillis;
+        this.staleAfterMillis = staleAfterMillis;
+        int capacity = Math.max(queueCapacity, 1);
+        this.queuePermits = new Semaphore(capacity);
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.workerExecutor = Executors.newFixedThreadPool(this.workerCount, runnable -> {
+            Thread thread = new Thread(runnable, "order-placement-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.overflowCounter = Counter.builder(OVERFLOW_COUNTER_NAME)
+                .register(meterRegistry);
+        this.createdCounter = Counter.builder(RESULT_COUNTER_NAME)
+                .tag("status", Status.CREATED.name())
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder(RESULT_COUNTER_NAME)
+                .tag("status", Status.REJECTED.name())
+                .register(meterRegistry);
+        this.batchSummary = DistributionSummary.builder(BATCH_SUMMARY_NAME)
+                .register(meterRegistry);
+        Gauge.builder(QUEUE_GAUGE_NAME, queue, BlockingQueue::size)
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * PENDING으로 저장한 주문을 대기열에 넣는다.
+     * 진행 중인 트랜잭션이 있으면 커밋된 뒤에 넣고, 롤백되면 확보한 자리를 반납한다.
+     * 워커가 돌고 있지 않으면 거절해 접수된 주문이 처리되지 않은 채 남지 않게 한다.
+     */
+    public void enqueue(UUID orderId, Map<UUID, Long> quantityByProductId) {
+        if (!running) {
+            throw new RejectedExecutionException("주문 처리가 중단된 상태입니다.");
+        }
+        if (!queuePermits.tryAcquire()) {
+            overflowCounter.increment();
+            throw new RejectedExecutionException("주문 처리 대기열이 가득 찼습니다.");
+        }
+        Placement placement = new Placement(orderId, Map.copyOf(quantityByProductId));
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            offer(placement);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    offer(placement);
+                } else {
+                    queuePermits.release();
+                }
+            }
+        });
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        for (int i = 0; i < workerCount; i++) {
+            workerExecutor.execute(this::work);
+        }
+    }
+
+    // 새 접수는 막고, 워커는 대기열을 비운 뒤 끝난다
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        workerExecutor.shutdown();
+        try {
+            if (!workerExecutor.awaitTermination(shutdownTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                log.warn("주문 처리 대기열을 비우지 못하고 종료합니다. 남은 주문 수: {}", queue.size());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 생성된 지 stale-after-ms가 지났는데 PENDING인 주문을 다시 대기열에 넣는다.
+     * 재시작 전에 대기열에 있던 주문과 REJECTED로 바꾸지 못한 주문이 여기서 다시 처리된다.
+     */
+    @Scheduled(
+            fixedDelayString = "${shop.order.placement.recovery-interval-ms:60000}",
+            initialDelayString = "${shop.order.placement.recovery-interval-ms:60000}"
+    )
+    public void recoverStalePending() {
+        if (!running) {
+            return;
+        }
+        Instant createdBefore = Instant.now().minusMillis(staleAfterMillis);
+        List<Order> staleOrderList = orderRepository.findAllByStatusCreatedBefore(Status.PENDING, createdBefore, batchSize);
+        int recoveredCount = 0;
+        for (Order order : staleOrderList) {
+            if (queuedOrderIdSet.contains(order.getId())) {
+                continue;
+            }
+            if (!queuePermits.tryAcquire()) {
+                break;
+            }
+            Map<UUID, Long> quantityByProductId = new HashMap<>();
+            for (OrderItem orderItem : order.getOrderItemList()) {
+                quantityByProductId.merge(orderItem.getProductId(), orderItem.getQuantity(), Math::addExact);
+            }
+            offer(new Placement(order.getId(), Map.copyOf(quantityByProductId)));
+            recoveredCount++;
+        }
+        if (recoveredCount > 0) {
+            log.warn("오래된 PENDING 주문을 다시 처리합니다. 주문 수: {}", recoveredCount);
+        }
+    }
+
+    // 자리는 호출하는 쪽에서 확보한다
+    private void offer(Placement placement) {
+        queuedOrderIdSet.add(placement.orderId());
+        queue.add(placement);
+    }
+
+    private void work() {
+        List<Placement> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Placement first = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                queuePermits.release(batch.size());
+                process(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("주문 처리 중 오류가 발생했습니다. 주문 수: {}", batch.size(), e);
+            } finally {
+                batch.forEach(placement -> queuedOrderIdSet.remove(placement.orderId()));
+                batch.clear();
+            }
+        }
+    }
+
+    // 묶음 안의 주문을 CREATED 또는 REJECTED로 바꾼다
+    void process(List<Placement> batch) {
+        batchSummary.record(batch.size());
+
+        List<Placement> pendingList = batch;
+        List<Placement> singleList = new ArrayList<>();
+        while (!pendingList.isEmpty()) {
+            Set<UUID> failedProductIdSet;
+            try {
+                failedProductIdSet = reserveAndMarkCreated(pendingList, sum(pendingList));
+            } catch (RuntimeException e) {
+                log.warn("주문 묶음 처리에 실패해 한 건씩 다시 처리합니다. {}", e.getMessage());
+                singleList.addAll(pendingList);
+                break;
+            }
+            if (failedProductIdSet.isEmpty()) {
+                createdCounter.increment(pendingList.size());
+                break;
+            }
+            // 예약하지 못한 상품이 포함된 주문만 한 건씩 처리하고, 나머지는 다시 합산해서 예약한다
+            List<Placement> retryList = new ArrayList<>(pendingList.size());
+            for (Placement placement : pendingList) {
+                if (placement.containsAny(failedProductIdSet)) {
+                    singleList.add(placement);
+                } else {
+                    retryList.add(placement);
+                }
+            }
+            pendingList = retryList;
+        }
+
+        List<UUID> rejectedOrderIdList = new ArrayList<>();
+        for (Placement placement : singleList) {
+            boolean created;
+            try {
+                created = reserveAndMarkCreated(List.of(placement), placement.quantityByProductId()).isEmpty();
+            } catch (RuntimeException e) {
+                log.warn("주문 처리에 실패했습니다. orderId: {}, {}", placement.orderId(), e.getMessage());
+                created = false;
+            }
+            if (created) {
+                createdCounter.increment();
+            } else {
+                rejectedOrderIdList.add(placement.orderId());
+            }
+        }
+        if (rejectedOrderIdList.isEmpty()) {
+            return;
+        }
+        // 실패해도 PENDING으로 남은 주문은 recoverStalePending이 다시 처리한다
+        try {
+            Integer rejectedCount = transactionTemplate.execute(status ->
+                    orderRepository.updateStatus(rejectedOrderIdList, Status.PENDING, Status.REJECTED));
+            rejectedCounter.increment(rejectedCount == null ? 0 : rejectedCount);
+        } catch (RuntimeException e) {
+            log.warn("주문을 REJECTED로 바꾸지 못했습니다. orderIds: {}, {}", rejectedOrderIdList, e.getMessage());
+        }
+    }
+
+    // 예약에 실패하면 트랜잭션을 롤백해 일부 상품만 차감된 상태를 남기지 않는다
+    private Set<UUID> reserveAndMarkCreated(List<Placement> placementList, Map<UUID, Long> quantityByProductId) {
+        return transactionTemplate.execute(status -> {
+            Set<UUID> failedProductIdSet = productStockLedger.reserve(quantityByProductId);
+            if (!failedProductIdSet.isEmpty()) {
+                status.setRollbackOnly();
+                return failedProductIdSet;
+            }
+            int updatedCount = orderRepository.updateStatus(
+                    placementList.stream().map(Placement::orderId).toList(),
+                    Status.PENDING,
+                    Status.CREATED
+            );
+            // 이미 처리된 주문(복구로 다시 들어온 주문 등)이 섞여 있으면 예약까지 롤백한다
+            if (updatedCount != placementList.size()) {
+                throw new IllegalStateException(
+                        "PENDING이 아닌 주문이 있습니다. 주문 수: " + placementList.size() + ", 변경된 주문 수: " + updatedCount);
+            }
+            return failedProductIdSet;
+        });
+    }
+
+    // 상품 ID 순으로 합산해, 저장소와 같은 순서로 재고 행을 잠그게 한다
+    private Map<UUID, Long> sum(List<Placement> placementList) {
+        Map<UUID, Long> quantityByProductId = new TreeMap<>();
+        for (Placement placement : placementList) {
+            placement.quantityByProductId().forEach((productId, quantity) ->
+                    quantityByProductId.merge(productId, quantity, Math::addExact));
+        }
+        return quantityByProductId;
+    }
+
+    record Placement(UUID orderId, Map<UUID, Long> quantityByProductId) {
+
+        private boolean containsAny(Set<UUID> productIdSet) {
+            return quantityByProductId.keySet().stream().anyMatch(productIdSet::contains);
+        }
+    }
+}
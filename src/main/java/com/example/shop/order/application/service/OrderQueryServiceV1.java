@@ -0,0 +1,112 @@
+package com.example.shop.order.application.service;
+
+import com.example.shop.common.infrastructure.persistence.KeysetCursor;
+import com.example.shop.common.infrastructure.persistence.KeysetSlice;
+import com.example.shop.order.domain.repository.OrderQueryRepository;
+import com.example.shop.order.presentation.advice.OrderError;
+import com.example.shop.order.presentation.advice.OrderException;
+import com.example.shop.order.presentation.dto.response.ResGetOrdersDtoV1;
+import com.example.shop.order.presentation.dto.response.ResGetOrdersDtoV1.OrderPageDto.OrderDto;
+import com.example.shop.order.presentation.dto.response.ResGetOrdersExportDtoV1;
+import com.example.shop.user.domain.model.UserRole;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.UUID;
+
+// 주문 목록 조회 (읽기 전용 프로젝션), 상세 조회와 변경은 OrderServiceV1에서 처리
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class OrderQueryServiceV1 {
+
+    // 내보내기 중 이 개수마다 응답 버퍼를 클라이언트로 밀어낸다
+    private static final int EXPORT_FLUSH_INTERVAL = 1000;
+
+    private final OrderQueryRepository orderQueryRepository;
+    private final ObjectMapper objectMapper;
+
+    public ResGetOrdersDtoV1 getOrders(UUID authUserId, List<String> authUserRoleList, Pageable pageable) {
+        UUID userId = isAdminOrManager(authUserRoleList) ? null : requireAuthUserId(authUserId);
+        return ResGetOrdersDtoV1.builder()
+                .orderPage(new ResGetOrdersDtoV1.OrderPageDto(orderQueryRepository.findOrders(userId, pageable)))
+                .build();
+    }
+
+    public ResGetOrdersDtoV1 getOrdersByCursor(UUID authUserId, List<String> authUserRoleList, String cursor, int size) {
+        KeysetCursor keysetCursor = decodeCursor(cursor);
+        UUID userId = isAdminOrManager(authUserRoleList) ? null : requireAuthUserId(authUserId);
+        KeysetSlice<OrderDto> orderSlice = orderQueryRepository.findOrdersByCursor(userId, keysetCursor, size);
+        return ResGetOrdersDtoV1.builder()
+                .orderPage(new ResGetOrdersDtoV1.OrderPageDto(orderSlice.slice(), orderSlice.nextCursor()))
+                .build();
+    }
+
+    // 전체 주문을 NDJSON(한 줄에 주문 하나)으로 outputStream에 바로 쓴다
+    // 조회 커서에서 읽은 주문을 한 건씩 직렬화하므로 주문 수와 관계없이 메모리 사용량이 일정하다
+    public long exportOrders(OutputStream outputStream) throws IOException {
+        try (JsonGenerator jsonGenerator = objectMapper.getFactory().createGenerator(outputStream)) {
+            jsonGenerator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            jsonGenerator.setRootValueSeparator(null);
+            long[] writtenCount = {0L};
+            long exportedCount = orderQueryRepository.exportOrders(orderExportDto -> {
+                writeLine(jsonGenerator, orderExportDto);
+                if (++writtenCount[0] % EXPORT_FLUSH_INTERVAL == 0) {
+                    flush(jsonGenerator);
+                }
+            });
+            jsonGenerator.flush();
+            return exportedCount;
+        }
+    }
+
+    private void writeLine(JsonGenerator jsonGenerator, ResGetOrdersExportDtoV1 orderExportDto) {
+        try {
+            jsonGenerator.writeObject(orderExportDto);
+            jsonGenerator.writeRaw('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void flush(JsonGenerator jsonGenerator) {
+        try {
+            jsonGenerator.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // userId가 null이면 전체 주문이 조회되므로 일반 사용자는 인증 정보가 반드시 있어야 한다
+    private UUID requireAuthUserId(UUID authUserId) {
+        if (authUserId == null) {
+            throw new OrderException(OrderError.ORDER_BAD_REQUEST);
+        }
+        return authUserId;
+    }
+
+    // 빈 커서는 첫 페이지, 해석할 수 없는 커서는 잘못된 요청으로 처리
+    private KeysetCursor decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        return KeysetCursor.decode(cursor)
+                .orElseThrow(() -> new OrderException(OrderError.ORDER_BAD_REQUEST));
+    }
+
+    private boolean isAdminOrManager(List<String> authUserRoleList) {
+        if (authUserRoleList == null) {
+            return false;
+        }
+        return authUserRoleList.contains(UserRole.Role.ADMIN.toString())
+                || authUserRoleList.contains(UserRole.Role.MANAGER.toString());
+    }
+}
@@ -1,27 +1,28 @@
 package com.example.shop.order.application.service;
 
+import com.example.shop.common.infrastructure.outbox.OutboxWriter;
+import com.example.shop.common.infrastructure.retry.OptimisticLockRetry;
 import com.example.shop.order.domain.model.Order;
 import com.example.shop.order.domain.model.Order.Status;
 import com.example.shop.order.domain.model.OrderItem;
 import com.example.shop.order.domain.repository.OrderRepository;
 import com.example.shop.order.presentation.advice.OrderError;
 import com.example.shop.order.presentation.advice.OrderException;
+import com.example.shop.order.presentation.dto.event.OrderEventDtoV1;
 import com.example.shop.order.presentation.dto.request.ReqPostOrdersDtoV1;
-import com.example.shop.order.presentation.dto.response.ResGetOrdersDtoV1;
 import com.example.shop.order.presentation.dto.response.ResGetOrderDtoV1;
 import com.example.shop.order.presentation.dto.response.ResPostOrdersDtoV1;
 import com.example.shop.payment.domain.model.Payment;
 import com.example.shop.payment.domain.repository.PaymentRepository;
 import com.example.shop.payment.presentation.advice.PaymentError;
 import com.example.shop.payment.presentation.advice.PaymentException;
+import com.example.shop.product.application.service.ProductReadCache;
+import com.example.shop.product.application.service.ProductStockLedger;
 import com.example.shop.product.domain.model.Product;
-import com.example.shop.product.domain.repository.ProductRepository;
 import com.example.shop.user.domain.model.User;
 import com.example.shop.user.domain.model.UserRole;
 import com.example.shop.user.domain.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -35,21 +36,12 @@ import java.util.stream.Collectors;
 public class OrderServiceV1 {
 
     private final OrderRepository orderRepository;
-    private final ProductRepository productRepository;
     private final UserRepository userRepository;
     private final PaymentRepository paymentRepository;
-
-    public ResGetOrdersDtoV1 getOrders(UUID authUserId, List<String> authUserRoleList, Pageable pageable) {
-        Page<Order> orderPage;
-        if (isAdminOrManager(authUserRoleList)) {
-            orderPage = orderRepository.findAll(pageable);
-        } else {
-            orderPage = orderRepository.findByUserId(authUserId, pageable);
-        }
-        return ResGetOrdersDtoV1.builder()
-                .orderPage(new ResGetOrdersDtoV1.OrderPageDto(orderPage))
-                .build();
-    }
+    private final ProductStockLedger productStockLedger;
+    private final ProductReadCache productReadCache;
+    private final OrderPlacementPipeline orderPlacementPipeline;
+    private final OutboxWriter outboxWriter;
 
     public ResGetOrderDtoV1 getOrder(UUID authUserId, List<String> authUserRoleList, UUID orderId) {
         Order order = getOrderForUser(orderId, authUserId, authUserRoleList);
@@ -58,6 +50,34 @@ public class OrderServiceV1 {
 
     @Transactional
     public ResPostOrdersDtoV1 postOrders(UUID authUserId, ReqPostOrdersDtoV1 reqDto) {
+        OrderDraft orderDraft = draftOrder(authUserId, reqDto, Status.CREATED);
+
+        Set<UUID> outOfStockProductIdSet = productStockLedger.reserve(orderDraft.quantityByProductId());
+        if (!outOfStockProductIdSet.isEmpty()) {
+            throw new OrderException(OrderError.ORDER_PRODUCT_OUT_OF_STOCK);
+        }
+
+        Order savedOrder = orderRepository.save(orderDraft.order());
+
+        return ResPostOrdersDtoV1.of(savedOrder, null);
+    }
+
+    // 재고 예약 없이 PENDING으로 저장하고 OrderPlacementPipeline에 넘긴다, 비활성화 상태면 postOrders와 같다
+    @Transactional
+    public ResPostOrdersDtoV1 postOrdersAsync(UUID authUserId, ReqPostOrdersDtoV1 reqDto) {
+        if (!orderPlacementPipeline.isEnabled()) {
+            return postOrders(authUserId, reqDto);
+        }
+
+        OrderDraft orderDraft = draftOrder(authUserId, reqDto, Status.PENDING);
+        Order savedOrder = orderRepository.save(orderDraft.order());
+        orderPlacementPipeline.enqueue(savedOrder.getId(), orderDraft.quantityByProductId());
+
+        return ResPostOrdersDtoV1.of(savedOrder, null);
+    }
+
+    // 상품, 사용자를 확인하고 주문 금액을 계산한다 (재고는 확인하지 않는다)
+    private OrderDraft draftOrder(UUID authUserId, ReqPostOrdersDtoV1 reqDto, Status status) {
 
         List<ReqPostOrdersDtoV1.OrderDto.OrderItemDto> reqOrderItemList = reqDto.getOrder().getOrderItemList();
 
@@ -65,7 +85,7 @@ public class OrderServiceV1 {
                 .map(ReqPostOrdersDtoV1.OrderDto.OrderItemDto::getProductId)
                 .collect(Collectors.toSet());
 
-        Map<UUID, Product> productMap = productRepository.findAllById(productIdSet)
+        Map<UUID, Product> productMap = productReadCache.findAllById(productIdSet)
                 .stream()
                 .collect(Collectors.toMap(Product::getId, Function.identity()));
 
@@ -75,14 +95,20 @@ public class OrderServiceV1 {
 
         User orderUser = userRepository.findDefaultById(authUserId);
 
+        Map<UUID, Long> quantityByProductId = new LinkedHashMap<>();
+        for (ReqPostOrdersDtoV1.OrderDto.OrderItemDto reqOrderItem : reqOrderItemList) {
+            quantityByProductId.merge(reqOrderItem.getProductId(), reqOrderItem.getQuantity(), this::safeAdd);
+        }
+
         Order order = Order.builder()
                 .userId(orderUser.getId())
-                .status(Status.CREATED)
+                .status(status)
                 .orderItemList(List.of())
                 .totalAmount(0L)
                 .build();
 
         long totalAmount = 0L;
+        List<OrderItem> orderItemList = new ArrayList<>(reqOrderItemList.size());
         for (ReqPostOrdersDtoV1.OrderDto.OrderItemDto reqOrderItem : reqOrderItemList) {
             UUID productId = reqOrderItem.getProductId();
             Long quantityValue = reqOrderItem.getQuantity();
@@ -90,15 +116,6 @@ public class OrderServiceV1 {
             Product product = productMap.get(productId);
 
             long quantity = quantityValue;
-            long currentStock = Optional.ofNullable(product.getStock()).orElse(0L);
-            long updatedStock = currentStock - quantity;
-            if (updatedStock < 0) {
-                throw new OrderException(OrderError.ORDER_PRODUCT_OUT_OF_STOCK);
-            }
-
-            Product savedProduct = productRepository.save(product.update(null, null, updatedStock));
-            productMap.put(productId, savedProduct);
-
             long lineTotal = safeMultiply(Optional.ofNullable(product.getPrice()).orElse(0L), quantity);
             totalAmount = safeAdd(totalAmount, lineTotal);
 
@@ -109,16 +126,16 @@ public class OrderServiceV1 {
                     .quantity(quantityValue)
                     .lineTotal(lineTotal)
                     .build();
-            order = order.addOrderItem(orderItem);
+            orderItemList.add(orderItem);
         }
 
-        order = order.updateTotalAmount(totalAmount);
-        Order savedOrder = orderRepository.save(order);
-
-        return ResPostOrdersDtoV1.of(savedOrder, null);
+        order = order.addOrderItems(orderItemList)
+                .updateTotalAmount(totalAmount);
+        return new OrderDraft(order, quantityByProductId);
     }
 
     @Transactional
+    @OptimisticLockRetry
     public void postOrderCancel(UUID authUserId, List<String> authUserRoleList, UUID orderId) {
         Order order = getOrderForUser(orderId, authUserId, authUserRoleList);
 
@@ -126,6 +143,11 @@ public class OrderServiceV1 {
             throw new OrderException(OrderError.ORDER_ALREADY_CANCELLED);
         }
 
+        // PENDING, REJECTED 주문은 예약된 재고가 없으므로 취소(재고 복원)할 수 없다
+        if (Status.PENDING.equals(order.getStatus()) || Status.REJECTED.equals(order.getStatus())) {
+            throw new OrderException(OrderError.ORDER_NOT_PLACED);
+        }
+
         Payment payment = order.getPayment();
         if (Status.PAID.equals(order.getStatus())) {
             if (payment == null) {
@@ -143,6 +165,12 @@ public class OrderServiceV1 {
             cancelledOrder = cancelledOrder.assignPayment(savedPayment);
         }
         orderRepository.save(cancelledOrder);
+        outboxWriter.append(
+                OrderEventDtoV1.AGGREGATE_TYPE,
+                cancelledOrder.getId(),
+                OrderEventDtoV1.ORDER_CANCELLED,
+                OrderEventDtoV1.of(cancelledOrder)
+        );
     }
 
     private Payment handlePaymentCancellation(Payment payment, UUID authUserId, List<String> authUserRoleList) {
@@ -163,23 +191,14 @@ public class OrderServiceV1 {
             return;
         }
 
-        Set<UUID> productIds = orderItemList.stream()
-                .map(OrderItem::getProductId)
-                .collect(Collectors.toSet());
-
-        Map<UUID, Product> productMap = productRepository.findAllById(productIds)
-                .stream()
-                .collect(Collectors.toMap(Product::getId, Function.identity()));
-
+        Map<UUID, Long> quantityByProductId = new LinkedHashMap<>();
         for (OrderItem orderItem : orderItemList) {
-            Product product = productMap.get(orderItem.getProductId());
-            if (product == null) {
-                throw new OrderException(OrderError.ORDER_PRODUCT_NOT_FOUND);
-            }
+            quantityByProductId.merge(orderItem.getProductId(), orderItem.getQuantity(), this::safeAdd);
+        }
 
-            long restoredStock = safeAdd(Optional.ofNullable(product.getStock()).orElse(0L), orderItem.getQuantity());
-            Product savedProduct = productRepository.save(product.update(null, null, restoredStock));
-            productMap.put(savedProduct.getId(), savedProduct);
+        Set<UUID> missingProductIdSet = productStockLedger.release(quantityByProductId);
+        if (!missingProductIdSet.isEmpty()) {
+            throw new OrderException(OrderError.ORDER_PRODUCT_NOT_FOUND);
         }
     }
 
@@ -222,4 +241,6 @@ public class OrderServiceV1 {
         }
     }
 
+    private record OrderDraft(Order order, Map<UUID, Long> quantityByProductId) {
+    }
 }
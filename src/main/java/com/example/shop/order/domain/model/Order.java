@@ -7,6 +7,7 @@ import lombok.Getter;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
@@ -22,6 +23,7 @@ public class Order {
     private final Long totalAmount;
     private final List<OrderItem> orderItemList;
     private final Payment payment;
+    private final Long version;
     private final Instant createdAt;
     private final String createdBy;
     private final Instant updatedAt;
@@ -37,10 +39,24 @@ public class Order {
         if (orderItem == null) {
             return this;
         }
-        List<OrderItem> updatedOrderItemList = new ArrayList<>(getOrderItemList());
-        updatedOrderItemList.add(orderItem);
+        return addOrderItems(List.of(orderItem));
+    }
+
+    // 여러 상품을 한 번에 추가, 목록 복사와 Order 생성은 호출당 한 번만 한다 (상품마다 addOrderItem을 부르면 O(n^2) 복사)
+    public Order addOrderItems(Collection<OrderItem> orderItems) {
+        if (orderItems == null || orderItems.isEmpty()) {
+            return this;
+        }
+        List<OrderItem> currentOrderItemList = getOrderItemList();
+        List<OrderItem> updatedOrderItemList = new ArrayList<>(currentOrderItemList.size() + orderItems.size());
+        updatedOrderItemList.addAll(currentOrderItemList);
+        for (OrderItem orderItem : orderItems) {
+            if (orderItem != null) {
+                updatedOrderItemList.add(orderItem);
+            }
+        }
         return this.toBuilder()
-                .orderItemList(List.copyOf(updatedOrderItemList))
+                .orderItemList(Collections.unmodifiableList(updatedOrderItemList))
                 .build();
     }
 
@@ -76,6 +92,7 @@ public class Order {
                 .totalAmount(totalAmount)
                 .orderItemList(orderItemList)
                 .payment(payment)
+                .version(version)
                 .createdAt(createdAt)
                 .createdBy(createdBy)
                 .updatedAt(updatedAt)
@@ -89,7 +106,11 @@ public class Order {
     }
 
     public enum Status {
+        // 비동기 접수 후 재고 예약 전 (OrderPlacementPipeline)
+        PENDING,
         CREATED,
+        // 비동기 접수 후 재고 부족 등으로 생성되지 못함
+        REJECTED,
         PAID,
         CANCELLED
     }
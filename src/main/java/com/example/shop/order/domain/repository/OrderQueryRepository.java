@@ -0,0 +1,27 @@
+package com.example.shop.order.domain.repository;
+
+import com.example.shop.common.infrastructure.persistence.KeysetCursor;
+import com.example.shop.common.infrastructure.persistence.KeysetSlice;
+import com.example.shop.order.presentation.dto.response.ResGetOrdersDtoV1.OrderPageDto.OrderDto;
+import com.example.shop.order.presentation.dto.response.ResGetOrdersExportDtoV1;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * 주문 목록 조회 전용 리포지토리.
+ * 필요한 컬럼만 조회해 응답 행으로 바로 만들고, 엔티티/도메인 객체를 거치지 않는다.
+ */
+public interface OrderQueryRepository {
+
+    // userId가 null이면 전체 주문
+    Page<OrderDto> findOrders(UUID userId, Pageable pageable);
+
+    // 키셋 페이지네이션, cursor가 null이면 첫 페이지부터 조회
+    KeysetSlice<OrderDto> findOrdersByCursor(UUID userId, KeysetCursor cursor, int size);
+
+    // 전체 주문을 생성일 순으로 읽으면서 주문 하나가 완성될 때마다 consumer에 넘긴다, 넘긴 주문 수를 반환
+    long exportOrders(Consumer<ResGetOrdersExportDtoV1> consumer);
+}
@@ -4,6 +4,9 @@ import com.example.shop.order.domain.model.Order;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -11,11 +14,16 @@ public interface OrderRepository {
 
     Order save(Order order);
 
+    // 주문 상품, 결제까지 한 번의 쿼리로 조회
     Optional<Order> findById(UUID orderId);
 
     Page<Order> findAll(Pageable pageable);
 
-    Page<Order> findByUserId(UUID userId, Pageable pageable);
+    // 현재 상태가 from인 주문만 한 번의 UPDATE로 to로 바꾸고, 바뀐 주문 수를 반환
+    int updateStatus(Collection<UUID> orderIdList, Order.Status from, Order.Status to);
+
+    // 상태가 status이고 createdBefore 전에 생성된 주문을 오래된 순으로 최대 size건, 주문 상품까지 함께 조회
+    List<Order> findAllByStatusCreatedBefore(Order.Status status, Instant createdBefore, int size);
 
     long count();
 }
@@ -5,6 +5,7 @@ import com.example.shop.payment.infrastructure.persistence.entity.PaymentEntity;
 import com.example.shop.user.infrastructure.persistence.entity.UserEntity;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.DynamicInsert;
 import org.hibernate.annotations.DynamicUpdate;
 
@@ -13,7 +14,14 @@ import java.util.List;
 import java.util.UUID;
 
 @Entity
-@Table(name = "`ORDER`")
+@Table(
+        name = "`ORDER`",
+        indexes = {
+                // 키셋 페이지네이션(createdAt desc, id desc)용 인덱스
+                @Index(name = "idx_order_created_at_id", columnList = "created_at, id"),
+                @Index(name = "idx_order_user_id_created_at_id", columnList = "user_id, created_at, id")
+        }
+)
 @DynamicInsert
 @DynamicUpdate
 @Getter
@@ -32,8 +40,9 @@ public class OrderEntity extends BaseEntity {
     @JoinColumn(name = "user_id", nullable = false, updatable = false)
     private UserEntity user;
 
-    @Enumerated(EnumType.STRING)
-    @Column(name = "status", nullable = false)
+    // 상태가 늘 때마다 컬럼 정의(MySQL enum, check 제약)를 바꾸지 않도록 이름을 varchar로 저장한다, 예전 enum 컬럼은 EnumColumnWidening 참고
+    @Convert(converter = StatusConverter.class)
+    @Column(name = "status", nullable = false, length = 32)
     private Status status;
 
     @Builder.Default
@@ -47,6 +56,12 @@ public class OrderEntity extends BaseEntity {
     @OneToOne(mappedBy = "order", cascade = CascadeType.ALL)
     private PaymentEntity payment;
 
+    // 예전에 NULL로 추가된 행은 ZeroDefaultColumnBackfill 참고
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     public void addOrderItem(OrderItemEntity orderItemEntity) {
         orderItemEntity.setOrder(this);
         this.orderItemList.add(orderItemEntity);
@@ -74,8 +89,24 @@ public class OrderEntity extends BaseEntity {
     }
 
     public enum Status {
+        PENDING,
         CREATED,
+        REJECTED,
         PAID,
         CANCELLED
     }
+
+    @Converter
+    static class StatusConverter implements AttributeConverter<Status, String> {
+
+        @Override
+        public String convertToDatabaseColumn(Status status) {
+            return status == null ? null : status.name();
+        }
+
+        @Override
+        public Status convertToEntityAttribute(String name) {
+            return name == null ? null : Status.valueOf(name);
+        }
+    }
 }
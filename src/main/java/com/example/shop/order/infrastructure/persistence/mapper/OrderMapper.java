@@ -6,6 +6,7 @@ import com.example.shop.order.infrastructure.persistence.entity.OrderEntity;
 import com.example.shop.order.infrastructure.persistence.entity.OrderItemEntity;
 import com.example.shop.payment.domain.model.Payment;
 import com.example.shop.payment.infrastructure.persistence.mapper.PaymentMapper;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Component;
 
 import java.util.*;
@@ -40,6 +41,7 @@ public class OrderMapper {
                         .map(this::toDomain)
                         .toList())
                 .payment(payment)
+                .version(orderEntity.getVersion())
                 .createdAt(orderEntity.getCreatedAt())
                 .createdBy(orderEntity.getCreatedBy())
                 .updatedAt(orderEntity.getUpdatedAt())
@@ -78,6 +80,7 @@ public class OrderMapper {
                 .id(order.getId())
                 .status(toEntity(order.getStatus()))
                 .totalAmount(order.getTotalAmount())
+                .version(order.getVersion())
                 .build();
 
         order.getOrderItemList()
@@ -92,6 +95,10 @@ public class OrderMapper {
         if (order == null || orderEntity == null) {
             return;
         }
+        // 도메인이 읽어온 버전과 현재 엔티티 버전이 다르면 다른 트랜잭션의 변경을 덮어쓰지 않도록 충돌로 처리
+        if (order.getVersion() != null && !order.getVersion().equals(orderEntity.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(OrderEntity.class, orderEntity.getId());
+        }
         orderEntity.updateStatus(toEntity(order.getStatus()));
         orderEntity.updateTotalAmount(order.getTotalAmount());
         syncOrderItems(order, orderEntity);
@@ -1,13 +1,57 @@
 package com.example.shop.order.infrastructure.persistence.repository;
 
 import com.example.shop.order.infrastructure.persistence.entity.OrderEntity;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface OrderJpaRepository extends JpaRepository<OrderEntity, UUID> {
 
-    Page<OrderEntity> findByUser_Id(UUID userId, Pageable pageable);
+    // 주문 상세: 주문 상품과 결제를 fetch join으로 함께 조회
+    @Query("select distinct o from OrderEntity o " +
+            "left join fetch o.orderItemList " +
+            "left join fetch o.payment " +
+            "where o.id = :orderId")
+    Optional<OrderEntity> findDetailById(@Param("orderId") UUID orderId);
+
+    // 벌크 UPDATE는 엔티티 콜백을 거치지 않으므로 version, updatedAt을 직접 갱신한다
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            update OrderEntity o
+               set o.status = :to,
+                   o.version = o.version + 1,
+                   o.updatedAt = :updatedAt
+             where o.id in :orderIds
+               and o.status = :from
+            """)
+    int updateStatus(
+            @Param("orderIds") Collection<UUID> orderIds,
+            @Param("from") OrderEntity.Status from,
+            @Param("to") OrderEntity.Status to,
+            @Param("updatedAt") Instant updatedAt
+    );
+
+    @Query("select o.id from OrderEntity o " +
+            "where o.status = :status and o.createdAt < :createdBefore " +
+            "order by o.createdAt")
+    List<UUID> findIdsByStatusCreatedBefore(
+            @Param("status") OrderEntity.Status status,
+            @Param("createdBefore") Instant createdBefore,
+            Pageable pageable
+    );
+
+    // 컬렉션 fetch join은 페이지네이션을 메모리에서 하므로, ID를 먼저 자른 뒤 주문 상품과 함께 조회한다
+    @Query("select distinct o from OrderEntity o " +
+            "left join fetch o.orderItemList " +
+            "where o.id in :orderIds " +
+            "order by o.createdAt")
+    List<OrderEntity> findAllWithItemsByIdIn(@Param("orderIds") Collection<UUID> orderIds);
 }
@@ -0,0 +1,211 @@
+package com.example.shop.order.infrastructure.persistence.repository;
+
+import com.example.shop.common.infrastructure.persistence.KeysetCursor;
+import com.example.shop.common.infrastructure.persistence.KeysetSlice;
+import com.example.shop.order.domain.model.Order;
+import com.example.shop.order.domain.repository.OrderQueryRepository;
+import com.example.shop.order.infrastructure.persistence.entity.OrderEntity;
+import com.example.shop.order.infrastructure.persistence.entity.QOrderEntity;
+import com.example.shop.order.presentation.dto.response.ResGetOrdersDtoV1.OrderPageDto.OrderDto;
+import com.example.shop.order.presentation.dto.response.ResGetOrdersExportDtoV1;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+@Repository
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class OrderQueryRepositoryImpl implements OrderQueryRepository {
+
+    private final JPAQueryFactory jpaQueryFactory;
+    private final EntityManager entityManager;
+
+    private static final QOrderEntity order = QOrderEntity.orderEntity;
+
+    // 내보내기 시 드라이버가 한 번에 가져오는 행 수 (MySQL은 useCursorFetch=true여야 적용된다)
+    private static final int EXPORT_FETCH_SIZE = 500;
+
+    // 주문 1행 x 주문 상품 n행을 주문 순서대로 읽는다, 컬럼만 조회하므로 영속성 컨텍스트에 엔티티가 쌓이지 않는다
+    private static final String EXPORT_QUERY = """
+            select o.id, o.user.id, o.status, o.totalAmount, o.createdAt, o.updatedAt,
+                   i.id, i.productId, i.productName, i.unitPrice, i.quantity, i.lineTotal
+            from OrderEntity o
+            left join o.orderItemList i
+            order by o.createdAt, o.id, i.id
+            """;
+
+    @Override
+    public Page<OrderDto> findOrders(UUID userId, Pageable pageable) {
+        BooleanBuilder builder = userCondition(userId);
+        JPAQuery<Tuple> query = selectOrderColumns()
+                .where(builder)
+                .orderBy(resolveOrderSpecifiers(pageable.getSort()));
+
+        if (pageable.isUnpaged()) {
+            List<OrderDto> content = query.fetch()
+                    .stream()
+                    .map(this::toOrderDto)
+                    .toList();
+            return new PageImpl<>(content, Pageable.unpaged(), content.size());
+        }
+
+        List<OrderDto> content = query
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch()
+                .stream()
+                .map(this::toOrderDto)
+                .toList();
+        Long fetchedTotal = jpaQueryFactory.select(order.count())
+                .from(order)
+                .where(builder)
+                .fetchOne();
+        return new PageImpl<>(content, pageable, fetchedTotal == null ? content.size() : fetchedTotal);
+    }
+
+    @Override
+    public KeysetSlice<OrderDto> findOrdersByCursor(UUID userId, KeysetCursor cursor, int size) {
+        BooleanBuilder builder = userCondition(userId);
+        if (cursor != null) {
+            builder.and(order.createdAt.lt(cursor.createdAt())
+                    .or(order.createdAt.eq(cursor.createdAt()).and(order.id.lt(cursor.id()))));
+        }
+        List<Tuple> tupleList = selectOrderColumns()
+                .where(builder)
+                .orderBy(order.createdAt.desc(), order.id.desc())
+                .limit(size + 1L)
+                .fetch();
+        return KeysetCursor.toKeysetSlice(
+                tupleList,
+                size,
+                this::toOrderDto,
+                tuple -> tuple.get(order.createdAt),
+                tuple -> tuple.get(order.id)
+        );
+    }
+
+    @Override
+    public long exportOrders(Consumer<ResGetOrdersExportDtoV1> consumer) {
+        long exportedCount = 0L;
+        try (ScrollableResults<Object[]> scrollableResults = entityManager.unwrap(Session.class)
+                .createSelectionQuery(EXPORT_QUERY, Object[].class)
+                .setFetchSize(EXPORT_FETCH_SIZE)
+                .setReadOnly(true)
+                .scroll(ScrollMode.FORWARD_ONLY)) {
+            Object[] orderRow = null;
+            List<ResGetOrdersExportDtoV1.OrderItemDto> orderItemList = new ArrayList<>();
+            while (scrollableResults.next()) {
+                Object[] row = scrollableResults.get();
+                if (orderRow != null && !orderRow[0].equals(row[0])) {
+                    consumer.accept(toOrderExportDto(orderRow, orderItemList));
+                    exportedCount++;
+                    orderItemList = new ArrayList<>();
+                }
+                orderRow = row;
+                if (row[6] != null) {
+                    orderItemList.add(toOrderItemExportDto(row));
+                }
+            }
+            if (orderRow != null) {
+                consumer.accept(toOrderExportDto(orderRow, orderItemList));
+                exportedCount++;
+            }
+        }
+        return exportedCount;
+    }
+
+    private BooleanBuilder userCondition(UUID userId) {
+        return userId == null ? new BooleanBuilder() : new BooleanBuilder(order.user.id.eq(userId));
+    }
+
+    // 응답에 필요한 컬럼만 조회, user.id 조건은 외래 키 컬럼으로 처리되어 사용자 테이블을 조인하지 않는다
+    private JPAQuery<Tuple> selectOrderColumns() {
+        return jpaQueryFactory.select(
+                        order.id,
+                        order.status,
+                        order.totalAmount,
+                        order.createdAt,
+                        order.updatedAt
+                )
+                .from(order);
+    }
+
+    private OrderDto toOrderDto(Tuple tuple) {
+        UUID id = tuple.get(order.id);
+        OrderEntity.Status status = tuple.get(order.status);
+        return OrderDto.builder()
+                .id(id != null ? id.toString() : null)
+                .status(status != null ? Order.Status.valueOf(status.name()) : null)
+                .totalAmount(tuple.get(order.totalAmount))
+                .createdAt(tuple.get(order.createdAt))
+                .updatedAt(tuple.get(order.updatedAt))
+                .build();
+    }
+
+    private ResGetOrdersExportDtoV1 toOrderExportDto(Object[] row, List<ResGetOrdersExportDtoV1.OrderItemDto> orderItemList) {
+        OrderEntity.Status status = (OrderEntity.Status) row[2];
+        return ResGetOrdersExportDtoV1.builder()
+                .id(row[0].toString())
+                .userId(row[1] != null ? row[1].toString() : null)
+                .status(status != null ? Order.Status.valueOf(status.name()) : null)
+                .totalAmount((Long) row[3])
+                .createdAt((Instant) row[4])
+                .updatedAt((Instant) row[5])
+                .orderItemList(orderItemList)
+                .build();
+    }
+
+    private ResGetOrdersExportDtoV1.OrderItemDto toOrderItemExportDto(Object[] row) {
+        return ResGetOrdersExportDtoV1.OrderItemDto.builder()
+                .id(row[6].toString())
+                .productId(row[7] != null ? row[7].toString() : null)
+                .productName((String) row[8])
+                .unitPrice((Long) row[9])
+                .quantity((Long) row[10])
+                .lineTotal((Long) row[11])
+                .build();
+    }
+
+    private OrderSpecifier<?>[] resolveOrderSpecifiers(Sort sort) {
+        List<OrderSpecifier<?>> orderSpecifiers = new ArrayList<>();
+        if (sort != null && sort.isSorted()) {
+            for (Sort.Order sortOrder : sort) {
+                orderSpecifiers.add(toOrderSpecifier(sortOrder));
+            }
+        }
+
+        if (orderSpecifiers.isEmpty()) {
+            orderSpecifiers.add(order.createdAt.desc());
+        }
+
+        return orderSpecifiers.toArray(new OrderSpecifier<?>[0]);
+    }
+
+    private OrderSpecifier<?> toOrderSpecifier(Sort.Order sortOrder) {
+        return switch (sortOrder.getProperty()) {
+            case "status" -> sortOrder.isAscending() ? order.status.asc() : order.status.desc();
+            case "totalAmount" -> sortOrder.isAscending() ? order.totalAmount.asc() : order.totalAmount.desc();
+            case "updatedAt" -> sortOrder.isAscending() ? order.updatedAt.asc() : order.updatedAt.desc();
+            default -> sortOrder.isAscending() ? order.createdAt.asc() : order.createdAt.desc();
+        };
+    }
+}
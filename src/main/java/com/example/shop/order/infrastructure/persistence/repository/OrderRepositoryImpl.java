@@ -1,17 +1,23 @@
 package com.example.shop.order.infrastructure.persistence.repository;
 
+import com.example.shop.common.infrastructure.persistence.ManagedEntityTracker;
 import com.example.shop.order.domain.model.Order;
 import com.example.shop.order.domain.repository.OrderRepository;
 import com.example.shop.order.infrastructure.persistence.entity.OrderEntity;
 import com.example.shop.order.infrastructure.persistence.mapper.OrderMapper;
+import com.example.shop.payment.infrastructure.persistence.entity.PaymentEntity;
 import com.example.shop.user.infrastructure.persistence.entity.UserEntity;
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -23,13 +29,20 @@ public class OrderRepositoryImpl implements OrderRepository {
     private final OrderJpaRepository orderJpaRepository;
     private final OrderMapper orderMapper;
     private final EntityManager entityManager;
+    private final ManagedEntityTracker managedEntityTracker;
 
     @Override
     @Transactional
     public Order save(Order order) {
+        Optional<OrderEntity> trackedOrderEntity = managedEntityTracker.find(OrderEntity.class, order.getId());
+        if (trackedOrderEntity.isPresent()) {
+            orderMapper.applyDomain(order, trackedOrderEntity.get());
+            return orderMapper.toDomain(trackedOrderEntity.get());
+        }
+
         OrderEntity orderEntity;
         if (order.getId() != null) {
-            orderEntity = orderJpaRepository.findById(order.getId())
+            orderEntity = orderJpaRepository.findDetailById(order.getId())
                     .orElseGet(() -> orderMapper.toEntity(order));
             orderMapper.applyDomain(order, orderEntity);
         } else {
@@ -42,7 +55,8 @@ public class OrderRepositoryImpl implements OrderRepository {
 
     @Override
     public Optional<Order> findById(UUID orderId) {
-        return orderJpaRepository.findById(orderId)
+        return orderJpaRepository.findDetailById(orderId)
+                .map(this::track)
                 .map(orderMapper::toDomain);
     }
 
@@ -53,9 +67,33 @@ public class OrderRepositoryImpl implements OrderRepository {
     }
 
     @Override
-    public Page<Order> findByUserId(UUID userId, Pageable pageable) {
-        return orderJpaRepository.findByUser_Id(userId, pageable)
-                .map(orderMapper::toDomain);
+    @Transactional
+    public int updateStatus(Collection<UUID> orderIdList, Order.Status from, Order.Status to) {
+        if (orderIdList.isEmpty()) {
+            return 0;
+        }
+        return orderJpaRepository.updateStatus(
+                orderIdList,
+                OrderEntity.Status.valueOf(from.name()),
+                OrderEntity.Status.valueOf(to.name()),
+                Instant.now()
+        );
+    }
+
+    @Override
+    public List<Order> findAllByStatusCreatedBefore(Order.Status status, Instant createdBefore, int size) {
+        List<UUID> orderIdList = orderJpaRepository.findIdsByStatusCreatedBefore(
+                OrderEntity.Status.valueOf(status.name()),
+                createdBefore,
+                PageRequest.of(0, size)
+        );
+        if (orderIdList.isEmpty()) {
+            return List.of();
+        }
+        return orderJpaRepository.findAllWithItemsByIdIn(orderIdList)
+                .stream()
+                .map(orderMapper::toDomain)
+                .toList();
     }
 
     @Override
@@ -63,6 +101,14 @@ public class OrderRepositoryImpl implements OrderRepository {
         return orderJpaRepository.count();
     }
 
+    private OrderEntity track(OrderEntity orderEntity) {
+        PaymentEntity paymentEntity = orderEntity.getPayment();
+        if (paymentEntity != null) {
+            managedEntityTracker.track(PaymentEntity.class, paymentEntity.getId(), paymentEntity);
+        }
+        return managedEntityTracker.track(OrderEntity.class, orderEntity.getId(), orderEntity);
+    }
+
     private void assignUser(Order order, OrderEntity orderEntity) {
         UUID userId = order.getUserId();
         if (userId == null) {
@@ -1,22 +1,32 @@
 package com.example.shop.order.presentation.controller;
 
 import com.example.shop.common.infrastructure.config.security.auth.CustomUserDetails;
+import com.example.shop.common.infrastructure.idempotency.Idempotent;
 import com.example.shop.common.presentation.dto.ApiDto;
+import com.example.shop.order.application.service.OrderQueryServiceV1;
 import com.example.shop.order.application.service.OrderServiceV1;
+import com.example.shop.order.domain.model.Order;
 import com.example.shop.order.presentation.dto.request.ReqPostOrdersDtoV1;
 import com.example.shop.order.presentation.dto.response.ResGetOrdersDtoV1;
 import com.example.shop.order.presentation.dto.response.ResGetOrderDtoV1;
 import com.example.shop.order.presentation.dto.response.ResPostOrdersDtoV1;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -25,18 +35,32 @@ import java.util.UUID;
 @RequestMapping("/v1/orders")
 public class OrderControllerV1 {
 
+    static final String HEADER_PREFER = "Prefer";
+    static final String HEADER_PREFERENCE_APPLIED = "Preference-Applied";
+    static final String PREFER_RESPOND_ASYNC = "respond-async";
+
     private final OrderServiceV1 orderServiceV1;
+    private final OrderQueryServiceV1 orderQueryServiceV1;
 
     @GetMapping
     public ResponseEntity<ApiDto<ResGetOrdersDtoV1>> getOrders(
             @AuthenticationPrincipal CustomUserDetails customUserDetails,
-            @PageableDefault(sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable
+            @PageableDefault(sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+            @RequestParam(value = "cursor", required = false) String cursor
     ) {
-        ResGetOrdersDtoV1 responseBody = orderServiceV1.getOrders(
-                customUserDetails.getId(),
-                customUserDetails.getRoleList(),
-                pageable
-        );
+        // cursor 파라미터가 있으면(빈 값은 첫 페이지) count 없는 키셋 페이지네이션으로 조회
+        ResGetOrdersDtoV1 responseBody = cursor != null
+                ? orderQueryServiceV1.getOrdersByCursor(
+                        customUserDetails.getId(),
+                        customUserDetails.getRoleList(),
+                        cursor,
+                        pageable.getPageSize()
+                )
+                : orderQueryServiceV1.getOrders(
+                        customUserDetails.getId(),
+                        customUserDetails.getRoleList(),
+                        pageable
+                );
         return ResponseEntity.ok(
                 ApiDto.<ResGetOrdersDtoV1>builder()
                         .data(responseBody)
@@ -44,6 +68,14 @@ public class OrderControllerV1 {
         );
     }
 
+    // 관리자 전용 (SecurityConfig), ApiDto로 감싸지 않고 주문 한 건당 한 줄(NDJSON)씩 응답에 바로 쓴다
+    @GetMapping("/export")
+    public void getOrdersExport(HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        orderQueryServiceV1.exportOrders(response.getOutputStream());
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<ApiDto<ResGetOrderDtoV1>> getOrder(
             @AuthenticationPrincipal CustomUserDetails customUserDetails,
@@ -61,12 +93,28 @@ public class OrderControllerV1 {
         );
     }
 
+    // Prefer: respond-async 요청은 PENDING으로 접수만 하고 202를 응답한다, 처리 결과는 GET /v1/orders/{id}로 확인
     @PostMapping
+    @Idempotent
     public ResponseEntity<ApiDto<ResPostOrdersDtoV1>> postOrders(
             @AuthenticationPrincipal CustomUserDetails customUserDetails,
+            @RequestHeader(value = HEADER_PREFER, required = false) List<String> preferList,
             @RequestBody @Valid ReqPostOrdersDtoV1 reqDto
     ) {
-        ResPostOrdersDtoV1 responseBody = orderServiceV1.postOrders(customUserDetails.getId(), reqDto);
+        ResPostOrdersDtoV1 responseBody = isRespondAsync(preferList)
+                ? orderServiceV1.postOrdersAsync(customUserDetails.getId(), reqDto)
+                : orderServiceV1.postOrders(customUserDetails.getId(), reqDto);
+        if (Order.Status.PENDING.equals(responseBody.getOrder().getStatus())) {
+            return ResponseEntity.accepted()
+                    .location(URI.create("/v1/orders/" + responseBody.getOrder().getId()))
+                    .header(HEADER_PREFERENCE_APPLIED, PREFER_RESPOND_ASYNC)
+                    .body(
+                            ApiDto.<ResPostOrdersDtoV1>builder()
+                                    .message("주문이 접수되었습니다.")
+                                    .data(responseBody)
+                                    .build()
+                    );
+        }
         return ResponseEntity.ok(
                 ApiDto.<ResPostOrdersDtoV1>builder()
                         .message("주문이 생성되었습니다.")
@@ -91,4 +139,15 @@ public class OrderControllerV1 {
                         .build()
         );
     }
+
+    // Prefer 헤더는 여러 개이거나 쉼표로 이어질 수 있다 (RFC 7240)
+    private boolean isRespondAsync(List<String> preferList) {
+        if (preferList == null) {
+            return false;
+        }
+        return preferList.stream()
+                .flatMap(prefer -> Arrays.stream(prefer.split(",")))
+                .map(String::trim)
+                .anyMatch(PREFER_RESPOND_ASYNC::equalsIgnoreCase);
+    }
 }
@@ -0,0 +1,35 @@
+package com.example.shop.order.presentation.dto.event;
+
+import com.example.shop.order.domain.model.Order;
+import com.example.shop.payment.domain.model.Payment;
+import lombok.Builder;
+import lombok.Getter;
+
+// OUTBOX에 저장하는 주문 이벤트 본문
+@Getter
+@Builder
+public class OrderEventDtoV1 {
+
+    public static final String AGGREGATE_TYPE = "ORDER";
+    // 주문 취소, 결제가 있으면 함께 취소된다
+    public static final String ORDER_CANCELLED = "ORDER_CANCELLED";
+
+    private String orderId;
+    private String userId;
+    private Order.Status status;
+    private Long totalAmount;
+    private String paymentId;
+    private Payment.Status paymentStatus;
+
+    public static OrderEventDtoV1 of(Order order) {
+        Payment payment = order.getPayment();
+        return OrderEventDtoV1.builder()
+                .orderId(order.getId() != null ? order.getId().toString() : null)
+                .userId(order.getUserId() != null ? order.getUserId().toString() : null)
+                .status(order.getStatus())
+                .totalAmount(order.getTotalAmount())
+                .paymentId(payment != null && payment.getId() != null ? payment.getId().toString() : null)
+                .paymentStatus(payment != null ? payment.getStatus() : null)
+                .build();
+    }
+}
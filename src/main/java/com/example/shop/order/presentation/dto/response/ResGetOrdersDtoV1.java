@@ -1,16 +1,17 @@
 package com.example.shop.order.presentation.dto.response;
 
-import com.example.shop.order.domain.model.Order;
 import com.example.shop.order.domain.model.Order.Status;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.ToString;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PagedModel;
 
 import java.time.Instant;
-import java.util.List;
 
 @Getter
 @Builder
@@ -22,14 +23,30 @@ public class ResGetOrdersDtoV1 {
     @ToString
     public static class OrderPageDto extends PagedModel<OrderPageDto.OrderDto> {
 
-        public OrderPageDto(Page<Order> orderPage) {
-            super(
-                    new PageImpl<>(
-                            OrderDto.from(orderPage.getContent()),
-                            orderPage.getPageable(),
-                            orderPage.getTotalElements()
-                    )
-            );
+        // 커서 모드에서 다음 페이지 조회에 사용할 토큰, 마지막 페이지면 null
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private final String nextCursor;
+
+        @JsonIgnore
+        private final boolean cursorMode;
+
+        public OrderPageDto(Page<OrderDto> orderPage) {
+            super(orderPage);
+            this.nextCursor = null;
+            this.cursorMode = false;
+        }
+
+        public OrderPageDto(Slice<OrderDto> orderSlice, String nextCursor) {
+            super(new PageImpl<>(orderSlice.getContent()));
+            this.nextCursor = nextCursor;
+            this.cursorMode = true;
+        }
+
+        // 커서 모드는 전체 개수를 세지 않으므로 page 메타데이터를 내려주지 않는다
+        @Override
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        public PageMetadata getMetadata() {
+            return cursorMode ? null : super.getMetadata();
         }
 
         @Getter
@@ -41,22 +58,6 @@ public class ResGetOrdersDtoV1 {
             private Long totalAmount;
             private Instant createdAt;
             private Instant updatedAt;
-
-            private static List<OrderDto> from(List<Order> orderList) {
-                return orderList.stream()
-                        .map(OrderDto::from)
-                        .toList();
-            }
-
-            public static OrderDto from(Order order) {
-                return OrderDto.builder()
-                        .id(order.getId() != null ? order.getId().toString() : null)
-                        .status(order.getStatus())
-                        .totalAmount(order.getTotalAmount())
-                        .createdAt(order.getCreatedAt())
-                        .updatedAt(order.getUpdatedAt())
-                        .build();
-            }
         }
     }
 }
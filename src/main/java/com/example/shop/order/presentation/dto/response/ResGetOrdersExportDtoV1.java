@@ -0,0 +1,34 @@
+package com.example.shop.order.presentation.dto.response;
+
+import com.example.shop.order.domain.model.Order.Status;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.List;
+
+// 주문 내보내기(NDJSON)의 한 줄, 주문 하나와 주문 상품 목록
+@Getter
+@Builder
+public class ResGetOrdersExportDtoV1 {
+
+    private String id;
+    private String userId;
+    private Status status;
+    private Long totalAmount;
+    private Instant createdAt;
+    private Instant updatedAt;
+    private List<OrderItemDto> orderItemList;
+
+    @Getter
+    @Builder
+    public static class OrderItemDto {
+
+        private String id;
+        private String productId;
+        private String productName;
+        private Long unitPrice;
+        private Long quantity;
+        private Long lineTotal;
+    }
+}
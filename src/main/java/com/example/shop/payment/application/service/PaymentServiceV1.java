@@ -1,18 +1,22 @@
 package com.example.shop.payment.application.service;
 
+import com.example.shop.common.infrastructure.outbox.OutboxWriter;
+import com.example.shop.common.infrastructure.retry.OptimisticLockRetry;
 import com.example.shop.order.domain.model.Order;
 import com.example.shop.order.domain.repository.OrderRepository;
 import com.example.shop.payment.domain.model.Payment;
+import com.example.shop.payment.domain.repository.PaymentQueryRepository;
 import com.example.shop.payment.domain.repository.PaymentRepository;
 import com.example.shop.payment.presentation.advice.PaymentError;
 import com.example.shop.payment.presentation.advice.PaymentException;
+import com.example.shop.payment.presentation.dto.event.PaymentEventDtoV1;
 import com.example.shop.payment.presentation.dto.request.ReqPostPaymentsDtoV1;
 import com.example.shop.payment.presentation.dto.response.ResGetPaymentDtoV1;
 import com.example.shop.payment.presentation.dto.response.ResPostPaymentsDtoV1;
-import com.example.shop.user.domain.model.User;
 import com.example.shop.user.domain.model.UserRole;
-import com.example.shop.user.domain.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,31 +29,35 @@ import java.util.UUID;
 public class PaymentServiceV1 {
 
     private final PaymentRepository paymentRepository;
+    private final PaymentQueryRepository paymentQueryRepository;
     private final OrderRepository orderRepository;
-    private final UserRepository userRepository;
+    private final OutboxWriter outboxWriter;
 
+    // 결제, 주문 요약, 사용자 요약, 주문 상품을 한 번의 쿼리로 조회한다
     public ResGetPaymentDtoV1 getPayment(UUID paymentId, UUID authUserId, List<String> authUserRoleList) {
-        Payment payment = paymentRepository.findById(paymentId)
+        ResGetPaymentDtoV1.PaymentDto paymentDto = paymentQueryRepository.findPaymentDetail(paymentId)
                 .orElseThrow(() -> new PaymentException(PaymentError.PAYMENT_NOT_FOUND));
 
-        if (!payment.isOwnedBy(authUserId) && !isAdminOrManager(authUserRoleList)) {
+        boolean isOwner = authUserId != null && authUserId.toString().equals(paymentDto.getUser().getId());
+        if (!isOwner && !isAdminOrManager(authUserRoleList)) {
             throw new PaymentException(PaymentError.PAYMENT_FORBIDDEN);
         }
 
-        Order order = payment.getOrderId() != null
-                ? orderRepository.findById(payment.getOrderId()).orElse(null)
-                : null;
-
-        User user = payment.getUserId() != null
-                ? userRepository.findById(payment.getUserId()).orElse(null)
-                : null;
-
-        return ResGetPaymentDtoV1.of(payment, order, user);
+        return ResGetPaymentDtoV1.builder()
+                .payment(paymentDto)
+                .build();
     }
 
     @Transactional
+    @OptimisticLockRetry
     public ResPostPaymentsDtoV1 postPayments(UUID authUserId, ReqPostPaymentsDtoV1 reqDto) {
         ReqPostPaymentsDtoV1.PaymentDto reqPayment = reqDto.getPayment();
+        // PG 콜백 재전송 등 같은 거래 키의 중복 요청은 주문을 조회하기 전에 인덱스 조회 한 번으로 거절
+        if (reqPayment.getTransactionKey() != null
+                && paymentRepository.existsByTransactionKey(reqPayment.getTransactionKey())) {
+            throw new PaymentException(PaymentError.PAYMENT_TRANSACTION_KEY_DUPLICATED);
+        }
+
         UUID orderId = reqPayment.getOrderId();
         Order order = orderRepository.findById(orderId)
                 .orElseThrow(() -> new PaymentException(PaymentError.PAYMENT_ORDER_NOT_FOUND));
@@ -66,34 +74,47 @@ public class PaymentServiceV1 {
             throw new PaymentException(PaymentError.PAYMENT_ALREADY_EXISTS);
         }
 
+        if (Order.Status.PENDING.equals(order.getStatus()) || Order.Status.REJECTED.equals(order.getStatus())) {
+            throw new PaymentException(PaymentError.PAYMENT_ORDER_NOT_PLACED);
+        }
+
         if (order.getPayment() != null) {
             throw new PaymentException(PaymentError.PAYMENT_ALREADY_EXISTS);
         }
 
-        User paymentUser = findUser(authUserId);
-
         Payment payment = Payment.builder()
                 .orderId(order.getId())
-                .userId(paymentUser.getId())
+                // 소유자 확인을 통과했으므로 사용자 엔티티를 다시 조회하지 않는다
+                .userId(order.getUserId())
                 .method(reqPayment.getMethod())
                 .amount(order.getTotalAmount())
                 .transactionKey(reqPayment.getTransactionKey())
                 .status(Payment.Status.COMPLETED)
                 .build();
 
-        Payment savedPayment = paymentRepository.save(payment);
+        Payment savedPayment;
+        try {
+            savedPayment = paymentRepository.insert(payment);
+        } catch (DuplicateKeyException e) {
+            // 중복 확인 이후 같은 거래 키의 결제가 먼저 저장된 경우
+            throw new PaymentException(PaymentError.PAYMENT_TRANSACTION_KEY_DUPLICATED);
+        } catch (DataIntegrityViolationException e) {
+            // 같은 주문의 결제가 먼저 저장된 경우 (order_id 유니크)
+            throw new PaymentException(PaymentError.PAYMENT_ALREADY_EXISTS);
+        }
 
         Order updatedOrder = order.assignPayment(savedPayment).markPaid();
         Order savedOrder = orderRepository.save(updatedOrder);
+        outboxWriter.append(
+                PaymentEventDtoV1.AGGREGATE_TYPE,
+                savedPayment.getId(),
+                PaymentEventDtoV1.PAYMENT_COMPLETED,
+                PaymentEventDtoV1.of(savedPayment, savedOrder)
+        );
 
         return ResPostPaymentsDtoV1.of(savedPayment, savedOrder);
     }
 
-    private User findUser(UUID userId) {
-        return userRepository.findById(userId)
-                .orElseThrow(() -> new PaymentException(PaymentError.PAYMENT_USER_NOT_FOUND));
-    }
-
     private boolean isAdminOrManager(List<String> authUserRoleList) {
         if (authUserRoleList == null) {
             return false;
@@ -0,0 +1,15 @@
+package com.example.shop.payment.domain.repository;
+
+import com.example.shop.payment.presentation.dto.response.ResGetPaymentDtoV1.PaymentDto;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 결제 상세 조회 전용 리포지토리.
+ * 결제, 주문 요약, 사용자 요약, 주문 상품을 한 번의 쿼리로 조회해 응답 DTO로 바로 만든다.
+ */
+public interface PaymentQueryRepository {
+
+    Optional<PaymentDto> findPaymentDetail(UUID paymentId);
+}
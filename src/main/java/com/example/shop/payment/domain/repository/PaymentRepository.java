@@ -9,7 +9,13 @@ public interface PaymentRepository {
 
     Payment save(Payment payment);
 
+    // 새 결제를 바로 insert한다. transactionKey가 중복이면 DuplicateKeyException, 주문이 이미 결제된 경우 등은 DataIntegrityViolationException
+    Payment insert(Payment payment);
+
     Optional<Payment> findById(UUID paymentId);
 
+    // 삭제된 결제를 포함해 transactionKey 유니크 인덱스만 확인한다
+    boolean existsByTransactionKey(String transactionKey);
+
     long count();
 }
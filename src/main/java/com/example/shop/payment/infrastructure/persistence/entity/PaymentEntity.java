@@ -11,7 +11,13 @@ import org.hibernate.annotations.DynamicUpdate;
 import java.util.UUID;
 
 @Entity
-@Table(name = "PAYMENT")
+@Table(
+        name = "PAYMENT",
+        indexes = {
+                // PG 거래 키 중복 결제 방지, NULL은 여러 건 허용
+                @Index(name = PaymentEntity.TRANSACTION_KEY_INDEX, columnList = "transaction_key", unique = true)
+        }
+)
 @DynamicInsert
 @DynamicUpdate
 @Getter
@@ -21,6 +27,8 @@ import java.util.UUID;
 @EqualsAndHashCode(of = "id", callSuper = false)
 public class PaymentEntity extends BaseEntity {
 
+    public static final String TRANSACTION_KEY_INDEX = "uk_payment_transaction_key";
+
     @Id
     @GeneratedValue(strategy = GenerationType.AUTO)
     @Column(name = "id", nullable = false, unique = true)
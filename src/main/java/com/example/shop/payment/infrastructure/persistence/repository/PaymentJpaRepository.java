@@ -2,8 +2,14 @@ package com.example.shop.payment.infrastructure.persistence.repository;
 
 import com.example.shop.payment.infrastructure.persistence.entity.PaymentEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.UUID;
 
 public interface PaymentJpaRepository extends JpaRepository<PaymentEntity, UUID> {
+
+    // 소프트 삭제 필터 없이 유니크 인덱스와 같은 범위에서 확인하기 위해 네이티브 쿼리 사용
+    @Query(value = "select count(*) > 0 from payment p where p.transaction_key = :transactionKey", nativeQuery = true)
+    boolean existsByTransactionKey(@Param("transactionKey") String transactionKey);
 }
@@ -0,0 +1,144 @@
+package com.example.shop.payment.infrastructure.persistence.repository;
+
+import com.example.shop.order.domain.model.Order;
+import com.example.shop.order.infrastructure.persistence.entity.OrderEntity;
+import com.example.shop.order.infrastructure.persistence.entity.QOrderEntity;
+import com.example.shop.order.infrastructure.persistence.entity.QOrderItemEntity;
+import com.example.shop.payment.domain.model.Payment;
+import com.example.shop.payment.domain.repository.PaymentQueryRepository;
+import com.example.shop.payment.infrastructure.persistence.entity.PaymentEntity;
+import com.example.shop.payment.infrastructure.persistence.entity.QPaymentEntity;
+import com.example.shop.payment.presentation.dto.response.ResGetPaymentDtoV1.OrderDto;
+import com.example.shop.payment.presentation.dto.response.ResGetPaymentDtoV1.OrderItemDto;
+import com.example.shop.payment.presentation.dto.response.ResGetPaymentDtoV1.PaymentDto;
+import com.example.shop.payment.presentation.dto.response.ResGetPaymentDtoV1.UserDto;
+import com.example.shop.user.infrastructure.persistence.entity.QUserEntity;
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PaymentQueryRepositoryImpl implements PaymentQueryRepository {
+
+    private final JPAQueryFactory jpaQueryFactory;
+
+    private static final QPaymentEntity payment = QPaymentEntity.paymentEntity;
+    private static final QOrderEntity order = QOrderEntity.orderEntity;
+    private static final QOrderItemEntity orderItem = QOrderItemEntity.orderItemEntity;
+    private static final QUserEntity user = QUserEntity.userEntity;
+
+    // 결제 1건 x 주문 상품 n행, 삭제되어 조인되지 않는 주문/사용자는 외래 키 값만 채운다
+    @Override
+    public Optional<PaymentDto> findPaymentDetail(UUID paymentId) {
+        List<Tuple> tupleList = jpaQueryFactory.select(
+                        payment.id,
+                        payment.status,
+                        payment.method,
+                        payment.amount,
+                        payment.transactionKey,
+                        payment.createdAt,
+                        payment.updatedAt,
+                        payment.order.id,
+                        payment.user.id,
+                        order.id,
+                        order.status,
+                        order.totalAmount,
+                        order.createdAt,
+                        order.updatedAt,
+                        user.id,
+                        user.username,
+                        user.nickname,
+                        user.email,
+                        orderItem.id,
+                        orderItem.productId,
+                        orderItem.productName,
+                        orderItem.unitPrice,
+                        orderItem.quantity,
+                        orderItem.lineTotal
+                )
+                .from(payment)
+                .leftJoin(payment.order, order)
+                .leftJoin(payment.user, user)
+                .leftJoin(order.orderItemList, orderItem)
+                .where(payment.id.eq(paymentId))
+                .orderBy(orderItem.createdAt.asc(), orderItem.id.asc())
+                .fetch();
+        if (tupleList.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Tuple first = tupleList.get(0);
+        List<OrderItemDto> orderItemList = tupleList.stream()
+                .filter(tuple -> tuple.get(orderItem.id) != null)
+                .map(this::toOrderItemDto)
+                .toList();
+        PaymentEntity.Status status = first.get(payment.status);
+        PaymentEntity.Method method = first.get(payment.method);
+        return Optional.of(PaymentDto.builder()
+                .id(String.valueOf(first.get(payment.id)))
+                .status(status != null ? Payment.Status.valueOf(status.name()) : null)
+                .method(method != null ? Payment.Method.valueOf(method.name()) : null)
+                .amount(first.get(payment.amount))
+                .transactionKey(first.get(payment.transactionKey))
+                .createdAt(first.get(payment.createdAt))
+                .updatedAt(first.get(payment.updatedAt))
+                .order(toOrderDto(first, orderItemList))
+                .user(toUserDto(first))
+                .build());
+    }
+
+    private OrderDto toOrderDto(Tuple tuple, List<OrderItemDto> orderItemList) {
+        if (tuple.get(order.id) == null) {
+            UUID orderId = tuple.get(payment.order.id);
+            return OrderDto.builder()
+                    .id(orderId != null ? orderId.toString() : null)
+                    .totalAmount(tuple.get(payment.amount))
+                    .orderItemList(List.of())
+                    .build();
+        }
+        OrderEntity.Status status = tuple.get(order.status);
+        return OrderDto.builder()
+                .id(String.valueOf(tuple.get(order.id)))
+                .status(status != null ? Order.Status.valueOf(status.name()) : null)
+                .totalAmount(tuple.get(order.totalAmount))
+                .createdAt(tuple.get(order.createdAt))
+                .updatedAt(tuple.get(order.updatedAt))
+                .orderItemList(orderItemList)
+                .build();
+    }
+
+    private UserDto toUserDto(Tuple tuple) {
+        UUID userId = tuple.get(payment.user.id);
+        if (tuple.get(user.id) == null) {
+            return UserDto.builder()
+                    .id(userId != null ? userId.toString() : null)
+                    .build();
+        }
+        return UserDto.builder()
+                .id(String.valueOf(tuple.get(user.id)))
+                .username(tuple.get(user.username))
+                .nickname(tuple.get(user.nickname))
+                .email(tuple.get(user.email))
+                .build();
+    }
+
+    private OrderItemDto toOrderItemDto(Tuple tuple) {
+        UUID productId = tuple.get(orderItem.productId);
+        return OrderItemDto.builder()
+                .id(String.valueOf(tuple.get(orderItem.id)))
+                .productId(productId != null ? productId.toString() : null)
+                .productName(tuple.get(orderItem.productName))
+                .unitPrice(tuple.get(orderItem.unitPrice))
+                .quantity(tuple.get(orderItem.quantity))
+                .lineTotal(tuple.get(orderItem.lineTotal))
+                .build();
+    }
+}
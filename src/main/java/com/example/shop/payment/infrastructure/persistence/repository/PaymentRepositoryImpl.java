@@ -1,5 +1,6 @@
 package com.example.shop.payment.infrastructure.persistence.repository;
 
+import com.example.shop.common.infrastructure.persistence.ManagedEntityTracker;
 import com.example.shop.order.infrastructure.persistence.entity.OrderEntity;
 import com.example.shop.payment.domain.model.Payment;
 import com.example.shop.payment.domain.repository.PaymentRepository;
@@ -8,9 +9,12 @@ import com.example.shop.payment.infrastructure.persistence.mapper.PaymentMapper;
 import com.example.shop.user.infrastructure.persistence.entity.UserEntity;
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Locale;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -22,10 +26,17 @@ public class PaymentRepositoryImpl implements PaymentRepository {
     private final PaymentJpaRepository paymentJpaRepository;
     private final PaymentMapper paymentMapper;
     private final EntityManager entityManager;
+    private final ManagedEntityTracker managedEntityTracker;
 
     @Override
     @Transactional
     public Payment save(Payment payment) {
+        Optional<PaymentEntity> trackedPaymentEntity = managedEntityTracker.find(PaymentEntity.class, payment.getId());
+        if (trackedPaymentEntity.isPresent()) {
+            paymentMapper.applyDomain(payment, trackedPaymentEntity.get());
+            return paymentMapper.toDomain(trackedPaymentEntity.get());
+        }
+
         PaymentEntity paymentEntity;
         if (payment.getId() != null) {
             paymentEntity = paymentJpaRepository.findById(payment.getId())
@@ -39,12 +50,37 @@ public class PaymentRepositoryImpl implements PaymentRepository {
         return paymentMapper.toDomain(savedPaymentEntity);
     }
 
+    @Override
+    @Transactional
+    public Payment insert(Payment payment) {
+        PaymentEntity paymentEntity = paymentMapper.toEntity(payment);
+        assignRelations(payment, paymentEntity);
+        // 유니크 인덱스 위반을 커밋 시점이 아니라 이 호출에서 드러내기 위해 바로 flush
+        PaymentEntity savedPaymentEntity;
+        try {
+            savedPaymentEntity = paymentJpaRepository.saveAndFlush(paymentEntity);
+        } catch (DataIntegrityViolationException e) {
+            String message = String.valueOf(e.getMostSpecificCause().getMessage()).toLowerCase(Locale.ROOT);
+            if (message.contains(PaymentEntity.TRANSACTION_KEY_INDEX)) {
+                throw new DuplicateKeyException(e.getMessage(), e);
+            }
+            throw new DataIntegrityViolationException(e.getMessage(), e);
+        }
+        return paymentMapper.toDomain(savedPaymentEntity);
+    }
+
     @Override
     public Optional<Payment> findById(UUID paymentId) {
         return paymentJpaRepository.findById(paymentId)
+                .map(paymentEntity -> managedEntityTracker.track(PaymentEntity.class, paymentEntity.getId(), paymentEntity))
                 .map(paymentMapper::toDomain);
     }
 
+    @Override
+    public boolean existsByTransactionKey(String transactionKey) {
+        return paymentJpaRepository.existsByTransactionKey(transactionKey);
+    }
+
     @Override
     public long count() {
         return paymentJpaRepository.count();
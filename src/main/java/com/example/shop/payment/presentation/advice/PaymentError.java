@@ -14,7 +14,9 @@ public enum PaymentError implements GlobalError {
     PAYMENT_ORDER_NOT_FOUND(HttpStatus.BAD_REQUEST, "주문 정보를 찾을 수 없습니다."),
     PAYMENT_ORDER_FORBIDDEN(HttpStatus.FORBIDDEN, "해당 주문에 대해 결제할 수 없습니다."),
     PAYMENT_ORDER_CANCELLED(HttpStatus.BAD_REQUEST, "취소된 주문은 결제할 수 없습니다."),
+    PAYMENT_ORDER_NOT_PLACED(HttpStatus.BAD_REQUEST, "처리 중이거나 거절된 주문은 결제할 수 없습니다."),
     PAYMENT_ALREADY_EXISTS(HttpStatus.BAD_REQUEST, "이미 결제 처리가 완료된 주문입니다."),
+    PAYMENT_TRANSACTION_KEY_DUPLICATED(HttpStatus.CONFLICT, "이미 처리된 거래 키입니다."),
     PAYMENT_ALREADY_CANCELLED(HttpStatus.BAD_REQUEST, "이미 취소된 결제입니다."),
     PAYMENT_USER_NOT_FOUND(HttpStatus.BAD_REQUEST, "결제 사용자 정보를 찾을 수 없습니다.");
 
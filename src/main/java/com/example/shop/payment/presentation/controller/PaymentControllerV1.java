@@ -1,6 +1,7 @@
 package com.example.shop.payment.presentation.controller;
 
 import com.example.shop.common.infrastructure.config.security.auth.CustomUserDetails;
+import com.example.shop.common.infrastructure.idempotency.Idempotent;
 import com.example.shop.common.presentation.dto.ApiDto;
 import com.example.shop.payment.application.service.PaymentServiceV1;
 import com.example.shop.payment.presentation.dto.request.ReqPostPaymentsDtoV1;
@@ -41,6 +42,7 @@ public class PaymentControllerV1 {
     }
 
     @PostMapping
+    @Idempotent
     public ResponseEntity<ApiDto<ResPostPaymentsDtoV1>> postPayments(
             @AuthenticationPrincipal CustomUserDetails customUserDetails,
             @RequestBody @Valid ReqPostPaymentsDtoV1 reqDto
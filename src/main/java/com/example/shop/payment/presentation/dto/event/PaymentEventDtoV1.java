@@ -0,0 +1,38 @@
+package com.example.shop.payment.presentation.dto.event;
+
+import com.example.shop.order.domain.model.Order;
+import com.example.shop.payment.domain.model.Payment;
+import lombok.Builder;
+import lombok.Getter;
+
+// OUTBOX에 저장하는 결제 이벤트 본문
+@Getter
+@Builder
+public class PaymentEventDtoV1 {
+
+    public static final String AGGREGATE_TYPE = "PAYMENT";
+    // 결제 완료, 주문은 PAID로 바뀐다
+    public static final String PAYMENT_COMPLETED = "PAYMENT_COMPLETED";
+
+    private String paymentId;
+    private String orderId;
+    private String userId;
+    private Payment.Status status;
+    private Payment.Method method;
+    private Long amount;
+    private String transactionKey;
+    private Order.Status orderStatus;
+
+    public static PaymentEventDtoV1 of(Payment payment, Order order) {
+        return PaymentEventDtoV1.builder()
+                .paymentId(payment.getId() != null ? payment.getId().toString() : null)
+                .orderId(order.getId() != null ? order.getId().toString() : null)
+                .userId(order.getUserId() != null ? order.getUserId().toString() : null)
+                .status(payment.getStatus())
+                .method(payment.getMethod())
+                .amount(payment.getAmount())
+                .transactionKey(payment.getTransactionKey())
+                .orderStatus(order.getStatus())
+                .build();
+    }
+}
@@ -0,0 +1,211 @@
+package com.example.shop.product.application.service;
+
+import com.example.shop.product.domain.model.Product;
+import com.example.shop.product.domain.repository.ProductRepository;
+import com.example.shop.product.presentation.advice.ProductError;
+import com.example.shop.product.presentation.advice.ProductException;
+import com.example.shop.product.presentation.dto.request.ReqPostProductsDtoV1;
+import com.example.shop.product.presentation.dto.response.ResPostProductsBulkDtoV1;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 상품 대량 등록 본문(CSV 또는 NDJSON)을 한 줄씩 읽어 청크 단위로 저장한다.
+ * <p>
+ * 청크마다 상품명 중복을 한 번의 IN 쿼리로 확인하고 배치 insert로 저장한다.
+ * 본문 전체를 메모리에 올리지 않으며, 잘못된 행은 건너뛰고 행 번호와 사유를 결과에 담는다.
+ * CSV는 첫 줄이 헤더(name,price,stock)면 건너뛰고, 줄바꿈이 포함된 필드는 지원하지 않는다.
+ */
+@Component
+public class ProductBulkImporter {
+
+    public static final String TEXT_CSV_VALUE = "text/csv";
+    public static final MediaType TEXT_CSV = MediaType.valueOf(TEXT_CSV_VALUE);
+
+    static final int CHUNK_SIZE = 500;
+    static final int MAX_ERROR_REPORT = 1_000;
+    // PRODUCT.name 컬럼 길이
+    static final int NAME_MAX_LENGTH = 255;
+
+    private static final String CSV_HEADER = "name,price,stock";
+
+    private final ProductRepository productRepository;
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductSuggestIndex productSuggestIndex;
+    private final Validator validator;
+    private final ObjectReader jsonRowReader;
+    private final ObjectReader csvRowReader;
+
+    public ProductBulkImporter(
+            ProductRepository productRepository,
+            ProductSearchIndex productSearchIndex,
+            ProductSuggestIndex productSuggestIndex,
+            Validator validator,
+            ObjectMapper objectMapper
+    ) {
+        this.productRepository = productRepository;
+        this.productSearchIndex = productSearchIndex;
+        this.productSuggestIndex = productSuggestIndex;
+        this.validator = validator;
+        this.jsonRowReader = objectMapper.readerFor(ReqPostProductsDtoV1.ProductDto.class);
+        this.csvRowReader = CsvMapper.builder()
+                // 요청 DTO는 기본 생성자가 없어 생성자 파라미터 이름으로 바인딩한다
+                .addModule(new ParameterNamesModule())
+                .build()
+                .readerFor(ReqPostProductsDtoV1.ProductDto.class)
+                .with(CsvSchema.builder()
+                        .addColumn("name")
+                        .addNumberColumn("price")
+                        .addNumberColumn("stock")
+                        .build());
+    }
+
+    public ResPostProductsBulkDtoV1 importProducts(MediaType contentType, InputStream inputStream) throws IOException {
+        boolean csv = isCsv(contentType);
+        ObjectReader rowReader = csv ? csvRowReader : jsonRowReader;
+
+        ImportReport importReport = new ImportReport();
+        List<Row> chunk = new ArrayList<>(CHUNK_SIZE);
+        try (BufferedReader bufferedReader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            long rowNumber = 0L;
+            String line;
+            while ((line = bufferedReader.readLine()) != null) {
+                rowNumber++;
+                if (line.isBlank() || (csv && rowNumber == 1 && isCsvHeader(line))) {
+                    continue;
+                }
+                importReport.totalCount++;
+                Row row = parse(rowReader, rowNumber, line, importReport);
+                if (row == null) {
+                    continue;
+                }
+                chunk.add(row);
+                if (chunk.size() == CHUNK_SIZE) {
+                    insertChunk(chunk, importReport);
+                    chunk.clear();
+                }
+            }
+        }
+        if (!chunk.isEmpty()) {
+            insertChunk(chunk, importReport);
+        }
+        return importReport.toResponse();
+    }
+
+    // 형식이나 값이 잘못된 행은 결과에 기록하고 null 반환
+    private Row parse(ObjectReader rowReader, long rowNumber, String line, ImportReport importReport) {
+        ReqPostProductsDtoV1.ProductDto productDto;
+        try {
+            productDto = rowReader.readValue(line);
+        } catch (IOException e) {
+            importReport.fail(rowNumber, null, "행 형식이 올바르지 않습니다.");
+            return null;
+        }
+        Set<ConstraintViolation<ReqPostProductsDtoV1.ProductDto>> violationSet = validator.validate(productDto);
+        if (!violationSet.isEmpty()) {
+            importReport.fail(rowNumber, productDto.getName(), violationSet.iterator().next().getMessage());
+            return null;
+        }
+        String name = productDto.getName().trim();
+        if (name.length() > NAME_MAX_LENGTH) {
+            importReport.fail(rowNumber, name, "상품명은 %d자 이하여야 합니다.".formatted(NAME_MAX_LENGTH));
+            return null;
+        }
+        return new Row(rowNumber, name, productDto.getPrice(), productDto.getStock());
+    }
+
+    private void insertChunk(List<Row> chunk, ImportReport importReport) {
+        Set<String> existingNameSet = productRepository.findExistingNames(chunk.stream().map(Row::name).toList());
+        Set<String> chunkNameSet = new HashSet<>();
+        List<Row> insertRowList = new ArrayList<>(chunk.size());
+        for (Row row : chunk) {
+            // 앞선 청크에서 저장한 상품명은 existingNameSet에서, 같은 청크 안의 중복은 chunkNameSet에서 걸러진다
+            if (existingNameSet.contains(row.name()) || !chunkNameSet.add(row.name())) {
+                importReport.fail(row.rowNumber(), row.name(), ProductError.PRODUCT_NAME_DUPLICATED.getErrorMessage());
+                continue;
+            }
+            insertRowList.add(row);
+        }
+        if (insertRowList.isEmpty()) {
+            return;
+        }
+        try {
+            List<Product> insertedProductList = productRepository.insertAll(insertRowList.stream()
+                    .map(row -> Product.builder()
+                            .name(row.name())
+                            .price(row.price())
+                            .stock(row.stock())
+                            .build())
+                    .toList());
+            productSearchIndex.index(insertedProductList);
+            productSuggestIndex.index(insertedProductList);
+            importReport.successCount += insertRowList.size();
+        } catch (DataAccessException e) {
+            // 중복 확인 이후 다른 요청이 같은 상품명을 등록한 경우 등, 청크 전체가 롤백된다
+            insertRowList.forEach(row -> importReport.fail(row.rowNumber(), row.name(), "상품 저장에 실패했습니다."));
+        }
+    }
+
+    private boolean isCsv(MediaType contentType) {
+        if (contentType != null && TEXT_CSV.isCompatibleWith(contentType)) {
+            return true;
+        }
+        if (contentType != null && MediaType.APPLICATION_NDJSON.isCompatibleWith(contentType)) {
+            return false;
+        }
+        throw new ProductException(ProductError.PRODUCT_BAD_REQUEST);
+    }
+
+    private boolean isCsvHeader(String line) {
+        return CSV_HEADER.equalsIgnoreCase(line.replace("\uFEFF", "").replace(" ", ""));
+    }
+
+    private record Row(long rowNumber, String name, Long price, Long stock) {
+    }
+
+    private static final class ImportReport {
+
+        private long totalCount;
+        private long successCount;
+        private long failureCount;
+        private final List<ResPostProductsBulkDtoV1.ErrorDto> errorList = new ArrayList<>();
+
+        private void fail(long rowNumber, String name, String message) {
+            failureCount++;
+            if (errorList.size() < MAX_ERROR_REPORT) {
+                errorList.add(ResPostProductsBulkDtoV1.ErrorDto.builder()
+                        .row(rowNumber)
+                        .name(name)
+                        .message(message)
+                        .build());
+            }
+        }
+
+        private ResPostProductsBulkDtoV1 toResponse() {
+            return ResPostProductsBulkDtoV1.builder()
+                    .totalCount(totalCount)
+                    .successCount(successCount)
+                    .failureCount(failureCount)
+                    .errorList(errorList)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.shop.product.application.service;
+
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 상품 검색 색인용 토크나이저.
+ * <p>
+ * 한글 음절은 자판 입력 단위의 자모로 분해한다 (예: "탕면" -> "ㅌㅏㅇㅁㅕㄴ", "과" -> "ㄱㅗㅏ").
+ * 그래서 입력 중인 글자("안서", "탕ㅁ")도 완성된 이름("안성탕면")의 부분 문자열로 찾을 수 있다.
+ * 한글이 아닌 문자는 소문자로만 바꿔 그대로 둔다.
+ */
+final class ProductNameTokenizer {
+
+    static final int GRAM_SIZE = 3;
+
+    private static final char HANGUL_SYLLABLE_BEGIN = '가';
+    private static final char HANGUL_SYLLABLE_END = '힣';
+    private static final int JUNGSEONG_COUNT = 21;
+    private static final int JONGSEONG_COUNT = 28;
+
+    // 초성/중성/종성 인덱스 순서의 호환 자모, 겹모음과 겹받침은 자판에서 누르는 순서대로 나눈다
+    private static final String[] CHOSEONG = {
+            "ㄱ", "ㄲ", "ㄴ", "ㄷ", "ㄸ", "ㄹ", "ㅁ", "ㅂ", "ㅃ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅉ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+    private static final String[] JUNGSEONG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+    private static final String[] JONGSEONG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ",
+            "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+    // 사용자가 직접 입력한 겹모음/겹받침 호환 자모 (ㄳ, ㅘ 등)
+    private static final String COMPOUND_JAMO = "ㄳㄵㄶㄺㄻㄼㄽㄾㄿㅀㅄㅘㅙㅚㅝㅞㅟㅢ";
+    private static final String[] COMPOUND_JAMO_KEYS = {
+            "ㄱㅅ", "ㄴㅈ", "ㄴㅎ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅂㅅ", "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅡㅣ"
+    };
+
+    private ProductNameTokenizer() {
+    }
+
+    // NFC로 음절을 합치고, 소문자로 바꾸고, 연속된 공백을 하나로 줄인다
+    static String normalize(String value) {
+        String normalized = Normalizer.normalize(value, Normalizer.Form.NFC)
+                .toLowerCase(Locale.ROOT)
+                .trim();
+        return normalized.replaceAll("\\s+", " ");
+    }
+
+    // normalize된 문자열을 자모 단위로 분해한다
+    static String toJamo(String normalized) {
+        StringBuilder jamo = new StringBuilder(normalized.length() * 3);
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (c >= HANGUL_SYLLABLE_BEGIN && c <= HANGUL_SYLLABLE_END) {
+                int syllableIndex = c - HANGUL_SYLLABLE_BEGIN;
+                jamo.append(CHOSEONG[syllableIndex / (JUNGSEONG_COUNT * JONGSEONG_COUNT)])
+                        .append(JUNGSEONG[syllableIndex % (JUNGSEONG_COUNT * JONGSEONG_COUNT) / JONGSEONG_COUNT])
+                        .append(JONGSEONG[syllableIndex % JONGSEONG_COUNT]);
+                continue;
+            }
+            int compoundIndex = COMPOUND_JAMO.indexOf(c);
+            if (compoundIndex >= 0) {
+                jamo.append(COMPOUND_JAMO_KEYS[compoundIndex]);
+                continue;
+            }
+            jamo.append(c);
+        }
+        return jamo.toString();
+    }
+
+    // 자모 문자열의 GRAM_SIZE 글자 n-gram, GRAM_SIZE보다 짧으면 비어 있다
+    static Set<String> grams(String jamo) {
+        Set<String> gramSet = new LinkedHashSet<>();
+        for (int i = 0; i + GRAM_SIZE <= jamo.length(); i++) {
+            gramSet.add(jamo.substring(i, i + GRAM_SIZE));
+        }
+        return gramSet;
+    }
+}
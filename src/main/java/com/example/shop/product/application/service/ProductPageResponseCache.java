@@ -0,0 +1,132 @@
+package com.example.shop.product.application.service;
+
+import com.example.shop.common.presentation.dto.ApiDto;
+import com.example.shop.product.presentation.dto.response.ResGetProductsDtoV1;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 검색어/커서 없는 상품 목록 앞쪽 page-count 페이지의 응답 본문 캐시.
+ * <p>
+ * 응답(ApiDto)을 한 번만 JSON으로 직렬화하고, 압축 대상 크기 이상이면 gzip 본문도 미리 만들어 둔다.
+ * ETag는 직렬화된 본문의 해시라 요청마다 직렬화/압축 없이 조건부 요청(304)을 처리할 수 있다.
+ * 상품 등록/수정/삭제 시 전체를 비우고, 주문으로 바뀌는 재고는 재고 캐시와 같은 수준의 짧은 TTL로 반영한다.
+ */
+@Component
+public class ProductPageResponseCache {
+
+    public static final String CACHE_NAME = "product.page";
+
+    private final ProductQueryServiceV1 productQueryServiceV1;
+    private final ObjectMapper objectMapper;
+    private final int pageCount;
+    private final boolean compressionEnabled;
+    private final long compressionMinResponseSize;
+    private final Cache<PageKey, CachedPage> pageCache;
+
+    public ProductPageResponseCache(
+            ProductQueryServiceV1 productQueryServiceV1,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${shop.product.page-cache.page-count:5}") int pageCount,
+            @Value("${shop.product.page-cache.maximum-size:100}") long maximumSize,
+            @Value("${shop.product.page-cache.ttl-ms:1000}") long ttlMillis,
+            @Value("${server.compression.enabled:false}") boolean compressionEnabled,
+            @Value("${server.compression.min-response-size:2KB}") DataSize compressionMinResponseSize
+    ) {
+        this.productQueryServiceV1 = productQueryServiceV1;
+        this.objectMapper = objectMapper;
+        this.pageCount = pageCount;
+        this.compressionEnabled = compressionEnabled;
+        this.compressionMinResponseSize = compressionMinResponseSize.toBytes();
+        this.pageCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMillis))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, pageCache, CACHE_NAME);
+    }
+
+    public boolean isCacheable(Pageable pageable, String name, String cursor) {
+        return cursor == null
+                && (name == null || name.isBlank())
+                && pageable.isPaged()
+                && pageable.getPageNumber() < pageCount;
+    }
+
+    // 같은 페이지를 동시에 요청하면 한 요청만 조회/직렬화하고 나머지는 결과를 기다린다
+    public CachedPage get(Pageable pageable) {
+        return pageCache.get(
+                new PageKey(pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort().toString()),
+                pageKey -> load(pageable)
+        );
+    }
+
+    // 트랜잭션이 끝나기 전에 다른 요청이 이전 목록을 다시 적재할 수 있어, 트랜잭션 종료(커밋/롤백) 후 한 번 더 비운다
+    public void evictAll() {
+        pageCache.invalidateAll();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    pageCache.invalidateAll();
+                }
+            });
+        }
+    }
+
+    private CachedPage load(Pageable pageable) {
+        ApiDto<ResGetProductsDtoV1> apiDto = ApiDto.<ResGetProductsDtoV1>builder()
+                .data(productQueryServiceV1.getProducts(pageable, null))
+                .build();
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(apiDto);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("상품 목록 응답을 직렬화하지 못했습니다.", e);
+        }
+        byte[] gzipBody = compressionEnabled && body.length >= compressionMinResponseSize ? gzip(body) : null;
+        return new CachedPage(DigestUtils.md5DigestAsHex(body), body, gzipBody);
+    }
+
+    private byte[] gzip(byte[] body) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(body.length / 4);
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream)) {
+            gzipOutputStream.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return outputStream.toByteArray();
+    }
+
+    private record PageKey(int page, int size, String sort) {
+    }
+
+    /**
+     * @param eTag     따옴표 없는 ETag 값, gzip 본문은 표현이 다르므로 {@link #gzipETag()}를 쓴다
+     * @param gzipBody 압축하지 않는 경우 null
+     */
+    public record CachedPage(String eTag, byte[] body, byte[] gzipBody) {
+
+        public String gzipETag() {
+            return eTag + "-gzip";
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.shop.product.application.service;
+
+import com.example.shop.common.infrastructure.persistence.KeysetCursor;
+import com.example.shop.common.infrastructure.persistence.KeysetSlice;
+import com.example.shop.product.domain.model.Product;
+import com.example.shop.product.domain.repository.ProductQueryRepository;
+import com.example.shop.product.presentation.advice.ProductError;
+import com.example.shop.product.presentation.advice.ProductException;
+import com.example.shop.product.presentation.dto.response.ResGetProductSuggestionsDtoV1;
+import com.example.shop.product.presentation.dto.response.ResGetProductsDtoV1;
+import com.example.shop.product.presentation.dto.response.ResGetProductsDtoV1.ProductPageDto.ProductDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 상품 목록 조회 (읽기 전용 프로젝션), 상세 조회와 변경은 ProductServiceV1에서 처리
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ProductQueryServiceV1 {
+
+    private final ProductQueryRepository productQueryRepository;
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductReadCache productReadCache;
+    private final ProductSuggestIndex productSuggestIndex;
+
+    // 검색어가 있으면 검색 색인에서 관련도 순으로 찾고, 색인이 준비되지 않았으면 DB에서 부분 일치로 찾는다
+    public ResGetProductsDtoV1 getProducts(Pageable pageable, String name) {
+        String normalizedName = normalize(name);
+        Page<ProductDto> productPage = normalizedName != null && productSearchIndex.isReady()
+                ? searchProducts(normalizedName, pageable)
+                : productQueryRepository.findProducts(normalizedName, pageable);
+        return ResGetProductsDtoV1.builder()
+                .productPage(new ResGetProductsDtoV1.ProductPageDto(productPage))
+                .build();
+    }
+
+    public ResGetProductsDtoV1 getProductsByCursor(String cursor, int size, String name) {
+        KeysetSlice<ProductDto> productSlice = productQueryRepository.findProductsByCursor(normalize(name), decodeCursor(cursor), size);
+        return ResGetProductsDtoV1.builder()
+                .productPage(new ResGetProductsDtoV1.ProductPageDto(productSlice.slice(), productSlice.nextCursor()))
+                .build();
+    }
+
+    // 메모리 트라이만 읽으므로 트랜잭션(DB 커넥션)을 열지 않는다, 트라이가 준비되기 전에는 빈 목록
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public ResGetProductSuggestionsDtoV1 getProductSuggestions(String prefix, int size) {
+        String normalizedPrefix = normalize(prefix);
+        List<ProductSuggestIndex.Suggestion> suggestionList = normalizedPrefix == null || size < 1 || !productSuggestIndex.isReady()
+                ? List.of()
+                : productSuggestIndex.suggest(normalizedPrefix, size);
+        return ResGetProductSuggestionsDtoV1.builder()
+                .suggestionList(suggestionList.stream()
+                        .map(suggestion -> ResGetProductSuggestionsDtoV1.SuggestionDto.builder()
+                                .id(suggestion.productId().toString())
+                                .name(suggestion.name())
+                                .build())
+                        .toList())
+                .build();
+    }
+
+    // 색인에서 찾은 페이지의 상품만 캐시(재고 포함)에서 읽는다, 그 사이 사라진 상품은 빠진다
+    private Page<ProductDto> searchProducts(String name, Pageable pageable) {
+        Page<UUID> productIdPage = productSearchIndex.search(name, pageable);
+        Map<UUID, Product> productMap = productReadCache.findAllById(productIdPage.getContent())
+                .stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+        List<ProductDto> productDtoList = productIdPage.getContent()
+                .stream()
+                .map(productMap::get)
+                .filter(Objects::nonNull)
+                .map(ProductDto::from)
+                .toList();
+        return new PageImpl<>(productDtoList, pageable, productIdPage.getTotalElements());
+    }
+
+    // 빈 커서는 첫 페이지, 해석할 수 없는 커서는 잘못된 요청으로 처리
+    private KeysetCursor decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        return KeysetCursor.decode(cursor)
+                .orElseThrow(() -> new ProductException(ProductError.PRODUCT_BAD_REQUEST));
+    }
+
+    private String normalize(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.shop.product.application.service;
+
+import com.example.shop.product.domain.model.Product;
+import com.example.shop.product.domain.repository.ProductRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * 상품 단건/다건 조회 앞단의 read-through 캐시.
+ * <p>
+ * 상품 정보(이름, 가격)는 최대 개수와 TTL로 제한해 캐시하고, 주문마다 바뀌는 재고는 짧은 TTL의 별도 캐시로 관리한다.
+ * 캐시된 상품의 version은 갱신되지 않으므로 조회 응답 용도로만 사용하고, 수정 경로는 {@link ProductRepository}를 직접 사용한다.
+ */
+@Component
+public class ProductReadCache {
+
+    public static final String PRODUCT_CACHE_NAME = "product";
+    public static final String STOCK_CACHE_NAME = "product.stock";
+
+    private final ProductRepository productRepository;
+    private final Cache<UUID, Product> productCache;
+    private final Cache<UUID, Long> stockCache;
+
+    public ProductReadCache(
+            ProductRepository productRepository,
+            MeterRegistry meterRegistry,
+            @Value("${shop.product.cache.maximum-size:10000}") long maximumSize,
+            @Value("${shop.product.cache.ttl-ms:600000}") long ttlMillis,
+            @Value("${shop.product.cache.stock-ttl-ms:1000}") long stockTtlMillis
+    ) {
+        this.productRepository = productRepository;
+        this.productCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMillis))
+                .recordStats()
+                .build();
+        this.stockCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMillis(stockTtlMillis))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, productCache, PRODUCT_CACHE_NAME);
+        CaffeineCacheMetrics.monitor(meterRegistry, stockCache, STOCK_CACHE_NAME);
+    }
+
+    public Optional<Product> findById(UUID productId) {
+        return findAllById(List.of(productId)).stream().findFirst();
+    }
+
+    // 캐시에 없는 상품만 한 번에 조회하고, 존재하지 않는 상품은 결과에서 빠진다
+    public List<Product> findAllById(Collection<UUID> productIdList) {
+        // 이번 호출에서 상품과 함께 읽은 재고는 재고 캐시를 거치지 않고 그대로 사용
+        Map<UUID, Long> stockMap = new HashMap<>();
+        Map<UUID, Product> productMap = productCache.getAll(
+                productIdList,
+                missingProductIdSet -> loadProducts(missingProductIdSet, stockMap)
+        );
+        if (productMap.isEmpty()) {
+            return List.of();
+        }
+        Set<UUID> cachedProductIdSet = new HashSet<>(productMap.keySet());
+        cachedProductIdSet.removeAll(stockMap.keySet());
+        if (!cachedProductIdSet.isEmpty()) {
+            stockMap.putAll(stockCache.getAll(
+                    cachedProductIdSet,
+                    missingProductIdSet -> productRepository.findStockAllById(Set.copyOf(missingProductIdSet))
+            ));
+        }
+
+        List<Product> productList = new ArrayList<>(productMap.size());
+        productMap.forEach((productId, product) -> {
+            Long stock = stockMap.get(productId);
+            if (stock == null) {
+                // 캐시된 이후 DB에서 사라진 상품
+                productCache.invalidate(productId);
+                return;
+            }
+            productList.add(product.update(null, null, stock));
+        });
+        return productList;
+    }
+
+    // 상품 정보가 바뀐 경우 상품과 재고를 모두 제거
+    public void evict(UUID productId) {
+        invalidate(() -> {
+            productCache.invalidate(productId);
+            stockCache.invalidate(productId);
+        });
+    }
+
+    // 주문/취소로 재고만 바뀐 경우 재고만 제거
+    public void evictStock(Collection<UUID> productIdList) {
+        Set<UUID> productIdSet = Set.copyOf(productIdList);
+        invalidate(() -> stockCache.invalidateAll(productIdSet));
+    }
+
+    private Map<UUID, Product> loadProducts(Set<? extends UUID> productIdSet, Map<UUID, Long> stockMap) {
+        Map<UUID, Product> productMap = new HashMap<>();
+        for (Product product : productRepository.findAllById(List.copyOf(productIdSet))) {
+            productMap.put(product.getId(), product);
+            stockMap.put(product.getId(), product.getStock());
+            stockCache.put(product.getId(), product.getStock());
+        }
+        return productMap;
+    }
+
+    // 트랜잭션이 끝나기 전에 다른 요청이 이전 값을 다시 적재할 수 있어, 트랜잭션 종료(커밋/롤백) 후 한 번 더 제거
+    private void invalidate(Runnable invalidation) {
+        invalidation.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    invalidation.run();
+                }
+            });
+        }
+    }
+}
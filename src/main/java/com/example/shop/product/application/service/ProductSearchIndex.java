@@ -0,0 +1,312 @@
+package com.example.shop.product.application.service;
+
+import com.example.shop.product.domain.model.Product;
+import com.example.shop.product.domain.repository.ProductQueryRepository;
+import com.example.shop.product.domain.repository.ProductQueryRepository.SearchRow;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * 상품명 검색용 메모리 역색인 (GET /v1/products?name=).
+ * <p>
+ * 상품명을 자모로 분해한 3-gram마다 상품 ID 목록을 두고, 검색어의 n-gram 목록을 교집합한 뒤 자모 부분 문자열 일치로 확인한다.
+ * 결과는 일치 정도(이름 전체 일치 > 접두 일치 > 음절 부분 일치 > 자모 부분 일치), 짧은 이름, 최신 등록 순으로 정렬한다.
+ * <p>
+ * 시작 시 PRODUCT 테이블로 만들고, {@link ProductServiceV1}/{@link ProductBulkImporter}의 변경을 커밋 후 반영한다.
+ * 다른 경로(다른 인스턴스, 직접 수정한 DB)의 변경은 rebuild-interval-ms마다 전체를 다시 만들 때 반영된다.
+ * 색인이 만들어지기 전이나 비활성화된 경우 {@link ProductQueryServiceV1}는 DB LIKE 검색을 사용한다.
+ */
+@Slf4j
+@Component
+public class ProductSearchIndex {
+
+    public static final String DOCUMENT_GAUGE_NAME = "shop.product.search.documents";
+
+    private static final Comparator<Match> MATCH_ORDER = Comparator.comparingInt(Match::rank)
+            .thenComparingInt(match -> match.document().normalizedName().length())
+            .thenComparing(match -> match.document().createdAt(), Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(match -> match.document().id());
+
+    private final ProductQueryRepository productQueryRepository;
+    private final boolean enabled;
+    private final int loadBatchSize;
+    // 쓰기(증분 반영, 재생성 교체)만 직렬화하고 검색은 잠금 없이 현재 스냅샷을 읽는다
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private volatile Snapshot snapshot;
+    // 재생성 중 들어온 변경, 새 스냅샷으로 교체하기 전에 다시 적용한다 (writeLock으로 보호)
+    private List<Consumer<Snapshot>> pendingChangeList;
+
+    public ProductSearchIndex(
+            ProductQueryRepository productQueryRepository,
+            MeterRegistry meterRegistry,
+            @Value("${shop.product.search.enabled:true}") boolean enabled,
+            @Value("${shop.product.search.load-batch-size:1000}") int loadBatchSize
+    ) {
+        this.productQueryRepository = productQueryRepository;
+        this.enabled = enabled;
+        this.loadBatchSize = Math.max(loadBatchSize, 1);
+        Gauge.builder(DOCUMENT_GAUGE_NAME, this, ProductSearchIndex::size)
+                .register(meterRegistry);
+    }
+
+    public boolean isReady() {
+        return snapshot != null;
+    }
+
+    public int size() {
+        Snapshot current = snapshot;
+        return current == null ? 0 : current.documentMap.size();
+    }
+
+    // 초기 데이터(CommandLineRunner)가 저장된 뒤에 만든다
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuild();
+    }
+
+    @Scheduled(
+            fixedDelayString = "${shop.product.search.rebuild-interval-ms:600000}",
+            initialDelayString = "${shop.product.search.rebuild-interval-ms:600000}"
+    )
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        writeLock.lock();
+        try {
+            if (pendingChangeList != null) {
+                return;
+            }
+            pendingChangeList = new ArrayList<>();
+        } finally {
+            writeLock.unlock();
+        }
+
+        Snapshot newSnapshot = new Snapshot();
+        try {
+            UUID afterId = null;
+            List<SearchRow> searchRowList;
+            do {
+                searchRowList = productQueryRepository.findSearchRows(afterId, loadBatchSize);
+                for (SearchRow searchRow : searchRowList) {
+                    newSnapshot.put(Document.of(searchRow.id(), searchRow.name(), searchRow.createdAt()));
+                    afterId = searchRow.id();
+                }
+            } while (searchRowList.size() == loadBatchSize);
+        } catch (RuntimeException e) {
+            writeLock.lock();
+            try {
+                pendingChangeList = null;
+            } finally {
+                writeLock.unlock();
+            }
+            throw e;
+        }
+
+        writeLock.lock();
+        try {
+            pendingChangeList.forEach(change -> change.accept(newSnapshot));
+            pendingChangeList = null;
+            snapshot = newSnapshot;
+        } finally {
+            writeLock.unlock();
+        }
+        log.info("상품 검색 색인을 만들었습니다. 상품 수: {}, n-gram 수: {}", newSnapshot.documentMap.size(), newSnapshot.postingMap.size());
+    }
+
+    // 삭제된 상품은 색인에서 뺀다
+    public void index(Product product) {
+        if (product.getDeletedAt() != null) {
+            remove(product.getId());
+            return;
+        }
+        Document document = Document.of(product.getId(), product.getName(), product.getCreatedAt());
+        applyAfterCommit(current -> current.put(document));
+    }
+
+    public void index(Collection<Product> productList) {
+        productList.forEach(this::index);
+    }
+
+    public void remove(UUID productId) {
+        applyAfterCommit(current -> current.remove(productId));
+    }
+
+    /**
+     * 상품명에 검색어가 (자모 단위로) 포함된 상품 ID를 관련도 순으로 조회한다.
+     * 페이지 요청이면 전체를 정렬하지 않고 요청한 페이지 끝까지만 골라낸다.
+     */
+    public Page<UUID> search(String name, Pageable pageable) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            throw new IllegalStateException("상품 검색 색인이 아직 만들어지지 않았습니다.");
+        }
+        String query = ProductNameTokenizer.normalize(name);
+        String queryJamo = ProductNameTokenizer.toJamo(query);
+
+        int limit = pageable.isPaged() ? (int) Math.min(pageable.getOffset() + pageable.getPageSize(), Integer.MAX_VALUE) : Integer.MAX_VALUE;
+        // 가장 뒤에 올 결과가 맨 앞에 있는 힙, limit개만 유지한다
+        PriorityQueue<Match> topMatchQueue = new PriorityQueue<>(MATCH_ORDER.reversed());
+        long total = 0;
+        for (Document document : current.candidates(queryJamo)) {
+            if (!document.jamo().contains(queryJamo)) {
+                continue;
+            }
+            total++;
+            Match match = new Match(document, document.rank(query, queryJamo));
+            if (topMatchQueue.size() < limit) {
+                topMatchQueue.add(match);
+            } else if (MATCH_ORDER.compare(match, topMatchQueue.peek()) < 0) {
+                topMatchQueue.poll();
+                topMatchQueue.add(match);
+            }
+        }
+
+        List<Match> matchList = new ArrayList<>(topMatchQueue);
+        matchList.sort(MATCH_ORDER);
+        int fromIndex = pageable.isPaged() ? (int) Math.min(pageable.getOffset(), matchList.size()) : 0;
+        List<UUID> productIdList = matchList.subList(fromIndex, matchList.size())
+                .stream()
+                .map(match -> match.document().id())
+                .toList();
+        return new PageImpl<>(productIdList, pageable, total);
+    }
+
+    private void applyAfterCommit(Consumer<Snapshot> change) {
+        if (!enabled) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(change);
+                }
+            });
+            return;
+        }
+        apply(change);
+    }
+
+    private void apply(Consumer<Snapshot> change) {
+        writeLock.lock();
+        try {
+            Snapshot current = snapshot;
+            if (current != null) {
+                change.accept(current);
+            }
+            if (pendingChangeList != null) {
+                pendingChangeList.add(change);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private static class Snapshot {
+
+        private final Map<UUID, Document> documentMap = new ConcurrentHashMap<>();
+        private final Map<String, Set<UUID>> postingMap = new ConcurrentHashMap<>();
+
+        // 이름이 바뀐 경우 새 이름에 없는 n-gram에서만 뺀다
+        private void put(Document document) {
+            Set<String> gramSet = ProductNameTokenizer.grams(document.jamo());
+            for (String gram : gramSet) {
+                postingMap.computeIfAbsent(gram, key -> ConcurrentHashMap.newKeySet()).add(document.id());
+            }
+            Document previous = documentMap.put(document.id(), document);
+            if (previous != null) {
+                Set<String> staleGramSet = ProductNameTokenizer.grams(previous.jamo());
+                staleGramSet.removeAll(gramSet);
+                removePostings(document.id(), staleGramSet);
+            }
+        }
+
+        private void remove(UUID productId) {
+            Document previous = documentMap.remove(productId);
+            if (previous != null) {
+                removePostings(productId, ProductNameTokenizer.grams(previous.jamo()));
+            }
+        }
+
+        private void removePostings(UUID productId, Set<String> gramSet) {
+            for (String gram : gramSet) {
+                postingMap.computeIfPresent(gram, (key, productIdSet) -> {
+                    productIdSet.remove(productId);
+                    return productIdSet.isEmpty() ? null : productIdSet;
+                });
+            }
+        }
+
+        // 검색어가 n-gram보다 짧으면(한 글자 입력 등) 전체 상품을 후보로 한다
+        private Collection<Document> candidates(String queryJamo) {
+            Set<String> gramSet = ProductNameTokenizer.grams(queryJamo);
+            if (gramSet.isEmpty()) {
+                return documentMap.values();
+            }
+            List<Set<UUID>> postingList = new ArrayList<>(gramSet.size());
+            for (String gram : gramSet) {
+                Set<UUID> productIdSet = postingMap.get(gram);
+                if (productIdSet == null) {
+                    return List.of();
+                }
+                postingList.add(productIdSet);
+            }
+            postingList.sort(Comparator.comparingInt(Set::size));
+
+            List<Document> documentList = new ArrayList<>();
+            for (UUID productId : postingList.get(0)) {
+                boolean containsAll = true;
+                for (int i = 1; i < postingList.size() && containsAll; i++) {
+                    containsAll = postingList.get(i).contains(productId);
+                }
+                Document document = containsAll ? documentMap.get(productId) : null;
+                if (document != null) {
+                    documentList.add(document);
+                }
+            }
+            return documentList;
+        }
+    }
+
+    record Document(UUID id, String normalizedName, String jamo, Instant createdAt) {
+
+        static Document of(UUID id, String name, Instant createdAt) {
+            String normalizedName = ProductNameTokenizer.normalize(name);
+            return new Document(id, normalizedName, ProductNameTokenizer.toJamo(normalizedName), createdAt);
+        }
+
+        private int rank(String query, String queryJamo) {
+            if (normalizedName.equals(query)) {
+                return 0;
+            }
+            if (normalizedName.startsWith(query)) {
+                return 1;
+            }
+            if (normalizedName.contains(query)) {
+                return 2;
+            }
+            return jamo.startsWith(queryJamo) ? 3 : 4;
+        }
+    }
+
+    private record Match(Document document, int rank) {
+    }
+}
@@ -1,22 +1,25 @@
 package com.example.shop.product.application.service;
 
+import com.example.shop.common.infrastructure.retry.OptimisticLockRetry;
 import com.example.shop.product.domain.model.Product;
 import com.example.shop.product.domain.repository.ProductRepository;
 import com.example.shop.product.presentation.advice.ProductError;
 import com.example.shop.product.presentation.advice.ProductException;
 import com.example.shop.product.presentation.dto.request.ReqPostProductsDtoV1;
 import com.example.shop.product.presentation.dto.request.ReqPutProductDtoV1;
-import com.example.shop.product.presentation.dto.response.ResGetProductsDtoV1;
 import com.example.shop.product.presentation.dto.response.ResGetProductDtoV1;
+import com.example.shop.product.presentation.dto.response.ResPostProductsBulkDtoV1;
 import com.example.shop.product.presentation.dto.response.ResPostProductsDtoV1;
 import com.example.shop.product.presentation.dto.response.ResPutProductDtoV1;
 import com.example.shop.user.domain.model.UserRole;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
@@ -28,20 +31,16 @@ import java.util.UUID;
 public class ProductServiceV1 {
 
     private final ProductRepository productRepository;
-
-    public ResGetProductsDtoV1 getProducts(Pageable pageable, String name) {
-        String normalizedName = normalize(name);
-
-        Page<Product> productPage = normalizedName == null
-                ? productRepository.findAll(pageable)
-                : productRepository.findByNameContainingIgnoreCase(normalizedName, pageable);
-        return ResGetProductsDtoV1.builder()
-                .productPage(new ResGetProductsDtoV1.ProductPageDto(productPage))
-                .build();
-    }
+    private final ProductStockLedger productStockLedger;
+    private final ProductReadCache productReadCache;
+    private final ProductPageResponseCache productPageResponseCache;
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductSuggestIndex productSuggestIndex;
+    private final ProductBulkImporter productBulkImporter;
 
     public ResGetProductDtoV1 getProduct(UUID productId) {
-        Product product = findProductById(productId);
+        Product product = productReadCache.findById(productId)
+                .orElseThrow(() -> new ProductException(ProductError.PRODUCT_CAN_NOT_FOUND));
         return ResGetProductDtoV1.of(product);
     }
 
@@ -58,10 +57,27 @@ public class ProductServiceV1 {
                 .build();
 
         Product savedProduct = productRepository.save(newProduct);
+        productReadCache.evict(savedProduct.getId());
+        productPageResponseCache.evictAll();
+        productSearchIndex.index(savedProduct);
+        productSuggestIndex.index(savedProduct);
         return ResPostProductsDtoV1.of(savedProduct);
     }
 
+    // 청크마다 insertAll이 별도 트랜잭션으로 커밋되도록 전체를 하나의 트랜잭션으로 묶지 않는다
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public ResPostProductsBulkDtoV1 postProductsBulk(List<String> authUserRoleList, MediaType contentType, InputStream inputStream) throws IOException {
+        validateWriteAuthority(authUserRoleList);
+        try {
+            return productBulkImporter.importProducts(contentType, inputStream);
+        } finally {
+            // 실패해도 앞선 청크는 커밋됐을 수 있다
+            productPageResponseCache.evictAll();
+        }
+    }
+
     @Transactional
+    @OptimisticLockRetry
     public ResPutProductDtoV1 putProduct(List<String> authUserRoleList, UUID productId, ReqPutProductDtoV1 reqDto) {
         validateWriteAuthority(authUserRoleList);
         Product product = findProductById(productId);
@@ -84,10 +100,18 @@ public class ProductServiceV1 {
         );
 
         Product savedProduct = productRepository.save(updatedProduct);
+        productReadCache.evict(productId);
+        productPageResponseCache.evictAll();
+        productSearchIndex.index(savedProduct);
+        productSuggestIndex.index(savedProduct);
+        if (reqProduct.getStock() != null) {
+            productStockLedger.evict(productId);
+        }
         return ResPutProductDtoV1.of(savedProduct);
     }
 
     @Transactional
+    @OptimisticLockRetry
     public void deleteProduct(UUID authUserId, List<String> authUserRoleList, UUID productId) {
         validateWriteAuthority(authUserRoleList);
         Product product = findProductById(productId);
@@ -96,6 +120,11 @@ public class ProductServiceV1 {
         }
         Product deletedProduct = product.markDeleted(Instant.now(), authUserId);
         productRepository.save(deletedProduct);
+        productStockLedger.evict(productId);
+        productReadCache.evict(productId);
+        productPageResponseCache.evictAll();
+        productSearchIndex.remove(productId);
+        productSuggestIndex.remove(productId);
     }
 
     private Product findProductById(UUID productId) {
@@ -122,12 +151,4 @@ public class ProductServiceV1 {
         }
     }
 
-    private String normalize(String value) {
-        if (value == null) {
-            return null;
-        }
-        String trimmed = value.trim();
-        return trimmed.isEmpty() ? null : trimmed;
-    }
-
 }
@@ -0,0 +1,367 @@
+package com.example.shop.product.application.service;
+
+import com.example.shop.product.domain.model.Product;
+import com.example.shop.product.domain.repository.ProductRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 상품별 재고를 메모리에서 예약/복원하고, 누적된 증감분을 주기적으로 PRODUCT.stock에 반영한다.
+ * <p>
+ * 비활성화 상태(기본값)에서는 모든 요청을 {@link ProductRepository}의 조건부 UPDATE로 바로 위임한다.
+ * 활성화 상태에서는 DB가 최종 원본이며, 메모리와의 차이는 마지막 flush 이후의 증감분으로 제한된다.
+ * 관리자가 재고를 수정하면 아직 반영하지 않은 증감분을 새 재고에 더한 뒤 카운터를 다시 적재한다.
+ * 관리자가 보는 재고(DB 값)에는 그 예약분이 빠져 있지 않기 때문이다.
+ * 단일 인스턴스 배포를 전제로 한다.
+ */
+@Slf4j
+@Component
+public class ProductStockLedger {
+
+    private final ProductRepository productRepository;
+    private final ProductReadCache productReadCache;
+    private final ProductSuggestIndex productSuggestIndex;
+    private final TransactionTemplate requiresNewTransactionTemplate;
+    private final boolean enabled;
+    private final Map<UUID, StockCounter> stockCounterMap = new ConcurrentHashMap<>();
+    // flush와 카운터 제거를 직렬화해, 꺼낸 증감분이 DB에 쓰이기 전에 카운터가 다시 적재되지 않게 한다
+    private final ReentrantLock flushLock = new ReentrantLock();
+    // 증감분을 쓰지 못해 제거하지 못한 카운터, 다음 flush에서 다시 제거한다 (flushLock으로 보호)
+    private final Set<UUID> retireRetryProductIdSet = new HashSet<>();
+
+    public ProductStockLedger(
+            ProductRepository productRepository,
+            ProductReadCache productReadCache,
+            ProductSuggestIndex productSuggestIndex,
+            PlatformTransactionManager transactionManager,
+            @Value("${shop.product.stock-ledger.enabled:false}") boolean enabled
+    ) {
+        this.productRepository = productRepository;
+        this.productReadCache = productReadCache;
+        this.productSuggestIndex = productSuggestIndex;
+        // 커밋 후 콜백에서 쓰므로 끝난 트랜잭션에 참여하지 않도록 새 트랜잭션을 연다
+        this.requiresNewTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.requiresNewTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.enabled = enabled;
+    }
+
+    // 상품별 수량을 예약하고, 재고 부족 또는 미존재로 예약하지 못한 상품 ID 목록을 반환 (실패 시 전체 미반영)
+    public Set<UUID> reserve(Map<UUID, Long> quantityByProductId) {
+        if (!enabled) {
+            productReadCache.evictStock(quantityByProductId.keySet());
+            Set<UUID> failedProductIdSet = productRepository.decreaseStock(quantityByProductId);
+            if (failedProductIdSet.isEmpty()) {
+                productSuggestIndex.recordOrdered(quantityByProductId);
+            }
+            return failedProductIdSet;
+        }
+
+        Set<UUID> failedProductIdSet = seed(quantityByProductId.keySet());
+        Map<UUID, Long> reservedMap = new HashMap<>();
+        quantityByProductId.forEach((productId, quantity) -> {
+            if (failedProductIdSet.contains(productId) || !tryReserve(productId, quantity)) {
+                failedProductIdSet.add(productId);
+            } else {
+                reservedMap.put(productId, quantity);
+            }
+        });
+
+        if (!failedProductIdSet.isEmpty()) {
+            reservedMap.forEach((productId, quantity) -> adjust(productId, quantity));
+            return failedProductIdSet;
+        }
+
+        // 예약 이후 트랜잭션이 롤백되면 예약분을 되돌린다
+        registerRollback(reservedMap, 1L);
+        productReadCache.evictStock(reservedMap.keySet());
+        productSuggestIndex.recordOrdered(reservedMap);
+        return failedProductIdSet;
+    }
+
+    // 상품별 수량을 재고로 되돌리고, 존재하지 않아 반영하지 못한 상품 ID 목록을 반환
+    public Set<UUID> release(Map<UUID, Long> quantityByProductId) {
+        if (!enabled) {
+            productReadCache.evictStock(quantityByProductId.keySet());
+            Set<UUID> failedProductIdSet = productRepository.adjustStock(quantityByProductId);
+            if (failedProductIdSet.isEmpty()) {
+                productSuggestIndex.recordReleased(quantityByProductId);
+            }
+            return failedProductIdSet;
+        }
+
+        Set<UUID> failedProductIdSet = seed(quantityByProductId.keySet());
+        if (!failedProductIdSet.isEmpty()) {
+            return failedProductIdSet;
+        }
+
+        quantityByProductId.forEach(this::adjust);
+        registerRollback(quantityByProductId, -1L);
+        productReadCache.evictStock(quantityByProductId.keySet());
+        productSuggestIndex.recordReleased(quantityByProductId);
+        return failedProductIdSet;
+    }
+
+    // 관리자가 재고를 직접 수정하거나 상품을 삭제한 경우, 커밋 후 남은 증감분을 DB에 쓰고 다음 예약 시 DB 값으로 다시 적재되도록 제거
+    public void evict(UUID productId) {
+        if (!enabled) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    retire(productId);
+                }
+            });
+            return;
+        }
+        retire(productId);
+    }
+
+    public Optional<Long> getAvailableStock(UUID productId) {
+        return Optional.ofNullable(stockCounterMap.get(productId))
+                .map(StockCounter::getAvailable);
+    }
+
+    @Scheduled(
+            fixedDelayString = "${shop.product.stock-ledger.flush-interval-ms:1000}",
+            initialDelayString = "${shop.product.stock-ledger.flush-interval-ms:1000}"
+    )
+    public void flush() {
+        if (!enabled) {
+            return;
+        }
+        flushLock.lock();
+        try {
+            flushLocked();
+            new ArrayList<>(retireRetryProductIdSet).forEach(this::retireLocked);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private Set<UUID> seed(Set<UUID> productIdSet) {
+        List<UUID> missingProductIdList = productIdSet.stream()
+                .filter(productId -> !stockCounterMap.containsKey(productId))
+                .toList();
+        if (!missingProductIdList.isEmpty()) {
+            for (Product product : productRepository.findAllById(missingProductIdList)) {
+                stockCounterMap.putIfAbsent(
+                        product.getId(),
+                        new StockCounter(Optional.ofNullable(product.getStock()).orElse(0L))
+                );
+            }
+        }
+        Set<UUID> failedProductIdSet = new HashSet<>();
+        productIdSet.stream()
+                .filter(productId -> !stockCounterMap.containsKey(productId))
+                .forEach(failedProductIdSet::add);
+        return failedProductIdSet;
+    }
+
+    private void flushLocked() {
+        Map<UUID, Long> deltaByProductId = new HashMap<>();
+        stockCounterMap.forEach((productId, stockCounter) -> {
+            long delta = stockCounter.drainPendingDelta();
+            if (delta != 0L) {
+                deltaByProductId.put(productId, delta);
+            }
+        });
+        if (deltaByProductId.isEmpty()) {
+            return;
+        }
+
+        Set<UUID> missingProductIdSet;
+        try {
+            missingProductIdSet = productRepository.adjustStock(deltaByProductId);
+        } catch (RuntimeException e) {
+            // 반영에 실패한 증감분은 다음 flush에서 다시 시도 (flushLock을 잡고 있어 그 사이 제거된 카운터는 없다)
+            deltaByProductId.forEach((productId, delta) -> Optional.ofNullable(stockCounterMap.get(productId))
+                    .ifPresent(stockCounter -> stockCounter.restorePendingDelta(delta)));
+            log.warn("상품 재고 증감분 반영에 실패했습니다. {}", e.getMessage());
+            return;
+        }
+        missingProductIdSet.forEach(stockCounterMap::remove);
+        productReadCache.evictStock(deltaByProductId.keySet());
+    }
+
+    private void retire(UUID productId) {
+        flushLock.lock();
+        try {
+            retireLocked(productId);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    // 카운터 잠금을 잡은 채 남은 증감분을 쓰고 제거한다. 그동안 같은 상품의 예약은 기다렸다가 반영된 DB 값으로 다시 적재한다
+    private void retireLocked(UUID productId) {
+        retireRetryProductIdSet.remove(productId);
+        StockCounter stockCounter = stockCounterMap.get(productId);
+        if (stockCounter == null) {
+            return;
+        }
+        stockCounter.lock.lock();
+        try {
+            long delta = stockCounter.pendingDelta;
+            if (delta != 0L) {
+                try {
+                    requiresNewTransactionTemplate.executeWithoutResult(status ->
+                            productRepository.adjustStock(Map.of(productId, delta)));
+                } catch (RuntimeException e) {
+                    retireRetryProductIdSet.add(productId);
+                    log.warn("상품 재고 증감분 반영에 실패해 다음 flush에서 다시 시도합니다. productId: {}, {}", productId, e.getMessage());
+                    return;
+                }
+                stockCounter.pendingDelta = 0L;
+            }
+            stockCounter.retired = true;
+            stockCounterMap.remove(productId, stockCounter);
+        } finally {
+            stockCounter.lock.unlock();
+        }
+        productReadCache.evictStock(List.of(productId));
+    }
+
+    // 제거된 카운터를 만나면 DB 값으로 다시 적재한 뒤 재시도한다
+    private boolean tryReserve(UUID productId, long quantity) {
+        while (true) {
+            StockCounter stockCounter = stockCounterMap.get(productId);
+            if (stockCounter == null) {
+                if (!seed(Set.of(productId)).isEmpty()) {
+                    return false;
+                }
+                continue;
+            }
+            ReserveResult reserveResult = stockCounter.tryReserve(quantity);
+            if (reserveResult != ReserveResult.RETIRED) {
+                return reserveResult == ReserveResult.RESERVED;
+            }
+        }
+    }
+
+    // 예약 취소나 롤백분도 제거된 카운터 대신 다시 적재한 카운터에 반영한다 (삭제된 상품이면 버린다)
+    private void adjust(UUID productId, long delta) {
+        while (true) {
+            StockCounter stockCounter = stockCounterMap.get(productId);
+            if (stockCounter == null) {
+                if (!seed(Set.of(productId)).isEmpty()) {
+                    return;
+                }
+                continue;
+            }
+            if (stockCounter.adjust(delta)) {
+                return;
+            }
+        }
+    }
+
+    private void registerRollback(Map<UUID, Long> quantityByProductId, long sign) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        Map<UUID, Long> quantityMap = Map.copyOf(quantityByProductId);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    quantityMap.forEach((productId, quantity) -> adjust(productId, sign * quantity));
+                }
+            }
+        });
+    }
+
+    private enum ReserveResult {
+        RESERVED, OUT_OF_STOCK, RETIRED
+    }
+
+    // 필드는 lock으로 보호한다. 제거(retired)된 카운터는 더 이상 바뀌지 않는다
+    private static final class StockCounter {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private long available;
+        private long pendingDelta;
+        private boolean retired;
+
+        private StockCounter(long available) {
+            this.available = available;
+        }
+
+        private long getAvailable() {
+            lock.lock();
+            try {
+                return available;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private ReserveResult tryReserve(long quantity) {
+            lock.lock();
+            try {
+                if (retired) {
+                    return ReserveResult.RETIRED;
+                }
+                if (available < quantity) {
+                    return ReserveResult.OUT_OF_STOCK;
+                }
+                available -= quantity;
+                pendingDelta -= quantity;
+                return ReserveResult.RESERVED;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private boolean adjust(long delta) {
+            lock.lock();
+            try {
+                if (retired) {
+                    return false;
+                }
+                available += delta;
+                pendingDelta += delta;
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private long drainPendingDelta() {
+            lock.lock();
+            try {
+                long delta = pendingDelta;
+                pendingDelta = 0L;
+                return delta;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void restorePendingDelta(long delta) {
+            lock.lock();
+            try {
+                pendingDelta += delta;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
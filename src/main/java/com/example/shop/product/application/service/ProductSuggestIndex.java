@@ -0,0 +1,801 @@
+package com.example.shop.product.application.service;
+
+import com.example.shop.product.domain.model.Product;
+import com.example.shop.product.domain.repository.ProductQueryRepository;
+import com.example.shop.product.domain.repository.ProductQueryRepository.SearchRow;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * 상품명 자동완성용 압축 트라이 (GET /v1/products/suggest).
+ * <p>
+ * 상품명을 {@link ProductNameTokenizer}로 자모 분해하고, 이름의 각 단어 시작 위치부터의 문자열을 키로 넣는다
+ * ("매운 안성탕면"은 "안성"으로도 찾는다). 자식이 하나뿐인 경로는 한 노드로 합친다.
+ * 자식이 둘 이상이고 하위 키가 max-size개를 넘는 노드는 인기도 상위 max-size개 상품을 미리 계산해 두므로,
+ * 조회는 접두어 길이만큼 내려가서 배열을 읽는 것으로 끝난다 (자식이 하나뿐인 노드는 조회 시 자식의 상위 상품과 합친다).
+ * 노드의 label은 String 대신 트라이가 나눠 쓰는 char 배열의 구간으로 들고 있다 ({@link LabelPool}).
+ * <p>
+ * 노드는 변경하지 않고, 변경 시 루트까지의 경로만 새로 만들어 루트를 교체한다. 조회는 잠금 없이 현재 루트를 읽는다.
+ * 인기도는 주문으로 예약된 수량에서 취소로 되돌린 수량을 뺀 합이며 메모리에만 있어 재시작하면 0부터 다시 쌓인다. 주문마다 트라이를 바꾸지 않도록 weight-refresh-interval-ms마다 모아서 반영한다.
+ */
+@Slf4j
+@Component
+public class ProductSuggestIndex {
+
+    public static final String PRODUCT_GAUGE_NAME = "shop.product.suggest.products";
+
+    private static final int MAX_KEYS_PER_NAME = 8;
+    private static final char[] EMPTY_CHARS = new char[0];
+    private static final Node[] EMPTY_NODES = new Node[0];
+    private static final Entry[] EMPTY_ENTRIES = new Entry[0];
+    private static final Comparator<Entry> ENTRY_ORDER = Comparator.comparingLong(Entry::weight).reversed()
+            .thenComparingInt(entry -> entry.name().length())
+            .thenComparing(Entry::name)
+            .thenComparing(Entry::productId);
+
+    private final ProductQueryRepository productQueryRepository;
+    private final boolean enabled;
+    private final int maxSize;
+    private final int loadBatchSize;
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final Map<UUID, Long> weightMap = new ConcurrentHashMap<>();
+    private final Set<UUID> weightChangedProductIdSet = ConcurrentHashMap.newKeySet();
+    private volatile Trie trie;
+    // 재생성 중 들어온 변경, 새 트라이로 교체하기 전에 다시 적용한다 (writeLock으로 보호)
+    private List<Consumer<Trie>> pendingChangeList;
+
+    public ProductSuggestIndex(
+            ProductQueryRepository productQueryRepository,
+            MeterRegistry meterRegistry,
+            @Value("${shop.product.suggest.enabled:true}") boolean enabled,
+            @Value("${shop.product.suggest.max-size:10}") int maxSize,
+            @Value("${shop.product.search.load-batch-size:1000}") int loadBatchSize
+    ) {
+        this.productQueryRepository = productQueryRepository;
+        this.enabled = enabled;
+        this.maxSize = Math.max(maxSize, 1);
+        this.loadBatchSize = Math.max(loadBatchSize, 1);
+        Gauge.builder(PRODUCT_GAUGE_NAME, this, ProductSuggestIndex::size)
+                .register(meterRegistry);
+    }
+
+    public boolean isReady() {
+        return trie != null;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public int size() {
+        Trie current = trie;
+        return current == null ? 0 : current.productCount;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuild();
+    }
+
+    // 키를 정렬해 한 번에 만든다, 경로 복사 없이 노드마다 상위 상품을 한 번만 계산한다
+    @Scheduled(
+            fixedDelayString = "${shop.product.search.rebuild-interval-ms:600000}",
+            initialDelayString = "${shop.product.search.rebuild-interval-ms:600000}"
+    )
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        writeLock.lock();
+        try {
+            if (pendingChangeList != null) {
+                return;
+            }
+            pendingChangeList = new ArrayList<>();
+        } finally {
+            writeLock.unlock();
+        }
+
+        Trie newTrie;
+        try {
+            newTrie = load();
+        } catch (RuntimeException e) {
+            writeLock.lock();
+            try {
+                pendingChangeList = null;
+            } finally {
+                writeLock.unlock();
+            }
+            throw e;
+        }
+
+        writeLock.lock();
+        try {
+            pendingChangeList.forEach(change -> change.accept(newTrie));
+            pendingChangeList = null;
+            trie = newTrie;
+        } finally {
+            writeLock.unlock();
+        }
+        log.info("상품 자동완성 트라이를 만들었습니다. 상품 수: {}", newTrie.productCount);
+    }
+
+    // 삭제된 상품은 트라이에서 뺀다
+    public void index(Product product) {
+        if (product.getDeletedAt() != null) {
+            remove(product.getId());
+            return;
+        }
+        UUID productId = product.getId();
+        String name = product.getName();
+        applyAfterCommit(current -> current.put(productId, name));
+    }
+
+    public void index(Collection<Product> productList) {
+        productList.forEach(this::index);
+    }
+
+    public void remove(UUID productId) {
+        applyAfterCommit(current -> current.remove(productId));
+    }
+
+    // 주문으로 예약된 수량만큼 인기도를 올린다, 트라이에는 다음 refreshWeights에서 반영된다
+    public void recordOrdered(Map<UUID, Long> quantityByProductId) {
+        recordWeightChange(quantityByProductId, 1L);
+    }
+
+    // 주문 취소로 재고에 되돌린 수량만큼 인기도를 내린다 (0 아래로는 내리지 않는다)
+    public void recordReleased(Map<UUID, Long> quantityByProductId) {
+        recordWeightChange(quantityByProductId, -1L);
+    }
+
+    private void recordWeightChange(Map<UUID, Long> quantityByProductId, long sign) {
+        if (!enabled) {
+            return;
+        }
+        Map<UUID, Long> quantityMap = Map.copyOf(quantityByProductId);
+        afterCommit(() -> quantityMap.forEach((productId, quantity) -> {
+            // 0이 되면 항목을 지워 취소된 상품이 맵에 남지 않게 한다
+            weightMap.compute(productId, (id, weight) -> {
+                long newWeight = Math.max((weight == null ? 0L : weight) + sign * quantity, 0L);
+                return newWeight == 0L ? null : newWeight;
+            });
+            weightChangedProductIdSet.add(productId);
+        }));
+    }
+
+    @Scheduled(fixedDelayString = "${shop.product.suggest.weight-refresh-interval-ms:1000}")
+    public void refreshWeights() {
+        if (weightChangedProductIdSet.isEmpty()) {
+            return;
+        }
+        // 꺼내는 도중 다시 들어온 상품은 다음 주기에 반영된다
+        List<UUID> productIdList = new ArrayList<>();
+        for (Iterator<UUID> iterator = weightChangedProductIdSet.iterator(); iterator.hasNext(); ) {
+            productIdList.add(iterator.next());
+            iterator.remove();
+        }
+        apply(current -> productIdList.forEach(current::reweigh));
+    }
+
+    // 접두어(자모 단위)로 시작하는 단어가 있는 상품을 인기도 순으로 최대 size개 조회한다
+    public List<Suggestion> suggest(String prefix, int size) {
+        Trie current = trie;
+        if (current == null) {
+            throw new IllegalStateException("상품 자동완성 트라이가 아직 만들어지지 않았습니다.");
+        }
+        Node node = current.find(ProductNameTokenizer.toJamo(ProductNameTokenizer.normalize(prefix)));
+        if (node == null) {
+            return List.of();
+        }
+        Entry[] topEntries = topEntries(node);
+        int limit = Math.min(Math.min(size, maxSize), topEntries.length);
+        List<Suggestion> suggestionList = new ArrayList<>(limit);
+        for (int i = 0; i < limit; i++) {
+            suggestionList.add(new Suggestion(topEntries[i].productId(), topEntries[i].name()));
+        }
+        return suggestionList;
+    }
+
+    // 64비트 JVM, compressed oops 기준의 객체 크기 추정치
+    public MemoryReport memoryReport() {
+        Trie current = trie;
+        if (current == null) {
+            return new MemoryReport(0, 0, 0, 0, 0);
+        }
+        MemoryReport.Counter counter = new MemoryReport.Counter();
+        counter.count(current.root);
+        // 상품별 Entry + 길이 1 배열 + UUID + 상품명(트라이에서 공유) + HashMap 노드/테이블 슬롯
+        long productBytes = 0;
+        writeLock.lock();
+        try {
+            for (Entry entry : current.entryMap.values()) {
+                productBytes += 32 + 24 + 32 + MemoryReport.stringBytes(entry.name()) + 32 + 8;
+            }
+        } finally {
+            writeLock.unlock();
+        }
+        return new MemoryReport(
+                current.productCount,
+                counter.keyCount,
+                counter.nodeCount,
+                counter.labelChars,
+                counter.bytes + current.labelPool.bytes() + productBytes
+        );
+    }
+
+    private Trie load() {
+        Trie newTrie = new Trie();
+        List<KeyEntry> keyEntryList = new ArrayList<>();
+        UUID afterId = null;
+        List<SearchRow> searchRowList;
+        do {
+            searchRowList = productQueryRepository.findSearchRows(afterId, loadBatchSize);
+            for (SearchRow searchRow : searchRowList) {
+                Entry entry = new Entry(searchRow.id(), searchRow.name(), weightMap.getOrDefault(searchRow.id(), 0L));
+                newTrie.entryMap.put(entry.productId(), entry);
+                for (String key : keys(entry.name())) {
+                    keyEntryList.add(new KeyEntry(key, entry));
+                }
+                afterId = searchRow.id();
+            }
+        } while (searchRowList.size() == loadBatchSize);
+
+        keyEntryList.sort(Comparator.comparing(KeyEntry::key));
+        newTrie.root = build(newTrie.labelPool, keyEntryList, 0, keyEntryList.size(), 0, 0);
+        newTrie.productCount = newTrie.entryMap.size();
+        return newTrie;
+    }
+
+    // [from, to)의 키는 depth까지 같다, depth에서 끝나는 키가 정렬상 먼저 온다, label은 첫 키의 [labelFrom, depth)
+    private Node build(LabelPool labelPool, List<KeyEntry> keyEntryList, int from, int to, int labelFrom, int depth) {
+        int index = from;
+        List<Entry> entryList = new ArrayList<>();
+        while (index < to && keyEntryList.get(index).key().length() == depth) {
+            entryList.add(keyEntryList.get(index).entry());
+            index++;
+        }
+        List<Node> childList = new ArrayList<>();
+        while (index < to) {
+            char c = keyEntryList.get(index).key().charAt(depth);
+            int groupEnd = index + 1;
+            while (groupEnd < to && keyEntryList.get(groupEnd).key().charAt(depth) == c) {
+                groupEnd++;
+            }
+            // 정렬되어 있으므로 묶음의 공통 접두어는 첫 키와 마지막 키의 공통 접두어다
+            String firstKey = keyEntryList.get(index).key();
+            int childDepth = commonPrefixLength(firstKey, keyEntryList.get(groupEnd - 1).key(), depth);
+            childList.add(build(labelPool, keyEntryList, index, groupEnd, depth, childDepth));
+            index = groupEnd;
+        }
+        Node[] children = childList.toArray(EMPTY_NODES);
+        Entry[] entries = entriesOf(entryList.toArray(EMPTY_ENTRIES));
+        // 루트는 label이 없고, 키가 하나도 없을 수도 있다
+        if (labelFrom == depth) {
+            return newNode(EMPTY_CHARS, 0, 0, children, entries);
+        }
+        int labelStart = labelPool.append(keyEntryList.get(from).key(), labelFrom, depth);
+        return newNode(labelPool.chunk(), labelStart, depth - labelFrom, children, entries);
+    }
+
+    private void applyAfterCommit(Consumer<Trie> change) {
+        if (!enabled) {
+            return;
+        }
+        afterCommit(() -> apply(change));
+    }
+
+    private void afterCommit(Runnable runnable) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    runnable.run();
+                }
+            });
+            return;
+        }
+        runnable.run();
+    }
+
+    private void apply(Consumer<Trie> change) {
+        writeLock.lock();
+        try {
+            Trie current = trie;
+            if (current != null) {
+                change.accept(current);
+            }
+            if (pendingChangeList != null) {
+                pendingChangeList.add(change);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // 이름 전체와 각 단어의 시작 위치부터의 문자열, 자모 단위
+    private static Set<String> keys(String name) {
+        String normalized = ProductNameTokenizer.normalize(name);
+        Set<String> keySet = new LinkedHashSet<>();
+        keySet.add(ProductNameTokenizer.toJamo(normalized));
+        for (int i = normalized.indexOf(' '); i >= 0 && keySet.size() < MAX_KEYS_PER_NAME; i = normalized.indexOf(' ', i + 1)) {
+            keySet.add(ProductNameTokenizer.toJamo(normalized.substring(i + 1)));
+        }
+        return keySet;
+    }
+
+    private Node newNode(char[] labelChars, int labelStart, int labelLength, Node[] children, Entry[] entries) {
+        int size = entries.length;
+        for (Node child : children) {
+            size += child.size;
+        }
+        // 자식이 하나뿐인 노드는 조회 시 자식의 상위 상품과 합치면 되므로 저장하지 않는다
+        Entry[] topEntries = null;
+        if (children.length > 1 && size > maxSize) {
+            List<Entry> candidateList = new ArrayList<>(Arrays.asList(entries));
+            for (Node child : children) {
+                candidateList.addAll(Arrays.asList(topEntries(child)));
+            }
+            topEntries = top(candidateList);
+        }
+        return new Node(labelChars, labelStart, labelLength, children, entries, size, topEntries);
+    }
+
+    private Node newNode(Node labelNode, Node[] children, Entry[] entries) {
+        return newNode(labelNode.labelChars, labelNode.labelStart, labelNode.labelLength, children, entries);
+    }
+
+    // 미리 계산한 값이 없으면 하위 키가 maxSize개 이하일 때는 모두 훑고, 아니면(자식이 하나 이하) 자식의 상위 상품과 합친다
+    private Entry[] topEntries(Node node) {
+        if (node.topEntries != null) {
+            return node.topEntries;
+        }
+        List<Entry> candidateList = new ArrayList<>();
+        if (node.size <= maxSize) {
+            collect(node, candidateList);
+        } else {
+            candidateList.addAll(Arrays.asList(node.entries));
+            for (Node child : node.children) {
+                candidateList.addAll(Arrays.asList(topEntries(child)));
+            }
+        }
+        return top(candidateList);
+    }
+
+    private void collect(Node node, List<Entry> entryList) {
+        entryList.addAll(Arrays.asList(node.entries));
+        for (Node child : node.children) {
+            collect(child, entryList);
+        }
+    }
+
+    // 한 상품이 여러 키로 들어 있을 수 있어 상품 기준으로 중복을 뺀다
+    private Entry[] top(List<Entry> candidateList) {
+        candidateList.sort(ENTRY_ORDER);
+        List<Entry> topList = new ArrayList<>(Math.min(candidateList.size(), maxSize));
+        Set<UUID> productIdSet = new HashSet<>();
+        for (Entry entry : candidateList) {
+            if (topList.size() == maxSize) {
+                break;
+            }
+            if (productIdSet.add(entry.productId())) {
+                topList.add(entry);
+            }
+        }
+        return topList.toArray(EMPTY_ENTRIES);
+    }
+
+    // from 이후 처음으로 다른 위치, from까지는 같다고 본다
+    private static int commonPrefixLength(String left, String right, int from) {
+        int length = Math.min(left.length(), right.length());
+        for (int i = from; i < length; i++) {
+            if (left.charAt(i) != right.charAt(i)) {
+                return i;
+            }
+        }
+        return length;
+    }
+
+    // 자식은 label 첫 글자 오름차순
+    private static int childIndex(Node[] children, char c) {
+        int low = 0;
+        int high = children.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            char midChar = children[mid].labelChars[children[mid].labelStart];
+            if (midChar < c) {
+                low = mid + 1;
+            } else if (midChar > c) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    // 쓰기는 writeLock 안에서만 하고, 조회는 volatile root만 읽는다
+    private final class Trie {
+
+        private final Map<UUID, Entry> entryMap = new HashMap<>();
+        private final LabelPool labelPool = new LabelPool();
+        private volatile Node root = newNode(EMPTY_CHARS, 0, 0, EMPTY_NODES, EMPTY_ENTRIES);
+        private volatile int productCount;
+
+        private Node find(String key) {
+            Node node = root;
+            int position = 0;
+            while (position < key.length()) {
+                int index = childIndex(node.children, key.charAt(position));
+                if (index < 0) {
+                    return null;
+                }
+                Node child = node.children[index];
+                int matched = child.matchLength(key, position);
+                // 키가 label 안에서 끝나도 그 아래가 모두 접두어로 시작한다
+                if (position + matched == key.length()) {
+                    return child;
+                }
+                if (matched < child.labelLength) {
+                    return null;
+                }
+                position += matched;
+                node = child;
+            }
+            return node;
+        }
+
+        private void put(UUID productId, String name) {
+            Entry previous = entryMap.get(productId);
+            Entry entry = new Entry(productId, name, weightMap.getOrDefault(productId, 0L));
+            Node newRoot = root;
+            Set<String> keySet = keys(name);
+            if (previous != null) {
+                for (String previousKey : keys(previous.name())) {
+                    if (!keySet.contains(previousKey)) {
+                        newRoot = removeFromRoot(newRoot, previousKey, productId);
+                    }
+                }
+            }
+            // 같은 키에 같은 상품이 있으면 새 Entry로 바꾼다
+            for (String key : keySet) {
+                newRoot = insert(newRoot, key, 0, entry);
+            }
+            entryMap.put(productId, entry);
+            root = newRoot;
+            productCount = entryMap.size();
+        }
+
+        private void remove(UUID productId) {
+            Entry previous = entryMap.remove(productId);
+            if (previous == null) {
+                return;
+            }
+            Node newRoot = root;
+            for (String key : keys(previous.name())) {
+                newRoot = removeFromRoot(newRoot, key, productId);
+            }
+            root = newRoot;
+            productCount = entryMap.size();
+        }
+
+        private void reweigh(UUID productId) {
+            Entry entry = entryMap.get(productId);
+            if (entry != null && entry.weight() != weightMap.getOrDefault(productId, 0L)) {
+                put(productId, entry.name());
+            }
+        }
+
+        // key의 from 이후를 node 아래에 넣는다
+        private Node insert(Node node, String key, int from, Entry entry) {
+            if (from == key.length()) {
+                return newNode(node, node.children, withEntry(node.entries, entry));
+            }
+            int index = childIndex(node.children, key.charAt(from));
+            if (index < 0) {
+                int labelStart = labelPool.append(key, from, key.length());
+                Node leaf = newNode(labelPool.chunk(), labelStart, key.length() - from, EMPTY_NODES, entry.singleton);
+                return newNode(node, insertAt(node.children, -index - 1, leaf), node.entries);
+            }
+            Node child = node.children[index];
+            int common = child.matchLength(key, from);
+            Node newChild;
+            if (common == child.labelLength) {
+                newChild = insert(child, key, from + common, entry);
+            } else {
+                // 기존 자식의 label을 공통 접두어에서 나눈다, 같은 배열의 구간만 나누므로 글자는 복사하지 않는다
+                Node middle = newNode(child.labelChars, child.labelStart, common, new Node[]{child.withLabelFrom(common)}, EMPTY_ENTRIES);
+                newChild = insert(middle, key, from + common, entry);
+            }
+            return newNode(node, replaceAt(node.children, index, newChild), node.entries);
+        }
+
+        // 루트는 비어도 남기고 label도 합치지 않는다
+        private Node removeFromRoot(Node rootNode, String key, UUID productId) {
+            Node newRoot = remove(rootNode, key, 0, productId);
+            if (newRoot == null) {
+                return newNode(EMPTY_CHARS, 0, 0, EMPTY_NODES, EMPTY_ENTRIES);
+            }
+            if (newRoot.labelLength > 0) {
+                return newNode(EMPTY_CHARS, 0, 0, new Node[]{newRoot}, EMPTY_ENTRIES);
+            }
+            return newRoot;
+        }
+
+        // 비게 된 노드는 null, 키가 없고 자식이 하나 남은 노드는 자식과 합친다
+        private Node remove(Node node, String key, int from, UUID productId) {
+            if (from == key.length()) {
+                return compact(node, node.children, withoutEntry(node.entries, productId));
+            }
+            int index = childIndex(node.children, key.charAt(from));
+            if (index < 0) {
+                return node;
+            }
+            Node child = node.children[index];
+            if (child.matchLength(key, from) < child.labelLength) {
+                return node;
+            }
+            Node newChild = remove(child, key, from + child.labelLength, productId);
+            if (newChild == child) {
+                return node;
+            }
+            Node[] children = newChild == null ? removeAt(node.children, index) : replaceAt(node.children, index, newChild);
+            return compact(node, children, node.entries);
+        }
+
+        private Node compact(Node labelNode, Node[] children, Entry[] entries) {
+            if (entries.length == 0 && children.length == 0) {
+                return null;
+            }
+            if (entries.length == 0 && children.length == 1) {
+                return merge(labelNode, children[0]);
+            }
+            return newNode(labelNode, children, entries);
+        }
+
+        // 부모 label과 자식 label을 이어 붙인 노드, 나눴던 구간이 그대로 붙어 있으면 다시 복사하지 않는다
+        private Node merge(Node parent, Node child) {
+            int labelLength = parent.labelLength + child.labelLength;
+            if (parent.labelLength == 0) {
+                return child;
+            }
+            if (parent.labelChars == child.labelChars && parent.labelStart + parent.labelLength == child.labelStart) {
+                return child.withLabel(parent.labelChars, parent.labelStart, labelLength);
+            }
+            int labelStart = labelPool.append(parent, child);
+            return child.withLabel(labelPool.chunk(), labelStart, labelLength);
+        }
+    }
+
+    /**
+     * 노드 label을 담는 char 배열 묶음, label마다 String(객체 + 배열)을 두지 않으려고 쓴다.
+     * 한 label은 한 배열 안에만 있고, 배열이 차면 새 배열을 만든다 (기존 배열을 키워서 옮기지 않으므로 노드가 가리키는 배열은 그대로다).
+     * 이미 쓴 구간은 바꾸지 않으므로, 조회는 volatile root를 읽은 뒤 잠금 없이 label을 읽는다. 쓰기는 writeLock 안에서만 한다.
+     * 지워진 label의 자리는 재사용하지 않고 rebuild에서 새 트라이를 만들 때 정리된다.
+     */
+    private static final class LabelPool {
+
+        private static final int CHUNK_SIZE = 1 << 16;
+
+        private final List<char[]> chunkList = new ArrayList<>();
+        private char[] chunk = EMPTY_CHARS;
+        private int used;
+
+        private char[] chunk() {
+            return chunk;
+        }
+
+        // value의 [from, to)를 현재 배열에 쓰고 시작 위치를 반환한다, 배열은 chunk()로 읽는다
+        private int append(String value, int from, int to) {
+            int start = reserve(to - from);
+            value.getChars(from, to, chunk, start);
+            return start;
+        }
+
+        private int append(Node first, Node second) {
+            int start = reserve(first.labelLength + second.labelLength);
+            System.arraycopy(first.labelChars, first.labelStart, chunk, start, first.labelLength);
+            System.arraycopy(second.labelChars, second.labelStart, chunk, start + first.labelLength, second.labelLength);
+            return start;
+        }
+
+        private int reserve(int length) {
+            if (used + length > chunk.length) {
+                chunk = new char[Math.max(CHUNK_SIZE, length)];
+                chunkList.add(chunk);
+                used = 0;
+            }
+            int start = used;
+            used += length;
+            return start;
+        }
+
+        private long bytes() {
+            long bytes = 0;
+            for (char[] chars : chunkList) {
+                bytes += MemoryReport.align(16 + 2L * chars.length);
+            }
+            return bytes;
+        }
+    }
+
+    private static Entry[] withEntry(Entry[] entries, Entry entry) {
+        for (int i = 0; i < entries.length; i++) {
+            if (entries[i].productId().equals(entry.productId())) {
+                Entry[] newEntries = entries.clone();
+                newEntries[i] = entry;
+                return entriesOf(newEntries);
+            }
+        }
+        Entry[] newEntries = Arrays.copyOf(entries, entries.length + 1);
+        newEntries[entries.length] = entry;
+        return entriesOf(newEntries);
+    }
+
+    private static Entry[] withoutEntry(Entry[] entries, UUID productId) {
+        return entriesOf(Arrays.stream(entries)
+                .filter(entry -> !entry.productId().equals(productId))
+                .toArray(Entry[]::new));
+    }
+
+    // 상품이 하나뿐인 배열은 상품마다 하나인 배열로 바꾼다
+    private static Entry[] entriesOf(Entry[] entries) {
+        return entries.length == 1 ? entries[0].singleton : entries;
+    }
+
+    private static Node[] insertAt(Node[] children, int index, Node child) {
+        Node[] newChildren = new Node[children.length + 1];
+        System.arraycopy(children, 0, newChildren, 0, index);
+        newChildren[index] = child;
+        System.arraycopy(children, index, newChildren, index + 1, children.length - index);
+        return newChildren;
+    }
+
+    private static Node[] replaceAt(Node[] children, int index, Node child) {
+        Node[] newChildren = children.clone();
+        newChildren[index] = child;
+        return newChildren;
+    }
+
+    private static Node[] removeAt(Node[] children, int index) {
+        Node[] newChildren = new Node[children.length - 1];
+        System.arraycopy(children, 0, newChildren, 0, index);
+        System.arraycopy(children, index + 1, newChildren, index, children.length - index - 1);
+        return newChildren;
+    }
+
+    private static final class Node {
+
+        // label은 labelChars[labelStart, labelStart + labelLength), 배열은 같은 트라이의 노드들이 나눠 쓴다
+        private final char[] labelChars;
+        private final int labelStart;
+        private final int labelLength;
+        private final Node[] children;
+        // 이 노드에서 끝나는 키의 상품
+        private final Entry[] entries;
+        // 하위(자신 포함) 키 수
+        private final int size;
+        // 자식이 둘 이상이고 size > maxSize인 노드만, 인기도 상위 maxSize개 상품
+        private final Entry[] topEntries;
+
+        private Node(char[] labelChars, int labelStart, int labelLength, Node[] children, Entry[] entries, int size, Entry[] topEntries) {
+            this.labelChars = labelChars;
+            this.labelStart = labelStart;
+            this.labelLength = labelLength;
+            this.children = children;
+            this.entries = entries;
+            this.size = size;
+            this.topEntries = topEntries;
+        }
+
+        private Node withLabel(char[] newLabelChars, int newLabelStart, int newLabelLength) {
+            return new Node(newLabelChars, newLabelStart, newLabelLength, children, entries, size, topEntries);
+        }
+
+        private Node withLabelFrom(int offset) {
+            return withLabel(labelChars, labelStart + offset, labelLength - offset);
+        }
+
+        // key의 from부터 label과 같은 글자 수
+        private int matchLength(String key, int from) {
+            int length = Math.min(labelLength, key.length() - from);
+            for (int i = 0; i < length; i++) {
+                if (labelChars[labelStart + i] != key.charAt(from + i)) {
+                    return i;
+                }
+            }
+            return length;
+        }
+    }
+
+    private static final class Entry {
+
+        private final UUID productId;
+        private final String name;
+        private final long weight;
+        // 이 상품만 있는 노드(대부분의 리프)가 나눠 쓰는 배열, 노드마다 길이 1인 배열을 만들지 않는다
+        private final Entry[] singleton = {this};
+
+        private Entry(UUID productId, String name, long weight) {
+            this.productId = productId;
+            this.name = name;
+            this.weight = weight;
+        }
+
+        private UUID productId() {
+            return productId;
+        }
+
+        private String name() {
+            return name;
+        }
+
+        private long weight() {
+            return weight;
+        }
+    }
+
+    private record KeyEntry(String key, Entry entry) {
+    }
+
+    public record Suggestion(UUID productId, String name) {
+    }
+
+    /**
+     * 트라이 메모리 사용량 추정치.
+     *
+     * @param estimatedBytes 노드, label 배열(LabelPool), 자식/상품 배열, 상품별 Entry/UUID/상품명, 상품 맵을 합친 값
+     */
+    public record MemoryReport(int productCount, long keyCount, long nodeCount, long labelChars, long estimatedBytes) {
+
+        static long align(long bytes) {
+            return (bytes + 7) & ~7L;
+        }
+
+        private static long arrayBytes(int length) {
+            return length == 0 ? 0 : align(16 + 4L * length);
+        }
+
+        // 한 글자라도 Latin-1 밖이면 UTF-16으로 저장된다
+        private static long stringBytes(String value) {
+            boolean latin1 = value.chars().allMatch(c -> c < 256);
+            return 24 + align(16 + (long) value.length() * (latin1 ? 1 : 2));
+        }
+
+        private static final class Counter {
+
+            private long nodeCount;
+            private long keyCount;
+            private long labelChars;
+            private long bytes;
+
+            // label 글자는 LabelPool 배열로 따로 센다
+            private void count(Node node) {
+                nodeCount++;
+                keyCount += node.entries.length;
+                labelChars += node.labelLength;
+                bytes += 40
+                        + arrayBytes(node.children.length)
+                        // 길이 1인 배열은 상품별로 셌다
+                        + (node.entries.length > 1 ? arrayBytes(node.entries.length) : 0)
+                        + (node.topEntries == null ? 0 : arrayBytes(node.topEntries.length));
+                for (Node child : node.children) {
+                    count(child);
+                }
+            }
+        }
+    }
+}
@@ -16,6 +16,7 @@ public class Product {
     private final String name;
     private final Long price;
     private final Long stock;
+    private final Long version;
     private final Instant createdAt;
     private final String createdBy;
     private final Instant updatedAt;
@@ -44,6 +45,7 @@ public class Product {
                 .name(name)
                 .price(price)
                 .stock(stock)
+                .version(version)
                 .createdAt(createdAt)
                 .createdBy(createdBy)
                 .updatedAt(updatedAt)
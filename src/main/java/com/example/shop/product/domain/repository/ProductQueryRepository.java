@@ -0,0 +1,30 @@
+package com.example.shop.product.domain.repository;
+
+import com.example.shop.common.infrastructure.persistence.KeysetCursor;
+import com.example.shop.common.infrastructure.persistence.KeysetSlice;
+import com.example.shop.product.presentation.dto.response.ResGetProductsDtoV1.ProductPageDto.ProductDto;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 상품 목록 조회 전용 리포지토리.
+ * 필요한 컬럼만 조회해 응답 행으로 바로 만들고, 엔티티/도메인 객체를 거치지 않는다.
+ */
+public interface ProductQueryRepository {
+
+    // name이 null이면 전체, 아니면 이름 부분 일치(대소문자 무시)
+    Page<ProductDto> findProducts(String name, Pageable pageable);
+
+    // 키셋 페이지네이션, cursor가 null이면 첫 페이지부터 조회
+    KeysetSlice<ProductDto> findProductsByCursor(String name, KeysetCursor cursor, int size);
+
+    // 검색 색인 적재용, 삭제되지 않은 상품을 id 순으로 afterId 다음부터 size개 조회 (afterId가 null이면 처음부터)
+    List<SearchRow> findSearchRows(UUID afterId, int size);
+
+    record SearchRow(UUID id, String name, Instant createdAt) {
+    }
+}
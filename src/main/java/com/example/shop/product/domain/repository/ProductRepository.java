@@ -4,8 +4,11 @@ import com.example.shop.product.domain.model.Product;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 public interface ProductRepository {
@@ -16,11 +19,24 @@ public interface ProductRepository {
 
     Optional<Product> findByName(String name);
 
-    Page<Product> findAll(Pageable pageable);
+    // 이미 사용 중인 상품명만 골라 반환, 상품명 유니크 제약과 같게 삭제된 상품도 포함한다
+    Set<String> findExistingNames(Collection<String> nameList);
+
+    // 새 상품들을 JDBC 배치 insert로 저장 (hibernate.jdbc.batch_size)
+    List<Product> insertAll(List<Product> productList);
 
-    Page<Product> findByNameContainingIgnoreCase(String name, Pageable pageable);
+    Page<Product> findAll(Pageable pageable);
 
     List<Product> findAllById(Iterable<UUID> productIdList);
 
+    // 상품별 현재 재고만 조회, 존재하지 않는 상품은 결과에서 빠진다
+    Map<UUID, Long> findStockAllById(Collection<UUID> productIdList);
+
+    // 상품별 수량만큼 재고를 조건부 차감하고, 재고 부족으로 차감하지 못한 상품 ID 목록을 반환
+    Set<UUID> decreaseStock(Map<UUID, Long> quantityByProductId);
+
+    // 상품별 delta만큼 재고를 가감하고, 존재하지 않아 반영하지 못한 상품 ID 목록을 반환
+    Set<UUID> adjustStock(Map<UUID, Long> deltaByProductId);
+
     long count();
 }
@@ -3,14 +3,20 @@ package com.example.shop.product.infrastructure.persistence.entity;
 import com.example.shop.common.infrastructure.persistence.entity.BaseEntity;
 import jakarta.persistence.*;
 import lombok.*;
-import org.hibernate.annotations.DynamicInsert;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.DynamicUpdate;
 
 import java.util.UUID;
 
 @Entity
-@Table(name = "PRODUCT")
-@DynamicInsert
+@Table(
+        name = "PRODUCT",
+        indexes = {
+                // 키셋 페이지네이션(createdAt desc, id desc)용 인덱스
+                @Index(name = "idx_product_created_at_id", columnList = "created_at, id")
+        }
+)
+// @DynamicInsert는 엔티티마다 insert SQL을 만들어 JDBC 배치가 적용되지 않으므로 쓰지 않는다 (기본값은 @Builder.Default로 채움)
 @DynamicUpdate
 @Getter
 @Builder
@@ -35,6 +41,12 @@ public class ProductEntity extends BaseEntity {
     @Column(name = "stock", nullable = false)
     private Long stock = 0L;
 
+    // 기존 행은 ZeroDefaultColumnBackfill이 0으로 채운다. 새 엔티티 판별(version == null) 때문에 필드 기본값은 두지 않는다
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     public void update(String name, Long price, Long stock) {
         if (name != null) {
             this.name = name;
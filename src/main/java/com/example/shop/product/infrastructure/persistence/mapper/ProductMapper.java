@@ -2,6 +2,7 @@ package com.example.shop.product.infrastructure.persistence.mapper;
 
 import com.example.shop.product.domain.model.Product;
 import com.example.shop.product.infrastructure.persistence.entity.ProductEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Component;
 
 import java.util.Optional;
@@ -19,6 +20,7 @@ public class ProductMapper {
                 .name(productEntity.getName())
                 .price(productEntity.getPrice())
                 .stock(productEntity.getStock())
+                .version(productEntity.getVersion())
                 .createdAt(productEntity.getCreatedAt())
                 .createdBy(productEntity.getCreatedBy())
                 .updatedAt(productEntity.getUpdatedAt())
@@ -37,6 +39,7 @@ public class ProductMapper {
                 .name(product.getName())
                 .price(product.getPrice())
                 .stock(product.getStock())
+                .version(product.getVersion())
                 .build();
     }
 
@@ -44,6 +47,10 @@ public class ProductMapper {
         if (product == null || productEntity == null) {
             return;
         }
+        // 도메인이 읽어온 버전과 현재 엔티티 버전이 다르면 다른 트랜잭션의 변경을 덮어쓰지 않도록 충돌로 처리
+        if (product.getVersion() != null && !product.getVersion().equals(productEntity.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(ProductEntity.class, productEntity.getId());
+        }
         productEntity.update(product.getName(), product.getPrice(), product.getStock());
         if (product.getDeletedAt() != null && product.getDeletedBy() != null) {
             Optional.ofNullable(toUuid(product.getDeletedBy()))
@@ -1,10 +1,13 @@
 package com.example.shop.product.infrastructure.persistence.repository;
 
 import com.example.shop.product.infrastructure.persistence.entity.ProductEntity;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -12,5 +15,41 @@ public interface ProductJpaRepository extends JpaRepository<ProductEntity, UUID>
 
     Optional<ProductEntity> findByName(String name);
 
-    Page<ProductEntity> findByNameContainingIgnoreCase(String name, Pageable pageable);
+    // notDeleted 필터가 적용되지 않도록 네이티브 쿼리로 조회 (삭제된 상품도 상품명 유니크 제약에 걸린다)
+    @Query(value = "select p.name from product p where p.name in (:names)", nativeQuery = true)
+    List<String> findExistingNames(@Param("names") Collection<String> names);
+
+    // 엔티티를 로딩하지 않고 상품별 재고만 조회
+    @Query("select p.id as id, p.stock as stock from ProductEntity p where p.id in :productIds")
+    List<StockView> findStockAllById(@Param("productIds") Collection<UUID> productIds);
+
+    // 재고가 충분할 때만 차감하는 조건부 UPDATE, 반영된 행 수(0 또는 1)를 반환
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            update ProductEntity p
+               set p.stock = p.stock - :quantity,
+                   p.version = p.version + 1
+             where p.id = :productId
+               and p.stock >= :quantity
+               and p.deletedAt is null
+            """)
+    int decreaseStock(@Param("productId") UUID productId, @Param("quantity") Long quantity);
+
+    // 재고를 delta만큼 가감(음수면 차감)하는 UPDATE, 반영된 행 수(0 또는 1)를 반환
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            update ProductEntity p
+               set p.stock = p.stock + :delta,
+                   p.version = p.version + 1
+             where p.id = :productId
+               and p.deletedAt is null
+            """)
+    int adjustStock(@Param("productId") UUID productId, @Param("delta") Long delta);
+
+    interface StockView {
+
+        UUID getId();
+
+        Long getStock();
+    }
 }
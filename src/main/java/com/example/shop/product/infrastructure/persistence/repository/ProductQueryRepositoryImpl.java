@@ -0,0 +1,159 @@
+package com.example.shop.product.infrastructure.persistence.repository;
+
+import com.example.shop.common.infrastructure.persistence.KeysetCursor;
+import com.example.shop.common.infrastructure.persistence.KeysetSlice;
+import com.example.shop.product.domain.repository.ProductQueryRepository;
+import com.example.shop.product.infrastructure.persistence.entity.QProductEntity;
+import com.example.shop.product.presentation.dto.response.ResGetProductsDtoV1.ProductPageDto.ProductDto;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ProductQueryRepositoryImpl implements ProductQueryRepository {
+
+    private final JPAQueryFactory jpaQueryFactory;
+
+    private static final QProductEntity product = QProductEntity.productEntity;
+
+    @Override
+    public Page<ProductDto> findProducts(String name, Pageable pageable) {
+        BooleanBuilder builder = nameCondition(name);
+        JPAQuery<Tuple> query = selectProductColumns()
+                .where(builder)
+                .orderBy(resolveOrderSpecifiers(pageable.getSort()));
+
+        if (pageable.isUnpaged()) {
+            List<ProductDto> content = query.fetch()
+                    .stream()
+                    .map(this::toProductDto)
+                    .toList();
+            return new PageImpl<>(content, Pageable.unpaged(), content.size());
+        }
+
+        List<ProductDto> content = query
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch()
+                .stream()
+                .map(this::toProductDto)
+                .toList();
+        Long fetchedTotal = jpaQueryFactory.select(product.count())
+                .from(product)
+                .where(builder)
+                .fetchOne();
+        return new PageImpl<>(content, pageable, fetchedTotal == null ? content.size() : fetchedTotal);
+    }
+
+    @Override
+    public KeysetSlice<ProductDto> findProductsByCursor(String name, KeysetCursor cursor, int size) {
+        BooleanBuilder builder = nameCondition(name);
+        if (cursor != null) {
+            builder.and(product.createdAt.lt(cursor.createdAt())
+                    .or(product.createdAt.eq(cursor.createdAt()).and(product.id.lt(cursor.id()))));
+        }
+        List<Tuple> tupleList = jpaQueryFactory.select(
+                        product.id,
+                        product.name,
+                        product.price,
+                        product.stock,
+                        product.createdAt
+                )
+                .from(product)
+                .where(builder)
+                .orderBy(product.createdAt.desc(), product.id.desc())
+                .limit(size + 1L)
+                .fetch();
+        return KeysetCursor.toKeysetSlice(
+                tupleList,
+                size,
+                this::toProductDto,
+                tuple -> tuple.get(product.createdAt),
+                tuple -> tuple.get(product.id)
+        );
+    }
+
+    @Override
+    public List<SearchRow> findSearchRows(UUID afterId, int size) {
+        BooleanBuilder builder = new BooleanBuilder(product.deletedAt.isNull());
+        if (afterId != null) {
+            builder.and(product.id.gt(afterId));
+        }
+        return jpaQueryFactory.select(product.id, product.name, product.createdAt)
+                .from(product)
+                .where(builder)
+                .orderBy(product.id.asc())
+                .limit(size)
+                .fetch()
+                .stream()
+                .map(tuple -> new SearchRow(tuple.get(product.id), tuple.get(product.name), tuple.get(product.createdAt)))
+                .toList();
+    }
+
+    private BooleanBuilder nameCondition(String name) {
+        BooleanBuilder builder = new BooleanBuilder();
+        if (name != null) {
+            builder.and(product.name.containsIgnoreCase(name));
+        }
+        return builder;
+    }
+
+    private JPAQuery<Tuple> selectProductColumns() {
+        return jpaQueryFactory.select(
+                        product.id,
+                        product.name,
+                        product.price,
+                        product.stock
+                )
+                .from(product);
+    }
+
+    private ProductDto toProductDto(Tuple tuple) {
+        return ProductDto.builder()
+                .id(String.valueOf(tuple.get(product.id)))
+                .name(tuple.get(product.name))
+                .price(tuple.get(product.price))
+                .stock(tuple.get(product.stock))
+                .build();
+    }
+
+    private OrderSpecifier<?>[] resolveOrderSpecifiers(Sort sort) {
+        List<OrderSpecifier<?>> orderSpecifiers = new ArrayList<>();
+        if (sort != null && sort.isSorted()) {
+            for (Sort.Order order : sort) {
+                orderSpecifiers.add(toOrderSpecifier(order));
+            }
+        }
+
+        if (orderSpecifiers.isEmpty()) {
+            orderSpecifiers.add(product.createdAt.desc());
+        }
+
+        return orderSpecifiers.toArray(new OrderSpecifier<?>[0]);
+    }
+
+    private OrderSpecifier<?> toOrderSpecifier(Sort.Order order) {
+        return switch (order.getProperty()) {
+            case "name" -> order.isAscending() ? product.name.asc() : product.name.desc();
+            case "price" -> order.isAscending() ? product.price.asc() : product.price.desc();
+            case "stock" -> order.isAscending() ? product.stock.asc() : product.stock.desc();
+            case "updatedAt" -> order.isAscending() ? product.updatedAt.asc() : product.updatedAt.desc();
+            default -> order.isAscending() ? product.createdAt.asc() : product.createdAt.desc();
+        };
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.shop.product.infrastructure.persistence.repository;
 
+import com.example.shop.common.infrastructure.persistence.ManagedEntityTracker;
 import com.example.shop.product.domain.model.Product;
 import com.example.shop.product.domain.repository.ProductRepository;
 import com.example.shop.product.infrastructure.persistence.entity.ProductEntity;
@@ -10,8 +11,14 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.UUID;
 
 @Repository
@@ -21,10 +28,17 @@ public class ProductRepositoryImpl implements ProductRepository {
 
     private final ProductJpaRepository productJpaRepository;
     private final ProductMapper productMapper;
+    private final ManagedEntityTracker managedEntityTracker;
 
     @Override
     @Transactional
     public Product save(Product product) {
+        Optional<ProductEntity> trackedProductEntity = managedEntityTracker.find(ProductEntity.class, product.getId());
+        if (trackedProductEntity.isPresent()) {
+            productMapper.applyDomain(product, trackedProductEntity.get());
+            return productMapper.toDomain(trackedProductEntity.get());
+        }
+
         ProductEntity productEntity;
         if (product.getId() != null) {
             productEntity = productJpaRepository.findById(product.getId())
@@ -40,6 +54,7 @@ public class ProductRepositoryImpl implements ProductRepository {
     @Override
     public Optional<Product> findById(UUID productId) {
         return productJpaRepository.findById(productId)
+                .map(this::track)
                 .map(productMapper::toDomain);
     }
 
@@ -50,14 +65,29 @@ public class ProductRepositoryImpl implements ProductRepository {
     }
 
     @Override
-    public Page<Product> findAll(Pageable pageable) {
-        return productJpaRepository.findAll(pageable)
-                .map(productMapper::toDomain);
+    public Set<String> findExistingNames(Collection<String> nameList) {
+        if (nameList.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(productJpaRepository.findExistingNames(nameList));
     }
 
     @Override
-    public Page<Product> findByNameContainingIgnoreCase(String name, Pageable pageable) {
-        return productJpaRepository.findByNameContainingIgnoreCase(name, pageable)
+    @Transactional
+    public List<Product> insertAll(List<Product> productList) {
+        List<ProductEntity> productEntityList = productList.stream()
+                .map(productMapper::toEntity)
+                .toList();
+        // id가 없는 새 엔티티라 조회 없이 persist되고, flush 시점에 배치 insert로 묶인다
+        List<ProductEntity> savedList = productJpaRepository.saveAllAndFlush(productEntityList);
+        return savedList.stream()
+                .map(productMapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public Page<Product> findAll(Pageable pageable) {
+        return productJpaRepository.findAll(pageable)
                 .map(productMapper::toDomain);
     }
 
@@ -65,13 +95,55 @@ public class ProductRepositoryImpl implements ProductRepository {
     public List<Product> findAllById(Iterable<UUID> productIdList) {
         return productJpaRepository.findAllById(productIdList)
                 .stream()
+                .map(this::track)
                 .map(productMapper::toDomain)
                 .toList();
     }
 
+    @Override
+    public Map<UUID, Long> findStockAllById(Collection<UUID> productIdList) {
+        Map<UUID, Long> stockByProductId = new HashMap<>();
+        if (productIdList.isEmpty()) {
+            return stockByProductId;
+        }
+        productJpaRepository.findStockAllById(productIdList)
+                .forEach(stockView -> stockByProductId.put(stockView.getId(), stockView.getStock()));
+        return stockByProductId;
+    }
+
+    @Override
+    @Transactional
+    public Set<UUID> decreaseStock(Map<UUID, Long> quantityByProductId) {
+        Set<UUID> failedProductIdSet = new HashSet<>();
+        // 여러 상품을 함께 갱신하는 트랜잭션끼리 교착되지 않도록 항상 상품 ID 순으로 행 잠금을 잡는다
+        new TreeMap<>(quantityByProductId).forEach((productId, quantity) -> {
+            if (productJpaRepository.decreaseStock(productId, quantity) == 0) {
+                failedProductIdSet.add(productId);
+            }
+        });
+        return failedProductIdSet;
+    }
+
+    @Override
+    @Transactional
+    public Set<UUID> adjustStock(Map<UUID, Long> deltaByProductId) {
+        Set<UUID> failedProductIdSet = new HashSet<>();
+        // decreaseStock과 같은 순서로 잠근다
+        new TreeMap<>(deltaByProductId).forEach((productId, delta) -> {
+            if (productJpaRepository.adjustStock(productId, delta) == 0) {
+                failedProductIdSet.add(productId);
+            }
+        });
+        return failedProductIdSet;
+    }
+
     @Override
     public long count() {
         return productJpaRepository.count();
     }
+
+    private ProductEntity track(ProductEntity productEntity) {
+        return managedEntityTracker.track(ProductEntity.class, productEntity.getId(), productEntity);
+    }
 }
 
@@ -2,23 +2,33 @@ package com.example.shop.product.presentation.controller;
 
 import com.example.shop.common.infrastructure.config.security.auth.CustomUserDetails;
 import com.example.shop.common.presentation.dto.ApiDto;
+import com.example.shop.product.application.service.ProductBulkImporter;
+import com.example.shop.product.application.service.ProductPageResponseCache;
+import com.example.shop.product.application.service.ProductQueryServiceV1;
 import com.example.shop.product.application.service.ProductServiceV1;
 import com.example.shop.product.presentation.dto.request.ReqPostProductsDtoV1;
 import com.example.shop.product.presentation.dto.request.ReqPutProductDtoV1;
+import com.example.shop.product.presentation.dto.response.ResGetProductSuggestionsDtoV1;
 import com.example.shop.product.presentation.dto.response.ResGetProductsDtoV1;
 import com.example.shop.product.presentation.dto.response.ResGetProductDtoV1;
+import com.example.shop.product.presentation.dto.response.ResPostProductsBulkDtoV1;
 import com.example.shop.product.presentation.dto.response.ResPostProductsDtoV1;
 import com.example.shop.product.presentation.dto.response.ResPutProductDtoV1;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.util.Locale;
 import java.util.UUID;
 
 @RestController
@@ -28,13 +38,25 @@ import java.util.UUID;
 public class ProductControllerV1 {
 
     private final ProductServiceV1 productServiceV1;
+    private final ProductQueryServiceV1 productQueryServiceV1;
+    private final ProductPageResponseCache productPageResponseCache;
 
+    // ETag가 있는 응답은 If-None-Match가 일치하면 본문을 쓰지 않고 304로 응답한다 (HttpEntityMethodProcessor)
     @GetMapping
-    public ResponseEntity<ApiDto<ResGetProductsDtoV1>> getProducts(
+    public ResponseEntity<?> getProducts(
             @PageableDefault(sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
-            @RequestParam(value = "name", required = false) String name
+            @RequestParam(value = "name", required = false) String name,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
     ) {
-        ResGetProductsDtoV1 responseBody = productServiceV1.getProducts(pageable, name);
+        if (productPageResponseCache.isCacheable(pageable, name, cursor)) {
+            return toResponseEntity(productPageResponseCache.get(pageable), acceptEncoding);
+        }
+
+        // cursor 파라미터가 있으면(빈 값은 첫 페이지) count 없는 키셋 페이지네이션으로 조회
+        ResGetProductsDtoV1 responseBody = cursor != null
+                ? productQueryServiceV1.getProductsByCursor(cursor, pageable.getPageSize(), name)
+                : productQueryServiceV1.getProducts(pageable, name);
 
         return ResponseEntity.ok(
                 ApiDto.<ResGetProductsDtoV1>builder()
@@ -43,19 +65,36 @@ public class ProductControllerV1 {
         );
     }
 
-    @GetMapping("/{id}")
-    public ResponseEntity<ApiDto<ResGetProductDtoV1>> getProduct(
-            @PathVariable("id") UUID productId
+    // 검색창 입력마다 호출되는 자동완성, 인기도 순으로 최대 size개(shop.product.suggest.max-size까지)
+    @GetMapping("/suggest")
+    public ResponseEntity<ApiDto<ResGetProductSuggestionsDtoV1>> getProductSuggestions(
+            @RequestParam("prefix") String prefix,
+            @RequestParam(value = "size", defaultValue = "10") int size
     ) {
-        ResGetProductDtoV1 responseBody = productServiceV1.getProduct(productId);
+        ResGetProductSuggestionsDtoV1 responseBody = productQueryServiceV1.getProductSuggestions(prefix, size);
 
         return ResponseEntity.ok(
-                ApiDto.<ResGetProductDtoV1>builder()
+                ApiDto.<ResGetProductSuggestionsDtoV1>builder()
                         .data(responseBody)
                         .build()
         );
     }
 
+    @GetMapping("/{id}")
+    public ResponseEntity<ApiDto<ResGetProductDtoV1>> getProduct(
+            @PathVariable("id") UUID productId
+    ) {
+        ResGetProductDtoV1 responseBody = productServiceV1.getProduct(productId);
+
+        return ResponseEntity.ok()
+                .eTag(responseBody.getETag())
+                .body(
+                        ApiDto.<ResGetProductDtoV1>builder()
+                                .data(responseBody)
+                                .build()
+                );
+    }
+
     @PostMapping
     public ResponseEntity<ApiDto<ResPostProductsDtoV1>> postProducts(
             @RequestBody @Valid ReqPostProductsDtoV1 reqDto
@@ -69,6 +108,25 @@ public class ProductControllerV1 {
         );
     }
 
+    // 본문(CSV 또는 NDJSON)을 한 줄씩 읽어 등록하고 실패한 행은 결과에 담는다
+    @PostMapping(value = "/bulk", consumes = {ProductBulkImporter.TEXT_CSV_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<ApiDto<ResPostProductsBulkDtoV1>> postProductsBulk(
+            @AuthenticationPrincipal CustomUserDetails customUserDetails,
+            HttpServletRequest request
+    ) throws IOException {
+        ResPostProductsBulkDtoV1 responseBody = productServiceV1.postProductsBulk(
+                customUserDetails.getRoleList(),
+                MediaType.parseMediaType(request.getContentType()),
+                request.getInputStream()
+        );
+        return ResponseEntity.ok(
+                ApiDto.<ResPostProductsBulkDtoV1>builder()
+                        .message("상품 대량 등록이 완료되었습니다.")
+                        .data(responseBody)
+                        .build()
+        );
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<ApiDto<ResPutProductDtoV1>> putProduct(
             @PathVariable("id") UUID productId,
@@ -105,4 +163,57 @@ public class ProductControllerV1 {
         );
     }
 
+    // 미리 압축해 둔 본문을 보내면 Content-Encoding이 있으므로 서버가 다시 압축하지 않는다
+    private ResponseEntity<byte[]> toResponseEntity(ProductPageResponseCache.CachedPage cachedPage, String acceptEncoding) {
+        boolean gzip = cachedPage.gzipBody() != null && acceptsGzip(acceptEncoding);
+        ResponseEntity.BodyBuilder bodyBuilder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (!gzip) {
+            return bodyBuilder.eTag(cachedPage.eTag()).body(cachedPage.body());
+        }
+        return bodyBuilder.eTag(cachedPage.gzipETag())
+                .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                .body(cachedPage.gzipBody());
+    }
+
+    // Accept-Encoding의 q 값을 따른다 (RFC 9110 12.5.3), gzip;q=0은 거절이고 gzip이 없으면 *의 q 값을 쓴다
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double gzipQuality = null;
+        Double wildcardQuality = null;
+        for (String element : acceptEncoding.split(",")) {
+            String[] parts = element.split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            if (!coding.equals("gzip") && !coding.equals("x-gzip") && !coding.equals("*")) {
+                continue;
+            }
+            double quality = parseQuality(parts);
+            if (coding.equals("*")) {
+                wildcardQuality = quality;
+            } else {
+                gzipQuality = quality;
+            }
+        }
+        Double quality = gzipQuality != null ? gzipQuality : wildcardQuality;
+        return quality != null && quality > 0;
+    }
+
+    // q가 없으면 1, 잘못된 값이면 받지 않는 것으로 본다
+    private static double parseQuality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim();
+            if (parameter.length() > 2 && (parameter.charAt(0) == 'q' || parameter.charAt(0) == 'Q') && parameter.charAt(1) == '=') {
+                try {
+                    return Double.parseDouble(parameter.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
 }
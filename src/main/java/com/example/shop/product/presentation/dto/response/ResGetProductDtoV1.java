@@ -1,6 +1,7 @@
 package com.example.shop.product.presentation.dto.response;
 
 import com.example.shop.product.domain.model.Product;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -10,9 +11,14 @@ public class ResGetProductDtoV1 {
 
     private ProductDto product;
 
+    // 응답 헤더용 ETag, 이름/가격 변경은 version을 올리고 재고는 version 없이 바뀌므로 둘을 함께 쓴다
+    @JsonIgnore
+    private String eTag;
+
     public static ResGetProductDtoV1 of(Product product) {
         return ResGetProductDtoV1.builder()
                 .product(ProductDto.from(product))
+                .eTag("v" + product.getVersion() + "-s" + product.getStock())
                 .build();
     }
 
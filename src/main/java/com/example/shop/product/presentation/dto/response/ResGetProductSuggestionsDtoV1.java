@@ -0,0 +1,24 @@
+package com.example.shop.product.presentation.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class ResGetProductSuggestionsDtoV1 {
+
+    private List<SuggestionDto> suggestionList;
+
+    @Getter
+    @Builder
+    public static class SuggestionDto {
+
+        private String id;
+
+        private String name;
+
+    }
+
+}
@@ -1,15 +1,16 @@
 package com.example.shop.product.presentation.dto.response;
 
 import com.example.shop.product.domain.model.Product;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.ToString;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PagedModel;
 
-import java.util.List;
-
 @Getter
 @Builder
 public class ResGetProductsDtoV1 {
@@ -20,14 +21,30 @@ public class ResGetProductsDtoV1 {
     @ToString
     public static class ProductPageDto extends PagedModel<ProductPageDto.ProductDto> {
 
-        public ProductPageDto(Page<Product> productPage) {
-            super(
-                    new PageImpl<>(
-                            ProductDto.from(productPage.getContent()),
-                            productPage.getPageable(),
-                            productPage.getTotalElements()
-                    )
-            );
+        // 커서 모드에서 다음 페이지 조회에 사용할 토큰, 마지막 페이지면 null
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private final String nextCursor;
+
+        @JsonIgnore
+        private final boolean cursorMode;
+
+        public ProductPageDto(Page<ProductDto> productPage) {
+            super(productPage);
+            this.nextCursor = null;
+            this.cursorMode = false;
+        }
+
+        public ProductPageDto(Slice<ProductDto> productSlice, String nextCursor) {
+            super(new PageImpl<>(productSlice.getContent()));
+            this.nextCursor = nextCursor;
+            this.cursorMode = true;
+        }
+
+        // 커서 모드는 전체 개수를 세지 않으므로 page 메타데이터를 내려주지 않는다
+        @Override
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        public PageMetadata getMetadata() {
+            return cursorMode ? null : super.getMetadata();
         }
 
         @Getter
@@ -39,12 +56,6 @@ public class ResGetProductsDtoV1 {
             private Long price;
             private Long stock;
 
-            private static List<ProductDto> from(List<Product> products) {
-                return products.stream()
-                        .map(ProductDto::from)
-                        .toList();
-            }
-
             public static ProductDto from(Product product) {
                 return ProductDto.builder()
                         .id(product.getId().toString())
@@ -53,7 +64,6 @@ public class ResGetProductsDtoV1 {
                         .stock(product.getStock())
                         .build();
             }
-
         }
 
     }
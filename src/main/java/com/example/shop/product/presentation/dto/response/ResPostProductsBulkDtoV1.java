@@ -0,0 +1,27 @@
+package com.example.shop.product.presentation.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class ResPostProductsBulkDtoV1 {
+
+    private Long totalCount;
+    private Long successCount;
+    private Long failureCount;
+    // 실패한 행 목록, 최대 개수를 넘으면 앞에서부터 잘린다 (failureCount는 전체 실패 수)
+    private List<ErrorDto> errorList;
+
+    @Getter
+    @Builder
+    public static class ErrorDto {
+
+        // 본문 기준 줄 번호 (1부터, CSV 헤더 포함)
+        private Long row;
+        private String name;
+        private String message;
+    }
+}
@@ -4,6 +4,8 @@ import com.auth0.jwt.JWT;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.JWTVerificationException;
 import com.auth0.jwt.interfaces.DecodedJWT;
+import com.example.shop.common.infrastructure.config.security.PasswordHasher;
+import com.example.shop.common.infrastructure.config.security.auth.JwtRevokedEvent;
 import com.example.shop.common.infrastructure.constants.Constants;
 import com.example.shop.common.util.UtilFunction;
 import com.example.shop.user.domain.model.User;
@@ -17,10 +19,12 @@ import com.example.shop.user.presentation.dto.request.ReqPostAuthRegisterDtoV1;
 import com.example.shop.user.presentation.dto.response.ResPostAuthLoginDtoV1;
 import com.example.shop.user.presentation.dto.response.ResPostAuthRefreshDtoV1;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
@@ -29,11 +33,13 @@ import java.util.UUID;
 @Transactional(readOnly = true)
 public class AuthServiceV1 {
 
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
 //    private final KakaoApiRepository kakaoApiRepository;
 
-    @Transactional
+    // 해시 동안 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행하고, 조회/저장은 리포지토리 트랜잭션에서 처리
+    @Transactional(propagation = Propagation.SUPPORTS)
     public void postAuthRegister(ReqPostAuthRegisterDtoV1 reqDto) {
 
         ReqPostAuthRegisterDtoV1.UserDto reqUser = reqDto.getUser();
@@ -44,7 +50,7 @@ public class AuthServiceV1 {
                 });
         User newUser = User.builder()
                 .username(reqUser.getUsername())
-                .password(passwordEncoder.encode(reqUser.getPassword()))
+                .password(passwordHasher.encode(reqUser.getPassword()))
                 .nickname(reqUser.getNickname())
                 .email(reqUser.getEmail())
                 .jwtValidator(0L)
@@ -59,14 +65,14 @@ public class AuthServiceV1 {
 
     }
 
-    @Transactional
+    @Transactional(propagation = Propagation.SUPPORTS)
     public ResPostAuthLoginDtoV1 postAuthLogin(ReqPostAuthLoginDtoV1 reqDto) {
 
         ReqPostAuthLoginDtoV1.UserDto reqUser = reqDto.getUser();
 
         User user = userRepository.findByUsername(reqUser.getUsername())
                 .orElseThrow(() -> new AuthException(AuthError.AUTH_USERNAME_NOT_EXIST));
-        if (!passwordEncoder.matches(reqUser.getPassword(), user.getPassword())) {
+        if (!passwordHasher.matches(reqUser.getPassword(), user.getPassword())) {
             throw new AuthException(AuthError.AUTH_PASSWORD_NOT_MATCHED);
         }
         String accessJwt = UtilFunction.generateAccessJwtBy(user);
@@ -82,7 +88,7 @@ public class AuthServiceV1 {
 //        String accessJwt;
 //        String refreshJwt;
 //        if (UserSocialEntity.Provider.KAKAO.equals(reqDto.getUserSocial().getProvider())) {
-//            ResGetKakaoUserMeDtoV2 resGetKakaoUserMeDtoV2 = kakaoApiRepository.getKakaoUserMeV2(reqDto.getUserSocial().getAccessToken());
+//            ResGetKakaoUserMeDtoV2 resGetKakaoUserMeDtoV2 = kakaoApiRepository.getKakaoUserMeV2(reqDto.getUserSocial().getAccessToken()).block();
 //            String providerWithId = UserSocialEntity.Provider.KAKAO + "_" + resGetKakaoUserMeDtoV2.getId();
 //            String nickname = resGetKakaoUserMeDtoV2
 //                    .getKakao_account()
@@ -120,6 +126,16 @@ public class AuthServiceV1 {
 //
 //    }
 
+    // 지금까지 발급된 액세스/리프레시 토큰을 모두 무효화
+    @Transactional
+    public void postAuthLogout(UUID authUserId) {
+        User user = userRepository.findById(authUserId)
+                .orElseThrow(() -> new AuthException(AuthError.AUTH_USER_CAN_NOT_FOUND));
+        User loggedOutUser = user.invalidateJwt(Instant.now());
+        userRepository.save(loggedOutUser);
+        applicationEventPublisher.publishEvent(new JwtRevokedEvent(authUserId, loggedOutUser.getJwtValidator()));
+    }
+
     @Transactional
     public ResPostAuthRefreshDtoV1 postAuthRefresh(ReqAuthPostRefreshDtoV1 reqDto) {
 
@@ -0,0 +1,100 @@
+package com.example.shop.user.application.service;
+
+import com.example.shop.common.infrastructure.persistence.KeysetCursor;
+import com.example.shop.common.infrastructure.persistence.KeysetSlice;
+import com.example.shop.user.domain.model.UserRole;
+import com.example.shop.user.domain.repository.UserQueryRepository;
+import com.example.shop.user.presentation.advice.UserError;
+import com.example.shop.user.presentation.advice.UserException;
+import com.example.shop.user.presentation.dto.response.ResGetUsersDtoV1;
+import com.example.shop.user.presentation.dto.response.ResGetUsersDtoV1.UserPageDto.UserDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+// 사용자 목록 조회 (읽기 전용 프로젝션), 상세 조회와 변경은 UserServiceV1에서 처리
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class UserQueryServiceV1 {
+
+    private final UserQueryRepository userQueryRepository;
+
+    public ResGetUsersDtoV1 getUsers(
+            UUID authUserId,
+            List<String> authUserRoleList,
+            Pageable pageable,
+            String username,
+            String nickname,
+            String email
+    ) {
+        return ResGetUsersDtoV1.of(userQueryRepository.searchUsers(
+                scopeUserId(authUserId, authUserRoleList),
+                normalize(username),
+                normalize(nickname),
+                normalize(email),
+                pageable
+        ));
+    }
+
+    public ResGetUsersDtoV1 getUsersByCursor(
+            UUID authUserId,
+            List<String> authUserRoleList,
+            String cursor,
+            int size,
+            String username,
+            String nickname,
+            String email
+    ) {
+        KeysetCursor keysetCursor = decodeCursor(cursor);
+        KeysetSlice<UserDto> userSlice = userQueryRepository.searchUsersByCursor(
+                scopeUserId(authUserId, authUserRoleList),
+                normalize(username),
+                normalize(nickname),
+                normalize(email),
+                keysetCursor,
+                size
+        );
+        return ResGetUsersDtoV1.of(userSlice.slice(), userSlice.nextCursor());
+    }
+
+    // 관리자/매니저는 전체, 일반 사용자는 본인만 조회
+    private UUID scopeUserId(UUID authUserId, List<String> authUserRoleList) {
+        if (isAdmin(authUserRoleList) || isManager(authUserRoleList)) {
+            return null;
+        }
+        if (authUserId == null) {
+            throw new UserException(UserError.USER_BAD_REQUEST);
+        }
+        return authUserId;
+    }
+
+    // 빈 커서는 첫 페이지, 해석할 수 없는 커서는 잘못된 요청으로 처리
+    private KeysetCursor decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        return KeysetCursor.decode(cursor)
+                .orElseThrow(() -> new UserException(UserError.USER_BAD_REQUEST));
+    }
+
+    private boolean isAdmin(List<String> authUserRoleList) {
+        return authUserRoleList != null && authUserRoleList.contains(UserRole.Role.ADMIN.toString());
+    }
+
+    private boolean isManager(List<String> authUserRoleList) {
+        return authUserRoleList != null && authUserRoleList.contains(UserRole.Role.MANAGER.toString());
+    }
+
+    private String normalize(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+}
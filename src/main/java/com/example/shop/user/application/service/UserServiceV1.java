@@ -1,21 +1,18 @@
 package com.example.shop.user.application.service;
 
+import com.example.shop.common.infrastructure.config.security.auth.JwtRevokedEvent;
 import com.example.shop.user.domain.model.User;
 import com.example.shop.user.domain.model.UserRole;
 import com.example.shop.user.domain.repository.UserRepository;
 import com.example.shop.user.presentation.advice.UserError;
 import com.example.shop.user.presentation.advice.UserException;
-import com.example.shop.user.presentation.dto.response.ResGetUsersDtoV1;
 import com.example.shop.user.presentation.dto.response.ResGetUserDtoV1;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.Pageable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
-import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
 
@@ -25,37 +22,7 @@ import java.util.UUID;
 public class UserServiceV1 {
 
     private final UserRepository userRepository;
-
-    public ResGetUsersDtoV1 getUsers(
-            UUID authUserId,
-            List<String> authUserRoleList,
-            Pageable pageable,
-            String username,
-            String nickname,
-            String email
-    ) {
-        String normalizedUsername = normalize(username);
-        String normalizedNickname = normalize(nickname);
-        String normalizedEmail = normalize(email);
-
-        Page<User> userPage;
-        if (isAdmin(authUserRoleList) || isManager(authUserRoleList)) {
-            userPage = userRepository.searchUsers(normalizedUsername, normalizedNickname, normalizedEmail, pageable);
-        } else {
-            if (authUserId == null) {
-                throw new UserException(UserError.USER_BAD_REQUEST);
-            }
-            User user = userRepository.findDefaultById(authUserId);
-            if (!matchesFilter(user, normalizedUsername, normalizedNickname, normalizedEmail)) {
-                userPage = new PageImpl<>(Collections.emptyList(), pageable, 0);
-            } else if (pageable.getPageNumber() > 0) {
-                userPage = new PageImpl<>(Collections.emptyList(), pageable, 0);
-            } else {
-                userPage = new PageImpl<>(List.of(user), pageable, 1);
-            }
-        }
-        return ResGetUsersDtoV1.of(userPage);
-    }
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     public ResGetUserDtoV1 getUser(UUID authUserId, List<String> authUserRoleList, UUID userId) {
         User user = userRepository.findDefaultById(userId);
@@ -69,8 +36,11 @@ public class UserServiceV1 {
         if (user.getUserRoleList().stream().map(UserRole::getRole).anyMatch(role -> role.equals(UserRole.Role.ADMIN))) {
             throw new UserException(UserError.USER_BAD_REQUEST);
         }
-        User deletedUser = user.markDeleted(Instant.now(), authUserId);
+        Instant now = Instant.now();
+        User deletedUser = user.markDeleted(now, authUserId)
+                .invalidateJwt(now);
         userRepository.save(deletedUser);
+        applicationEventPublisher.publishEvent(new JwtRevokedEvent(userId, deletedUser.getJwtValidator()));
     }
 
     private void validateBy(UUID authUserId, List<String> authUserRoleList, User user) {
@@ -97,28 +67,4 @@ public class UserServiceV1 {
     private boolean isManager(List<String> authUserRoleList) {
         return authUserRoleList != null && authUserRoleList.contains(UserRole.Role.MANAGER.toString());
     }
-
-    private String normalize(String value) {
-        if (value == null) {
-            return null;
-        }
-        String trimmed = value.trim();
-        return trimmed.isEmpty() ? null : trimmed;
-    }
-
-    private boolean matchesFilter(User user, String username, String nickname, String email) {
-        return matchesLike(user.getUsername(), username)
-                && matchesLike(user.getNickname(), nickname)
-                && matchesLike(user.getEmail(), email);
-    }
-
-    private boolean matchesLike(String target, String filter) {
-        if (filter == null) {
-            return true;
-        }
-        if (target == null) {
-            return false;
-        }
-        return target.toLowerCase().contains(filter.toLowerCase());
-    }
 }
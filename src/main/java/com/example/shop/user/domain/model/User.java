@@ -5,6 +5,7 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -46,6 +47,14 @@ public class User {
                 .build();
     }
 
+    // 이 시각 이전에 발급된 토큰을 모두 무효화
+    // JWT iat는 초 단위라 초 단위로 내린다. 밀리초로 두면 같은 초에 다시 로그인해 받은 토큰(iat가 더 작아 보임)까지 무효가 된다
+    public User invalidateJwt(Instant now) {
+        return this.toBuilder()
+                .jwtValidator(now.truncatedTo(ChronoUnit.SECONDS).toEpochMilli())
+                .build();
+    }
+
     public List<UserRole> getUserRoleList() {
         return userRoleList == null ? List.of() : Collections.unmodifiableList(userRoleList);
     }
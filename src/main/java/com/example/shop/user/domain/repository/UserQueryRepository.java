@@ -0,0 +1,22 @@
+package com.example.shop.user.domain.repository;
+
+import com.example.shop.common.infrastructure.persistence.KeysetCursor;
+import com.example.shop.common.infrastructure.persistence.KeysetSlice;
+import com.example.shop.user.presentation.dto.response.ResGetUsersDtoV1.UserPageDto.UserDto;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.UUID;
+
+/**
+ * 사용자 목록 조회 전용 리포지토리.
+ * 필요한 컬럼만 조회해 응답 행으로 바로 만들고, 엔티티/도메인 객체를 거치지 않는다.
+ */
+public interface UserQueryRepository {
+
+    // userId가 있으면 해당 사용자로 한정, 검색 조건은 LIKE(대소문자 무시)
+    Page<UserDto> searchUsers(UUID userId, String username, String nickname, String email, Pageable pageable);
+
+    // 키셋 페이지네이션, cursor가 null이면 첫 페이지부터 조회
+    KeysetSlice<UserDto> searchUsersByCursor(UUID userId, String username, String nickname, String email, KeysetCursor cursor, int size);
+}
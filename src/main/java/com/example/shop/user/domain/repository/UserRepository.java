@@ -17,6 +17,9 @@ public interface UserRepository {
 
     Optional<User> findByUsername(String username);
 
+    // 엔티티를 로딩하지 않고 jwtValidator만 조회
+    Optional<Long> findJwtValidatorById(UUID userId);
+
     Page<User> searchUsers(String username, String nickname, String email, Pageable pageable);
 
     long count();
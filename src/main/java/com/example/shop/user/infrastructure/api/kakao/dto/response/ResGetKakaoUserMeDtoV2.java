@@ -2,9 +2,11 @@ package com.example.shop.user.infrastructure.api.kakao.dto.response;
 
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 @Getter
 @Builder
+@Jacksonized
 public class ResGetKakaoUserMeDtoV2 {
 
     private Long id;
@@ -12,6 +14,7 @@ public class ResGetKakaoUserMeDtoV2 {
 
     @Getter
     @Builder
+    @Jacksonized
     public static class KakaoAccount {
 
         private String email;
@@ -19,6 +22,7 @@ public class ResGetKakaoUserMeDtoV2 {
 
         @Getter
         @Builder
+        @Jacksonized
         public static class Profile {
 
             private String nickname;
@@ -1,46 +1,38 @@
 package com.example.shop.user.infrastructure.api.kakao.repository;
 
-import com.example.shop.common.util.UtilFunction;
 import com.example.shop.user.infrastructure.api.kakao.dto.response.ResGetKakaoUserMeDtoV2;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.stereotype.Repository;
-import org.springframework.web.util.UriComponents;
-import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
 @Slf4j
 @Repository
-@RequiredArgsConstructor
 public class KakaoApiRepository {
 
-    private final ObjectMapper objectMapper;
+    private final WebClient outboundWebClient;
+    private final String apiBaseUrl;
 
-    public synchronized ResGetKakaoUserMeDtoV2 getKakaoUserMeV2(
-            String accessToken
+    public KakaoApiRepository(
+            WebClient outboundWebClient,
+            @Value("${shop.kakao.api-base-url:https://kapi.kakao.com}") String apiBaseUrl
     ) {
-        final UriComponents uriComponents = UriComponentsBuilder
-                .fromUriString("https://kapi.kakao.com/v2/user/me")
-                .build();
-        ResponseEntity<String> responseEntity = UtilFunction.getWebClientAutoRedirect("json")
-                .get()
-                .uri(uriComponents.toUriString())
-                .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
-                .exchangeToMono(clientResponse -> clientResponse.toEntity(String.class))
-                .block();
-        if (responseEntity.getStatusCode() != HttpStatus.OK) {
-            throw new RuntimeException("카카오 유저 정보 API 호출에 실패했습니다. " + responseEntity.getBody());
-        }
-        ResGetKakaoUserMeDtoV2 resGetKakaoUserMeDtoV2;
-        try {
-            resGetKakaoUserMeDtoV2 = objectMapper.readValue(responseEntity.getBody(), ResGetKakaoUserMeDtoV2.class);
-        } catch (Exception e) {
-            throw new RuntimeException("카카오 유저 정보 API 호출에 실패했습니다. " + e.getMessage());
-        }
-        return resGetKakaoUserMeDtoV2;
+        this.outboundWebClient = outboundWebClient;
+        this.apiBaseUrl = apiBaseUrl;
+    }
+
+    // 호출 스레드를 막지 않는다, 동기 코드에서 쓰려면 트랜잭션 밖에서 block()한다
+    public Mono<ResGetKakaoUserMeDtoV2> getKakaoUserMeV2(String accessToken) {
+        return outboundWebClient.get()
+                .uri(apiBaseUrl + "/v2/user/me")
+                .headers(httpHeaders -> httpHeaders.setBearerAuth(accessToken))
+                .retrieve()
+                .onStatus(HttpStatusCode::isError, clientResponse -> clientResponse.bodyToMono(String.class)
+                        .defaultIfEmpty("")
+                        .map(body -> new RuntimeException("카카오 유저 정보 API 호출에 실패했습니다. " + body)))
+                .bodyToMono(ResGetKakaoUserMeDtoV2.class);
     }
 
 }
@@ -3,6 +3,7 @@ package com.example.shop.user.infrastructure.persistence.entity;
 import com.example.shop.common.infrastructure.persistence.entity.BaseEntity;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.DynamicInsert;
 import org.hibernate.annotations.DynamicUpdate;
 
@@ -11,7 +12,13 @@ import java.util.List;
 import java.util.UUID;
 
 @Entity
-@Table(name = "`USER`")
+@Table(
+        name = "`USER`",
+        indexes = {
+                // 키셋 페이지네이션(createdAt desc, id desc)용 인덱스
+                @Index(name = "idx_user_created_at_id", columnList = "created_at, id")
+        }
+)
 @DynamicInsert
 @DynamicUpdate
 @Getter
@@ -38,8 +45,10 @@ public class UserEntity extends BaseEntity {
     @Column(name = "email")
     private String email;
 
+    // 예전에 NULL로 추가된 행은 ZeroDefaultColumnBackfill 참고
     @Builder.Default
-    @Column(name = "jwt_validator")
+    @ColumnDefault("0")
+    @Column(name = "jwt_validator", nullable = false)
     private Long jwtValidator = 0L;
 
     @Builder.Default
@@ -2,6 +2,8 @@ package com.example.shop.user.infrastructure.persistence.repository;
 
 import com.example.shop.user.infrastructure.persistence.entity.UserEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 import java.util.UUID;
@@ -9,4 +11,8 @@ import java.util.UUID;
 public interface UserJpaRepository extends JpaRepository<UserEntity, UUID> {
 
     Optional<UserEntity> findByUsername(String username);
+
+    // 행이 없으면 empty, 값이 NULL인 예전 행은 0 (무효화된 적 없음)
+    @Query("select coalesce(u.jwtValidator, 0L) from UserEntity u where u.id = :userId")
+    Optional<Long> findJwtValidatorById(@Param("userId") UUID userId);
 }
@@ -0,0 +1,166 @@
+package com.example.shop.user.infrastructure.persistence.repository;
+
+import com.example.shop.common.infrastructure.persistence.KeysetCursor;
+import com.example.shop.common.infrastructure.persistence.KeysetSlice;
+import com.example.shop.user.domain.repository.UserQueryRepository;
+import com.example.shop.user.infrastructure.persistence.entity.QUserEntity;
+import com.example.shop.user.infrastructure.persistence.entity.QUserRoleEntity;
+import com.example.shop.user.presentation.dto.response.ResGetUsersDtoV1.UserPageDto.UserDto;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.util.*;
+
+@Repository
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class UserQueryRepositoryImpl implements UserQueryRepository {
+
+    private final JPAQueryFactory jpaQueryFactory;
+
+    private static final QUserEntity user = QUserEntity.userEntity;
+    private static final QUserRoleEntity userRole = QUserRoleEntity.userRoleEntity;
+
+    @Override
+    public Page<UserDto> searchUsers(UUID userId, String username, String nickname, String email, Pageable pageable) {
+        BooleanBuilder builder = searchCondition(userId, username, nickname, email);
+        var query = jpaQueryFactory.select(user.id, user.username, user.nickname, user.email)
+                .from(user)
+                .where(builder)
+                .orderBy(resolveOrderSpecifiers(pageable.getSort()));
+
+        if (pageable.isUnpaged()) {
+            List<UserDto> content = toUserDtoList(query.fetch());
+            return new PageImpl<>(content, Pageable.unpaged(), content.size());
+        }
+
+        List<UserDto> content = toUserDtoList(query
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch());
+        Long fetchedTotal = jpaQueryFactory.select(user.count())
+                .from(user)
+                .where(builder)
+                .fetchOne();
+        return new PageImpl<>(content, pageable, fetchedTotal == null ? content.size() : fetchedTotal);
+    }
+
+    @Override
+    public KeysetSlice<UserDto> searchUsersByCursor(
+            UUID userId,
+            String username,
+            String nickname,
+            String email,
+            KeysetCursor cursor,
+            int size
+    ) {
+        BooleanBuilder builder = searchCondition(userId, username, nickname, email);
+        if (cursor != null) {
+            builder.and(user.createdAt.lt(cursor.createdAt())
+                    .or(user.createdAt.eq(cursor.createdAt()).and(user.id.lt(cursor.id()))));
+        }
+        List<Tuple> tupleList = jpaQueryFactory.select(user.id, user.username, user.nickname, user.email, user.createdAt)
+                .from(user)
+                .where(builder)
+                .orderBy(user.createdAt.desc(), user.id.desc())
+                .limit(size + 1L)
+                .fetch();
+        Map<UUID, List<String>> roleListByUserId = findRoleListByUserId(tupleList);
+        return KeysetCursor.toKeysetSlice(
+                tupleList,
+                size,
+                tuple -> toUserDto(tuple, roleListByUserId),
+                tuple -> tuple.get(user.createdAt),
+                tuple -> tuple.get(user.id)
+        );
+    }
+
+    private List<UserDto> toUserDtoList(List<Tuple> tupleList) {
+        Map<UUID, List<String>> roleListByUserId = findRoleListByUserId(tupleList);
+        return tupleList.stream()
+                .map(tuple -> toUserDto(tuple, roleListByUserId))
+                .toList();
+    }
+
+    // 페이지에 포함된 사용자들의 역할을 한 번의 쿼리로 조회
+    private Map<UUID, List<String>> findRoleListByUserId(List<Tuple> tupleList) {
+        if (tupleList.isEmpty()) {
+            return Map.of();
+        }
+        List<UUID> userIdList = tupleList.stream()
+                .map(tuple -> tuple.get(user.id))
+                .toList();
+        Map<UUID, List<String>> roleListByUserId = new HashMap<>();
+        jpaQueryFactory.select(userRole.user.id, userRole.role)
+                .from(userRole)
+                .where(userRole.user.id.in(userIdList))
+                .fetch()
+                .forEach(tuple -> roleListByUserId
+                        .computeIfAbsent(tuple.get(userRole.user.id), key -> new ArrayList<>())
+                        .add(Objects.requireNonNull(tuple.get(userRole.role)).name()));
+        return roleListByUserId;
+    }
+
+    private UserDto toUserDto(Tuple tuple, Map<UUID, List<String>> roleListByUserId) {
+        UUID id = tuple.get(user.id);
+        return UserDto.builder()
+                .id(String.valueOf(id))
+                .username(tuple.get(user.username))
+                .nickname(tuple.get(user.nickname))
+                .email(tuple.get(user.email))
+                .roleList(List.copyOf(roleListByUserId.getOrDefault(id, List.of())))
+                .build();
+    }
+
+    private BooleanBuilder searchCondition(UUID userId, String username, String nickname, String email) {
+        BooleanBuilder builder = new BooleanBuilder();
+        if (userId != null) {
+            builder.and(user.id.eq(userId));
+        }
+        if (StringUtils.hasText(username)) {
+            builder.and(user.username.containsIgnoreCase(username));
+        }
+        if (StringUtils.hasText(nickname)) {
+            builder.and(user.nickname.containsIgnoreCase(nickname));
+        }
+        if (StringUtils.hasText(email)) {
+            builder.and(user.email.containsIgnoreCase(email));
+        }
+        return builder;
+    }
+
+    private OrderSpecifier<?>[] resolveOrderSpecifiers(Sort sort) {
+        List<OrderSpecifier<?>> orderSpecifiers = new ArrayList<>();
+        if (sort != null && sort.isSorted()) {
+            for (Sort.Order order : sort) {
+                orderSpecifiers.add(toOrderSpecifier(order));
+            }
+        }
+
+        if (orderSpecifiers.isEmpty()) {
+            orderSpecifiers.add(user.createdAt.desc());
+        }
+
+        return orderSpecifiers.toArray(new OrderSpecifier<?>[0]);
+    }
+
+    private OrderSpecifier<?> toOrderSpecifier(Sort.Order order) {
+        return switch (order.getProperty()) {
+            case "username" -> order.isAscending() ? user.username.asc() : user.username.desc();
+            case "nickname" -> order.isAscending() ? user.nickname.asc() : user.nickname.desc();
+            case "email" -> order.isAscending() ? user.email.asc() : user.email.desc();
+            case "updatedAt" -> order.isAscending() ? user.updatedAt.asc() : user.updatedAt.desc();
+            default -> order.isAscending() ? user.createdAt.asc() : user.createdAt.desc();
+        };
+    }
+}
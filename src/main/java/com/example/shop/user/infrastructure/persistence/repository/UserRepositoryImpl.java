@@ -1,5 +1,6 @@
 package com.example.shop.user.infrastructure.persistence.repository;
 
+import com.example.shop.common.infrastructure.persistence.ManagedEntityTracker;
 import com.example.shop.user.domain.model.User;
 import com.example.shop.user.domain.repository.UserRepository;
 import com.example.shop.user.infrastructure.persistence.entity.QUserEntity;
@@ -30,12 +31,19 @@ public class UserRepositoryImpl implements UserRepository {
     private final UserJpaRepository userJpaRepository;
     private final JPAQueryFactory jpaQueryFactory;
     private final UserMapper userMapper;
+    private final ManagedEntityTracker managedEntityTracker;
 
     private static final QUserEntity user = QUserEntity.userEntity;
 
     @Override
     @Transactional
     public User save(User user) {
+        Optional<UserEntity> trackedUserEntity = managedEntityTracker.find(UserEntity.class, user.getId());
+        if (trackedUserEntity.isPresent()) {
+            userMapper.applyDomain(user, trackedUserEntity.get());
+            return userMapper.toDomain(trackedUserEntity.get());
+        }
+
         UserEntity userEntity;
         if (user.getId() != null) {
             userEntity = userJpaRepository.findById(user.getId())
@@ -51,27 +59,25 @@ public class UserRepositoryImpl implements UserRepository {
     @Override
     public Optional<User> findById(UUID userId) {
         return userJpaRepository.findById(userId)
+                .map(this::track)
                 .map(userMapper::toDomain);
     }
 
     @Override
     public Optional<User> findByUsername(String username) {
         return userJpaRepository.findByUsername(username)
+                .map(this::track)
                 .map(userMapper::toDomain);
     }
 
+    @Override
+    public Optional<Long> findJwtValidatorById(UUID userId) {
+        return userJpaRepository.findJwtValidatorById(userId);
+    }
+
     @Override
     public Page<User> searchUsers(String username, String nickname, String email, Pageable pageable) {
-        BooleanBuilder builder = new BooleanBuilder();
-        if (StringUtils.hasText(username)) {
-            builder.and(user.username.containsIgnoreCase(username));
-        }
-        if (StringUtils.hasText(nickname)) {
-            builder.and(user.nickname.containsIgnoreCase(nickname));
-        }
-        if (StringUtils.hasText(email)) {
-            builder.and(user.email.containsIgnoreCase(email));
-        }
+        BooleanBuilder builder = searchCondition(username, nickname, email);
 
         var query = jpaQueryFactory.selectFrom(user)
                 .where(builder)
@@ -110,6 +116,24 @@ public class UserRepositoryImpl implements UserRepository {
         return userJpaRepository.count();
     }
 
+    private UserEntity track(UserEntity userEntity) {
+        return managedEntityTracker.track(UserEntity.class, userEntity.getId(), userEntity);
+    }
+
+    private BooleanBuilder searchCondition(String username, String nickname, String email) {
+        BooleanBuilder builder = new BooleanBuilder();
+        if (StringUtils.hasText(username)) {
+            builder.and(user.username.containsIgnoreCase(username));
+        }
+        if (StringUtils.hasText(nickname)) {
+            builder.and(user.nickname.containsIgnoreCase(nickname));
+        }
+        if (StringUtils.hasText(email)) {
+            builder.and(user.email.containsIgnoreCase(email));
+        }
+        return builder;
+    }
+
     private OrderSpecifier<?>[] resolveOrderSpecifiers(Sort sort) {
         List<OrderSpecifier<?>> orderSpecifiers = new ArrayList<>();
         if (sort != null && sort.isSorted()) {
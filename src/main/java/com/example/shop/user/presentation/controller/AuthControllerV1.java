@@ -1,5 +1,6 @@
 package com.example.shop.user.presentation.controller;
 
+import com.example.shop.common.infrastructure.config.security.auth.CustomUserDetails;
 import com.example.shop.common.presentation.dto.ApiDto;
 import com.example.shop.user.application.service.AuthServiceV1;
 import com.example.shop.user.presentation.dto.request.ReqAuthPostRefreshDtoV1;
@@ -10,6 +11,7 @@ import com.example.shop.user.presentation.dto.response.ResPostAuthRefreshDtoV1;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -65,6 +67,20 @@ public class AuthControllerV1 {
 //
 //    }
 
+    @PostMapping("/logout")
+    public ResponseEntity<ApiDto<Object>> postAuthLogout(
+            @AuthenticationPrincipal CustomUserDetails customUserDetails
+    ) {
+
+        authServiceV1.postAuthLogout(customUserDetails.getId());
+        return ResponseEntity.ok(
+                ApiDto.builder()
+                        .message("로그아웃에 성공하였습니다.")
+                        .build()
+        );
+
+    }
+
     @PostMapping("/refresh")
     public ResponseEntity<ApiDto<ResPostAuthRefreshDtoV1>> postAuthRefresh(
             @RequestBody @Valid ReqAuthPostRefreshDtoV1 reqDto
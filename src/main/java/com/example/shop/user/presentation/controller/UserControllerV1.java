@@ -2,6 +2,7 @@ package com.example.shop.user.presentation.controller;
 
 import com.example.shop.common.infrastructure.config.security.auth.CustomUserDetails;
 import com.example.shop.common.presentation.dto.ApiDto;
+import com.example.shop.user.application.service.UserQueryServiceV1;
 import com.example.shop.user.application.service.UserServiceV1;
 import com.example.shop.user.presentation.dto.response.ResGetUsersDtoV1;
 import com.example.shop.user.presentation.dto.response.ResGetUserDtoV1;
@@ -23,6 +24,7 @@ import java.util.UUID;
 public class UserControllerV1 {
 
     private final UserServiceV1 userServiceV1;
+    private final UserQueryServiceV1 userQueryServiceV1;
 
     @GetMapping
     public ResponseEntity<ApiDto<ResGetUsersDtoV1>> getUsers(
@@ -30,16 +32,28 @@ public class UserControllerV1 {
             @PageableDefault(sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
             @RequestParam(value = "username", required = false) String username,
             @RequestParam(value = "nickname", required = false) String nickname,
-            @RequestParam(value = "email", required = false) String email
+            @RequestParam(value = "email", required = false) String email,
+            @RequestParam(value = "cursor", required = false) String cursor
     ) {
-        ResGetUsersDtoV1 responseBody = userServiceV1.getUsers(
-                customUserDetails.getId(),
-                customUserDetails.getRoleList(),
-                pageable,
-                username,
-                nickname,
-                email
-        );
+        // cursor 파라미터가 있으면(빈 값은 첫 페이지) count 없는 키셋 페이지네이션으로 조회
+        ResGetUsersDtoV1 responseBody = cursor != null
+                ? userQueryServiceV1.getUsersByCursor(
+                        customUserDetails.getId(),
+                        customUserDetails.getRoleList(),
+                        cursor,
+                        pageable.getPageSize(),
+                        username,
+                        nickname,
+                        email
+                )
+                : userQueryServiceV1.getUsers(
+                        customUserDetails.getId(),
+                        customUserDetails.getRoleList(),
+                        pageable,
+                        username,
+                        nickname,
+                        email
+                );
         return ResponseEntity.ok(
                 ApiDto.<ResGetUsersDtoV1>builder()
                         .data(responseBody)
@@ -1,12 +1,13 @@
 package com.example.shop.user.presentation.dto.response;
 
-import com.example.shop.user.domain.model.User;
-import com.example.shop.user.domain.model.UserRole;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.ToString;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PagedModel;
 
 import java.util.List;
@@ -17,24 +18,46 @@ public class ResGetUsersDtoV1 {
 
     private UserPageDto userPage;
 
-    public static ResGetUsersDtoV1 of(Page<User> userPage) {
+    public static ResGetUsersDtoV1 of(Page<UserPageDto.UserDto> userPage) {
         return ResGetUsersDtoV1.builder()
                 .userPage(new UserPageDto(userPage))
                 .build();
     }
 
+    public static ResGetUsersDtoV1 of(Slice<UserPageDto.UserDto> userSlice, String nextCursor) {
+        return ResGetUsersDtoV1.builder()
+                .userPage(new UserPageDto(userSlice, nextCursor))
+                .build();
+    }
+
     @Getter
     @ToString
     public static class UserPageDto extends PagedModel<UserPageDto.UserDto> {
 
-        public UserPageDto(Page<User> userPage) {
-            super(
-                    new PageImpl<>(
-                            UserDto.from(userPage.getContent()),
-                            userPage.getPageable(),
-                            userPage.getTotalElements()
-                    )
-            );
+        // 커서 모드에서 다음 페이지 조회에 사용할 토큰, 마지막 페이지면 null
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private final String nextCursor;
+
+        @JsonIgnore
+        private final boolean cursorMode;
+
+        public UserPageDto(Page<UserDto> userPage) {
+            super(userPage);
+            this.nextCursor = null;
+            this.cursorMode = false;
+        }
+
+        public UserPageDto(Slice<UserDto> userSlice, String nextCursor) {
+            super(new PageImpl<>(userSlice.getContent()));
+            this.nextCursor = nextCursor;
+            this.cursorMode = true;
+        }
+
+        // 커서 모드는 전체 개수를 세지 않으므로 page 메타데이터를 내려주지 않는다
+        @Override
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        public PageMetadata getMetadata() {
+            return cursorMode ? null : super.getMetadata();
         }
 
         @Getter
@@ -46,28 +69,6 @@ public class ResGetUsersDtoV1 {
             private String nickname;
             private String email;
             private List<String> roleList;
-
-            private static List<UserDto> from(List<User> userList) {
-                return userList.stream()
-                        .map(UserDto::from)
-                        .toList();
-            }
-
-            public static UserDto from(User user) {
-                return UserDto.builder()
-                        .id(user.getId().toString())
-                        .username(user.getUsername())
-                        .nickname(user.getNickname())
-                        .email(user.getEmail())
-                        .roleList(
-                                user.getUserRoleList()
-                                        .stream()
-                                        .map(UserRole::getRole)
-                                        .map(Enum::name)
-                                        .toList()
-                        )
-                        .build();
-            }
         }
     }
 }
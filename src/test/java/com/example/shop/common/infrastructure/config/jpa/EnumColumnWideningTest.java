@@ -0,0 +1,83 @@
+package com.example.shop.common.infrastructure.config.jpa;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@Import(EnumColumnWidening.class)
+// H2는 DDL에서 트랜잭션을 커밋하므로 테스트 트랜잭션 없이 실행하고 직접 정리한다
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class EnumColumnWideningTest {
+
+    @Autowired
+    private EnumColumnWidening enumColumnWidening;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        // 주문 행만 넣으려고 사용자 FK 검사를 끈다
+        jdbcTemplate.execute("set referential_integrity false");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from \"order\"");
+        jdbcTemplate.execute("set referential_integrity true");
+    }
+
+    @Test
+    @DisplayName("예전 enum 컬럼을 varchar로 바꿔 나중에 추가된 상태도 저장할 수 있게 한다")
+    void widensLegacyEnumColumn() {
+        jdbcTemplate.execute("alter table \"order\" alter column status set data type enum('CANCELLED','CREATED','PAID')");
+        insertOrder("CREATED");
+        assertThatThrownBy(() -> insertOrder("PENDING")).isInstanceOf(DataAccessException.class);
+
+        enumColumnWidening.widen();
+
+        insertOrder("PENDING");
+        insertOrder("REJECTED");
+        assertThat(jdbcTemplate.queryForObject("select count(*) from \"order\"", Long.class)).isEqualTo(3L);
+        assertThat(statusColumn("data_type")).isEqualTo("CHARACTER VARYING");
+        assertThat(statusColumn("is_nullable")).isEqualTo("NO");
+    }
+
+    @Test
+    @DisplayName("이미 varchar인 컬럼은 건드리지 않는다")
+    void skipsVarcharColumns() {
+        enumColumnWidening.widen();
+
+        assertThat(statusColumn("data_type")).isEqualTo("CHARACTER VARYING");
+        assertThat(statusColumn("character_maximum_length")).isEqualTo("32");
+    }
+
+    private void insertOrder(String status) {
+        jdbcTemplate.update(
+                "insert into \"order\" (id, user_id, status, total_amount, version, created_at, created_by) values (?, ?, ?, ?, ?, ?, ?)",
+                UUID.randomUUID(), UUID.randomUUID(), status, 1000L, 0L, Instant.now(), "system"
+        );
+    }
+
+    private String statusColumn(String name) {
+        return jdbcTemplate.queryForObject(
+                "select " + name + " from information_schema.columns where table_name = 'order' and column_name = 'STATUS'",
+                String.class
+        );
+    }
+}
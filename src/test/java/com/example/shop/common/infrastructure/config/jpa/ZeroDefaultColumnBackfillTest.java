@@ -0,0 +1,94 @@
+package com.example.shop.common.infrastructure.config.jpa;
+
+import com.example.shop.user.infrastructure.persistence.repository.UserJpaRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(ZeroDefaultColumnBackfill.class)
+// H2는 DDL에서 트랜잭션을 커밋하므로 테스트 트랜잭션 없이 실행하고 직접 정리한다
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ZeroDefaultColumnBackfillTest {
+
+    @Autowired
+    private ZeroDefaultColumnBackfill zeroDefaultColumnBackfill;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserJpaRepository userJpaRepository;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from PRODUCT");
+        jdbcTemplate.update("delete from \"user\"");
+    }
+
+    @Test
+    @DisplayName("nullable로 추가됐던 version 컬럼의 NULL을 0으로 채우고 NOT NULL DEFAULT 0으로 바꾼다")
+    void backfillsLegacyNullVersions() {
+        jdbcTemplate.execute("alter table PRODUCT alter column version set null");
+        jdbcTemplate.execute("alter table PRODUCT alter column version drop default");
+        UUID productId = UUID.randomUUID();
+        jdbcTemplate.update(
+                "insert into PRODUCT (id, name, price, stock, version, created_at, created_by) values (?, ?, ?, ?, null, ?, ?)",
+                productId, "예전상품", 1000L, 5L, Instant.now(), "system"
+        );
+
+        zeroDefaultColumnBackfill.backfill();
+
+        assertThat(jdbcTemplate.queryForObject("select version from PRODUCT where id = ?", Long.class, productId)).isZero();
+        jdbcTemplate.update(
+                "insert into PRODUCT (id, name, price, stock, created_at, created_by) values (?, ?, ?, ?, ?, ?)",
+                UUID.randomUUID(), "새상품", 1000L, 5L, Instant.now(), "system"
+        );
+        assertThat(jdbcTemplate.queryForObject("select version from PRODUCT where name = '새상품'", Long.class)).isZero();
+    }
+
+    @Test
+    @DisplayName("NULL인 jwt_validator는 무효화된 적 없는 0으로 읽고, 시작 시 0으로 채운다")
+    void backfillsLegacyNullJwtValidators() {
+        jdbcTemplate.execute("alter table \"user\" alter column jwt_validator set null");
+        jdbcTemplate.execute("alter table \"user\" alter column jwt_validator drop default");
+        UUID userId = UUID.randomUUID();
+        jdbcTemplate.update(
+                "insert into \"user\" (id, username, password, nickname, jwt_validator, created_at, created_by) values (?, ?, ?, ?, null, ?, ?)",
+                userId, "legacy", "password", "예전사용자", Instant.now(), "system"
+        );
+
+        assertThat(userJpaRepository.findJwtValidatorById(userId)).contains(0L);
+        assertThat(userJpaRepository.findJwtValidatorById(UUID.randomUUID())).isEmpty();
+
+        zeroDefaultColumnBackfill.backfill();
+
+        assertThat(jdbcTemplate.queryForObject("select jwt_validator from \"user\" where id = ?", Long.class, userId)).isZero();
+        assertThat(jdbcTemplate.queryForObject(
+                "select is_nullable from information_schema.columns where table_name = 'user' and column_name = 'JWT_VALIDATOR'",
+                String.class
+        )).isEqualTo("NO");
+    }
+
+    @Test
+    @DisplayName("이미 NOT NULL인 version 컬럼은 건드리지 않는다")
+    void skipsNonNullableColumns() {
+        zeroDefaultColumnBackfill.backfill();
+
+        assertThat(jdbcTemplate.queryForObject(
+                "select is_nullable from information_schema.columns where table_name = 'PRODUCT' and column_name = 'VERSION'",
+                String.class
+        )).isEqualTo("NO");
+    }
+}
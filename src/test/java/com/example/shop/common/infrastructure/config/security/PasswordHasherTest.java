@@ -0,0 +1,108 @@
+package com.example.shop.common.infrastructure.config.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+class PasswordHasherTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch releaseLatch = new CountDownLatch(1);
+    private final CountDownLatch startedLatch = new CountDownLatch(1);
+
+    private PasswordHasher passwordHasher;
+
+    @AfterEach
+    void tearDown() {
+        releaseLatch.countDown();
+        passwordHasher.shutdown();
+    }
+
+    @Test
+    @DisplayName("해시 결과를 반환하고 작업별 소요 시간을 기록한다")
+    void encodeAndMatchesRecordLatency() {
+        passwordHasher = new PasswordHasher(new PrefixPasswordEncoder(), meterRegistry, 1, 1, 5000L);
+
+        String encoded = passwordHasher.encode("temp1234");
+
+        assertThat(encoded).isEqualTo("hashed:temp1234");
+        assertThat(passwordHasher.matches("temp1234", encoded)).isTrue();
+        assertThat(passwordHasher.matches("wrong", encoded)).isFalse();
+        assertThat(meterRegistry.get(PasswordHasher.HASH_TIMER_NAME).tag("operation", "encode").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(PasswordHasher.HASH_TIMER_NAME).tag("operation", "matches").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("실행 중인 작업과 대기열이 가득 차면 즉시 거절한다")
+    void rejectsWhenQueueIsFull() throws Exception {
+        passwordHasher = new PasswordHasher(new BlockingPasswordEncoder(), meterRegistry, 1, 1, 5000L);
+
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> passwordHasher.encode("first"));
+        assertThat(startedLatch.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> passwordHasher.encode("second"));
+        await().atMost(5, TimeUnit.SECONDS)
+                .until(() -> meterRegistry.get(PasswordHasher.QUEUE_GAUGE_NAME).gauge().value() == 1.0);
+
+        assertThatThrownBy(() -> passwordHasher.encode("third"))
+                .isInstanceOf(RejectedExecutionException.class);
+        assertThat(meterRegistry.get(PasswordHasher.REJECTED_COUNTER_NAME).counter().count()).isEqualTo(1.0);
+
+        releaseLatch.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("hashed:first");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("hashed:second");
+    }
+
+    @Test
+    @DisplayName("시간 안에 끝나지 않으면 작업을 취소하고 대기열 초과와 같이 거절한다")
+    void rejectsWhenHashTimesOut() {
+        passwordHasher = new PasswordHasher(new BlockingPasswordEncoder(), meterRegistry, 1, 1, 100L);
+
+        assertThatThrownBy(() -> passwordHasher.encode("slow"))
+                .isInstanceOf(RejectedExecutionException.class)
+                .hasCauseInstanceOf(TimeoutException.class);
+        assertThat(meterRegistry.get(PasswordHasher.TIMEOUT_COUNTER_NAME).counter().count()).isEqualTo(1.0);
+
+        // 취소된 작업이 풀을 놓아 다음 요청은 처리된다
+        releaseLatch.countDown();
+        assertThat(passwordHasher.matches("temp1234", "hashed:temp1234")).isTrue();
+    }
+
+    private static class PrefixPasswordEncoder implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return "hashed:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encode(rawPassword).equals(encodedPassword);
+        }
+    }
+
+    private class BlockingPasswordEncoder extends PrefixPasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            startedLatch.countDown();
+            try {
+                releaseLatch.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return super.encode(rawPassword);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.shop.common.infrastructure.config.security.auth;
+
+import com.example.shop.common.infrastructure.constants.Constants;
+import com.example.shop.common.util.UtilFunction;
+import com.example.shop.user.domain.model.User;
+import com.example.shop.user.domain.model.UserRole;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtAuthorizationFilterTest {
+
+    private JwtRevocationIndex jwtRevocationIndex;
+
+    private JwtAuthorizationFilter jwtAuthorizationFilter;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        jwtRevocationIndex = new JwtRevocationIndex(userId -> Optional.of(0L), 100);
+        jwtAuthorizationFilter = new JwtAuthorizationFilter(jwtRevocationIndex, 100L);
+        user = User.builder()
+                .id(UUID.randomUUID())
+                .username("filter_user")
+                .nickname("filter")
+                .email("filter@example.com")
+                .userRoleList(List.of(UserRole.builder().role(UserRole.Role.USER).build()))
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("같은 액세스 토큰은 다시 검증하지 않고 캐시된 인증 정보를 사용한다")
+    void sameTokenReusesCachedAuthentication() throws Exception {
+        String accessJwt = UtilFunction.generateAccessJwtBy(user);
+
+        Authentication first = filter(Constants.Jwt.HEADER_PREFIX + accessJwt);
+        Authentication second = filter(Constants.Jwt.HEADER_PREFIX + accessJwt);
+
+        assertThat(first).isNotNull();
+        assertThat(((CustomUserDetails) first.getPrincipal()).getId()).isEqualTo(user.getId());
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰이나 위조된 토큰은 인증 정보를 설정하지 않는다")
+    void invalidTokenIsNotAuthenticated() throws Exception {
+        String refreshJwt = UtilFunction.generateRefreshJwtBy(user);
+        String accessJwt = UtilFunction.generateAccessJwtBy(user);
+
+        assertThat(filter(Constants.Jwt.HEADER_PREFIX + refreshJwt)).isNull();
+        assertThat(filter(Constants.Jwt.HEADER_PREFIX + accessJwt + "tampered")).isNull();
+    }
+
+    @Test
+    @DisplayName("무효화 이벤트 이후에는 캐시된 토큰이라도 인증 정보를 설정하지 않는다")
+    void revokedTokenIsNotAuthenticated() throws Exception {
+        String accessJwt = UtilFunction.generateAccessJwtBy(user);
+        assertThat(filter(Constants.Jwt.HEADER_PREFIX + accessJwt)).isNotNull();
+
+        jwtRevocationIndex.onJwtRevoked(new JwtRevokedEvent(user.getId(), Instant.now().plusSeconds(1).toEpochMilli()));
+
+        assertThat(filter(Constants.Jwt.HEADER_PREFIX + accessJwt)).isNull();
+    }
+
+    private Authentication filter(String authorizationHeader) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/orders");
+        request.addHeader(Constants.Jwt.ACCESS_HEADER_NAME, authorizationHeader);
+        jwtAuthorizationFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.shop.common.infrastructure.config.security.auth;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.example.shop.user.domain.model.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtRevocationIndexTest {
+
+    @Test
+    @DisplayName("jwtValidator는 사용자별로 한 번만 DB에서 적재한다")
+    void loadsJwtValidatorOnce() {
+        AtomicInteger loadCount = new AtomicInteger();
+        JwtRevocationIndex jwtRevocationIndex = new JwtRevocationIndex(userId -> {
+            loadCount.incrementAndGet();
+            return Optional.of(0L);
+        }, 100);
+        UUID userId = UUID.randomUUID();
+
+        assertThat(jwtRevocationIndex.isRevoked(userId, Instant.now())).isFalse();
+        assertThat(jwtRevocationIndex.isRevoked(userId, Instant.now())).isFalse();
+
+        assertThat(loadCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("무효화 이벤트 이전에 발급된 토큰만 무효로 판단한다")
+    void revokesTokensIssuedBeforeEvent() {
+        JwtRevocationIndex jwtRevocationIndex = new JwtRevocationIndex(userId -> Optional.of(0L), 100);
+        UUID userId = UUID.randomUUID();
+        Instant revokedAt = Instant.parse("2025-01-01T00:00:00Z");
+
+        jwtRevocationIndex.onJwtRevoked(new JwtRevokedEvent(userId, revokedAt.toEpochMilli()));
+        // 더 오래된 값으로는 되돌아가지 않는다
+        jwtRevocationIndex.onJwtRevoked(new JwtRevokedEvent(userId, 0L));
+
+        assertThat(jwtRevocationIndex.isRevoked(userId, revokedAt.minusSeconds(1))).isTrue();
+        assertThat(jwtRevocationIndex.isRevoked(userId, revokedAt.plusSeconds(1))).isFalse();
+    }
+
+    @Test
+    @DisplayName("로그아웃한 그 초에 다시 로그인해 받은 토큰은 유효하다 (JWT iat는 초 단위)")
+    void reLoginInSameSecondAsLogoutIsNotRevoked() {
+        JwtRevocationIndex jwtRevocationIndex = new JwtRevocationIndex(userId -> Optional.of(0L), 100);
+        User user = User.builder()
+                .id(UUID.randomUUID())
+                .jwtValidator(0L)
+                .build();
+        Instant logoutAt = Instant.parse("2025-01-01T00:00:00.700Z");
+        DecodedJWT beforeLogoutJwt = JWT.decode(JWT.create()
+                .withIssuedAt(Instant.parse("2024-12-31T23:59:59.900Z"))
+                .sign(Algorithm.HMAC512("secret")));
+
+        User loggedOutUser = user.invalidateJwt(logoutAt);
+        jwtRevocationIndex.onJwtRevoked(new JwtRevokedEvent(user.getId(), loggedOutUser.getJwtValidator()));
+        DecodedJWT reLoginJwt = JWT.decode(JWT.create()
+                .withIssuedAt(logoutAt.plusMillis(200))
+                .sign(Algorithm.HMAC512("secret")));
+
+        assertThat(jwtRevocationIndex.isRevoked(user.getId(), reLoginJwt.getIssuedAtAsInstant())).isFalse();
+        assertThat(jwtRevocationIndex.isRevoked(user.getId(), beforeLogoutJwt.getIssuedAtAsInstant())).isTrue();
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 사용자의 토큰은 무효로 판단한다")
+    void unknownUserIsRevoked() {
+        JwtRevocationIndex jwtRevocationIndex = new JwtRevocationIndex(userId -> Optional.empty(), 100);
+
+        assertThat(jwtRevocationIndex.isRevoked(UUID.randomUUID(), Instant.now())).isTrue();
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 비우고, 비워진 사용자는 다시 DB에서 적재한다")
+    void clearsAndReloadsWhenFull() {
+        AtomicInteger loadCount = new AtomicInteger();
+        JwtRevocationIndex jwtRevocationIndex = new JwtRevocationIndex(userId -> {
+            loadCount.incrementAndGet();
+            return Optional.of(0L);
+        }, 2);
+        UUID firstUserId = UUID.randomUUID();
+
+        jwtRevocationIndex.isRevoked(firstUserId, Instant.now());
+        jwtRevocationIndex.isRevoked(UUID.randomUUID(), Instant.now());
+        jwtRevocationIndex.isRevoked(UUID.randomUUID(), Instant.now());
+
+        assertThat(jwtRevocationIndex.size()).isEqualTo(1);
+        assertThat(jwtRevocationIndex.isRevoked(firstUserId, Instant.now())).isFalse();
+        assertThat(loadCount.get()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("DB에서 읽는 사이 맵이 비워지면 읽은 값을 넣지 않아, 그 사이 도착한 무효화를 잃지 않는다")
+    void doesNotCacheValueLoadedAcrossClear() {
+        UUID userId = UUID.randomUUID();
+        Instant revokedAt = Instant.parse("2025-01-01T00:00:00Z");
+        AtomicLong storedJwtValidator = new AtomicLong(0L);
+        AtomicBoolean revokedWhileLoading = new AtomicBoolean();
+        AtomicReference<JwtRevocationIndex> indexReference = new AtomicReference<>();
+        JwtRevocationIndex jwtRevocationIndex = new JwtRevocationIndex(loadingUserId -> {
+            long loaded = loadingUserId.equals(userId) ? storedJwtValidator.get() : 0L;
+            if (loadingUserId.equals(userId) && revokedWhileLoading.compareAndSet(false, true)) {
+                // 무효화 전 값을 읽은 뒤 무효화가 커밋되고, 다른 사용자 적재로 맵이 비워진다
+                storedJwtValidator.set(revokedAt.toEpochMilli());
+                indexReference.get().onJwtRevoked(new JwtRevokedEvent(userId, revokedAt.toEpochMilli()));
+                indexReference.get().isRevoked(UUID.randomUUID(), Instant.now());
+            }
+            return Optional.of(loaded);
+        }, 1);
+        indexReference.set(jwtRevocationIndex);
+
+        jwtRevocationIndex.isRevoked(userId, revokedAt.minusSeconds(1));
+
+        assertThat(jwtRevocationIndex.isRevoked(userId, revokedAt.minusSeconds(1))).isTrue();
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.shop.common.infrastructure.config.thread;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.system.JavaVersion;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VirtualThreadRuntimeCheckTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(VirtualThreadRuntimeCheck.class);
+
+    @Test
+    @DisplayName("가상 스레드를 켜면 Java 21 미만에서는 기동에 실패한다")
+    void failsBelowJava21WhenVirtualThreadsEnabled() {
+        boolean supported = JavaVersion.getJavaVersion().isEqualOrNewerThan(JavaVersion.TWENTY_ONE);
+
+        contextRunner.withPropertyValues("spring.threads.virtual.enabled=true")
+                .run(context -> {
+                    if (supported) {
+                        assertThat(context).hasNotFailed();
+                    } else {
+                        assertThat(context).hasFailed();
+                        assertThat(context.getStartupFailure()).hasRootCauseInstanceOf(IllegalStateException.class);
+                    }
+                });
+    }
+
+    @Test
+    @DisplayName("가상 스레드를 켜지 않으면 검사하지 않는다")
+    void skipsWhenVirtualThreadsDisabled() {
+        contextRunner.run(context -> assertThat(context)
+                .hasNotFailed()
+                .doesNotHaveBean(VirtualThreadRuntimeCheck.class));
+    }
+}
@@ -0,0 +1,160 @@
+package com.example.shop.common.infrastructure.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IdempotencyAspectTest {
+
+    private IdempotentTarget target;
+    private IdempotentTarget proxy;
+
+    @BeforeEach
+    void setUp() {
+        target = new IdempotentTarget();
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(target);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(new IdempotencyAspect(
+                new InMemoryIdempotencyStore(new SimpleMeterRegistry(), 100L, 60_000L),
+                new ObjectMapper()
+        ));
+        proxy = proxyFactory.getProxy();
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("같은 키의 재요청은 메소드를 다시 실행하지 않고 처음 결과를 반환한다")
+    void replayReturnsStoredResult() {
+        bindRequest("key-1");
+        String first = proxy.create("body");
+        bindRequest("key-1");
+        String second = proxy.create("body");
+
+        assertThat(second).isSameAs(first);
+        assertThat(target.invocationCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("키가 없거나 다르면 매번 실행한다")
+    void differentOrMissingKeyExecutes() {
+        bindRequest(null);
+        proxy.create("body");
+        bindRequest("key-1");
+        proxy.create("body");
+        bindRequest("key-2");
+        proxy.create("body");
+
+        assertThat(target.invocationCount.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("같은 키를 다른 본문에 쓰면 예외를 던진다")
+    void reusedKeyWithDifferentBodyThrows() {
+        bindRequest("key-1");
+        proxy.create("body");
+        bindRequest("key-1");
+
+        assertThatThrownBy(() -> proxy.create("other"))
+                .isInstanceOf(IdempotencyException.class)
+                .extracting("error")
+                .isEqualTo(IdempotencyError.IDEMPOTENCY_KEY_REUSED);
+    }
+
+    @Test
+    @DisplayName("실패한 요청은 저장하지 않아 같은 키로 다시 실행할 수 있다")
+    void failedRequestIsNotStored() {
+        target.failNext = true;
+        bindRequest("key-1");
+        assertThatThrownBy(() -> proxy.create("body")).isInstanceOf(IllegalStateException.class);
+
+        bindRequest("key-1");
+        proxy.create("body");
+
+        assertThat(target.invocationCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("처리 중인 요청과 같은 키의 동시 요청은 실행하지 않고 처음 요청의 결과를 기다린다")
+    void concurrentDuplicateWaitsForInFlightResult() throws Exception {
+        target.entered = new CountDownLatch(1);
+        target.release = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> first = executorService.submit(() -> {
+                bindRequest("key-1");
+                return proxy.create("body");
+            });
+            assertThat(target.entered.await(5, TimeUnit.SECONDS)).isTrue();
+            Future<String> second = executorService.submit(() -> {
+                bindRequest("key-1");
+                return proxy.create("body");
+            });
+
+            Thread.sleep(100L);
+            assertThat(second.isDone()).isFalse();
+            target.release.countDown();
+
+            assertThat(second.get(5, TimeUnit.SECONDS)).isSameAs(first.get(5, TimeUnit.SECONDS));
+            assertThat(target.invocationCount.get()).isEqualTo(1);
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    private void bindRequest(String idempotencyKey) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/v1/orders");
+        if (idempotencyKey != null) {
+            request.addHeader(IdempotencyAspect.IDEMPOTENCY_KEY_HEADER, idempotencyKey);
+        }
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, new MockHttpServletResponse()));
+    }
+
+    static class IdempotentTarget {
+
+        private final AtomicInteger invocationCount = new AtomicInteger();
+        private volatile boolean failNext;
+        private volatile CountDownLatch entered;
+        private volatile CountDownLatch release;
+
+        @Idempotent
+        public String create(@RequestBody String body) {
+            invocationCount.incrementAndGet();
+            if (failNext) {
+                failNext = false;
+                throw new IllegalStateException("failed");
+            }
+            if (entered != null) {
+                entered.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return body + "-" + invocationCount.get();
+        }
+    }
+}
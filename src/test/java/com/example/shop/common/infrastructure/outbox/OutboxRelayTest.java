@@ -0,0 +1,112 @@
+package com.example.shop.common.infrastructure.outbox;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 릴레이는 자체 트랜잭션으로 커밋하므로 테스트 트랜잭션 없이 실행하고, 테스트마다 OUTBOX를 비운다
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OutboxRelayTest {
+
+    @Autowired
+    private OutboxJpaRepository outboxJpaRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private TransactionTemplate transactionTemplate;
+    private OutboxWriter outboxWriter;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        outboxWriter = new OutboxWriter(outboxJpaRepository, objectMapper);
+    }
+
+    @AfterEach
+    void tearDown() {
+        outboxJpaRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("발행 전 이벤트를 id 순서로 묶어 싱크에 넘기고 발행 완료로 표시한다")
+    void relayPublishesUnpublishedEventsInOrder() {
+        List<UUID> aggregateIdList = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+        transactionTemplate.executeWithoutResult(status -> aggregateIdList.forEach(aggregateId ->
+                outboxWriter.append("ORDER", aggregateId, "ORDER_CANCELLED", Map.of("orderId", aggregateId.toString()))));
+        InMemoryOutboxSink inMemoryOutboxSink = new InMemoryOutboxSink(100);
+        OutboxRelay outboxRelay = createRelay(List.of(inMemoryOutboxSink), 2);
+
+        int publishedCount = outboxRelay.relay();
+
+        assertThat(publishedCount).isEqualTo(3);
+        assertThat(inMemoryOutboxSink.getMessageList())
+                .extracting(OutboxMessage::aggregateId)
+                .containsExactlyElementsOf(aggregateIdList);
+        assertThat(outboxJpaRepository.findAll())
+                .allSatisfy(outboxEntity -> assertThat(outboxEntity.getPublishedAt()).isNotNull());
+        assertThat(outboxRelay.relay()).isZero();
+    }
+
+    @Test
+    @DisplayName("싱크가 실패하면 발행 완료로 표시하지 않고 다음 주기에 다시 넘긴다")
+    void relayRetriesWhenSinkFails() {
+        transactionTemplate.executeWithoutResult(status ->
+                outboxWriter.append("PAYMENT", UUID.randomUUID(), "PAYMENT_COMPLETED", Map.of("amount", 1000)));
+        OutboxRelay failingOutboxRelay = createRelay(List.of(messageList -> {
+            throw new IllegalStateException("sink unavailable");
+        }), 10);
+
+        assertThat(failingOutboxRelay.relay()).isZero();
+        assertThat(outboxJpaRepository.findAll())
+                .allSatisfy(outboxEntity -> assertThat(outboxEntity.getPublishedAt()).isNull());
+
+        InMemoryOutboxSink inMemoryOutboxSink = new InMemoryOutboxSink(100);
+        assertThat(createRelay(List.of(inMemoryOutboxSink), 10).relay()).isEqualTo(1);
+        assertThat(inMemoryOutboxSink.getMessageList()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("파일 싱크는 이벤트 본문을 JSON 객체 그대로 한 줄에 하나씩 덧붙인다")
+    void fileSinkAppendsNdjson(@TempDir Path tempDir) throws IOException {
+        Path path = tempDir.resolve("outbox.ndjson");
+        UUID aggregateId = UUID.randomUUID();
+        transactionTemplate.executeWithoutResult(status ->
+                outboxWriter.append("ORDER", aggregateId, "ORDER_CANCELLED", Map.of("status", "CANCELLED")));
+
+        createRelay(List.of(new FileOutboxSink(objectMapper, path.toString())), 10).relay();
+
+        List<String> lineList = Files.readAllLines(path, StandardCharsets.UTF_8);
+        assertThat(lineList).hasSize(1);
+        JsonNode message = objectMapper.readTree(lineList.get(0));
+        assertThat(message.path("aggregateId").asText()).isEqualTo(aggregateId.toString());
+        assertThat(message.path("payload").path("status").asText()).isEqualTo("CANCELLED");
+    }
+
+    private OutboxRelay createRelay(List<OutboxSink> outboxSinkList, int batchSize) {
+        return new OutboxRelay(outboxJpaRepository, outboxSinkList, transactionManager, batchSize, 20, 604_800_000L);
+    }
+}
@@ -0,0 +1,248 @@
+package com.example.shop.common.infrastructure.persistence;
+
+import com.example.shop.order.application.service.OrderQueryServiceV1;
+import com.example.shop.order.application.service.OrderServiceV1;
+import com.example.shop.order.presentation.dto.request.ReqPostOrdersDtoV1;
+import com.example.shop.order.presentation.dto.response.ResPostOrdersDtoV1;
+import com.example.shop.payment.application.service.PaymentServiceV1;
+import com.example.shop.payment.domain.model.Payment;
+import com.example.shop.payment.presentation.dto.request.ReqPostPaymentsDtoV1;
+import com.example.shop.payment.presentation.dto.response.ResPostPaymentsDtoV1;
+import com.example.shop.product.domain.model.Product;
+import com.example.shop.product.domain.repository.ProductRepository;
+import com.example.shop.user.domain.model.User;
+import com.example.shop.user.domain.model.UserRole;
+import com.example.shop.user.domain.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 요청 하나가 실행하는 SQL 문 수를 Hibernate 통계로 측정하는 회귀 테스트.
+ * 서비스 메소드를 트랜잭션 없이 호출해 운영과 같은 트랜잭션 경계에서 측정한다.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        // 측정 중에 OutboxRelay 조회가 섞이지 않도록 싱크를 등록하지 않는다
+        "shop.outbox.sink=none"
+})
+@ActiveProfiles("dev")
+class PersistenceQueryCountTest {
+
+    // ManagedEntityTracker 도입 전(추적 비활성화) 기준선, UntrackedBaseline에서 같은 시나리오로 확인한다
+    private static final long BASELINE_POST_ORDERS_STATEMENT_COUNT = 7L;
+    private static final long BASELINE_POST_PAYMENTS_STATEMENT_COUNT = 6L;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private OrderServiceV1 orderServiceV1;
+
+    @Autowired
+    private OrderQueryServiceV1 orderQueryServiceV1;
+
+    @Autowired
+    private PaymentServiceV1 paymentServiceV1;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Statistics statistics;
+    private User user;
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        user = userRepository.findByUsername("temp1").orElseThrow();
+        product = productRepository.save(Product.builder()
+                .name("query-count-" + UUID.randomUUID())
+                .price(1000L)
+                .stock(1_000L)
+                .build());
+    }
+
+    @Test
+    @DisplayName("주문 생성 요청의 SQL 문 수")
+    void postOrdersStatementCount() {
+        statistics.clear();
+
+        postOrder();
+
+        // 상품 조회 1 + 사용자(역할, 소셜) 3 + 재고 차감 1 + 주문/주문상품 insert 2
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(BASELINE_POST_ORDERS_STATEMENT_COUNT);
+    }
+
+    @Test
+    @DisplayName("결제 요청의 SQL 문 수")
+    void postPaymentsStatementCount() {
+        ResPostOrdersDtoV1 order = postOrder();
+        statistics.clear();
+
+        postPayment(paymentServiceV1, user, order);
+
+        // 거래 키 중복 확인 1 + 주문 상세(주문상품, 결제 fetch join) 조회 1 + 결제 insert 1 + 주문 update 1 + 이벤트 insert 1 (사용자는 조회하지 않는다)
+        assertThat(statistics.getPrepareStatementCount())
+                .isLessThanOrEqualTo(5L)
+                .isLessThan(BASELINE_POST_PAYMENTS_STATEMENT_COUNT);
+    }
+
+    @Test
+    @DisplayName("결제 상세 조회의 SQL 문 수")
+    void getPaymentStatementCount() {
+        ResPostOrdersDtoV1 order = postOrder();
+        ResPostPaymentsDtoV1 payment = postPayment(paymentServiceV1, user, order);
+        statistics.clear();
+
+        paymentServiceV1.getPayment(
+                UUID.fromString(payment.getPayment().getId()),
+                user.getId(),
+                List.of(UserRole.Role.USER.toString())
+        );
+
+        // 결제 + 주문 + 사용자 + 주문상품 조인 1 (사용자 역할, 소셜은 조회하지 않는다)
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("주문 목록 조회의 SQL 문 수")
+    void getOrdersStatementCount() {
+        postOrder();
+        statistics.clear();
+
+        orderQueryServiceV1.getOrders(user.getId(), List.of(UserRole.Role.USER.toString()), PageRequest.of(0, 10));
+
+        // 주문 요약 조회 1 + count 1 (주문 상품, 결제, 사용자는 조회하지 않는다)
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("주문 상세 조회의 SQL 문 수")
+    void getOrderStatementCount() {
+        ResPostOrdersDtoV1 order = postOrder();
+        statistics.clear();
+
+        orderServiceV1.getOrder(user.getId(), List.of(UserRole.Role.USER.toString()), UUID.fromString(order.getOrder().getId()));
+
+        // 주문 + 주문상품 + 결제 fetch join 1
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("주문 취소 요청의 SQL 문 수")
+    void postOrderCancelStatementCount() {
+        ResPostOrdersDtoV1 order = postOrder();
+        statistics.clear();
+
+        orderServiceV1.postOrderCancel(user.getId(), List.of(UserRole.Role.USER.toString()), UUID.fromString(order.getOrder().getId()));
+
+        // 주문 상세 조회 1 + 재고 복원 1 + 주문 update 1 + 이벤트 insert 1
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(4L);
+    }
+
+    /**
+     * 엔티티 추적을 끈 기준선. save가 findById로 다시 읽고 merge하던 이전 경로의 SQL 문 수를 같은 시나리오로 측정한다.
+     */
+    @Nested
+    @TestPropertySource(properties = "shop.persistence.entity-tracking.enabled=false")
+    class UntrackedBaseline {
+
+        @Autowired
+        private EntityManagerFactory entityManagerFactory;
+
+        @Autowired
+        private OrderServiceV1 orderServiceV1;
+
+        @Autowired
+        private PaymentServiceV1 paymentServiceV1;
+
+        @Autowired
+        private ProductRepository productRepository;
+
+        @Autowired
+        private UserRepository userRepository;
+
+        private Statistics statistics;
+        private User user;
+        private Product product;
+
+        @BeforeEach
+        void setUp() {
+            statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+            user = userRepository.findByUsername("temp1").orElseThrow();
+            product = productRepository.save(Product.builder()
+                    .name("query-count-" + UUID.randomUUID())
+                    .price(1000L)
+                    .stock(1_000L)
+                    .build());
+        }
+
+        @Test
+        @DisplayName("기준선: 엔티티 추적 없이 주문 생성 요청의 SQL 문 수")
+        void postOrdersStatementCount() {
+            statistics.clear();
+
+            postOrder(orderServiceV1, user, product);
+
+            // 주문은 새로 insert하므로 다시 읽을 엔티티가 없다
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(BASELINE_POST_ORDERS_STATEMENT_COUNT);
+        }
+
+        @Test
+        @DisplayName("기준선: 엔티티 추적 없이 결제 요청의 SQL 문 수")
+        void postPaymentsStatementCount() {
+            ResPostOrdersDtoV1 order = postOrder(orderServiceV1, user, product);
+            statistics.clear();
+
+            postPayment(paymentServiceV1, user, order);
+
+            // 추적할 때보다 주문 상세(fetch join) 재조회 1 이 많다, JPQL이라 1차 캐시로 대신하지 못한다
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(BASELINE_POST_PAYMENTS_STATEMENT_COUNT);
+        }
+    }
+
+    private ResPostOrdersDtoV1 postOrder() {
+        return postOrder(orderServiceV1, user, product);
+    }
+
+    private static ResPostPaymentsDtoV1 postPayment(PaymentServiceV1 paymentServiceV1, User user, ResPostOrdersDtoV1 order) {
+        return paymentServiceV1.postPayments(user.getId(), ReqPostPaymentsDtoV1.builder()
+                .payment(ReqPostPaymentsDtoV1.PaymentDto.builder()
+                        .orderId(UUID.fromString(order.getOrder().getId()))
+                        .method(Payment.Method.CARD)
+                        .transactionKey("tx-" + UUID.randomUUID())
+                        .build())
+                .build());
+    }
+
+    private static ResPostOrdersDtoV1 postOrder(OrderServiceV1 orderServiceV1, User user, Product product) {
+        return orderServiceV1.postOrders(user.getId(), ReqPostOrdersDtoV1.builder()
+                .order(ReqPostOrdersDtoV1.OrderDto.builder()
+                        .orderItemList(List.of(
+                                ReqPostOrdersDtoV1.OrderDto.OrderItemDto.builder()
+                                        .productId(product.getId())
+                                        .quantity(1L)
+                                        .build()
+                        ))
+                        .build())
+                .build());
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.shop.common.infrastructure.retry;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RetryExecutorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private RetryExecutor retryExecutor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        retryExecutor = new RetryExecutor(meterRegistry);
+    }
+
+    @Test
+    @DisplayName("낙관적 락 충돌은 재시도하고 메소드별 재시도 횟수를 기록한다")
+    void retriesOptimisticLockFailure() throws Throwable {
+        AtomicInteger callCount = new AtomicInteger();
+
+        String result = retryExecutor.execute("TestService.call", 3, 1L, () -> {
+            if (callCount.incrementAndGet() < 3) {
+                throw new ObjectOptimisticLockingFailureException(Object.class, "id");
+            }
+            return "ok";
+        });
+
+        assertThat(result).isEqualTo("ok");
+        assertThat(callCount.get()).isEqualTo(3);
+        assertThat(meterRegistry.counter(RetryExecutor.RETRY_METRIC_NAME, "method", "TestService.call").count())
+                .isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수를 넘기면 마지막 예외를 던진다")
+    void throwsWhenAttemptsExhausted() {
+        AtomicInteger callCount = new AtomicInteger();
+
+        assertThatThrownBy(() -> retryExecutor.execute("TestService.call", 2, 1L, () -> {
+            callCount.incrementAndGet();
+            throw new ObjectOptimisticLockingFailureException(Object.class, "id");
+        })).isInstanceOf(ObjectOptimisticLockingFailureException.class);
+
+        assertThat(callCount.get()).isEqualTo(2);
+        assertThat(meterRegistry.counter(RetryExecutor.EXHAUSTED_METRIC_NAME, "method", "TestService.call").count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("낙관적 락 이외의 예외는 재시도하지 않는다")
+    void doesNotRetryOtherExceptions() {
+        AtomicInteger callCount = new AtomicInteger();
+
+        assertThatThrownBy(() -> retryExecutor.execute("TestService.call", 3, 1L, () -> {
+            callCount.incrementAndGet();
+            throw new IllegalArgumentException("boom");
+        })).isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(callCount.get()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,221 @@
+package com.example.shop.order.application.service;
+
+import com.example.shop.order.domain.model.Order;
+import com.example.shop.order.domain.model.OrderItem;
+import com.example.shop.order.domain.repository.OrderRepository;
+import com.example.shop.product.application.service.ProductStockLedger;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderPlacementPipelineTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private ProductStockLedger productStockLedger;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private OrderPlacementPipeline orderPlacementPipeline;
+    private final List<SimpleTransactionStatus> transactionStatusList = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        // 워커는 띄우지 않고 process를 직접 호출한다
+        orderPlacementPipeline = newPipeline(false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderPlacementPipeline.shutdown();
+    }
+
+    @Test
+    @DisplayName("묶음 안의 주문은 상품별 수량을 합산해 한 번만 재고를 예약한다")
+    void processReservesOncePerProduct() {
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> newTransactionStatus());
+        stubUpdateStatusChangesAll();
+        UUID productId = UUID.randomUUID();
+        UUID otherProductId = UUID.randomUUID();
+        List<OrderPlacementPipeline.Placement> batch = List.of(
+                new OrderPlacementPipeline.Placement(UUID.randomUUID(), Map.of(productId, 2L)),
+                new OrderPlacementPipeline.Placement(UUID.randomUUID(), Map.of(productId, 3L, otherProductId, 1L)),
+                new OrderPlacementPipeline.Placement(UUID.randomUUID(), Map.of(productId, 1L))
+        );
+        when(productStockLedger.reserve(Map.of(productId, 6L, otherProductId, 1L))).thenReturn(Set.of());
+
+        orderPlacementPipeline.process(batch);
+
+        verify(productStockLedger, times(1)).reserve(any());
+        verify(orderRepository).updateStatus(
+                batch.stream().map(OrderPlacementPipeline.Placement::orderId).toList(),
+                Order.Status.PENDING,
+                Order.Status.CREATED
+        );
+        assertThat(transactionStatusList).noneMatch(SimpleTransactionStatus::isRollbackOnly);
+    }
+
+    @Test
+    @DisplayName("합산 예약이 재고 부족으로 실패하면 해당 상품 주문만 한 건씩 예약하고 실패한 주문은 REJECTED로 바꾼다")
+    void processFallsBackToSingleOrdersForShortProduct() {
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> newTransactionStatus());
+        stubUpdateStatusChangesAll();
+        UUID hotProductId = UUID.randomUUID();
+        UUID otherProductId = UUID.randomUUID();
+        OrderPlacementPipeline.Placement firstHotOrder =
+                new OrderPlacementPipeline.Placement(UUID.randomUUID(), Map.of(hotProductId, 2L));
+        OrderPlacementPipeline.Placement secondHotOrder =
+                new OrderPlacementPipeline.Placement(UUID.randomUUID(), Map.of(hotProductId, 2L));
+        OrderPlacementPipeline.Placement otherOrder =
+                new OrderPlacementPipeline.Placement(UUID.randomUUID(), Map.of(otherProductId, 1L));
+        when(productStockLedger.reserve(Map.of(hotProductId, 4L, otherProductId, 1L))).thenReturn(Set.of(hotProductId));
+        when(productStockLedger.reserve(Map.of(otherProductId, 1L))).thenReturn(Set.of());
+        when(productStockLedger.reserve(Map.of(hotProductId, 2L))).thenReturn(Set.of()).thenReturn(Set.of(hotProductId));
+
+        orderPlacementPipeline.process(List.of(firstHotOrder, secondHotOrder, otherOrder));
+
+        verify(orderRepository).updateStatus(List.of(otherOrder.orderId()), Order.Status.PENDING, Order.Status.CREATED);
+        verify(orderRepository).updateStatus(List.of(firstHotOrder.orderId()), Order.Status.PENDING, Order.Status.CREATED);
+        verify(orderRepository).updateStatus(List.of(secondHotOrder.orderId()), Order.Status.PENDING, Order.Status.REJECTED);
+        // 재고가 부족했던 합산 예약과 두 번째 단건 예약은 롤백된다
+        assertThat(transactionStatusList).filteredOn(SimpleTransactionStatus::isRollbackOnly).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("이미 처리된 주문이 섞여 상태 변경 건수가 맞지 않으면 예약을 롤백하고 생성으로 세지 않는다")
+    void processRollsBackWhenOrderIsNoLongerPending() {
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> newTransactionStatus());
+        UUID productId = UUID.randomUUID();
+        OrderPlacementPipeline.Placement processedOrder =
+                new OrderPlacementPipeline.Placement(UUID.randomUUID(), Map.of(productId, 1L));
+        when(productStockLedger.reserve(Map.of(productId, 1L))).thenReturn(Set.of());
+        when(orderRepository.updateStatus(any(), any(), any())).thenReturn(0);
+
+        orderPlacementPipeline.process(List.of(processedOrder));
+
+        // 묶음 예약과 단건 예약 모두 롤백된다
+        verify(transactionManager, times(2)).rollback(any());
+        verify(orderRepository).updateStatus(List.of(processedOrder.orderId()), Order.Status.PENDING, Order.Status.REJECTED);
+    }
+
+    @Test
+    @DisplayName("REJECTED로 바꾸다 실패해도 예외를 던지지 않는다 (PENDING으로 남은 주문은 복구에서 다시 처리)")
+    void processSwallowsRejectUpdateFailure() {
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> newTransactionStatus());
+        UUID productId = UUID.randomUUID();
+        OrderPlacementPipeline.Placement shortOrder =
+                new OrderPlacementPipeline.Placement(UUID.randomUUID(), Map.of(productId, 1L));
+        when(productStockLedger.reserve(Map.of(productId, 1L))).thenReturn(Set.of(productId));
+        when(orderRepository.updateStatus(List.of(shortOrder.orderId()), Order.Status.PENDING, Order.Status.REJECTED))
+                .thenThrow(new IllegalStateException("db down"));
+
+        orderPlacementPipeline.process(List.of(shortOrder));
+
+        verify(orderRepository).updateStatus(List.of(shortOrder.orderId()), Order.Status.PENDING, Order.Status.REJECTED);
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 RejectedExecutionException을 던진다")
+    void enqueueRejectsWhenQueueFull() {
+        orderPlacementPipeline = newPipeline(true);
+        orderPlacementPipeline.start();
+        // 커밋 전이라 대기열에는 들어가지 않고 자리만 차지한다
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            orderPlacementPipeline.enqueue(UUID.randomUUID(), Map.of(UUID.randomUUID(), 1L));
+
+            assertThatThrownBy(() -> orderPlacementPipeline.enqueue(UUID.randomUUID(), Map.of(UUID.randomUUID(), 1L)))
+                    .isInstanceOf(RejectedExecutionException.class);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("워커가 멈춘 뒤에는 주문을 받지 않는다")
+    void enqueueRejectsAfterShutdown() {
+        orderPlacementPipeline = newPipeline(true);
+        orderPlacementPipeline.start();
+        orderPlacementPipeline.shutdown();
+
+        assertThatThrownBy(() -> orderPlacementPipeline.enqueue(UUID.randomUUID(), Map.of(UUID.randomUUID(), 1L)))
+                .isInstanceOf(RejectedExecutionException.class);
+    }
+
+    @Test
+    @DisplayName("오래된 PENDING 주문은 주문 상품 수량으로 다시 대기열에 넣어 처리한다")
+    void recoverStalePendingRequeuesOrders() {
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> newTransactionStatus());
+        stubUpdateStatusChangesAll();
+        UUID orderId = UUID.randomUUID();
+        UUID productId = UUID.randomUUID();
+        Order staleOrder = Order.builder()
+                .id(orderId)
+                .status(Order.Status.PENDING)
+                .orderItemList(List.of(
+                        OrderItem.builder().productId(productId).quantity(2L).build(),
+                        OrderItem.builder().productId(productId).quantity(1L).build()
+                ))
+                .build();
+        when(orderRepository.findAllByStatusCreatedBefore(eq(Order.Status.PENDING), any(), anyInt()))
+                .thenReturn(List.of(staleOrder));
+        when(productStockLedger.reserve(Map.of(productId, 3L))).thenReturn(Set.of());
+        orderPlacementPipeline = newPipeline(true);
+        orderPlacementPipeline.start();
+
+        orderPlacementPipeline.recoverStalePending();
+
+        verify(orderRepository, timeout(1000L)).updateStatus(List.of(orderId), Order.Status.PENDING, Order.Status.CREATED);
+    }
+
+    private OrderPlacementPipeline newPipeline(boolean enabled) {
+        return new OrderPlacementPipeline(
+                orderRepository,
+                productStockLedger,
+                transactionManager,
+                new SimpleMeterRegistry(),
+                enabled,
+                1,
+                1,
+                100,
+                1000L,
+                0L
+        );
+    }
+
+    private void stubUpdateStatusChangesAll() {
+        when(orderRepository.updateStatus(any(), any(), any()))
+                .thenAnswer(invocation -> invocation.<Collection<UUID>>getArgument(0).size());
+    }
+
+    private SimpleTransactionStatus newTransactionStatus() {
+        SimpleTransactionStatus transactionStatus = new SimpleTransactionStatus();
+        transactionStatusList.add(transactionStatus);
+        return transactionStatus;
+    }
+}
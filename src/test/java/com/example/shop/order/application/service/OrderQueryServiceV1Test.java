@@ -0,0 +1,80 @@
+package com.example.shop.order.application.service;
+
+import com.example.shop.order.domain.model.Order;
+import com.example.shop.order.domain.repository.OrderQueryRepository;
+import com.example.shop.order.presentation.advice.OrderException;
+import com.example.shop.order.presentation.dto.response.ResGetOrdersDtoV1.OrderPageDto.OrderDto;
+import com.example.shop.user.domain.model.UserRole;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OrderQueryServiceV1Test {
+
+    @Mock
+    private OrderQueryRepository orderQueryRepository;
+
+    @InjectMocks
+    private OrderQueryServiceV1 orderQueryServiceV1;
+
+    @Test
+    @DisplayName("사용자는 자신의 주문 목록만 페이지로 조회할 수 있다")
+    void getOrdersForSelf() {
+        UUID userId = UUID.randomUUID();
+        Pageable pageable = PageRequest.of(0, 5);
+        when(orderQueryRepository.findOrders(userId, pageable))
+                .thenReturn(new PageImpl<>(List.of(orderDto())));
+
+        var response = orderQueryServiceV1.getOrders(userId, List.of(UserRole.Role.USER.toString()), pageable);
+
+        assertThat(response.getOrderPage().getContent()).hasSize(1);
+        verify(orderQueryRepository).findOrders(userId, pageable);
+    }
+
+    @Test
+    @DisplayName("관리자는 모든 주문 목록을 조회할 수 있다")
+    void getOrdersAsAdmin() {
+        Pageable pageable = PageRequest.of(0, 5);
+        when(orderQueryRepository.findOrders(null, pageable)).thenReturn(new PageImpl<>(List.of(orderDto())));
+
+        var response = orderQueryServiceV1.getOrders(UUID.randomUUID(), List.of(UserRole.Role.ADMIN.toString()), pageable);
+
+        assertThat(response.getOrderPage().getContent()).hasSize(1);
+        verify(orderQueryRepository).findOrders(null, pageable);
+    }
+
+    @Test
+    @DisplayName("일반 사용자의 인증 정보가 없으면 전체 조회로 넘어가지 않고 예외를 던진다")
+    void getOrdersWithoutAuthUserId() {
+        Pageable pageable = PageRequest.of(0, 5);
+
+        assertThatThrownBy(() -> orderQueryServiceV1.getOrders(null, List.of(UserRole.Role.USER.toString()), pageable))
+                .isInstanceOf(OrderException.class);
+        verify(orderQueryRepository, never()).findOrders(any(), any());
+    }
+
+    private OrderDto orderDto() {
+        return OrderDto.builder()
+                .id(UUID.randomUUID().toString())
+                .status(Order.Status.CREATED)
+                .totalAmount(1000L)
+                .build();
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.shop.order.application.service;
 
+import com.example.shop.common.infrastructure.outbox.OutboxWriter;
 import com.example.shop.order.domain.model.Order;
 import com.example.shop.order.domain.model.OrderItem;
 import com.example.shop.order.domain.model.OrderItemTestFixture;
@@ -7,14 +8,16 @@ import com.example.shop.order.domain.model.OrderTestFixture;
 import com.example.shop.order.domain.repository.OrderRepository;
 import com.example.shop.order.presentation.advice.OrderError;
 import com.example.shop.order.presentation.advice.OrderException;
+import com.example.shop.order.presentation.dto.event.OrderEventDtoV1;
 import com.example.shop.order.presentation.dto.request.ReqPostOrdersDtoV1;
 import com.example.shop.order.presentation.dto.response.ResPostOrdersDtoV1;
 import com.example.shop.payment.domain.model.Payment;
 import com.example.shop.payment.domain.repository.PaymentRepository;
 import com.example.shop.payment.presentation.advice.PaymentError;
 import com.example.shop.payment.presentation.advice.PaymentException;
+import com.example.shop.product.application.service.ProductReadCache;
+import com.example.shop.product.application.service.ProductStockLedger;
 import com.example.shop.product.domain.model.Product;
-import com.example.shop.product.domain.repository.ProductRepository;
 import com.example.shop.user.domain.model.User;
 import com.example.shop.user.domain.model.UserRole;
 import com.example.shop.user.domain.repository.UserRepository;
@@ -26,12 +29,11 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -45,7 +47,7 @@ class OrderServiceV1Test {
     private OrderRepository orderRepository;
 
     @Mock
-    private ProductRepository productRepository;
+    private ProductReadCache productReadCache;
 
     @Mock
     private UserRepository userRepository;
@@ -53,6 +55,15 @@ class OrderServiceV1Test {
     @Mock
     private PaymentRepository paymentRepository;
 
+    @Mock
+    private ProductStockLedger productStockLedger;
+
+    @Mock
+    private OrderPlacementPipeline orderPlacementPipeline;
+
+    @Mock
+    private OutboxWriter outboxWriter;
+
     @InjectMocks
     private OrderServiceV1 orderServiceV1;
 
@@ -87,36 +98,11 @@ class OrderServiceV1Test {
                 .build();
     }
 
-    @Test
-    @DisplayName("사용자는 자신의 주문 목록만 페이지로 조회할 수 있다")
-    void getOrdersForSelf() {
-        Pageable pageable = PageRequest.of(0, 5);
-        when(orderRepository.findByUserId(user.getId(), pageable))
-                .thenReturn(new PageImpl<>(List.of(existingOrder)));
-
-        var response = orderServiceV1.getOrders(user.getId(), List.of(UserRole.Role.USER.toString()), pageable);
-
-        assertThat(response.getOrderPage().getContent()).hasSize(1);
-        verify(orderRepository).findByUserId(user.getId(), pageable);
-    }
-
-    @Test
-    @DisplayName("관리자는 모든 주문 목록을 조회할 수 있다")
-    void getOrdersAsAdmin() {
-        Pageable pageable = PageRequest.of(0, 5);
-        when(orderRepository.findAll(pageable)).thenReturn(new PageImpl<>(List.of(existingOrder)));
-
-        var response = orderServiceV1.getOrders(UUID.randomUUID(), List.of(UserRole.Role.ADMIN.toString()), pageable);
-
-        assertThat(response.getOrderPage().getContent()).hasSize(1);
-        verify(orderRepository).findAll(pageable);
-    }
-
     @Test
     @DisplayName("주문 생성 시 상품 재고 차감 및 총액 계산이 수행된다")
     void postOrdersUpdatesStockAndTotalAmount() {
-        when(productRepository.findAllById(any())).thenReturn(List.of(product));
-        when(productRepository.save(any(Product.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(productReadCache.findAllById(any())).thenReturn(List.of(product));
+        when(productStockLedger.reserve(any())).thenReturn(Set.of());
         when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> {
             Order order = invocation.getArgument(0);
             UUID persistedOrderId = UUID.randomUUID();
@@ -145,12 +131,84 @@ class OrderServiceV1Test {
         ResPostOrdersDtoV1 response = orderServiceV1.postOrders(user.getId(), reqDto);
 
         assertThat(response.getOrder().getTotalAmount()).isEqualTo(2000L);
-        verify(productRepository).save(argThat(savedProduct ->
-                savedProduct.getId().equals(product.getId()) && savedProduct.getStock().equals(8L)
-        ));
+        verify(productStockLedger).reserve(Map.of(product.getId(), 2L));
         verify(orderRepository).save(any(Order.class));
     }
 
+    @Test
+    @DisplayName("재고 차감에 실패한 상품이 있으면 재고 부족 예외를 던진다")
+    void postOrdersOutOfStock() {
+        when(productReadCache.findAllById(any())).thenReturn(List.of(product));
+        when(productStockLedger.reserve(any())).thenReturn(Set.of(product.getId()));
+        when(userRepository.findDefaultById(user.getId())).thenReturn(user);
+
+        ReqPostOrdersDtoV1 reqDto = ReqPostOrdersDtoV1.builder()
+                .order(ReqPostOrdersDtoV1.OrderDto.builder()
+                        .orderItemList(List.of(
+                                ReqPostOrdersDtoV1.OrderDto.OrderItemDto.builder()
+                                        .productId(product.getId())
+                                        .quantity(7L)
+                                        .build(),
+                                ReqPostOrdersDtoV1.OrderDto.OrderItemDto.builder()
+                                        .productId(product.getId())
+                                        .quantity(4L)
+                                        .build()
+                        ))
+                        .build())
+                .build();
+
+        assertThatThrownBy(() -> orderServiceV1.postOrders(user.getId(), reqDto))
+                .isInstanceOf(OrderException.class)
+                .extracting(Throwable::getMessage)
+                .asString()
+                .contains(OrderError.ORDER_PRODUCT_OUT_OF_STOCK.getErrorMessage());
+        verify(productStockLedger).reserve(Map.of(product.getId(), 11L));
+        verify(orderRepository, never()).save(any(Order.class));
+    }
+
+    @Test
+    @DisplayName("비동기 주문은 재고를 예약하지 않고 PENDING으로 저장한 뒤 대기열에 넣는다")
+    void postOrdersAsyncEnqueuesPendingOrder() {
+        UUID persistedOrderId = UUID.randomUUID();
+        when(orderPlacementPipeline.isEnabled()).thenReturn(true);
+        when(productReadCache.findAllById(any())).thenReturn(List.of(product));
+        when(userRepository.findDefaultById(user.getId())).thenReturn(user);
+        when(orderRepository.save(any(Order.class))).thenAnswer(invocation ->
+                OrderTestFixture.copy(invocation.getArgument(0), orderBuilder -> orderBuilder.id(persistedOrderId)));
+
+        ReqPostOrdersDtoV1 reqDto = ReqPostOrdersDtoV1.builder()
+                .order(ReqPostOrdersDtoV1.OrderDto.builder()
+                        .orderItemList(List.of(
+                                ReqPostOrdersDtoV1.OrderDto.OrderItemDto.builder()
+                                        .productId(product.getId())
+                                        .quantity(3L)
+                                        .build()
+                        ))
+                        .build())
+                .build();
+
+        ResPostOrdersDtoV1 response = orderServiceV1.postOrdersAsync(user.getId(), reqDto);
+
+        assertThat(response.getOrder().getStatus()).isEqualTo(Order.Status.PENDING);
+        assertThat(response.getOrder().getTotalAmount()).isEqualTo(3000L);
+        verify(orderPlacementPipeline).enqueue(persistedOrderId, Map.of(product.getId(), 3L));
+        verifyNoInteractions(productStockLedger);
+    }
+
+    @Test
+    @DisplayName("처리 중(PENDING)인 주문은 취소할 수 없다")
+    void postOrderCancelPendingOrder() {
+        Order pendingOrder = OrderTestFixture.copy(existingOrder, orderBuilder -> orderBuilder.status(Order.Status.PENDING));
+        when(orderRepository.findById(existingOrder.getId())).thenReturn(Optional.of(pendingOrder));
+
+        assertThatThrownBy(() -> orderServiceV1.postOrderCancel(user.getId(), List.of(UserRole.Role.USER.toString()), existingOrder.getId()))
+                .isInstanceOf(OrderException.class)
+                .extracting(Throwable::getMessage)
+                .asString()
+                .contains(OrderError.ORDER_NOT_PLACED.getErrorMessage());
+        verifyNoInteractions(productStockLedger);
+    }
+
     @Test
     @DisplayName("주문 취소는 사용자 본인 또는 관리자/매니저만 가능하다")
     void postOrderCancelWithAuthority() {
@@ -159,16 +217,27 @@ class OrderServiceV1Test {
                 .markPaid();
         when(orderRepository.findById(existingOrder.getId())).thenReturn(Optional.of(paidOrder));
         when(paymentRepository.save(any(Payment.class))).thenAnswer(invocation -> invocation.getArgument(0));
-        when(productRepository.findAllById(any())).thenReturn(List.of(product));
-        when(productRepository.save(any(Product.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(productStockLedger.release(any())).thenReturn(Set.of());
         when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         orderServiceV1.postOrderCancel(user.getId(), List.of(UserRole.Role.USER.toString()), existingOrder.getId());
 
+        verify(productStockLedger).release(Map.of(product.getId(), 1L));
+
         ArgumentCaptor<Order> captor = ArgumentCaptor.forClass(Order.class);
         verify(orderRepository, atLeastOnce()).save(captor.capture());
         Order savedOrder = captor.getValue();
         assertThat(savedOrder.getStatus()).isEqualTo(Order.Status.CANCELLED);
+
+        ArgumentCaptor<OrderEventDtoV1> eventCaptor = ArgumentCaptor.forClass(OrderEventDtoV1.class);
+        verify(outboxWriter).append(
+                eq(OrderEventDtoV1.AGGREGATE_TYPE),
+                eq(existingOrder.getId()),
+                eq(OrderEventDtoV1.ORDER_CANCELLED),
+                eventCaptor.capture()
+        );
+        assertThat(eventCaptor.getValue().getStatus()).isEqualTo(Order.Status.CANCELLED);
+        assertThat(eventCaptor.getValue().getPaymentStatus()).isEqualTo(Payment.Status.CANCELLED);
     }
 
     @Test
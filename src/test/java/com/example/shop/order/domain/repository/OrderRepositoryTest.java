@@ -3,9 +3,12 @@ package com.example.shop.order.domain.repository;
 import com.example.shop.common.infrastructure.config.jpa.JpaAuditConfig;
 import com.example.shop.common.infrastructure.config.jpa.QuerydslConfig;
 import com.example.shop.common.infrastructure.config.jpa.audit.CustomAuditAware;
+import com.example.shop.common.infrastructure.persistence.ManagedEntityTracker;
 import com.example.shop.order.domain.model.Order;
 import com.example.shop.order.infrastructure.persistence.entity.OrderEntity;
 import com.example.shop.order.infrastructure.persistence.entity.OrderItemEntity;
+import com.example.shop.order.presentation.dto.response.ResGetOrdersDtoV1.OrderPageDto.OrderDto;
+import com.example.shop.order.presentation.dto.response.ResGetOrdersExportDtoV1;
 import com.example.shop.user.infrastructure.persistence.entity.UserEntity;
 import com.example.shop.user.infrastructure.persistence.entity.UserRoleEntity;
 import org.junit.jupiter.api.DisplayName;
@@ -18,13 +21,17 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
 @DataJpaTest
-@Import({JpaAuditConfig.class, CustomAuditAware.class, QuerydslConfig.class,
+@Import({JpaAuditConfig.class, CustomAuditAware.class, QuerydslConfig.class, ManagedEntityTracker.class,
         com.example.shop.order.infrastructure.persistence.repository.OrderRepositoryImpl.class,
+        com.example.shop.order.infrastructure.persistence.repository.OrderQueryRepositoryImpl.class,
         com.example.shop.order.infrastructure.persistence.mapper.OrderMapper.class,
         com.example.shop.payment.infrastructure.persistence.mapper.PaymentMapper.class})
 class OrderRepositoryTest {
@@ -32,12 +39,15 @@ class OrderRepositoryTest {
     @Autowired
     private OrderRepository orderRepository;
 
+    @Autowired
+    private OrderQueryRepository orderQueryRepository;
+
     @Autowired
     private TestEntityManager testEntityManager;
 
     @Test
     @DisplayName("사용자별 주문 목록을 조회할 수 있다")
-    void findByUserIdReturnsPage() {
+    void findOrdersByUserIdReturnsPage() {
         UserEntity userEntity = createUser("order-user");
         testEntityManager.persistAndFlush(userEntity);
 
@@ -57,10 +67,116 @@ class OrderRepositoryTest {
         testEntityManager.flush();
 
         Pageable pageable = PageRequest.of(0, 10);
-        Page<Order> page = orderRepository.findByUserId(userEntity.getId(), pageable);
+        Page<OrderDto> page = orderQueryRepository.findOrders(userEntity.getId(), pageable);
 
         assertThat(page.getTotalElements()).isEqualTo(1);
-        assertThat(page.getContent().get(0).getUserId()).isEqualTo(userEntity.getId());
+        assertThat(page.getContent().get(0).getId()).isEqualTo(orderEntity.getId().toString());
+        assertThat(page.getContent().get(0).getStatus()).isEqualTo(Order.Status.CREATED);
+        assertThat(page.getContent().get(0).getTotalAmount()).isEqualTo(1000L);
+    }
+
+    @Test
+    @DisplayName("주문 내보내기는 주문마다 주문 상품을 묶어 한 건씩 넘긴다")
+    void exportOrdersGroupsItemsByOrder() {
+        UserEntity userEntity = createUser("export-user");
+        testEntityManager.persistAndFlush(userEntity);
+        OrderEntity firstOrderEntity = createOrder(userEntity, 2);
+        OrderEntity secondOrderEntity = createOrder(userEntity, 1);
+        OrderEntity emptyOrderEntity = createOrder(userEntity, 0);
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        List<ResGetOrdersExportDtoV1> exportedOrderList = new ArrayList<>();
+        long exportedCount = orderQueryRepository.exportOrders(exportedOrderList::add);
+
+        assertThat(exportedCount).isEqualTo(3);
+        assertThat(exportedOrderList)
+                .extracting(ResGetOrdersExportDtoV1::getId)
+                .containsExactlyInAnyOrder(
+                        firstOrderEntity.getId().toString(),
+                        secondOrderEntity.getId().toString(),
+                        emptyOrderEntity.getId().toString()
+                );
+        assertThat(exportedOrderList)
+                .allSatisfy(order -> assertThat(order.getUserId()).isEqualTo(userEntity.getId().toString()));
+        assertThat(exportedOrderList)
+                .filteredOn(order -> order.getId().equals(firstOrderEntity.getId().toString()))
+                .singleElement()
+                .satisfies(order -> assertThat(order.getOrderItemList()).hasSize(2));
+        assertThat(exportedOrderList)
+                .filteredOn(order -> order.getId().equals(emptyOrderEntity.getId().toString()))
+                .singleElement()
+                .satisfies(order -> assertThat(order.getOrderItemList()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("주문 상태 일괄 변경은 현재 상태가 일치하는 주문만 바꾸고 버전을 올린다")
+    void updateStatusOnlyChangesMatchingOrders() {
+        UserEntity userEntity = createUser("placement-user");
+        testEntityManager.persistAndFlush(userEntity);
+        OrderEntity pendingOrderEntity = createOrder(userEntity, 1, OrderEntity.Status.PENDING);
+        OrderEntity createdOrderEntity = createOrder(userEntity, 1, OrderEntity.Status.CREATED);
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        int updatedCount = orderRepository.updateStatus(
+                List.of(pendingOrderEntity.getId(), createdOrderEntity.getId()),
+                Order.Status.PENDING,
+                Order.Status.REJECTED
+        );
+        testEntityManager.clear();
+
+        assertThat(updatedCount).isEqualTo(1);
+        Order rejectedOrder = orderRepository.findById(pendingOrderEntity.getId()).orElseThrow();
+        assertThat(rejectedOrder.getStatus()).isEqualTo(Order.Status.REJECTED);
+        assertThat(rejectedOrder.getVersion()).isEqualTo(pendingOrderEntity.getVersion() + 1);
+        assertThat(orderRepository.findById(createdOrderEntity.getId()).orElseThrow().getStatus())
+                .isEqualTo(Order.Status.CREATED);
+    }
+
+    @Test
+    @DisplayName("기준 시각 전에 생성된 해당 상태의 주문만 주문 상품과 함께 조회한다")
+    void findAllByStatusCreatedBeforeReturnsStaleOrdersWithItems() {
+        UserEntity userEntity = createUser("stale-user");
+        testEntityManager.persistAndFlush(userEntity);
+        OrderEntity pendingOrderEntity = createOrder(userEntity, 2, OrderEntity.Status.PENDING);
+        createOrder(userEntity, 1, OrderEntity.Status.CREATED);
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        List<Order> staleOrderList = orderRepository.findAllByStatusCreatedBefore(
+                Order.Status.PENDING, Instant.now().plusSeconds(1), 10);
+
+        assertThat(staleOrderList)
+                .singleElement()
+                .satisfies(order -> {
+                    assertThat(order.getId()).isEqualTo(pendingOrderEntity.getId());
+                    assertThat(order.getOrderItemList()).hasSize(2);
+                });
+        assertThat(orderRepository.findAllByStatusCreatedBefore(
+                Order.Status.PENDING, Instant.now().minusSeconds(60), 10)).isEmpty();
+    }
+
+    private OrderEntity createOrder(UserEntity userEntity, int itemCount) {
+        return createOrder(userEntity, itemCount, OrderEntity.Status.CREATED);
+    }
+
+    private OrderEntity createOrder(UserEntity userEntity, int itemCount, OrderEntity.Status status) {
+        OrderEntity orderEntity = OrderEntity.builder()
+                .user(userEntity)
+                .status(status)
+                .totalAmount(1000L * itemCount)
+                .build();
+        for (int i = 0; i < itemCount; i++) {
+            orderEntity.addOrderItem(OrderItemEntity.builder()
+                    .productId(UUID.randomUUID())
+                    .productName("sample" + i)
+                    .unitPrice(1000L)
+                    .quantity(1L)
+                    .lineTotal(1000L)
+                    .build());
+        }
+        return testEntityManager.persist(orderEntity);
     }
 
     private UserEntity createUser(String username) {
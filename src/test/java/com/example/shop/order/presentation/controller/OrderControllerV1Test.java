@@ -4,9 +4,11 @@ import com.epages.restdocs.apispec.MockMvcRestDocumentationWrapper;
 import com.epages.restdocs.apispec.ResourceDocumentation;
 import com.epages.restdocs.apispec.ResourceSnippetParameters;
 import com.epages.restdocs.apispec.SimpleType;
+import com.example.shop.common.infrastructure.idempotency.IdempotencyAspect;
 import com.example.shop.common.presentation.dto.ApiDto;
 import com.example.shop.order.domain.model.Order;
 import com.example.shop.order.presentation.dto.request.ReqPostOrdersDtoV1;
+import com.example.shop.order.presentation.dto.response.ResGetOrdersExportDtoV1;
 import com.example.shop.order.presentation.dto.response.ResPostOrdersDtoV1;
 import com.example.shop.product.domain.model.Product;
 import com.example.shop.product.domain.repository.ProductRepository;
@@ -32,7 +34,9 @@ import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -115,6 +119,158 @@ class OrderControllerV1Test {
         assertThat(responseDto.getData().getOrder().getPayment()).isNull();
     }
 
+    @Test
+    void testPostOrdersIdempotentReplay() throws Exception {
+        String accessJwt = loginAndGetAccessToken("temp1");
+        String idempotencyKey = UUID.randomUUID().toString();
+
+        Product product = productRepository.findAll(Pageable.unpaged()).getContent().stream()
+                .findFirst()
+                .orElseThrow();
+
+        ReqPostOrdersDtoV1 reqDto = ReqPostOrdersDtoV1.builder()
+                .order(ReqPostOrdersDtoV1.OrderDto.builder()
+                        .orderItemList(List.of(
+                                ReqPostOrdersDtoV1.OrderDto.OrderItemDto.builder()
+                                        .productId(product.getId())
+                                        .quantity(1L)
+                                        .build()
+                        ))
+                        .build())
+                .build();
+
+        MvcResult firstResult = mockMvc.perform(
+                        post("/v1/orders")
+                                .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessJwt)
+                                .header(IdempotencyAspect.IDEMPOTENCY_KEY_HEADER, idempotencyKey)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(reqDto))
+                )
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andReturn();
+        String orderId = objectMapper.readTree(firstResult.getResponse().getContentAsString())
+                .path("data").path("order").path("id").asText();
+
+        mockMvc.perform(
+                        post("/v1/orders")
+                                .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessJwt)
+                                .header(IdempotencyAspect.IDEMPOTENCY_KEY_HEADER, idempotencyKey)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(reqDto))
+                )
+                .andExpectAll(
+                        MockMvcResultMatchers.status().isOk(),
+                        MockMvcResultMatchers.header().string(IdempotencyAspect.IDEMPOTENT_REPLAYED_HEADER, "true"),
+                        MockMvcResultMatchers.jsonPath("$.data.order.id").value(orderId)
+                )
+                .andDo(
+                        MockMvcRestDocumentationWrapper.document("주문 생성 재요청",
+                                Preprocessors.preprocessRequest(Preprocessors.prettyPrint()),
+                                Preprocessors.preprocessResponse(Preprocessors.prettyPrint()),
+                                ResourceDocumentation.resource(ResourceSnippetParameters.builder()
+                                        .tag("주문 V1")
+                                        .summary("주문 생성")
+                                        .description("""
+                                                Idempotency-Key 헤더가 같은 재요청은 주문을 다시 만들지 않고 처음 응답을 그대로 반환합니다.
+                                                
+                                                ---
+                                                
+                                                같은 키를 다른 본문에 쓰면 422, 처음 요청이 처리 중이면 완료를 기다린 뒤 같은 응답을 반환합니다.
+                                                """)
+                                        .build()
+                                )
+                        )
+                );
+
+        ReqPostOrdersDtoV1 otherReqDto = ReqPostOrdersDtoV1.builder()
+                .order(ReqPostOrdersDtoV1.OrderDto.builder()
+                        .orderItemList(List.of(
+                                ReqPostOrdersDtoV1.OrderDto.OrderItemDto.builder()
+                                        .productId(product.getId())
+                                        .quantity(2L)
+                                        .build()
+                        ))
+                        .build())
+                .build();
+        mockMvc.perform(
+                        post("/v1/orders")
+                                .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessJwt)
+                                .header(IdempotencyAspect.IDEMPOTENCY_KEY_HEADER, idempotencyKey)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(otherReqDto))
+                )
+                .andExpectAll(
+                        MockMvcResultMatchers.status().isUnprocessableEntity(),
+                        MockMvcResultMatchers.jsonPath("$.code").value("IDEMPOTENCY_KEY_REUSED")
+                );
+    }
+
+    @Test
+    void testPostOrdersRespondAsyncAccepted() throws Exception {
+        String accessJwt = loginAndGetAccessToken("temp1");
+
+        Product product = productRepository.findAll(Pageable.unpaged()).getContent().stream()
+                .findFirst()
+                .orElseThrow();
+
+        ReqPostOrdersDtoV1 reqDto = ReqPostOrdersDtoV1.builder()
+                .order(ReqPostOrdersDtoV1.OrderDto.builder()
+                        .orderItemList(List.of(
+                                ReqPostOrdersDtoV1.OrderDto.OrderItemDto.builder()
+                                        .productId(product.getId())
+                                        .quantity(1L)
+                                        .build()
+                        ))
+                        .build())
+                .build();
+
+        MvcResult result = mockMvc.perform(
+                        post("/v1/orders")
+                                .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessJwt)
+                                .header("Prefer", "respond-async")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(reqDto))
+                )
+                .andExpectAll(
+                        MockMvcResultMatchers.status().isAccepted(),
+                        MockMvcResultMatchers.header().string("Preference-Applied", "respond-async"),
+                        MockMvcResultMatchers.jsonPath("$.data.order.status").value(Order.Status.PENDING.toString())
+                )
+                .andDo(
+                        MockMvcRestDocumentationWrapper.document("주문 비동기 접수",
+                                Preprocessors.preprocessRequest(Preprocessors.prettyPrint()),
+                                Preprocessors.preprocessResponse(Preprocessors.prettyPrint()),
+                                ResourceDocumentation.resource(ResourceSnippetParameters.builder()
+                                        .tag("주문 V1")
+                                        .summary("주문 생성")
+                                        .description("""
+                                                Prefer: respond-async 헤더를 보내면 재고를 확인하기 전에 PENDING 상태로 접수하고 202를 반환합니다.
+                                                
+                                                ---
+                                                
+                                                Location의 주문을 조회해 CREATED(생성) 또는 REJECTED(재고 부족 등으로 거절)로 바뀌었는지 확인합니다.
+                                                처리 대기열이 가득 차면 429를 반환합니다.
+                                                """)
+                                        .build()
+                                )
+                        )
+                )
+                .andReturn();
+        String orderId = objectMapper.readTree(result.getResponse().getContentAsString())
+                .path("data").path("order").path("id").asText();
+        assertThat(result.getResponse().getHeader(HttpHeaders.LOCATION)).isEqualTo("/v1/orders/" + orderId);
+
+        // 테스트 트랜잭션은 커밋되지 않으므로 워커에 넘어가지 않고 PENDING으로 남는다
+        mockMvc.perform(
+                        get("/v1/orders/{id}", orderId)
+                                .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessJwt)
+                )
+                .andExpectAll(
+                        MockMvcResultMatchers.status().isOk(),
+                        MockMvcResultMatchers.jsonPath("$.data.order.status").value(Order.Status.PENDING.toString())
+                );
+    }
+
     @Test
     void testGetOrdersSuccess() throws Exception {
         String accessJwt = loginAndGetAccessToken("temp1");
@@ -234,7 +390,7 @@ class OrderControllerV1Test {
         String buyerAccessJwt = loginAndGetAccessToken("temp2");
         String orderId = createOrder(buyerAccessJwt);
 
-        ensureManagerRole("temp1");
+        ensureRole("temp1", UserRole.Role.MANAGER);
         String managerAccessJwt = loginAndGetAccessToken("temp1");
 
         mockMvc.perform(
@@ -257,6 +413,68 @@ class OrderControllerV1Test {
                 );
     }
 
+    @Test
+    void testGetOrdersExportSuccess() throws Exception {
+        String buyerAccessJwt = loginAndGetAccessToken("temp2");
+        String orderId = createOrder(buyerAccessJwt);
+
+        ensureRole("temp3", UserRole.Role.ADMIN);
+        String adminAccessJwt = loginAndGetAccessToken("temp3");
+
+        MvcResult mvcResult = mockMvc.perform(
+                        get("/v1/orders/export")
+                                .header(HttpHeaders.AUTHORIZATION, "Bearer " + adminAccessJwt)
+                )
+                .andExpectAll(
+                        MockMvcResultMatchers.status().isOk(),
+                        MockMvcResultMatchers.content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                )
+                .andDo(
+                        MockMvcRestDocumentationWrapper.document("주문 내보내기 성공",
+                                Preprocessors.preprocessRequest(Preprocessors.prettyPrint()),
+                                ResourceDocumentation.resource(ResourceSnippetParameters.builder()
+                                        .tag("주문 V1")
+                                        .summary("주문 내보내기")
+                                        .description("""
+                                                전체 주문을 주문상품과 함께 NDJSON(한 줄에 주문 하나)으로 내려받습니다. 관리자만 호출할 수 있습니다.
+                                                
+                                                ---
+                                                
+                                                """)
+                                        .build()
+                                )
+                        )
+                )
+                .andReturn();
+
+        List<ResGetOrdersExportDtoV1> exportedOrderList = mvcResult.getResponse().getContentAsString(StandardCharsets.UTF_8)
+                .lines()
+                .map(line -> {
+                    try {
+                        return objectMapper.readValue(line, ResGetOrdersExportDtoV1.class);
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                })
+                .toList();
+
+        assertThat(exportedOrderList)
+                .filteredOn(order -> order.getId().equals(orderId))
+                .singleElement()
+                .satisfies(order -> assertThat(order.getOrderItemList()).hasSize(1));
+    }
+
+    @Test
+    void testGetOrdersExportForbiddenForUser() throws Exception {
+        String accessJwt = loginAndGetAccessToken("temp1");
+
+        mockMvc.perform(
+                        get("/v1/orders/export")
+                                .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessJwt)
+                )
+                .andExpect(MockMvcResultMatchers.status().isForbidden());
+    }
+
     private String loginAndGetAccessToken(String username) throws Exception {
         ReqPostAuthLoginDtoV1 reqDto = ReqPostAuthLoginDtoV1.builder()
                 .user(
@@ -318,15 +536,15 @@ class OrderControllerV1Test {
         return responseDto.getData().getOrder().getId();
     }
 
-    private void ensureManagerRole(String username) {
+    private void ensureRole(String username, UserRole.Role role) {
         User user = userRepository.findByUsername(username)
                 .orElseThrow();
-        if (user.hasRole(UserRole.Role.MANAGER)) {
+        if (user.hasRole(role)) {
             return;
         }
         User updatedUser = user.addRole(UserRole.builder()
                 .id(null)
-                .role(UserRole.Role.MANAGER)
+                .role(role)
                 .build());
         userRepository.save(updatedUser);
     }
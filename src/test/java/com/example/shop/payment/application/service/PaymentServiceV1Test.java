@@ -1,18 +1,21 @@
 package com.example.shop.payment.application.service;
 
+import com.example.shop.common.infrastructure.outbox.OutboxWriter;
 import com.example.shop.order.domain.model.Order;
 import com.example.shop.order.domain.model.OrderItem;
 import com.example.shop.order.domain.repository.OrderRepository;
 import com.example.shop.payment.domain.model.Payment;
 import com.example.shop.payment.domain.model.PaymentTestFixture;
+import com.example.shop.payment.domain.repository.PaymentQueryRepository;
 import com.example.shop.payment.domain.repository.PaymentRepository;
 import com.example.shop.payment.presentation.advice.PaymentError;
 import com.example.shop.payment.presentation.advice.PaymentException;
+import com.example.shop.payment.presentation.dto.event.PaymentEventDtoV1;
 import com.example.shop.payment.presentation.dto.request.ReqPostPaymentsDtoV1;
+import com.example.shop.payment.presentation.dto.response.ResGetPaymentDtoV1;
 import com.example.shop.payment.presentation.dto.response.ResPostPaymentsDtoV1;
 import com.example.shop.user.domain.model.User;
 import com.example.shop.user.domain.model.UserRole;
-import com.example.shop.user.domain.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -39,7 +42,10 @@ class PaymentServiceV1Test {
     private OrderRepository orderRepository;
 
     @Mock
-    private UserRepository userRepository;
+    private PaymentQueryRepository paymentQueryRepository;
+
+    @Mock
+    private OutboxWriter outboxWriter;
 
     @InjectMocks
     private PaymentServiceV1 paymentServiceV1;
@@ -83,8 +89,7 @@ class PaymentServiceV1Test {
     @DisplayName("결제를 생성하면 주문 상태가 PAID로 변경된다")
     void postPaymentsMarksOrderPaid() {
         when(orderRepository.findById(order.getId())).thenReturn(Optional.of(order));
-        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
-        when(paymentRepository.save(any(Payment.class))).thenAnswer(invocation -> {
+        when(paymentRepository.insert(any(Payment.class))).thenAnswer(invocation -> {
             Payment payment = invocation.getArgument(0);
             return PaymentTestFixture.copy(payment, builder -> builder.id(UUID.randomUUID()));
         });
@@ -101,8 +106,36 @@ class PaymentServiceV1Test {
         ResPostPaymentsDtoV1 response = paymentServiceV1.postPayments(user.getId(), reqDto);
 
         assertThat(response.getPayment().getOrderStatus()).isEqualTo(Order.Status.PAID);
-        verify(paymentRepository).save(any(Payment.class));
+        verify(paymentRepository).insert(any(Payment.class));
         verify(orderRepository, atLeastOnce()).save(any(Order.class));
+        verify(outboxWriter).append(
+                eq(PaymentEventDtoV1.AGGREGATE_TYPE),
+                eq(UUID.fromString(response.getPayment().getId())),
+                eq(PaymentEventDtoV1.PAYMENT_COMPLETED),
+                any(PaymentEventDtoV1.class)
+        );
+    }
+
+    @Test
+    @DisplayName("이미 처리된 거래 키로 결제하면 주문을 조회하지 않고 예외가 발생한다")
+    void postPaymentsRejectsDuplicatedTransactionKey() {
+        when(paymentRepository.existsByTransactionKey("tx-key")).thenReturn(true);
+
+        ReqPostPaymentsDtoV1 reqDto = ReqPostPaymentsDtoV1.builder()
+                .payment(ReqPostPaymentsDtoV1.PaymentDto.builder()
+                        .orderId(order.getId())
+                        .method(Payment.Method.CARD)
+                        .transactionKey("tx-key")
+                        .build())
+                .build();
+
+        assertThatThrownBy(() -> paymentServiceV1.postPayments(user.getId(), reqDto))
+                .isInstanceOf(PaymentException.class)
+                .extracting(Throwable::getMessage)
+                .asString()
+                .contains(PaymentError.PAYMENT_TRANSACTION_KEY_DUPLICATED.getErrorMessage());
+        verifyNoInteractions(orderRepository);
+        verify(paymentRepository, never()).insert(any(Payment.class));
     }
 
     @Test
@@ -124,4 +157,24 @@ class PaymentServiceV1Test {
                 .asString()
                 .contains(PaymentError.PAYMENT_ORDER_FORBIDDEN.getErrorMessage());
     }
+
+    @Test
+    @DisplayName("결제 상세는 결제한 사용자만 조회할 수 있다")
+    void getPaymentForbiddenForDifferentUser() {
+        UUID paymentId = UUID.randomUUID();
+        when(paymentQueryRepository.findPaymentDetail(paymentId)).thenReturn(Optional.of(
+                ResGetPaymentDtoV1.PaymentDto.builder()
+                        .id(paymentId.toString())
+                        .user(ResGetPaymentDtoV1.UserDto.builder().id(user.getId().toString()).build())
+                        .build()
+        ));
+
+        assertThat(paymentServiceV1.getPayment(paymentId, user.getId(), List.of(UserRole.Role.USER.toString()))
+                .getPayment().getId()).isEqualTo(paymentId.toString());
+        assertThatThrownBy(() -> paymentServiceV1.getPayment(paymentId, UUID.randomUUID(), List.of(UserRole.Role.USER.toString())))
+                .isInstanceOf(PaymentException.class)
+                .extracting(Throwable::getMessage)
+                .asString()
+                .contains(PaymentError.PAYMENT_FORBIDDEN.getErrorMessage());
+    }
 }
@@ -3,9 +3,12 @@ package com.example.shop.payment.domain.repository;
 import com.example.shop.common.infrastructure.config.jpa.JpaAuditConfig;
 import com.example.shop.common.infrastructure.config.jpa.QuerydslConfig;
 import com.example.shop.common.infrastructure.config.jpa.audit.CustomAuditAware;
+import com.example.shop.common.infrastructure.persistence.ManagedEntityTracker;
 import com.example.shop.order.infrastructure.persistence.entity.OrderEntity;
 import com.example.shop.order.infrastructure.persistence.entity.OrderItemEntity;
 import com.example.shop.payment.domain.model.Payment;
+import com.example.shop.payment.presentation.dto.response.ResGetPaymentDtoV1;
+import com.example.shop.payment.presentation.dto.response.ResGetPaymentDtoV1.PaymentDto;
 import com.example.shop.user.infrastructure.persistence.entity.UserEntity;
 import com.example.shop.user.infrastructure.persistence.entity.UserRoleEntity;
 import org.junit.jupiter.api.DisplayName;
@@ -14,20 +17,26 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
+import org.springframework.dao.DuplicateKeyException;
 
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @DataJpaTest
-@Import({JpaAuditConfig.class, CustomAuditAware.class, QuerydslConfig.class,
+@Import({JpaAuditConfig.class, CustomAuditAware.class, QuerydslConfig.class, ManagedEntityTracker.class,
         com.example.shop.payment.infrastructure.persistence.repository.PaymentRepositoryImpl.class,
+        com.example.shop.payment.infrastructure.persistence.repository.PaymentQueryRepositoryImpl.class,
         com.example.shop.payment.infrastructure.persistence.mapper.PaymentMapper.class})
 class PaymentRepositoryTest {
 
     @Autowired
     private PaymentRepository paymentRepository;
 
+    @Autowired
+    private PaymentQueryRepository paymentQueryRepository;
+
     @Autowired
     private TestEntityManager testEntityManager;
 
@@ -52,9 +61,64 @@ class PaymentRepositoryTest {
         assertThat(found.getUserId()).isEqualTo(payment.getUserId());
     }
 
+    @Test
+    @DisplayName("거래 키가 같은 결제는 저장할 수 없고 존재 여부를 조회할 수 있다")
+    void insertRejectsDuplicatedTransactionKey() {
+        PersistContext firstContext = createOrderAndUser("payment-user-1");
+        PersistContext secondContext = createOrderAndUser("payment-user-2");
+        paymentRepository.insert(Payment.builder()
+                .orderId(firstContext.orderEntity.getId())
+                .userId(firstContext.userEntity.getId())
+                .status(Payment.Status.COMPLETED)
+                .method(Payment.Method.CARD)
+                .amount(1000L)
+                .transactionKey("tx-duplicated")
+                .build());
+
+        assertThat(paymentRepository.existsByTransactionKey("tx-duplicated")).isTrue();
+        assertThat(paymentRepository.existsByTransactionKey("tx-missing")).isFalse();
+        assertThatThrownBy(() -> paymentRepository.insert(Payment.builder()
+                .orderId(secondContext.orderEntity.getId())
+                .userId(secondContext.userEntity.getId())
+                .status(Payment.Status.COMPLETED)
+                .method(Payment.Method.CARD)
+                .amount(1000L)
+                .transactionKey("tx-duplicated")
+                .build()))
+                .isInstanceOf(DuplicateKeyException.class);
+    }
+
+    @Test
+    @DisplayName("결제 상세는 주문 요약, 사용자 요약, 주문 상품을 함께 조회한다")
+    void findPaymentDetailProjectsOrderAndUser() {
+        PersistContext context = createOrderAndUser();
+        Payment saved = paymentRepository.insert(Payment.builder()
+                .orderId(context.orderEntity.getId())
+                .userId(context.userEntity.getId())
+                .status(Payment.Status.COMPLETED)
+                .method(Payment.Method.CARD)
+                .amount(1000L)
+                .transactionKey("tx-detail")
+                .build());
+        testEntityManager.clear();
+
+        PaymentDto paymentDto = paymentQueryRepository.findPaymentDetail(saved.getId()).orElseThrow();
+
+        assertThat(paymentDto.getTransactionKey()).isEqualTo("tx-detail");
+        assertThat(paymentDto.getOrder().getId()).isEqualTo(context.orderEntity.getId().toString());
+        assertThat(paymentDto.getOrder().getOrderItemList()).extracting(ResGetPaymentDtoV1.OrderItemDto::getProductName)
+                .containsExactly("product");
+        assertThat(paymentDto.getUser().getUsername()).isEqualTo("payment-user");
+        assertThat(paymentQueryRepository.findPaymentDetail(UUID.randomUUID())).isEmpty();
+    }
+
     private PersistContext createOrderAndUser() {
+        return createOrderAndUser("payment-user");
+    }
+
+    private PersistContext createOrderAndUser(String username) {
         UserEntity userEntity = UserEntity.builder()
-                .username("payment-user")
+                .username(username)
                 .password("payment-pass")
                 .nickname("pay")
                 .email("pay@example.com")
@@ -0,0 +1,137 @@
+package com.example.shop.product.application.service;
+
+import com.example.shop.product.domain.model.Product;
+import com.example.shop.product.domain.repository.ProductQueryRepository;
+import com.example.shop.product.presentation.advice.ProductException;
+import com.example.shop.product.presentation.dto.response.ResGetProductsDtoV1.ProductPageDto.ProductDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProductQueryServiceV1Test {
+
+    @Mock
+    private ProductQueryRepository productQueryRepository;
+
+    @Mock
+    private ProductSearchIndex productSearchIndex;
+
+    @Mock
+    private ProductSuggestIndex productSuggestIndex;
+
+    @Mock
+    private ProductReadCache productReadCache;
+
+    @InjectMocks
+    private ProductQueryServiceV1 productQueryServiceV1;
+
+    @Test
+    @DisplayName("상품 목록을 페이지 단위로 조회할 수 있다")
+    void getProductsReturnsPage() {
+        Pageable pageable = PageRequest.of(0, 5);
+        when(productQueryRepository.findProducts(null, pageable)).thenReturn(new PageImpl<>(List.of(productDto())));
+
+        var response = productQueryServiceV1.getProducts(pageable, null);
+
+        assertThat(response.getProductPage().getContent()).hasSize(1);
+        assertThat(response.getProductPage().getContent().get(0).getName()).isEqualTo("exist-product");
+        verify(productQueryRepository).findProducts(null, pageable);
+    }
+
+    @Test
+    @DisplayName("상품 목록은 이름 부분 검색으로 필터링된다")
+    void getProductsFiltersByName() {
+        Pageable pageable = PageRequest.of(0, 5);
+        when(productQueryRepository.findProducts("exist", pageable)).thenReturn(new PageImpl<>(List.of(productDto())));
+
+        var response = productQueryServiceV1.getProducts(pageable, " exist ");
+
+        assertThat(response.getProductPage().getContent()).hasSize(1);
+        verify(productQueryRepository).findProducts("exist", pageable);
+    }
+
+    @Test
+    @DisplayName("검색 색인이 준비되면 색인이 정한 순서대로 상품을 채워 DB 부분 검색을 하지 않는다")
+    void getProductsSearchesIndexWhenReady() {
+        Pageable pageable = PageRequest.of(0, 5);
+        Product firstProduct = product("안성탕면");
+        Product secondProduct = product("안성탕면 5개 번들");
+        when(productSearchIndex.isReady()).thenReturn(true);
+        when(productSearchIndex.search("안성", pageable))
+                .thenReturn(new PageImpl<>(List.of(firstProduct.getId(), secondProduct.getId()), pageable, 2));
+        when(productReadCache.findAllById(List.of(firstProduct.getId(), secondProduct.getId())))
+                .thenReturn(List.of(secondProduct, firstProduct));
+
+        var response = productQueryServiceV1.getProducts(pageable, " 안성 ");
+
+        assertThat(response.getProductPage().getContent())
+                .extracting(ProductDto::getName)
+                .containsExactly("안성탕면", "안성탕면 5개 번들");
+        verifyNoInteractions(productQueryRepository);
+    }
+
+    @Test
+    @DisplayName("자동완성은 자동완성 트라이의 결과를 그대로 내려준다")
+    void getProductSuggestionsReadsSuggestIndex() {
+        UUID productId = UUID.randomUUID();
+        when(productSuggestIndex.isReady()).thenReturn(true);
+        when(productSuggestIndex.suggest("안성", 5))
+                .thenReturn(List.of(new ProductSuggestIndex.Suggestion(productId, "안성탕면 5개 번들")));
+
+        var response = productQueryServiceV1.getProductSuggestions(" 안성 ", 5);
+
+        assertThat(response.getSuggestionList()).hasSize(1);
+        assertThat(response.getSuggestionList().get(0).getId()).isEqualTo(productId.toString());
+        assertThat(response.getSuggestionList().get(0).getName()).isEqualTo("안성탕면 5개 번들");
+    }
+
+    @Test
+    @DisplayName("빈 접두어는 트라이를 조회하지 않고 빈 목록을 내려준다")
+    void getProductSuggestionsReturnsEmptyForBlankPrefix() {
+        var response = productQueryServiceV1.getProductSuggestions("  ", 5);
+
+        assertThat(response.getSuggestionList()).isEmpty();
+        verifyNoInteractions(productSuggestIndex);
+    }
+
+    @Test
+    @DisplayName("해석할 수 없는 커서는 잘못된 요청으로 처리한다")
+    void getProductsByCursorRejectsInvalidCursor() {
+        assertThatThrownBy(() -> productQueryServiceV1.getProductsByCursor("not-a-cursor", 10, null))
+                .isInstanceOf(ProductException.class);
+    }
+
+    private Product product(String name) {
+        return Product.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .price(3000L)
+                .stock(10L)
+                .build();
+    }
+
+    private ProductDto productDto() {
+        return ProductDto.builder()
+                .id(UUID.randomUUID().toString())
+                .name("exist-product")
+                .price(1000L)
+                .stock(10L)
+                .build();
+    }
+}
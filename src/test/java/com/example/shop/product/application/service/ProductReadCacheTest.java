@@ -0,0 +1,96 @@
+package com.example.shop.product.application.service;
+
+import com.example.shop.product.domain.model.Product;
+import com.example.shop.product.domain.repository.ProductRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductReadCacheTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        product = Product.builder()
+                .id(UUID.randomUUID())
+                .name("cache-product")
+                .price(1000L)
+                .stock(10L)
+                .build();
+    }
+
+    @Test
+    @DisplayName("캐시된 상품은 DB를 다시 조회하지 않는다")
+    void findByIdReadsThroughOnce() {
+        ProductReadCache productReadCache = newProductReadCache(60_000L);
+        when(productRepository.findAllById(any())).thenReturn(List.of(product));
+
+        assertThat(productReadCache.findById(product.getId())).contains(product);
+        assertThat(productReadCache.findById(product.getId()).map(Product::getStock)).contains(10L);
+
+        verify(productRepository, times(1)).findAllById(any());
+        verify(productRepository, never()).findStockAllById(any());
+    }
+
+    @Test
+    @DisplayName("상품이 수정되어 캐시에서 제거되면 다시 DB에서 조회한다")
+    void evictReloadsProduct() {
+        ProductReadCache productReadCache = newProductReadCache(60_000L);
+        Product updatedProduct = product.update("cache-product-updated", null, null);
+        when(productRepository.findAllById(any()))
+                .thenReturn(List.of(product))
+                .thenReturn(List.of(updatedProduct));
+
+        productReadCache.findById(product.getId());
+        productReadCache.evict(product.getId());
+
+        assertThat(productReadCache.findById(product.getId()).map(Product::getName)).contains("cache-product-updated");
+        verify(productRepository, times(2)).findAllById(any());
+    }
+
+    @Test
+    @DisplayName("재고 캐시가 만료되면 상품 정보는 캐시에서, 재고만 DB에서 다시 조회한다")
+    void expiredStockReloadsStockOnly() {
+        ProductReadCache productReadCache = newProductReadCache(0L);
+        when(productRepository.findAllById(any())).thenReturn(List.of(product));
+        when(productRepository.findStockAllById(any())).thenReturn(Map.of(product.getId(), 3L));
+
+        productReadCache.findById(product.getId());
+
+        assertThat(productReadCache.findById(product.getId()).map(Product::getStock)).contains(3L);
+        verify(productRepository, times(1)).findAllById(any());
+        verify(productRepository, times(1)).findStockAllById(any());
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 상품은 결과에서 빠진다")
+    void findAllByIdSkipsMissingProduct() {
+        ProductReadCache productReadCache = newProductReadCache(60_000L);
+        when(productRepository.findAllById(any())).thenReturn(List.of(product));
+
+        List<Product> productList = productReadCache.findAllById(List.of(product.getId(), UUID.randomUUID()));
+
+        assertThat(productList).containsExactly(product);
+    }
+
+    private ProductReadCache newProductReadCache(long stockTtlMillis) {
+        return new ProductReadCache(productRepository, new SimpleMeterRegistry(), 100L, 60_000L, stockTtlMillis);
+    }
+}
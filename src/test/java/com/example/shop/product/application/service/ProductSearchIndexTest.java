@@ -0,0 +1,136 @@
+package com.example.shop.product.application.service;
+
+import com.example.shop.product.domain.model.Product;
+import com.example.shop.product.domain.repository.ProductQueryRepository;
+import com.example.shop.product.domain.repository.ProductQueryRepository.SearchRow;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProductSearchIndexTest {
+
+    @Mock
+    private ProductQueryRepository productQueryRepository;
+
+    private final Instant now = Instant.parse("2024-01-01T00:00:00Z");
+    private final SearchRow ramen = searchRow("안성탕면 5개 번들", 3);
+    private final SearchRow ramenSingle = searchRow("안성탕면", 2);
+    private final SearchRow spicyRamen = searchRow("매운 안성탕면 컵", 1);
+    private final SearchRow galbi = searchRow("LA갈비 1kg", 0);
+
+    private ProductSearchIndex productSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        productSearchIndex = new ProductSearchIndex(productQueryRepository, new SimpleMeterRegistry(), true, 2);
+    }
+
+    @Test
+    @DisplayName("한글 음절은 자판 입력 단위의 자모로 분해한다")
+    void tokenizerDecomposesHangul() {
+        assertThat(ProductNameTokenizer.toJamo(ProductNameTokenizer.normalize(" 탕면  5개 "))).isEqualTo("ㅌㅏㅇㅁㅕㄴ 5ㄱㅐ");
+        assertThat(ProductNameTokenizer.toJamo("과닭")).isEqualTo("ㄱㅗㅏㄷㅏㄹㄱ");
+        assertThat(ProductNameTokenizer.toJamo("ㅘ")).isEqualTo("ㅗㅏ");
+        assertThat(ProductNameTokenizer.normalize("LA갈비")).isEqualTo("la갈비");
+    }
+
+    @Test
+    @DisplayName("시작 시 상품을 id 순서로 나눠 읽어 색인을 만든다")
+    void rebuildLoadsInBatches() {
+        givenProducts();
+
+        assertThat(productSearchIndex.isReady()).isFalse();
+        productSearchIndex.rebuild();
+
+        assertThat(productSearchIndex.isReady()).isTrue();
+        assertThat(productSearchIndex.size()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("입력 중인 글자(자모 단위)로도 상품명을 찾는다")
+    void searchMatchesPartiallyTypedHangul() {
+        givenProducts();
+        productSearchIndex.rebuild();
+
+        assertThat(search("안서")).containsExactlyInAnyOrder(ramen.id(), ramenSingle.id(), spicyRamen.id());
+        assertThat(search("탕ㅁ")).containsExactlyInAnyOrder(ramen.id(), ramenSingle.id(), spicyRamen.id());
+        assertThat(search("la갈")).containsExactly(galbi.id());
+        assertThat(search("5개 번")).containsExactly(ramen.id());
+        assertThat(search("짜파게티")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("이름 전체 일치, 접두 일치, 부분 일치 순으로 정렬하고 페이지로 나눈다")
+    void searchRanksAndPages() {
+        givenProducts();
+        productSearchIndex.rebuild();
+
+        assertThat(search("안성탕면")).containsExactly(ramenSingle.id(), ramen.id(), spicyRamen.id());
+
+        Page<UUID> secondPage = productSearchIndex.search("안성탕면", PageRequest.of(1, 2));
+        assertThat(secondPage.getContent()).containsExactly(spicyRamen.id());
+        assertThat(secondPage.getTotalElements()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("등록, 이름 변경, 삭제를 색인에 바로 반영한다")
+    void indexAppliesChanges() {
+        givenProducts();
+        productSearchIndex.rebuild();
+        Product newProduct = product(UUID.randomUUID(), "동원참치 1캔");
+
+        productSearchIndex.index(newProduct);
+        assertThat(search("참치")).containsExactly(newProduct.getId());
+
+        productSearchIndex.index(newProduct.update("동원 고추참치", null, null));
+        assertThat(search("1캔")).isEmpty();
+        assertThat(search("고추참치")).containsExactly(newProduct.getId());
+
+        productSearchIndex.remove(newProduct.getId());
+        assertThat(search("참치")).isEmpty();
+        assertThat(productSearchIndex.size()).isEqualTo(4);
+    }
+
+    private void givenProducts() {
+        List<SearchRow> searchRowList = List.of(ramen, ramenSingle, spicyRamen, galbi)
+                .stream()
+                .sorted((left, right) -> left.id().compareTo(right.id()))
+                .toList();
+        when(productQueryRepository.findSearchRows(null, 2)).thenReturn(searchRowList.subList(0, 2));
+        when(productQueryRepository.findSearchRows(searchRowList.get(1).id(), 2)).thenReturn(searchRowList.subList(2, 4));
+        when(productQueryRepository.findSearchRows(searchRowList.get(3).id(), 2)).thenReturn(List.of());
+    }
+
+    private List<UUID> search(String name) {
+        return productSearchIndex.search(name, Pageable.unpaged()).getContent();
+    }
+
+    private SearchRow searchRow(String name, int minutesAgo) {
+        return new SearchRow(UUID.randomUUID(), name, now.minusSeconds(minutesAgo * 60L));
+    }
+
+    private Product product(UUID productId, String name) {
+        return Product.builder()
+                .id(productId)
+                .name(name)
+                .price(1000L)
+                .stock(10L)
+                .createdAt(now)
+                .build();
+    }
+}
@@ -14,9 +14,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 import java.util.Optional;
@@ -35,6 +32,21 @@ class ProductServiceV1Test {
     @Mock
     private ProductRepository productRepository;
 
+    @Mock
+    private ProductStockLedger productStockLedger;
+
+    @Mock
+    private ProductReadCache productReadCache;
+
+    @Mock
+    private ProductPageResponseCache productPageResponseCache;
+
+    @Mock
+    private ProductSearchIndex productSearchIndex;
+
+    @Mock
+    private ProductSuggestIndex productSuggestIndex;
+
     @InjectMocks
     private ProductServiceV1 productServiceV1;
 
@@ -50,32 +62,6 @@ class ProductServiceV1Test {
                 .build();
     }
 
-    @Test
-    @DisplayName("상품 목록을 페이지 단위로 조회할 수 있다")
-    void getProductsReturnsPage() {
-        Pageable pageable = PageRequest.of(0, 5);
-        when(productRepository.findAll(pageable)).thenReturn(new PageImpl<>(List.of(existingProduct)));
-
-        var response = productServiceV1.getProducts(pageable, null);
-
-        assertThat(response.getProductPage().getContent()).hasSize(1);
-        assertThat(response.getProductPage().getContent().get(0).getName()).isEqualTo("exist-product");
-        verify(productRepository).findAll(pageable);
-    }
-
-    @Test
-    @DisplayName("상품 목록은 이름 부분 검색으로 필터링된다")
-    void getProductsFiltersByName() {
-        Pageable pageable = PageRequest.of(0, 5);
-        when(productRepository.findByNameContainingIgnoreCase("exist", pageable))
-                .thenReturn(new PageImpl<>(List.of(existingProduct)));
-
-        var response = productServiceV1.getProducts(pageable, " exist ");
-
-        assertThat(response.getProductPage().getContent()).hasSize(1);
-        verify(productRepository).findByNameContainingIgnoreCase("exist", pageable);
-    }
-
     @Test
     @DisplayName("상품 등록 시 이름 중복을 검증한다")
     void postProductsValidatesDuplicateName() {
@@ -110,7 +96,7 @@ class ProductServiceV1Test {
                         .build())
                 .build();
 
-        assertThatThrownBy(() -> productServiceV1.putProduct(UUID.randomUUID(), List.of("USER"), existingProduct.getId(), reqDto))
+        assertThatThrownBy(() -> productServiceV1.putProduct(List.of("USER"), existingProduct.getId(), reqDto))
                 .isInstanceOf(ProductException.class)
                 .extracting(Throwable::getMessage)
                 .asString()
@@ -129,6 +115,7 @@ class ProductServiceV1Test {
         verify(productRepository).save(argThat(product ->
                 product.getDeletedAt() != null && deleterId.toString().equals(product.getDeletedBy())
         ));
+        verify(productStockLedger).evict(existingProduct.getId());
     }
 
     @Test
@@ -0,0 +1,168 @@
+package com.example.shop.product.application.service;
+
+import com.example.shop.product.domain.model.Product;
+import com.example.shop.product.domain.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductStockLedgerTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ProductReadCache productReadCache;
+
+    @Mock
+    private ProductSuggestIndex productSuggestIndex;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ProductStockLedger productStockLedger;
+
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        productStockLedger = new ProductStockLedger(productRepository, productReadCache, productSuggestIndex, transactionManager, true);
+        product = Product.builder()
+                .id(UUID.randomUUID())
+                .name("ledger-product")
+                .price(1000L)
+                .stock(10L)
+                .build();
+    }
+
+    @Test
+    @DisplayName("비활성화 상태에서는 DB 조건부 차감으로 위임한다")
+    void reserveDelegatesToRepositoryWhenDisabled() {
+        ProductStockLedger disabledLedger = new ProductStockLedger(productRepository, productReadCache, productSuggestIndex, transactionManager, false);
+        when(productRepository.decreaseStock(Map.of(product.getId(), 3L))).thenReturn(Set.of());
+
+        Set<UUID> failedProductIdSet = disabledLedger.reserve(Map.of(product.getId(), 3L));
+
+        assertThat(failedProductIdSet).isEmpty();
+        verify(productRepository, never()).findAllById(any());
+        verify(productSuggestIndex).recordOrdered(Map.of(product.getId(), 3L));
+    }
+
+    @Test
+    @DisplayName("재고를 되돌리면 되돌린 수량만큼 자동완성 인기도를 내린다")
+    void releaseLowersSuggestWeight() {
+        ProductStockLedger disabledLedger = new ProductStockLedger(productRepository, productReadCache, productSuggestIndex, transactionManager, false);
+        when(productRepository.adjustStock(Map.of(product.getId(), 3L))).thenReturn(Set.of());
+
+        assertThat(disabledLedger.release(Map.of(product.getId(), 3L))).isEmpty();
+
+        verify(productSuggestIndex).recordReleased(Map.of(product.getId(), 3L));
+    }
+
+    @Test
+    @DisplayName("예약은 DB 재고로 한 번만 적재되고 메모리에서 차감된다")
+    void reserveSeedsOnceAndDecrementsInMemory() {
+        when(productRepository.findAllById(any())).thenReturn(List.of(product));
+
+        assertThat(productStockLedger.reserve(Map.of(product.getId(), 4L))).isEmpty();
+        assertThat(productStockLedger.reserve(Map.of(product.getId(), 6L))).isEmpty();
+        assertThat(productStockLedger.reserve(Map.of(product.getId(), 1L))).containsExactly(product.getId());
+
+        assertThat(productStockLedger.getAvailableStock(product.getId())).contains(0L);
+        verify(productRepository, times(1)).findAllById(any());
+        verify(productRepository, never()).decreaseStock(any());
+    }
+
+    @Test
+    @DisplayName("일부 상품 예약에 실패하면 같은 요청의 다른 예약도 되돌린다")
+    void reserveIsAllOrNothing() {
+        Product otherProduct = Product.builder()
+                .id(UUID.randomUUID())
+                .name("ledger-other")
+                .price(500L)
+                .stock(1L)
+                .build();
+        when(productRepository.findAllById(any())).thenReturn(List.of(product, otherProduct));
+
+        Set<UUID> failedProductIdSet = productStockLedger.reserve(Map.of(
+                product.getId(), 5L,
+                otherProduct.getId(), 2L
+        ));
+
+        assertThat(failedProductIdSet).containsExactly(otherProduct.getId());
+        assertThat(productStockLedger.getAvailableStock(product.getId())).contains(10L);
+        assertThat(productStockLedger.getAvailableStock(otherProduct.getId())).contains(1L);
+    }
+
+    @Test
+    @DisplayName("flush는 누적된 순 증감분만 한 번에 DB에 반영한다")
+    void flushWritesNetDelta() {
+        when(productRepository.findAllById(any())).thenReturn(List.of(product));
+        when(productRepository.adjustStock(any())).thenReturn(Set.of());
+
+        productStockLedger.reserve(Map.of(product.getId(), 5L));
+        productStockLedger.reserve(Map.of(product.getId(), 2L));
+        productStockLedger.release(Map.of(product.getId(), 3L));
+        productStockLedger.flush();
+        productStockLedger.flush();
+
+        verify(productRepository, times(1)).adjustStock(Map.of(product.getId(), -4L));
+        assertThat(productStockLedger.getAvailableStock(product.getId())).contains(6L);
+    }
+
+    @Test
+    @DisplayName("관리자가 재고를 수정하면 flush 전의 예약분을 한 번만 DB에 쓰고, 이후 예약은 새 재고로 다시 적재한다")
+    void evictWritesPendingDeltaBeforeReseed() {
+        Product updatedProduct = product.update(null, null, 16L);
+        when(productRepository.findAllById(any())).thenReturn(List.of(product)).thenReturn(List.of(updatedProduct));
+        when(productRepository.adjustStock(any())).thenReturn(Set.of());
+
+        productStockLedger.reserve(Map.of(product.getId(), 4L));
+        // 관리자가 재고를 20으로 수정, 커밋 후 아직 쓰지 않은 -4가 더해져 16이 된다
+        productStockLedger.evict(product.getId());
+        productStockLedger.flush();
+
+        verify(productRepository, times(1)).adjustStock(Map.of(product.getId(), -4L));
+        assertThat(productStockLedger.getAvailableStock(product.getId())).isEmpty();
+
+        assertThat(productStockLedger.reserve(Map.of(product.getId(), 16L))).isEmpty();
+        assertThat(productStockLedger.getAvailableStock(product.getId())).contains(0L);
+        productStockLedger.flush();
+
+        verify(productRepository).adjustStock(Map.of(product.getId(), -16L));
+        verify(productRepository, times(2)).findAllById(any());
+    }
+
+    @Test
+    @DisplayName("증감분을 쓰지 못하면 카운터를 남겨 두고 다음 flush에서 다시 쓴 뒤 제거한다")
+    void evictRetriesWhenWriteFails() {
+        when(productRepository.findAllById(any())).thenReturn(List.of(product));
+        when(productRepository.adjustStock(Map.of(product.getId(), -3L)))
+                .thenThrow(new IllegalStateException("db down"))
+                .thenReturn(Set.of());
+
+        productStockLedger.reserve(Map.of(product.getId(), 3L));
+        productStockLedger.evict(product.getId());
+
+        assertThat(productStockLedger.getAvailableStock(product.getId())).contains(7L);
+
+        productStockLedger.flush();
+
+        verify(productRepository, times(2)).adjustStock(Map.of(product.getId(), -3L));
+        assertThat(productStockLedger.getAvailableStock(product.getId())).isEmpty();
+    }
+}
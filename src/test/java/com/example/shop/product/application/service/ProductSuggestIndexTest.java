@@ -0,0 +1,212 @@
+package com.example.shop.product.application.service;
+
+import com.example.shop.product.domain.model.Product;
+import com.example.shop.product.domain.repository.ProductQueryRepository;
+import com.example.shop.product.domain.repository.ProductQueryRepository.SearchRow;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProductSuggestIndexTest {
+
+    private static final int MAX_SIZE = 3;
+
+    @Mock
+    private ProductQueryRepository productQueryRepository;
+
+    private ProductSuggestIndex productSuggestIndex;
+
+    @BeforeEach
+    void setUp() {
+        productSuggestIndex = new ProductSuggestIndex(productQueryRepository, new SimpleMeterRegistry(), true, MAX_SIZE, 1000);
+    }
+
+    @Test
+    @DisplayName("이름의 첫 글자뿐 아니라 각 단어의 시작으로도 자모 단위 접두어를 찾는다")
+    void suggestMatchesWordPrefixes() {
+        SearchRow ramen = searchRow("안성탕면 5개 번들");
+        SearchRow spicyRamen = searchRow("매운 안성탕면");
+        SearchRow galbi = searchRow("LA갈비 1kg");
+        givenProducts(ramen, spicyRamen, galbi);
+        productSuggestIndex.rebuild();
+
+        assertThat(suggestedNames("안서")).containsExactly("매운 안성탕면", "안성탕면 5개 번들");
+        assertThat(suggestedNames("번ㄷ")).containsExactly("안성탕면 5개 번들");
+        assertThat(suggestedNames("la")).containsExactly("LA갈비 1kg");
+        assertThat(suggestedNames("탕면")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("주문 수량이 많은 상품을 먼저 추천하고, 하위 키가 많아도 최대 개수만 돌려준다")
+    void suggestOrdersByPopularity() {
+        List<SearchRow> searchRowList = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            searchRowList.add(searchRow("참치 " + i + "캔"));
+        }
+        givenProducts(searchRowList.toArray(SearchRow[]::new));
+        productSuggestIndex.rebuild();
+
+        productSuggestIndex.recordOrdered(Map.of(searchRowList.get(7).id(), 5L, searchRowList.get(3).id(), 2L));
+        productSuggestIndex.recordOrdered(Map.of(searchRowList.get(3).id(), 4L));
+        productSuggestIndex.refreshWeights();
+
+        assertThat(productSuggestIndex.suggest("참치", 10))
+                .extracting(ProductSuggestIndex.Suggestion::productId)
+                .containsExactly(searchRowList.get(3).id(), searchRowList.get(7).id(), searchRowList.get(0).id());
+        assertThat(productSuggestIndex.suggest("참치", 1)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("취소로 되돌린 수량만큼 인기도를 내리고, 0 아래로는 내리지 않는다")
+    void recordReleasedLowersPopularity() {
+        SearchRow first = searchRow("참치 1캔");
+        SearchRow second = searchRow("참치 2캔");
+        givenProducts(first, second);
+        productSuggestIndex.rebuild();
+
+        productSuggestIndex.recordOrdered(Map.of(first.id(), 5L, second.id(), 3L));
+        productSuggestIndex.recordReleased(Map.of(first.id(), 4L));
+        productSuggestIndex.refreshWeights();
+
+        assertThat(productSuggestIndex.suggest("참치", 10))
+                .extracting(ProductSuggestIndex.Suggestion::productId)
+                .containsExactly(second.id(), first.id());
+
+        productSuggestIndex.recordReleased(Map.of(second.id(), 10L));
+        productSuggestIndex.recordOrdered(Map.of(second.id(), 1L));
+        productSuggestIndex.refreshWeights();
+
+        // second는 0에서 다시 1이 되므로 인기도 1인 first와 같고, 이름순으로 뒤에 온다
+        assertThat(productSuggestIndex.suggest("참치", 10))
+                .extracting(ProductSuggestIndex.Suggestion::productId)
+                .containsExactly(first.id(), second.id());
+    }
+
+    @Test
+    @DisplayName("등록, 이름 변경, 삭제, 인기도 변경을 반복해도 전체를 훑은 결과와 같다")
+    void incrementalChangesMatchBruteForce() {
+        givenProducts();
+        productSuggestIndex.rebuild();
+        Random random = new Random(42);
+        String[] wordList = {"안성탕면", "안성", "참치", "참깨라면", "갈비", "la갈비", "5개", "번들", "컵"};
+        Map<UUID, String> nameMap = new HashMap<>();
+        Map<UUID, Long> weightMap = new HashMap<>();
+        List<UUID> productIdList = new ArrayList<>();
+
+        for (int step = 0; step < 400; step++) {
+            int operation = random.nextInt(10);
+            if (operation < 5 || productIdList.isEmpty()) {
+                UUID productId = operation < 3 || productIdList.isEmpty()
+                        ? UUID.randomUUID()
+                        : productIdList.get(random.nextInt(productIdList.size()));
+                String name = wordList[random.nextInt(wordList.length)] + " " + wordList[random.nextInt(wordList.length)] + " " + step;
+                if (!nameMap.containsKey(productId)) {
+                    productIdList.add(productId);
+                }
+                nameMap.put(productId, name);
+                productSuggestIndex.index(product(productId, name));
+            } else if (operation < 7) {
+                UUID productId = productIdList.remove(random.nextInt(productIdList.size()));
+                nameMap.remove(productId);
+                productSuggestIndex.remove(productId);
+            } else {
+                UUID productId = productIdList.get(random.nextInt(productIdList.size()));
+                long quantity = random.nextInt(5) + 1L;
+                if (operation < 9) {
+                    weightMap.merge(productId, quantity, Long::sum);
+                    productSuggestIndex.recordOrdered(Map.of(productId, quantity));
+                } else {
+                    weightMap.put(productId, Math.max(weightMap.getOrDefault(productId, 0L) - quantity, 0L));
+                    productSuggestIndex.recordReleased(Map.of(productId, quantity));
+                }
+                productSuggestIndex.refreshWeights();
+            }
+
+            for (String prefix : List.of("ㅇ", "안ㅅ", "안성탕", "참", "ㅊㅏㅁㄲ", "la", "5", "번들 1", "컵")) {
+                assertThat(productSuggestIndex.suggest(prefix, MAX_SIZE))
+                        .extracting(ProductSuggestIndex.Suggestion::productId)
+                        .as("step %d, prefix %s", step, prefix)
+                        .containsExactlyElementsOf(bruteForce(nameMap, weightMap, prefix));
+            }
+        }
+        assertThat(productSuggestIndex.size()).isEqualTo(nameMap.size());
+    }
+
+    @Test
+    @DisplayName("메모리 추정치는 상품, 키, 노드 수를 함께 보고한다")
+    void memoryReportCountsNodes() {
+        givenProducts(searchRow("안성탕면 5개 번들"), searchRow("안성탕면"), searchRow("동원참치 1캔"));
+        productSuggestIndex.rebuild();
+
+        ProductSuggestIndex.MemoryReport memoryReport = productSuggestIndex.memoryReport();
+
+        assertThat(memoryReport.productCount()).isEqualTo(3);
+        // 이름 전체 3개 + 단어 시작 3개 ("5개 번들", "번들", "1캔")
+        assertThat(memoryReport.keyCount()).isEqualTo(6);
+        assertThat(memoryReport.nodeCount()).isGreaterThan(memoryReport.keyCount());
+        assertThat(memoryReport.estimatedBytes()).isPositive();
+    }
+
+    // 각 단어 시작부터의 자모 문자열이 접두어로 시작하는 상품을 인기도, 짧은 이름, 이름, id 순으로 정렬
+    private List<UUID> bruteForce(Map<UUID, String> nameMap, Map<UUID, Long> weightMap, String prefix) {
+        String prefixJamo = ProductNameTokenizer.toJamo(ProductNameTokenizer.normalize(prefix));
+        return nameMap.entrySet()
+                .stream()
+                .filter(entry -> {
+                    String normalized = ProductNameTokenizer.normalize(entry.getValue());
+                    if (ProductNameTokenizer.toJamo(normalized).startsWith(prefixJamo)) {
+                        return true;
+                    }
+                    for (int i = normalized.indexOf(' '); i >= 0; i = normalized.indexOf(' ', i + 1)) {
+                        if (ProductNameTokenizer.toJamo(normalized.substring(i + 1)).startsWith(prefixJamo)) {
+                            return true;
+                        }
+                    }
+                    return false;
+                })
+                .sorted(Comparator.<Map.Entry<UUID, String>>comparingLong(entry -> weightMap.getOrDefault(entry.getKey(), 0L)).reversed()
+                        .thenComparingInt(entry -> entry.getValue().length())
+                        .thenComparing(Map.Entry::getValue)
+                        .thenComparing(Map.Entry::getKey))
+                .limit(MAX_SIZE)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    private List<String> suggestedNames(String prefix) {
+        return productSuggestIndex.suggest(prefix, MAX_SIZE)
+                .stream()
+                .map(ProductSuggestIndex.Suggestion::name)
+                .toList();
+    }
+
+    private void givenProducts(SearchRow... searchRows) {
+        when(productQueryRepository.findSearchRows(any(), anyInt())).thenReturn(List.of(searchRows));
+    }
+
+    private SearchRow searchRow(String name) {
+        return new SearchRow(UUID.randomUUID(), name, Instant.now());
+    }
+
+    private Product product(UUID productId, String name) {
+        return Product.builder()
+                .id(productId)
+                .name(name)
+                .price(1000L)
+                .stock(10L)
+                .build();
+    }
+}
@@ -3,28 +3,48 @@ package com.example.shop.product.domain.repository;
 import com.example.shop.common.infrastructure.config.jpa.JpaAuditConfig;
 import com.example.shop.common.infrastructure.config.jpa.QuerydslConfig;
 import com.example.shop.common.infrastructure.config.jpa.audit.CustomAuditAware;
+import com.example.shop.common.infrastructure.persistence.KeysetCursor;
+import com.example.shop.common.infrastructure.persistence.KeysetSlice;
+import com.example.shop.common.infrastructure.persistence.ManagedEntityTracker;
 import com.example.shop.product.domain.model.Product;
+import com.example.shop.product.presentation.dto.response.ResGetProductsDtoV1.ProductPageDto.ProductDto;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @DataJpaTest
-@Import({JpaAuditConfig.class, CustomAuditAware.class, QuerydslConfig.class,
+@Import({JpaAuditConfig.class, CustomAuditAware.class, QuerydslConfig.class, ManagedEntityTracker.class,
         com.example.shop.product.infrastructure.persistence.repository.ProductRepositoryImpl.class,
+        com.example.shop.product.infrastructure.persistence.repository.ProductQueryRepositoryImpl.class,
         com.example.shop.product.infrastructure.persistence.mapper.ProductMapper.class})
 class ProductRepositoryTest {
 
     @Autowired
     private ProductRepository productRepository;
 
+    @Autowired
+    private ProductQueryRepository productQueryRepository;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
     @Test
     @DisplayName("상품명을 통해 상품을 조회할 수 있다")
     void findByNameReturnsProduct() {
@@ -48,9 +68,52 @@ class ProductRepositoryTest {
         assertThat(optional).isEmpty();
     }
 
+    @Test
+    @DisplayName("일괄 저장한 상품명은 삭제된 상품을 포함해 한 번의 조회로 존재 여부를 확인할 수 있다")
+    void insertAllThenFindExistingNamesIncludesDeleted() {
+        List<Product> savedList = productRepository.insertAll(List.of(
+                Product.builder().name("일괄상품1").price(1000L).stock(5L).build(),
+                Product.builder().name("일괄상품2").price(2000L).stock(3L).build()
+        ));
+        productRepository.save(savedList.get(1).markDeleted(Instant.now(), UUID.randomUUID()));
+        testEntityManager.flush();
+
+        Set<String> existingNameSet = productRepository.findExistingNames(List.of("일괄상품1", "일괄상품2", "없는상품"));
+
+        assertThat(savedList).allSatisfy(product -> assertThat(product.getId()).isNotNull());
+        assertThat(existingNameSet).containsExactlyInAnyOrder("일괄상품1", "일괄상품2");
+    }
+
+    @Test
+    @DisplayName("커서 조회는 생성일 역순으로 중복 없이 다음 페이지를 이어서 반환한다")
+    void findProductsByCursorWalksAllPages() {
+        List<UUID> savedIdList = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            savedIdList.add(productRepository.save(Product.builder()
+                    .name("커서상품" + i)
+                    .price(1000L)
+                    .stock(5L)
+                    .build()).getId());
+        }
+
+        List<UUID> fetchedIdList = new ArrayList<>();
+        List<Integer> pageSizeList = new ArrayList<>();
+        KeysetCursor cursor = null;
+        KeysetSlice<ProductDto> keysetSlice;
+        do {
+            keysetSlice = productQueryRepository.findProductsByCursor("커서상품", cursor, 2);
+            keysetSlice.slice().getContent().forEach(product -> fetchedIdList.add(UUID.fromString(product.getId())));
+            pageSizeList.add(keysetSlice.slice().getNumberOfElements());
+            cursor = keysetSlice.nextCursor() == null ? null : KeysetCursor.decode(keysetSlice.nextCursor()).orElseThrow();
+        } while (keysetSlice.slice().hasNext());
+
+        assertThat(pageSizeList).containsExactly(2, 2, 1);
+        assertThat(fetchedIdList).containsExactlyInAnyOrderElementsOf(savedIdList);
+    }
+
     @Test
     @DisplayName("상품명 부분 검색은 페이지로 결과를 반환한다")
-    void findByNameContainingIgnoreCaseReturnsPage() {
+    void findProductsReturnsProjectedPage() {
         productRepository.save(Product.builder()
                 .name("테스트상품A")
                 .price(1000L)
@@ -62,8 +125,57 @@ class ProductRepositoryTest {
                 .stock(3L)
                 .build());
 
-        Page<Product> page = productRepository.findByNameContainingIgnoreCase("상품", PageRequest.of(0, 10));
+        Page<ProductDto> page = productQueryRepository.findProducts("상품", PageRequest.of(0, 10));
 
         assertThat(page.getTotalElements()).isEqualTo(2);
+        assertThat(page.getContent()).extracting(ProductDto::getName)
+                .containsExactlyInAnyOrder("테스트상품A", "기타상품");
+    }
+
+    @Test
+    @DisplayName("재고 차감은 재고가 충분한 상품에만 반영되고 부족한 상품 ID를 반환한다")
+    void decreaseStockReturnsOutOfStockProductIds() {
+        Product enough = productRepository.save(Product.builder()
+                .name("재고충분상품")
+                .price(1000L)
+                .stock(5L)
+                .build());
+        Product shortage = productRepository.save(Product.builder()
+                .name("재고부족상품")
+                .price(1000L)
+                .stock(1L)
+                .build());
+
+        Set<UUID> failedProductIdSet = productRepository.decreaseStock(Map.of(
+                enough.getId(), 5L,
+                shortage.getId(), 2L
+        ));
+
+        assertThat(failedProductIdSet).containsExactly(shortage.getId());
+        testEntityManager.clear();
+        assertThat(productRepository.findById(enough.getId())).get()
+                .extracting(Product::getStock)
+                .isEqualTo(0L);
+        assertThat(productRepository.findById(shortage.getId())).get()
+                .extracting(Product::getStock)
+                .isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("이미 다른 변경이 반영된 버전의 상품을 저장하면 낙관적 락 예외를 던진다")
+    void saveWithStaleVersionThrowsOptimisticLockingFailure() {
+        Product saved = productRepository.save(Product.builder()
+                .name("버전상품")
+                .price(1000L)
+                .stock(5L)
+                .build());
+        testEntityManager.flush();
+        productRepository.decreaseStock(Map.of(saved.getId(), 1L));
+        testEntityManager.clear();
+
+        Product stale = saved.update(null, 2000L, null);
+
+        assertThatThrownBy(() -> productRepository.save(stale))
+                .isInstanceOf(OptimisticLockingFailureException.class);
     }
 }
@@ -16,6 +16,7 @@ import com.example.shop.user.domain.repository.UserRepository;
 import com.example.shop.user.presentation.dto.request.ReqPostAuthLoginDtoV1;
 import com.example.shop.user.presentation.dto.response.ResPostAuthLoginDtoV1;
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -32,9 +33,14 @@ import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.ByteArrayInputStream;
 import java.util.UUID;
+import java.util.zip.GZIPInputStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 
 @SpringBootTest
@@ -91,6 +97,114 @@ class ProductControllerV1Test {
                 );
     }
 
+    @Test
+    void testGetProductsByCursorSuccess() throws Exception {
+        String accessJwt = loginAndGetAccessTokenWithManager();
+        String namePrefix = "cursor-" + UUID.randomUUID().toString().substring(0, 8);
+        for (int i = 0; i < 3; i++) {
+            productRepository.save(Product.builder()
+                    .name(namePrefix + "-" + i)
+                    .price(1000L)
+                    .stock(5L)
+                    .build());
+        }
+
+        MvcResult firstResult = mockMvc.perform(
+                        get("/v1/products")
+                                .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessJwt)
+                                .param("name", namePrefix)
+                                .param("cursor", "")
+                                .param("size", "2")
+                )
+                .andExpectAll(
+                        MockMvcResultMatchers.status().isOk(),
+                        MockMvcResultMatchers.jsonPath("$.code").value("SUCCESS"),
+                        MockMvcResultMatchers.jsonPath("$.data.productPage.content.length()").value(2),
+                        MockMvcResultMatchers.jsonPath("$.data.productPage.nextCursor").isString(),
+                        MockMvcResultMatchers.jsonPath("$.data.productPage.page").doesNotExist()
+                )
+                .andDo(
+                        MockMvcRestDocumentationWrapper.document("상품 목록 커서 조회 성공",
+                                Preprocessors.preprocessRequest(Preprocessors.prettyPrint()),
+                                Preprocessors.preprocessResponse(Preprocessors.prettyPrint()),
+                                ResourceDocumentation.resource(ResourceSnippetParameters.builder()
+                                        .tag("상품 V1")
+                                        .summary("상품 목록 커서 조회")
+                                        .description("""
+                                                cursor 파라미터를 전달하면 전체 개수 없이 다음 페이지 커서로 상품 목록을 조회합니다.
+                                                
+                                                ---
+                                                
+                                                첫 페이지는 빈 cursor로 요청하고, 응답의 nextCursor가 없으면 마지막 페이지입니다.
+                                                """)
+                                        .queryParameters(
+                                                ResourceDocumentation.parameterWithName("name").type(SimpleType.STRING).description("상품명 부분 검색").optional(),
+                                                ResourceDocumentation.parameterWithName("cursor").type(SimpleType.STRING).description("이전 응답의 nextCursor, 첫 페이지는 빈 값"),
+                                                ResourceDocumentation.parameterWithName("size").type(SimpleType.INTEGER).description("페이지 크기").optional()
+                                        )
+                                        .build()
+                                )
+                        )
+                )
+                .andReturn();
+
+        String nextCursor = objectMapper.readTree(firstResult.getResponse().getContentAsString())
+                .path("data").path("productPage").path("nextCursor").asText();
+
+        mockMvc.perform(
+                        get("/v1/products")
+                                .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessJwt)
+                                .param("name", namePrefix)
+                                .param("cursor", nextCursor)
+                                .param("size", "2")
+                )
+                .andExpectAll(
+                        MockMvcResultMatchers.status().isOk(),
+                        MockMvcResultMatchers.jsonPath("$.data.productPage.content.length()").value(1),
+                        MockMvcResultMatchers.jsonPath("$.data.productPage.content[0].name").value(namePrefix + "-0"),
+                        MockMvcResultMatchers.jsonPath("$.data.productPage.nextCursor").doesNotExist()
+                );
+    }
+
+    @Test
+    void testGetProductSuggestionsSuccess() throws Exception {
+        String accessJwt = loginAndGetAccessTokenWithManager();
+
+        mockMvc.perform(
+                        get("/v1/products/suggest")
+                                .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessJwt)
+                                .param("prefix", "안서")
+                                .param("size", "5")
+                )
+                .andExpectAll(
+                        MockMvcResultMatchers.status().isOk(),
+                        MockMvcResultMatchers.jsonPath("$.code").value("SUCCESS"),
+                        MockMvcResultMatchers.jsonPath("$.data.suggestionList[0].name").value("안성탕면 5개 번들")
+                )
+                .andDo(
+                        MockMvcRestDocumentationWrapper.document("상품 자동완성 조회 성공",
+                                Preprocessors.preprocessRequest(Preprocessors.prettyPrint()),
+                                Preprocessors.preprocessResponse(Preprocessors.prettyPrint()),
+                                ResourceDocumentation.resource(ResourceSnippetParameters.builder()
+                                        .tag("상품 V1")
+                                        .summary("상품 자동완성 조회")
+                                        .description("""
+                                                입력 중인 접두어(자모 단위)로 시작하는 상품명을 주문이 많은 순으로 조회합니다.
+                                                
+                                                ---
+                                                
+                                                상품명 전체 또는 각 단어의 시작과 비교합니다.
+                                                """)
+                                        .queryParameters(
+                                                ResourceDocumentation.parameterWithName("prefix").type(SimpleType.STRING).description("입력 중인 접두어"),
+                                                ResourceDocumentation.parameterWithName("size").type(SimpleType.INTEGER).description("최대 개수, 서버 설정값(기본 10)을 넘지 않음").optional()
+                                        )
+                                        .build()
+                                )
+                        )
+                );
+    }
+
     @Test
     void testGetProductSuccess() throws Exception {
         String accessJwt = loginAndGetAccessTokenWithManager();
@@ -129,6 +243,162 @@ class ProductControllerV1Test {
                 );
     }
 
+    @Test
+    void testGetProductNotModified() throws Exception {
+        String accessJwt = loginAndGetAccessTokenWithManager();
+        String productId = createProduct(accessJwt);
+
+        String eTag = mockMvc.perform(
+                        get("/v1/products/{id}", productId)
+                                .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessJwt)
+                )
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+        assertThat(eTag).isNotBlank();
+
+        mockMvc.perform(
+                        get("/v1/products/{id}", productId)
+                                .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessJwt)
+                                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                )
+                .andExpectAll(
+                        MockMvcResultMatchers.status().isNotModified(),
+                        MockMvcResultMatchers.header().string(HttpHeaders.ETAG, eTag),
+                        MockMvcResultMatchers.content().string("")
+                );
+
+        updateProductPrice(accessJwt, productId, 7000L);
+
+        mockMvc.perform(
+                        get("/v1/products/{id}", productId)
+                                .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessJwt)
+                                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                )
+                .andExpectAll(
+                        MockMvcResultMatchers.status().isOk(),
+                        MockMvcResultMatchers.jsonPath("$.data.product.price").value(7000L)
+                );
+    }
+
+    @Test
+    void testGetProductsNotModifiedUntilProductChanges() throws Exception {
+        String accessJwt = loginAndGetAccessTokenWithManager();
+        String productId = createProduct(accessJwt);
+
+        String eTag = mockMvc.perform(
+                        get("/v1/products")
+                                .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessJwt)
+                                .param("size", "23")
+                )
+                .andExpectAll(
+                        MockMvcResultMatchers.status().isOk(),
+                        MockMvcResultMatchers.jsonPath("$.data.productPage.content[0].id").value(productId)
+                )
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+        assertThat(eTag).isNotBlank();
+
+        mockMvc.perform(
+                        get("/v1/products")
+                                .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessJwt)
+                                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                                .param("size", "23")
+                )
+                .andExpectAll(
+                        MockMvcResultMatchers.status().isNotModified(),
+                        MockMvcResultMatchers.content().string("")
+                );
+
+        // 수정하면 캐시된 목록이 비워져 새 본문과 새 ETag로 응답한다
+        updateProductPrice(accessJwt, productId, 7000L);
+
+        mockMvc.perform(
+                        get("/v1/products")
+                                .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessJwt)
+                                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                                .param("size", "23")
+                )
+                .andExpectAll(
+                        MockMvcResultMatchers.status().isOk(),
+                        MockMvcResultMatchers.header().string(HttpHeaders.ETAG, not(eTag)),
+                        MockMvcResultMatchers.jsonPath("$.data.productPage.content[0].price").value(7000L)
+                );
+    }
+
+    @Test
+    void testGetProductsPreCompressed() throws Exception {
+        String accessJwt = loginAndGetAccessTokenWithManager();
+        String namePrefix = "gzip-" + UUID.randomUUID();
+        for (int i = 0; i < 30; i++) {
+            productRepository.save(Product.builder()
+                    .name(namePrefix + "-" + i)
+                    .price(1000L)
+                    .stock(5L)
+                    .build());
+        }
+
+        MvcResult mvcResult = mockMvc.perform(
+                        get("/v1/products")
+                                .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessJwt)
+                                .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate")
+                                .param("size", "31")
+                )
+                .andExpectAll(
+                        MockMvcResultMatchers.status().isOk(),
+                        MockMvcResultMatchers.header().string(HttpHeaders.CONTENT_ENCODING, "gzip"),
+                        MockMvcResultMatchers.header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT_ENCODING))
+                )
+                .andReturn();
+
+        try (GZIPInputStream gzipInputStream = new GZIPInputStream(
+                new ByteArrayInputStream(mvcResult.getResponse().getContentAsByteArray()))) {
+            JsonNode responseBody = objectMapper.readTree(gzipInputStream);
+            assertThat(responseBody.path("code").asText()).isEqualTo("SUCCESS");
+            assertThat(responseBody.path("data").path("productPage").path("content")).hasSize(31);
+        }
+    }
+
+    @Test
+    void testGetProductsPreCompressedHonorsQualityValue() throws Exception {
+        String accessJwt = loginAndGetAccessTokenWithManager();
+        String namePrefix = "gzip-q-" + UUID.randomUUID();
+        for (int i = 0; i < 30; i++) {
+            productRepository.save(Product.builder()
+                    .name(namePrefix + "-" + i)
+                    .price(1000L)
+                    .stock(5L)
+                    .build());
+        }
+
+        // gzip;q=0은 gzip을 받지 않겠다는 뜻이다
+        mockMvc.perform(
+                        get("/v1/products")
+                                .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessJwt)
+                                .header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0, deflate")
+                                .param("size", "31")
+                )
+                .andExpectAll(
+                        MockMvcResultMatchers.status().isOk(),
+                        MockMvcResultMatchers.header().doesNotExist(HttpHeaders.CONTENT_ENCODING),
+                        MockMvcResultMatchers.jsonPath("$.data.productPage.content.length()").value(31)
+                );
+
+        // gzip이 없으면 *의 q 값을 따른다
+        mockMvc.perform(
+                        get("/v1/products")
+                                .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessJwt)
+                                .header(HttpHeaders.ACCEPT_ENCODING, "deflate, *;q=0.5")
+                                .param("size", "31")
+                )
+                .andExpectAll(
+                        MockMvcResultMatchers.status().isOk(),
+                        MockMvcResultMatchers.header().string(HttpHeaders.CONTENT_ENCODING, "gzip")
+                );
+    }
+
     @Test
     void testPostProductsSuccess() throws Exception {
         String accessJwt = loginAndGetAccessTokenWithManager();
@@ -184,6 +454,56 @@ class ProductControllerV1Test {
                 .orElseThrow();
     }
 
+    @Test
+    void testPostProductsBulkSuccess() throws Exception {
+        String accessJwt = loginAndGetAccessTokenWithManager();
+        String productNamePrefix = "bulk-product-" + UUID.randomUUID();
+        String csv = """
+                name,price,stock
+                %1$s-1,1000,10
+                %1$s-2,2000,20
+                %1$s-1,3000,30
+                %1$s-3,abc,40
+                ,5000,50
+                """.formatted(productNamePrefix);
+
+        mockMvc.perform(
+                        post("/v1/products/bulk")
+                                .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessJwt)
+                                .contentType("text/csv")
+                                .content(csv)
+                )
+                .andExpectAll(
+                        MockMvcResultMatchers.status().isOk(),
+                        MockMvcResultMatchers.jsonPath("$.code").value("SUCCESS"),
+                        MockMvcResultMatchers.jsonPath("$.data.totalCount").value(5),
+                        MockMvcResultMatchers.jsonPath("$.data.successCount").value(2),
+                        MockMvcResultMatchers.jsonPath("$.data.failureCount").value(3),
+                        MockMvcResultMatchers.jsonPath("$.data.errorList[*].row").value(containsInAnyOrder(4, 5, 6))
+                )
+                .andDo(
+                        MockMvcRestDocumentationWrapper.document("상품 대량 등록 성공",
+                                Preprocessors.preprocessResponse(Preprocessors.prettyPrint()),
+                                ResourceDocumentation.resource(ResourceSnippetParameters.builder()
+                                        .tag("상품 V1")
+                                        .summary("상품 대량 등록")
+                                        .description("""
+                                                CSV(text/csv, 헤더 name,price,stock) 또는 NDJSON(application/x-ndjson) 본문으로 상품을 대량 등록합니다.
+                                                
+                                                ---
+                                                
+                                                실패한 행은 건너뛰고 줄 번호와 사유를 errorList로 반환합니다.
+                                                """)
+                                        .build()
+                                )
+                        )
+                );
+
+        assertThat(productRepository.findByName(productNamePrefix + "-1")).isPresent();
+        assertThat(productRepository.findByName(productNamePrefix + "-2")).isPresent();
+        assertThat(productRepository.findByName(productNamePrefix + "-3")).isEmpty();
+    }
+
     @Test
     void testPutProductSuccess() throws Exception {
         String accessJwt = loginAndGetAccessTokenWithManager();
@@ -339,6 +659,24 @@ class ProductControllerV1Test {
         return responseDto.getData().getProduct().getId();
     }
 
+    private void updateProductPrice(String accessJwt, String productId, Long price) throws Exception {
+        ReqPutProductDtoV1 reqDto = ReqPutProductDtoV1.builder()
+                .product(
+                        ReqPutProductDtoV1.ProductDto.builder()
+                                .price(price)
+                                .build()
+                )
+                .build();
+
+        mockMvc.perform(
+                        put("/v1/products/{id}", productId)
+                                .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessJwt)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(reqDto))
+                )
+                .andExpect(MockMvcResultMatchers.status().isOk());
+    }
+
     private void ensureManagerRole(String username) {
         User user = userRepository.findByUsername(username)
                 .orElseThrow();
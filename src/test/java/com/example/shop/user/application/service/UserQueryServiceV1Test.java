@@ -0,0 +1,117 @@
+package com.example.shop.user.application.service;
+
+import com.example.shop.user.domain.model.UserRole;
+import com.example.shop.user.domain.repository.UserQueryRepository;
+import com.example.shop.user.presentation.advice.UserException;
+import com.example.shop.user.presentation.dto.response.ResGetUsersDtoV1.UserPageDto.UserDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserQueryServiceV1Test {
+
+    @Mock
+    private UserQueryRepository userQueryRepository;
+
+    @InjectMocks
+    private UserQueryServiceV1 userQueryServiceV1;
+
+    @Test
+    @DisplayName("관리자는 사용자 목록 전체를 조회할 수 있다")
+    void getUsersAsAdminReturnsAll() {
+        Pageable pageable = PageRequest.of(0, 10);
+        when(userQueryRepository.searchUsers(null, null, null, null, pageable))
+                .thenReturn(new PageImpl<>(List.of(userDto("normal-user"), userDto("admin-user"))));
+
+        var response = userQueryServiceV1.getUsers(
+                UUID.randomUUID(),
+                List.of(UserRole.Role.ADMIN.toString()),
+                pageable,
+                null,
+                null,
+                null
+        );
+
+        assertThat(response.getUserPage().getContent()).hasSize(2);
+        verify(userQueryRepository).searchUsers(null, null, null, null, pageable);
+    }
+
+    @Test
+    @DisplayName("관리자는 검색 조건으로 사용자 목록을 LIKE 조회할 수 있다")
+    void getUsersAsAdminWithSearchFilters() {
+        Pageable pageable = PageRequest.of(0, 10);
+        when(userQueryRepository.searchUsers(null, "normal", "nickname", "example.com", pageable))
+                .thenReturn(new PageImpl<>(List.of(userDto("normal-user")), pageable, 1));
+
+        var response = userQueryServiceV1.getUsers(
+                UUID.randomUUID(),
+                List.of(UserRole.Role.ADMIN.toString()),
+                pageable,
+                " normal ",
+                " nickname ",
+                " example.com "
+        );
+
+        assertThat(response.getUserPage().getContent()).hasSize(1);
+        verify(userQueryRepository).searchUsers(null, "normal", "nickname", "example.com", pageable);
+    }
+
+    @Test
+    @DisplayName("일반 사용자는 본인으로 범위가 제한된 목록을 조회한다")
+    void getUsersAsNormalUserScopesToSelf() {
+        UUID userId = UUID.randomUUID();
+        Pageable pageable = PageRequest.of(0, 10);
+        when(userQueryRepository.searchUsers(userId, "another", null, null, pageable))
+                .thenReturn(Page.empty(pageable));
+
+        var response = userQueryServiceV1.getUsers(
+                userId,
+                List.of(UserRole.Role.USER.toString()),
+                pageable,
+                "another",
+                null,
+                null
+        );
+
+        assertThat(response.getUserPage().getContent()).isEmpty();
+        verify(userQueryRepository).searchUsers(userId, "another", null, null, pageable);
+    }
+
+    @Test
+    @DisplayName("인증 사용자 정보가 없으면 목록 조회 시 예외를 던진다")
+    void getUsersWithoutAuthUserIdThrows() {
+        Pageable pageable = PageRequest.of(0, 5);
+
+        assertThatThrownBy(() -> userQueryServiceV1.getUsers(null, List.of(UserRole.Role.USER.toString()), pageable, null, null, null))
+                .isInstanceOf(UserException.class);
+        verify(userQueryRepository, never()).searchUsers(any(), any(), any(), any(), any());
+    }
+
+    private UserDto userDto(String username) {
+        return UserDto.builder()
+                .id(UUID.randomUUID().toString())
+                .username(username)
+                .nickname("nickname-" + username)
+                .email(username + "@example.com")
+                .roleList(List.of(UserRole.Role.USER.toString()))
+                .build();
+    }
+}
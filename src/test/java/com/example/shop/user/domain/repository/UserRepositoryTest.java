@@ -3,6 +3,7 @@ package com.example.shop.user.domain.repository;
 import com.example.shop.common.infrastructure.config.jpa.JpaAuditConfig;
 import com.example.shop.common.infrastructure.config.jpa.QuerydslConfig;
 import com.example.shop.common.infrastructure.config.jpa.audit.CustomAuditAware;
+import com.example.shop.common.infrastructure.persistence.ManagedEntityTracker;
 import com.example.shop.user.domain.model.User;
 import com.example.shop.user.domain.model.UserRole;
 import com.example.shop.user.presentation.advice.UserException;
@@ -22,7 +23,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @DataJpaTest
-@Import({JpaAuditConfig.class, CustomAuditAware.class, QuerydslConfig.class,
+@Import({JpaAuditConfig.class, CustomAuditAware.class, QuerydslConfig.class, ManagedEntityTracker.class,
         com.example.shop.user.infrastructure.persistence.repository.UserRepositoryImpl.class,
         com.example.shop.user.infrastructure.persistence.mapper.UserMapper.class})
 class UserRepositoryTest {
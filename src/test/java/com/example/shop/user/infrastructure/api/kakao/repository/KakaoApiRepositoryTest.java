@@ -0,0 +1,139 @@
+package com.example.shop.user.infrastructure.api.kakao.repository;
+
+import com.example.shop.common.infrastructure.config.webclient.WebClientConfig;
+import com.example.shop.user.infrastructure.api.kakao.dto.response.ResGetKakaoUserMeDtoV2;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 로컬 스텁 HTTP 서버를 띄우고 WebClientConfig와 같은 설정의 WebClient로 호출한다
+class KakaoApiRepositoryTest {
+
+    private static final long RESPONSE_TIMEOUT_MILLIS = 500L;
+
+    private HttpServer httpServer;
+    private ConnectionProvider connectionProvider;
+    private KakaoApiRepository kakaoApiRepository;
+    private final List<Integer> remotePortList = new CopyOnWriteArrayList<>();
+    private final List<String> authorizationList = new CopyOnWriteArrayList<>();
+    private volatile int responseStatus = 200;
+    private volatile long responseDelayMillis = 0L;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        httpServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        httpServer.setExecutor(Executors.newCachedThreadPool());
+        httpServer.createContext("/v2/user/me", this::handleUserMe);
+        httpServer.start();
+
+        WebClientConfig webClientConfig = new WebClientConfig();
+        connectionProvider = webClientConfig.outboundConnectionProvider(10, 100, 1_000L, 30_000L, 300_000L);
+        WebClient webClient = webClientConfig.outboundWebClient(
+                WebClient.builder(),
+                connectionProvider,
+                1_000,
+                RESPONSE_TIMEOUT_MILLIS,
+                1_048_576
+        );
+        kakaoApiRepository = new KakaoApiRepository(
+                webClient,
+                "http://" + httpServer.getAddress().getHostString() + ":" + httpServer.getAddress().getPort()
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionProvider.dispose();
+        httpServer.stop(0);
+    }
+
+    @Test
+    @DisplayName("카카오 유저 정보 응답을 DTO로 변환하고 액세스 토큰을 Bearer로 보낸다")
+    void getKakaoUserMeV2ParsesResponse() {
+        ResGetKakaoUserMeDtoV2 resDto = kakaoApiRepository.getKakaoUserMeV2("kakao-token").block();
+
+        assertThat(resDto).isNotNull();
+        assertThat(resDto.getId()).isEqualTo(1234L);
+        assertThat(resDto.getKakao_account().getEmail()).isEqualTo("temp@kakao.com");
+        assertThat(resDto.getKakao_account().getProfile().getNickname()).isEqualTo("temp");
+        assertThat(authorizationList).containsExactly("Bearer kakao-token");
+    }
+
+    @Test
+    @DisplayName("연속 호출은 풀에 반납된 keep-alive 연결을 재사용한다")
+    void getKakaoUserMeV2ReusesConnection() throws InterruptedException {
+        kakaoApiRepository.getKakaoUserMeV2("kakao-token").block();
+        // 연결 반납은 응답 본문을 넘긴 뒤 이벤트 루프에서 처리되므로 잠시 기다린다
+        Thread.sleep(200);
+        kakaoApiRepository.getKakaoUserMeV2("kakao-token").block();
+
+        assertThat(remotePortList).hasSize(2);
+        assertThat(remotePortList.get(1)).isEqualTo(remotePortList.get(0));
+    }
+
+    @Test
+    @DisplayName("에러 상태 코드를 받으면 응답 본문을 담은 예외로 실패한다")
+    void getKakaoUserMeV2FailsOnErrorStatus() {
+        responseStatus = 401;
+
+        assertThatThrownBy(() -> kakaoApiRepository.getKakaoUserMeV2("expired-token").block())
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("카카오 유저 정보 API 호출에 실패했습니다.")
+                .hasMessageContaining("this access token does not exist");
+    }
+
+    @Test
+    @DisplayName("응답이 response-timeout-ms보다 늦으면 기다리지 않고 실패한다")
+    void getKakaoUserMeV2FailsOnResponseTimeout() {
+        responseDelayMillis = RESPONSE_TIMEOUT_MILLIS * 4;
+
+        long startNanos = System.nanoTime();
+        assertThatThrownBy(() -> kakaoApiRepository.getKakaoUserMeV2("kakao-token").block())
+                .isInstanceOf(RuntimeException.class);
+        assertThat(Duration.ofNanos(System.nanoTime() - startNanos)).isLessThan(Duration.ofMillis(responseDelayMillis));
+    }
+
+    private void handleUserMe(HttpExchange exchange) throws IOException {
+        remotePortList.add(exchange.getRemoteAddress().getPort());
+        authorizationList.add(exchange.getRequestHeaders().getFirst("Authorization"));
+        if (responseDelayMillis > 0) {
+            try {
+                Thread.sleep(responseDelayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        String body = responseStatus == 200
+                ? "{\"id\":1234,\"connected_at\":\"2024-01-01T00:00:00Z\","
+                + "\"kakao_account\":{\"email\":\"temp@kakao.com\",\"profile\":{\"nickname\":\"temp\"}}}"
+                : "{\"msg\":\"this access token does not exist\",\"code\":-401}";
+        byte[] bodyBytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json;charset=UTF-8");
+        try {
+            exchange.sendResponseHeaders(responseStatus, bodyBytes.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(bodyBytes);
+            }
+        } catch (IOException e) {
+            // 타임아웃으로 클라이언트가 먼저 연결을 끊은 경우
+        }
+    }
+}
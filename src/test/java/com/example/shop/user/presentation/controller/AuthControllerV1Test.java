@@ -15,6 +15,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.restdocs.AutoConfigureRestDocs;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders;
 import org.springframework.restdocs.operation.preprocess.Preprocessors;
@@ -157,6 +158,53 @@ public class AuthControllerV1Test {
 
     }
 
+    @Test
+    public void testPostAuthLogoutSuccess() throws Exception {
+
+        MvcResult loginMvcResult = login();
+        ApiDto<ResPostAuthLoginDtoV1> resLoginDto = objectMapper.readValue(
+                loginMvcResult.getResponse().getContentAsString(),
+                new TypeReference<>() {
+                }
+        );
+        mockMvc.perform(
+                        RestDocumentationRequestBuilders.post("/v1/auth/logout")
+                                .header(HttpHeaders.AUTHORIZATION, "Bearer " + resLoginDto.getData().getAccessJwt())
+                )
+                .andExpectAll(
+                        MockMvcResultMatchers.status().isOk()
+                )
+                .andDo(
+                        MockMvcRestDocumentationWrapper.document("인증 로그아웃 성공",
+                                Preprocessors.preprocessRequest(Preprocessors.prettyPrint()),
+                                Preprocessors.preprocessResponse(Preprocessors.prettyPrint()),
+                                ResourceDocumentation.resource(ResourceSnippetParameters.builder()
+                                        .tag("인증 V1")
+                                        .summary("인증 로그아웃")
+                                        .description("""
+                                                인증 로그아웃 엔드포인트 입니다.
+                                                
+                                                ---
+                                                
+                                                지금까지 발급된 액세스/리프레시 토큰이 모두 무효화됩니다.
+                                                """)
+                                        .build()
+                                )
+                        )
+                );
+
+    }
+
+    @Test
+    public void testPostAuthLogoutUnauthorizedWithoutToken() throws Exception {
+
+        mockMvc.perform(
+                        RestDocumentationRequestBuilders.post("/v1/auth/logout")
+                )
+                .andExpect(MockMvcResultMatchers.status().isUnauthorized());
+
+    }
+
     private MvcResult login() throws Exception {
         ReqPostAuthLoginDtoV1 reqDto = ReqPostAuthLoginDtoV1.builder()
                 .user(